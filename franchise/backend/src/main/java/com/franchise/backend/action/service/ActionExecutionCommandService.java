@@ -7,6 +7,7 @@ import com.franchise.backend.action.entity.ActionResult;
 import com.franchise.backend.action.repository.ActionAttachmentRepository;
 import com.franchise.backend.action.repository.ActionRepository;
 import com.franchise.backend.action.repository.ActionResultRepository;
+import com.franchise.backend.store.service.AdminDashboardSnapshotService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +22,7 @@ public class ActionExecutionCommandService {
     private final ActionRepository actionRepository;
     private final ActionResultRepository actionResultRepository;
     private final ActionAttachmentRepository actionAttachmentRepository;
+    private final AdminDashboardSnapshotService adminDashboardSnapshotService;
 
     public void saveExecutionAndClose(Long actionId, ActionExecutionSaveRequest req) {
         Action action = actionRepository.findById(actionId)
@@ -56,5 +58,8 @@ public class ActionExecutionCommandService {
         }
 
         action.close();
+
+        // 관리자 홈 미이행 조치 수 갱신
+        adminDashboardSnapshotService.markStale();
     }
 }
@@ -11,9 +11,11 @@ import com.franchise.backend.qsc.entity.QscMaster;
 import com.franchise.backend.qsc.repository.QscMasterRepository;
 import com.franchise.backend.store.entity.Store;
 import com.franchise.backend.store.repository.StoreRepository;
+import com.franchise.backend.store.service.StoreScopeService;
 import com.franchise.backend.user.entity.Role;
 import com.franchise.backend.user.entity.User;
 import com.franchise.backend.user.repository.UserRepository;
+import com.franchise.backend.store.service.AdminDashboardSnapshotService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,6 +36,8 @@ public class LeaderActionService {
     private final UserRepository userRepository;
     private final StoreRepository storeRepository;
     private final EventLogRepository eventLogRepository;
+    private final StoreScopeService storeScopeService;
+    private final AdminDashboardSnapshotService adminDashboardSnapshotService;
 
     // 조치관리  목록:
     // - SUPERVISOR: 본인 담당 점포(storeIds) + 이벤트 연계(relatedEventId not null)
@@ -55,22 +59,9 @@ public class LeaderActionService {
 
         List<Action> actions;
 
-        if (safeRole == Role.SUPERVISOR) {
-            // SV: 내 담당 점포 id들
-            List<Long> storeIds = storeRepository.findStoreIdsBySupervisorLoginId(safeLoginId);
-            if (storeIds == null || storeIds.isEmpty()) return List.of();
-
-            actions = actionRepository.findManagerScopedActions(storeIds, statusFilter);
-
-        } else if (safeRole == Role.MANAGER) {
-            // 팀장 : 기존 로직 유지(팀장 부서 -> 부서 SV 점포)
-            String department = userRepository.findByLoginId(safeLoginId)
-                    .map(u -> u.getDepartment() == null ? null : u.getDepartment().trim())
-                    .orElse(null);
-
-            if (department == null || department.isBlank()) return List.of();
-
-            List<Long> storeIds = storeRepository.findStoreIdsBySupervisorDepartment(department);
+        if (safeRole == Role.SUPERVISOR || safeRole == Role.MANAGER) {
+            // SV: 내 담당 점포 / 팀장: 팀장 부서 -> 부서 SV 점포
+            List<Long> storeIds = storeScopeService.resolveScopedStoreIds(safeRole, safeLoginId);
             if (storeIds == null || storeIds.isEmpty()) return List.of();
 
             actions = actionRepository.findManagerScopedActions(storeIds, statusFilter);
@@ -138,22 +129,8 @@ public class LeaderActionService {
 
         long count;
 
-        if (safeRole == Role.SUPERVISOR) {
-            List<Long> storeIds = storeRepository.findStoreIdsBySupervisorLoginId(safeLoginId);
-            if (storeIds == null || storeIds.isEmpty()) return new ActionCountSummaryResponse(0);
-
-            count = actionRepository.countInProgressEventLinkedActionsByScope(storeIds, statuses);
-
-        } else if (safeRole == Role.MANAGER) {
-            String department = userRepository.findByLoginId(safeLoginId)
-                    .map(u -> u.getDepartment() == null ? null : u.getDepartment().trim())
-                    .orElse(null);
-
-            if (department == null || department.isBlank()) {
-                return new ActionCountSummaryResponse(0);
-            }
-
-            List<Long> storeIds = storeRepository.findStoreIdsBySupervisorDepartment(department);
+        if (safeRole == Role.SUPERVISOR || safeRole == Role.MANAGER) {
+            List<Long> storeIds = storeScopeService.resolveScopedStoreIds(safeRole, safeLoginId);
             if (storeIds == null || storeIds.isEmpty()) {
                 return new ActionCountSummaryResponse(0);
             }
@@ -232,6 +209,9 @@ public class LeaderActionService {
                 createdByUserId
         );
         Action saved = actionRepository.save(action);
+
+        // 관리자 홈 미이행 조치 수 갱신
+        adminDashboardSnapshotService.markStale();
         return saved.getId();
     }
 
@@ -0,0 +1,29 @@
+package com.franchise.backend.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class DashboardExecutorConfig {
+
+    // 대시보드 섹션 병렬 조회용 고정 크기 풀
+    // - 섹션 하나하나가 짧은 DB 조회라 커넥션 풀(Hikari 기본 10)보다 작게 잡는다
+    // - 큐가 차면 거절 (Abort) -> DashboardService 가 해당 섹션만 기본값으로 응답
+    //   (CallerRuns 로 요청 스레드에서 돌리면 섹션 타임아웃이 걸리지 않음)
+    @Bean(name = "dashboardSectionExecutor")
+    public ThreadPoolTaskExecutor dashboardSectionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(6);
+        executor.setMaxPoolSize(6);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("dashboard-section-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        executor.initialize();
+        return executor;
+    }
+}
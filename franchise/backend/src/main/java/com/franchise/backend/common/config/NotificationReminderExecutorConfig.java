@@ -0,0 +1,27 @@
+package com.franchise.backend.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class NotificationReminderExecutorConfig {
+
+    // 재알림 / 에스컬 배치의 파티션 병렬 처리용 풀
+    // - 파티션마다 청크 트랜잭션을 순서대로 돌리므로 동시에 쓰는 커넥션은 풀 크기만큼
+    @Bean(name = "notificationReminderExecutor")
+    public ThreadPoolTaskExecutor notificationReminderExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(32);
+        executor.setThreadNamePrefix("noti-reminder-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
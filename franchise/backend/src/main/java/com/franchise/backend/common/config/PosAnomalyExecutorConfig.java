@@ -0,0 +1,28 @@
+package com.franchise.backend.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class PosAnomalyExecutorConfig {
+
+    // POS 이상 감지 배치의 파티션 병렬 스캔용 풀
+    // - 대시보드 섹션 풀과 분리 (배치가 화면 조회 스레드를 잡아먹지 않게)
+    // - 파티션 수만큼만 동시에 커넥션을 쓰도록 작게 유지
+    @Bean(name = "posAnomalyExecutor")
+    public ThreadPoolTaskExecutor posAnomalyExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(32);
+        executor.setThreadNamePrefix("pos-anomaly-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
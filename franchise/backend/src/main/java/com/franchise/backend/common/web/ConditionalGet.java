@@ -0,0 +1,20 @@
+package com.franchise.backend.common.web;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 조건부 GET (ETag / If-None-Match) 대상 핸들러 표시
+ *
+ * - value: 응답을 만드는 데 쓰이는 테이블 목록
+ * - ETag = hash(요청 URI + 쿼리 + 로그인 사용자 + 테이블 데이터 버전 + 시간 버킷)
+ * - 클라이언트가 같은 ETag를 보내면 서비스 호출 없이 304 반환 (ConditionalGetInterceptor)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+
+    DataTable[] value();
+}
@@ -0,0 +1,121 @@
+package com.franchise.backend.common.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// @ConditionalGet 핸들러에 대한 ETag 발급 / 304 처리
+// - 데이터 버전 조회는 data_version 카운터 PK 조회 1번 -> 대시보드 본 쿼리 + JSON 직렬화를 건너뛴다
+// - 재검증 값(If-None-Match)이 없는 요청은 버전 조회 없이 마지막으로 읽은 버전으로 ETag 만 발급
+// - 시간 버킷(max-age-seconds)을 ETag에 섞어서, 버전 컬럼으로 안 잡히는 변경(재집계 등)도 일정 시간 뒤엔 반영
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final DataVersionService dataVersionService;
+
+    @Value("${dashboard.etag.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${dashboard.etag.max-age-seconds:300}")
+    private long maxAgeSeconds = 300;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled || !HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null) {
+            return true;
+        }
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        boolean revalidating = ifNoneMatch != null && !ifNoneMatch.isBlank();
+        String etag = computeEtag(request, conditionalGet, revalidating);
+
+        // 본문 없이 재검증만 하도록 (브라우저가 매번 If-None-Match 로 확인)
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+
+        if (revalidating && matches(ifNoneMatch, etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return false;
+        }
+        return true;
+    }
+
+    String computeEtag(HttpServletRequest request, ConditionalGet conditionalGet, boolean revalidating) {
+        Set<DataTable> tables = EnumSet.noneOf(DataTable.class);
+        tables.addAll(Arrays.asList(conditionalGet.value()));
+
+        long bucket = maxAgeSeconds > 0
+                ? System.currentTimeMillis() / (maxAgeSeconds * 1000)
+                : 0;
+
+        String source = String.join("\n",
+                request.getRequestURI(),
+                request.getQueryString() == null ? "" : request.getQueryString(),
+                principalKey(),
+                revalidating
+                        ? dataVersionService.currentVersion(tables)
+                        : dataVersionService.lastKnownVersion(tables),
+                String.valueOf(bucket)
+        );
+
+        return "\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // 같은 URL이라도 사용자(스코프)별로 응답이 다르므로 ETag에 포함
+    private static String principalKey() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null) {
+            return "-";
+        }
+        String authorities = auth.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .sorted()
+                .collect(Collectors.joining(","));
+        return auth.getName() + "/" + authorities;
+    }
+
+    // If-None-Match: "a", W/"b", *
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
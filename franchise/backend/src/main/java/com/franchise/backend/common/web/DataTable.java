@@ -0,0 +1,28 @@
+package com.franchise.backend.common.web;
+
+// 대시보드 ETag 계산에 쓰는 테이블별 "데이터 버전"
+// - 버전은 data_version 카운터 (V37 문장 단위 트리거가 INSERT / UPDATE / DELETE 마다 +1)
+// - 테이블 전체를 훑는 MAX/COUNT 없이 PK 조회로 끝남
+public enum DataTable {
+
+    STORES("stores"),
+    USERS("users"),
+    EVENT_LOG("event_log"),
+    ACTIONS("actions"),
+    QSC_MASTER("qsc_master"),
+    STORE_LATEST_QSC("store_latest_qsc"),
+    POS_DAILY("pos_daily"),
+    POS_PERIOD_AGG("pos_period_agg"),
+    RISK_SCORE_SNAPSHOT("risk_score_snapshot"),
+    STORE_RISK_SCORE_DAILY("store_risk_score_daily");
+
+    private final String tableName;
+
+    DataTable(String tableName) {
+        this.tableName = tableName;
+    }
+
+    String tableName() {
+        return tableName;
+    }
+}
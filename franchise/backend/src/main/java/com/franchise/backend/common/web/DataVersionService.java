@@ -0,0 +1,69 @@
+package com.franchise.backend.common.web;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class DataVersionService {
+
+    private static final String VERSION_SQL = """
+            SELECT table_name, SUM(version) AS version
+            FROM data_version
+            WHERE table_name IN (:tableNames)
+            GROUP BY table_name
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // 테이블 묶음별 마지막으로 읽은 버전 (키는 @ConditionalGet 에 적힌 조합뿐이라 크기 고정)
+    private final Map<Set<DataTable>, String> lastKnown = new ConcurrentHashMap<>();
+
+    /**
+     * 테이블 묶음의 현재 데이터 버전 문자열
+     * - data_version 카운터를 쿼리 1번으로 읽어 이어 붙인다 (없는 테이블은 0)
+     * - EnumSet 순서(선언 순서)로 고정 -> 같은 데이터면 항상 같은 문자열
+     */
+    public String currentVersion(Set<DataTable> tables) {
+        if (tables == null || tables.isEmpty()) {
+            return "";
+        }
+
+        Map<String, Long> versions = new HashMap<>();
+        namedParameterJdbcTemplate.query(VERSION_SQL,
+                new MapSqlParameterSource("tableNames", tables.stream().map(DataTable::tableName).toList()),
+                rs -> {
+                    versions.put(rs.getString("table_name"), rs.getLong("version"));
+                });
+
+        String version = tables.stream()
+                .map(t -> t.tableName() + ":" + versions.getOrDefault(t.tableName(), 0L))
+                .collect(Collectors.joining("|"));
+
+        lastKnown.put(EnumSet.copyOf(tables), version);
+        return version;
+    }
+
+    /**
+     * 마지막으로 읽은 버전 (없으면 현재 버전 조회)
+     * - 재검증 값(If-None-Match)이 없는 요청의 ETag 발급용 -> DB 조회 생략
+     * - 실제보다 오래된 버전이 붙을 수는 있어도 새 버전이 붙지는 않으므로,
+     *   다음 재검증에서 304 가 잘못 나가지 않고 한 번 더 200 이 나갈 뿐
+     */
+    public String lastKnownVersion(Set<DataTable> tables) {
+        if (tables == null || tables.isEmpty()) {
+            return "";
+        }
+        String version = lastKnown.get(tables);
+        return version != null ? version : currentVersion(tables);
+    }
+}
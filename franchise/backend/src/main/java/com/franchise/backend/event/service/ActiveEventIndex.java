@@ -0,0 +1,173 @@
+package com.franchise.backend.event.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 활성(OPEN/ACK) 이벤트 메모리 인덱스: (store_id, rule_id) -> event_id
+ *
+ * - 기동 직후 전체 적재(warmUp), 이후 resync-ms 주기로 DB 와 다시 맞춤 (앱 밖에서 바뀐 상태 반영)
+ * - 앱 안의 신규 이벤트는 커밋 이후 바로 반영 (registerActive)
+ * - 재적재 중 커밋된 변경은 덮어쓰지 않도록 항목마다 반영 시각(nanoTime)을 두고 비교
+ *   (비활성 전환은 eventId=null 항목으로 남겨 두었다가 다음 재적재에서 정리)
+ * - 적재 전(ready=false)에는 호출 측이 DB 조회로 대신함, 인덱스가 가리킨 이벤트가 이미 닫혔으면 호출 측이 evict 후 DB 조회
+ * - 메트릭: event.active.index.size(Gauge), event.active.index.lookup(Counter, result=hit/miss/bypass),
+ *          event.active.index.resync(Timer)
+ */
+@Service
+@RequiredArgsConstructor
+public class ActiveEventIndex {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Object resyncLock = new Object();
+    private volatile boolean ready;
+
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter bypassCounter;
+    private Timer resyncTimer;
+
+    private static final String LOAD_SQL = """
+        SELECT event_id, store_id, rule_id
+          FROM event_log
+         WHERE status IN ('OPEN','ACK')
+        """;
+
+    record Key(long storeId, long ruleId) {}
+
+    // eventId == null : 비활성으로 바뀐 키 (재적재 전까지 남겨 둠)
+    private record Entry(Long eventId, long updatedNanos) {}
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("event.active.index.size", entries, m -> m.values().stream().filter(e -> e.eventId() != null).count())
+                .description("인덱스에 올라간 활성 이벤트 수")
+                .register(meterRegistry);
+        hitCounter = lookupCounter("hit");
+        missCounter = lookupCounter("miss");
+        bypassCounter = lookupCounter("bypass");
+        resyncTimer = Timer.builder("event.active.index.resync")
+                .description("활성 이벤트 인덱스 전체 재적재 시간")
+                .register(meterRegistry);
+    }
+
+    private Counter lookupCounter(String result) {
+        return Counter.builder("event.active.index.lookup")
+                .description("활성 이벤트 인덱스 조회 수 (bypass: 적재 전이라 DB 조회)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // 기동 직후 1회 적재 (실패하면 ready=false 로 DB 조회 동작, 다음 주기에 재시도)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            resync();
+        } catch (RuntimeException e) {
+            // 다음 resync 주기에 재시도
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${event.active-index.resync-ms:300000}",
+            fixedDelayString = "${event.active-index.resync-ms:300000}"
+    )
+    public void scheduledResync() {
+        try {
+            resync();
+        } catch (RuntimeException e) {
+            // 이전 인덱스 유지, 다음 주기에 재시도
+        }
+    }
+
+    /**
+     * DB 기준으로 전체 재적재 (재적재 시작 이후 반영된 항목은 유지)
+     */
+    public int resync() {
+        synchronized (resyncLock) {
+            long startedNanos = System.nanoTime();
+
+            Map<Key, Long> loaded = new HashMap<>();
+            namedParameterJdbcTemplate.query(LOAD_SQL, new MapSqlParameterSource(), rs -> {
+                loaded.put(new Key(rs.getLong("store_id"), rs.getLong("rule_id")), rs.getLong("event_id"));
+            });
+
+            entries.entrySet().removeIf(e -> e.getValue().updatedNanos() < startedNanos && !loaded.containsKey(e.getKey()));
+            loaded.forEach((key, eventId) -> entries.compute(key, (k, cur) ->
+                    (cur != null && cur.updatedNanos() >= startedNanos) ? cur : new Entry(eventId, startedNanos)));
+
+            ready = true;
+            resyncTimer.record(Duration.ofNanos(System.nanoTime() - startedNanos));
+            return loaded.size();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 활성 이벤트 id (없으면 null)
+     * - isReady() == false 면 의미 없음: 호출 측이 DB 조회
+     */
+    public Long find(Long storeId, Long ruleId) {
+        if (!ready) {
+            bypassCounter.increment();
+            return null;
+        }
+        Entry entry = entries.get(new Key(storeId, ruleId));
+        Long eventId = (entry == null) ? null : entry.eventId();
+        (eventId == null ? missCounter : hitCounter).increment();
+        return eventId;
+    }
+
+    /**
+     * 신규 활성 이벤트 반영 (트랜잭션 안이면 커밋 이후)
+     */
+    public void registerActive(Long storeId, Long ruleId, Long eventId) {
+        afterCommit(() -> entries.put(new Key(storeId, ruleId), new Entry(eventId, System.nanoTime())));
+    }
+
+    /**
+     * 인덱스가 가리킨 이벤트가 이미 활성이 아닐 때 즉시 제거 (같은 키에 다른 이벤트가 올라가 있으면 그대로 둠)
+     */
+    public void evict(Long storeId, Long ruleId, Long eventId) {
+        // 아직 없는 키도 비활성 표시를 남겨야 진행 중인 재적재가 옛 값으로 되살리지 않음
+        entries.compute(new Key(storeId, ruleId), (k, cur) ->
+                (cur == null || cur.eventId() == null || cur.eventId().equals(eventId))
+                        ? new Entry(null, System.nanoTime()) : cur);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
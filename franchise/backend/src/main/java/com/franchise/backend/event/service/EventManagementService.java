@@ -5,9 +5,8 @@ import com.franchise.backend.event.dto.EventDashboardSummaryResponse;
 import com.franchise.backend.event.dto.EventListItemResponse;
 import com.franchise.backend.event.repository.EventLogRepository;
 import com.franchise.backend.event.repository.EventManagementRepository;
-import com.franchise.backend.store.repository.StoreRepository;
+import com.franchise.backend.store.service.StoreScopeService;
 import com.franchise.backend.user.entity.Role;
-import com.franchise.backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -21,8 +20,7 @@ public class EventManagementService {
 
     private final EventLogRepository eventLogRepository;
     private final EventManagementRepository eventManagementRepository;
-    private final StoreRepository storeRepository;
-    private final UserRepository userRepository;
+    private final StoreScopeService storeScopeService;
     private final ActionRepository actionRepository;
 
     // 이벤트 관리 - 상단 카드 (스코프 적용)
@@ -100,24 +98,8 @@ public class EventManagementService {
             return List.of();
         }
 
-        // SV: 내 점포만
-        if (role == Role.SUPERVISOR) {
-            return storeRepository.findStoreIdsBySupervisorLoginId(loginId.trim());
-        }
-
-        // MANAGER: 내 department 구해서, 그 부서 SV 점포들
-        if (role == Role.MANAGER) {
-            String dept = userRepository.findByLoginId(loginId.trim())
-                    .map(u -> u.getDepartment() == null ? null : u.getDepartment().trim())
-                    .orElse(null);
-
-            if (dept == null || dept.isBlank()) {
-                return List.of();
-            }
-            return storeRepository.findStoreIdsBySupervisorDepartment(dept);
-        }
-
-        return List.of();
+        // SV: 내 점포만 / MANAGER: 내 department SV 점포들
+        return storeScopeService.resolveScopedStoreIds(role, loginId);
     }
 
     private String normalizeKeyword(String keyword) {
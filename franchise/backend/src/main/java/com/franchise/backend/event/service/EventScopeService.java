@@ -1,8 +1,6 @@
 package com.franchise.backend.event.service;
 
-import com.franchise.backend.store.repository.StoreRepository;
-import com.franchise.backend.user.entity.Role;
-import com.franchise.backend.user.repository.UserRepository;
+import com.franchise.backend.store.service.StoreScopeService;
 import com.franchise.backend.user.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -14,8 +12,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class EventScopeService {
 
-    private final UserRepository userRepository;
-    private final StoreRepository storeRepository;
+    private final StoreScopeService storeScopeService;
 
     /**
      * Role별 접근 가능한 storeIds 반환
@@ -26,36 +23,6 @@ public class EventScopeService {
     public List<Long> resolveAccessibleStoreIds(UserPrincipal principal) {
         if (principal == null) return Collections.emptyList();
 
-        Role role = principal.getRole(); // UserPrincipal에 getRole() 있어야 함
-        String loginId = principal.getLoginId();
-
-        if (role == null || loginId == null || loginId.isBlank()) {
-            return Collections.emptyList();
-        }
-
-        // ADMIN: 전체 스코프 (null로 반환 -> 쿼리에서 필터 미적용)
-        if (role == Role.ADMIN) {
-            return null;
-        }
-
-        // SUPERVISOR: 본인 담당 점포
-        if (role == Role.SUPERVISOR) {
-            return storeRepository.findStoreIdsBySupervisorLoginId(loginId.trim());
-        }
-
-        // MANAGER: 본인 department 조회 -> 해당 department SV 점포들
-        if (role == Role.MANAGER) {
-            String department = userRepository.findByLoginId(loginId.trim())
-                    .map(u -> u.getDepartment() == null ? null : u.getDepartment().trim())
-                    .orElse(null);
-
-            if (department == null || department.isBlank()) {
-                return Collections.emptyList();
-            }
-
-            return storeRepository.findStoreIdsBySupervisorDepartment(department);
-        }
-
-        return Collections.emptyList();
+        return storeScopeService.resolveScopedStoreIds(principal.getRole(), principal.getLoginId());
     }
 }
@@ -1,37 +1,64 @@
 package com.franchise.backend.event.service;
 
-import com.franchise.backend.notification.repository.NotificationGroupRepository;
-import com.franchise.backend.notification.entity.NotificationGroup;
+import com.franchise.backend.notification.service.NotificationGroupUpsertService;
+import com.franchise.backend.notification.service.NotificationGroupUpsertService.GroupRow;
 import com.franchise.backend.event.entity.EventLog;
 import com.franchise.backend.event.entity.EventRule;
 import com.franchise.backend.event.repository.EventLogRepository;
-import com.franchise.backend.notification.repository.NotificationRepository;
 import com.franchise.backend.notification.service.NotificationCreateService;
+import com.franchise.backend.notification.service.NotificationOutboxService;
 import com.franchise.backend.store.entity.Store;
 import com.franchise.backend.user.entity.User;
 import com.franchise.backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import com.franchise.backend.notification.entity.Notification;
 import com.franchise.backend.notification.entity.NotificationType;
 import com.franchise.backend.notification.service.NotificationSchedule;
 import com.franchise.backend.user.entity.Role;
 
 
 import java.time.OffsetDateTime;
-import com.franchise.backend.event.entity.EventLog;
-
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.*;
+import com.franchise.backend.common.time.ServiceTime;
+import com.franchise.backend.store.service.AdminDashboardSnapshotService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 이벤트 dedup 엔진 (store_id + rule_id 기준 활성 이벤트 1건)
+ *
+ * - 단건(upsertEventAndNotifyIfNew) / 일괄(upsertBatch) / EventIngestService 가 모두 이 규칙을 사용
+ * - 단건은 INSERT ... ON CONFLICT (store_id, rule_id) WHERE status IN ('OPEN','ACK') 1문장으로 신규/누적을 원자적으로 처리
+ *   (ux_event_store_rule_active 부분 유니크 인덱스가 동시 요청을 중재, 누적은 occurrence_count + 1)
+ * - 일괄은 ActiveEventIndex 맵 조회로 기존 이벤트를 가려 읽고, 반영은 같은 ON CONFLICT 규칙의 다건 문장
+ * - 신규는 커밋 이후 인덱스에 반영, 닫힌 이벤트는 조회 시 evict 또는 주기 재적재로 정리
+ * - 알림(최초 / 재알림 / 에스컬)은 같은 트랜잭션에서 notification_outbox 에만 기록 (NotificationOutboxService)
+ * - 알림 그룹 누적은 단건 / 일괄 모두 NotificationGroupUpsertService 의 ON CONFLICT (dedup_key) 증가분 문장
+ */
 @Service
 @RequiredArgsConstructor
 public class EventUpsertService {
 
     private final EventLogRepository eventLogRepository;
     private final NotificationCreateService notificationCreateService;
-    private final NotificationGroupRepository notificationGroupRepository;
-    private final NotificationRepository notificationRepository;
+    private final NotificationGroupUpsertService notificationGroupUpsertService;
+    private final NotificationOutboxService notificationOutboxService;
     private final UserRepository userRepository;
+    private final AdminDashboardSnapshotService adminDashboardSnapshotService;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ActiveEventIndex activeEventIndex;
 
+    @Value("${event.upsert.chunk-size:500}")
+    private int chunkSize = 500;
 
 
     /**
@@ -44,7 +71,7 @@ public class EventUpsertService {
      *
      * - 없으면:
      *   * 신규 event_log 생성(status=OPEN)
-     *   * 최초 알림(SV) 생성 (POS/QSC만; OPS는 NotificationCreateService에서 early return)
+     *   * 최초 알림(SV) 생성 (POS/QSC만; OPS는 NotificationCreateService에서 early return, outbox 경유)
      */
     @Transactional
     public UpsertResult upsertEventAndNotifyIfNew(
@@ -60,69 +87,69 @@ public class EventUpsertService {
     ) {
         Long storeId = store.getId();
         Long ruleId = rule.getRuleId();
+        Long assignedToUserId = (supervisor == null ? null : supervisor.getId());
 
-        // 1) Dedup: OPEN/ACK 기존 이벤트 조회
-        EventLog existing = eventLogRepository.findActiveByStoreIdAndRuleId(storeId, ruleId)
-                .orElse(null);
+        // 1) Dedup: 신규 생성 or 누적을 SQL 1문장으로 (ux_event_store_rule_active 가 동시 요청을 중재)
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        addEventValues(params, "", storeId, ruleId, assignedToUserId, eventType, severity, summary,
+                relatedEntityType, relatedEntityId, occurredAt, occurredAt, 1);
+        UpsertedEvent upserted = namedParameterJdbcTemplate.queryForObject(
+                UPSERT_ACTIVE_EVENT_SQL.formatted(eventValuesRow("")), params, UPSERTED_EVENT_MAPPER);
+        activeEventIndex.registerActive(storeId, ruleId, upserted.eventId());
 
-        if (existing != null) {
-            // 2) 기존 이벤트 누적 (알림 추가 발송 X)
-            existing.accumulateOccurrence(occurredAt);
-            if (supervisor != null) {
-                String dedupKey = storeId + ":" + ruleId + ":" + supervisor.getId();
-
-                NotificationGroup group = notificationGroupRepository.findByDedupKey(dedupKey)
-                        .orElseGet(() -> NotificationGroup.create(
-                                dedupKey,
-                                supervisor,
-                                store,
-                                rule,
-                                occurredAt
-                        ));
+        EventLog saved = eventLogRepository.findById(upserted.eventId())
+                .orElseThrow(() -> new IllegalStateException("event not found: " + upserted.eventId()));
 
-                group.accumulateOccurrence(occurredAt);
+        if (!upserted.inserted()) {
+            // 2) 기존 이벤트 누적은 위 문장에서 끝남 -> 재알림 / 에스컬 판단만
+            EventLog existing = saved;
+            if (supervisor != null) {
+                // 그룹 누적도 ON CONFLICT (dedup_key) 증가분 1문장 (일괄 경로와 같은 문장, 그룹 행은 커밋까지 잠김)
+                GroupRow group = notificationGroupUpsertService.accumulate(
+                        storeId + ":" + ruleId + ":" + supervisor.getId(),
+                        supervisor.getId(), storeId, ruleId, occurredAt, null, ServiceTime.nowOffset());
+                List<NotificationOutboxService.Message> messages = new ArrayList<>();
                 // ✅ 지속일 계산은 "이번 발생시각(occurredAt)" 기준으로
                 OffsetDateTime now = occurredAt;
 
-                long days = NotificationSchedule.persistedDays(group.getFirstOccurredAt(), now);
+                long days = NotificationSchedule.persistedDays(group.firstOccurredAt(), now);
 
                 int[] th = NotificationSchedule.thresholds(rule.getEventType());
                 int remindDays = th[0];
                 int escalationDays = th[1];
+                int step = group.escalationStep();
 
 // 링크(이미 컨트롤러가 /api/events/{eventId} 임)
                 String body = buildBody(existing, occurredAt);
 
-// ---- 1차 재알림 ----
-                if (days >= remindDays && group.getEscalationStep() == 0) {
+// ---- 1차 재알림 ---- (단계를 올린 요청만 발송)
+                if (days >= remindDays && step == 0
+                        && notificationGroupUpsertService.advanceStep(group.groupId(), 1, now)) {
 
-                    Notification remind = Notification.create(
-                            group,
-                            existing,
-                            supervisor,
+                    messages.add(new NotificationOutboxService.Message(
+                            group.groupId(),
+                            existing.getEventId(),
+                            supervisor.getId(),
                             NotificationType.REMIND,
                             "[" + store.getStoreName() + "] 지속 발생",
                             body
-                    );
-
-                    notificationRepository.save(remind);
-                    group.updateEscalationStep(1);
-                    group.markNotified(now);
+                    ));
+                    step = 1;
                 }
 
 // ---- 팀장 에스컬레이션 ----
-                if (days >= escalationDays && group.getEscalationStep() < 2) {
+                if (days >= escalationDays && step < 2
+                        && notificationGroupUpsertService.advanceStep(group.groupId(), 2, now)) {
 
                     // SV에게도 알림
-                    Notification escSv = Notification.create(
-                            group,
-                            existing,
-                            supervisor,
+                    messages.add(new NotificationOutboxService.Message(
+                            group.groupId(),
+                            existing.getEventId(),
+                            supervisor.getId(),
                             NotificationType.ESCALATION,
                             "[" + store.getStoreName() + "] 장기 미해결",
                             body
-                    );
-                    notificationRepository.save(escSv);
+                    ));
 
                     // 팀장 조회: department 당 1명
                     User manager = userRepository
@@ -133,59 +160,30 @@ public class EventUpsertService {
                             .orElse(null);
 
                     if (manager != null) {
-                        String managerKey = storeId + ":" + ruleId + ":" + manager.getId();
-
-                        NotificationGroup managerGroup = notificationGroupRepository.findByDedupKey(managerKey)
-                                .orElseGet(() -> NotificationGroup.create(
-                                        managerKey,
-                                        manager,
-                                        store,
-                                        rule,
-                                        occurredAt
-                                ));
-
-                        managerGroup.accumulateOccurrence(occurredAt);
-                        notificationGroupRepository.save(managerGroup);
-
-                        Notification escManager = Notification.create(
-                                managerGroup,
-                                existing,
-                                manager,
+                        GroupRow managerGroup = notificationGroupUpsertService.accumulate(
+                                storeId + ":" + ruleId + ":" + manager.getId(),
+                                manager.getId(), storeId, ruleId, occurredAt, null, ServiceTime.nowOffset());
+
+                        messages.add(new NotificationOutboxService.Message(
+                                managerGroup.groupId(),
+                                existing.getEventId(),
+                                manager.getId(),
                                 NotificationType.ESCALATION,
                                 "[" + store.getStoreName() + "] 팀장 에스컬",
                                 body
-                        );
-
-                        notificationRepository.save(escManager);
+                        ));
                     }
-
-                    group.updateEscalationStep(2);
-                    group.markNotified(now);
                 }
 
-                notificationGroupRepository.save(group);
-
+                notificationOutboxService.enqueue(messages);
             }
 
             return UpsertResult.updated(existing.getEventId());
         }
 
-        // 3) 신규 이벤트 생성
-        Long assignedToUserId = (supervisor == null ? null : supervisor.getId());
-
-        EventLog created = EventLog.create(
-                ruleId,
-                storeId,
-                assignedToUserId,
-                eventType,
-                severity,
-                summary,
-                relatedEntityType,
-                relatedEntityId,
-                occurredAt
-        );
-
-        EventLog saved = eventLogRepository.save(created);
+        // 3) 신규 이벤트
+        // 관리자 홈 신규 이벤트 수 갱신
+        adminDashboardSnapshotService.markStale();
 
         // 4) 최초 알림 (신규일 때만)
         if (supervisor != null) {
@@ -200,6 +198,588 @@ public class EventUpsertService {
         return UpsertResult.inserted(saved.getEventId());
     }
 
+    /**
+     * 트리거 평가 결과 1건 (upsertBatch 입력, 인자는 upsertEventAndNotifyIfNew 와 동일)
+     */
+    public record EventHit(
+            Store store,
+            EventRule rule,
+            User supervisor,
+            String eventType,
+            String severity,
+            String summary,
+            String relatedEntityType,
+            Long relatedEntityId,
+            OffsetDateTime occurredAt
+    ) {}
+
+    /**
+     * 트리거 평가 결과 일괄 upsert (탐지 배치용)
+     *
+     * - chunk-size 건씩 트랜잭션 1개 (호출 측 트랜잭션이 있으면 거기에 합류)
+     * - 청크마다 활성 이벤트 / 알림 그룹 / 팀장을 IN 조회로 한 번에 읽고,
+     *   누적 / 신규 / 재알림 / 에스컬 판단은 upsertEventAndNotifyIfNew 와 같은 규칙으로 메모리에서 처리
+     * - 신규 event_log / notification_group 은 다건 INSERT ... ON CONFLICT 1문장으로 실제 id 를 받고,
+     *   기존 행 누적은 JDBC batch (증가분만 더해 동시 실행과 섞여도 유실 없음), 알림은 outbox 에 기록
+     * - 같은 청크 안의 같은 (store, rule) 은 먼저 나온 건이 신규, 뒤 건은 누적으로 처리
+     * - 조회 이후 다른 요청이 먼저 만든 이벤트는 충돌로 감지해 그 이벤트에 누적 (결과는 updated)
+     * - 결과는 입력 순서대로, 청크가 실패하면 예외 (앞서 커밋된 청크는 유지)
+     */
+    public List<UpsertResult> upsertBatch(List<EventHit> hits) {
+        if (hits == null || hits.isEmpty()) return List.of();
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        int size = Math.max(1, Math.min(chunkSize, MAX_ROWS_PER_STATEMENT));
+        List<UpsertResult> results = new ArrayList<>(hits.size());
+        for (int from = 0; from < hits.size(); from += size) {
+            List<EventHit> chunk = hits.subList(from, Math.min(from + size, hits.size()));
+            results.addAll(tx.execute(status -> upsertChunk(chunk)));
+        }
+        return results;
+    }
+
+    private List<UpsertResult> upsertChunk(List<EventHit> chunk) {
+        OffsetDateTime now = ServiceTime.nowOffset();
+
+        // 0) 청크의 (store, rule) 키를 정렬 순서로 먼저 잠금 -> 키가 겹치는 청크끼리는 순서대로 진행
+        lockKeys(chunk);
+
+        // 1) 청크 단위 일괄 조회
+        Map<String, ActiveEvent> activeEvents = findActiveEvents(chunk);
+        Map<String, Long> managerIds = findManagerIds(chunk);
+        Map<String, GroupState> groups = findGroups(chunk, managerIds);
+
+        // 2) 메모리에서 누적 / 신규 / 알림 판단
+        List<ActiveEvent> createdEvents = new ArrayList<>();
+        List<PendingNotification> notifications = new ArrayList<>();
+        List<ActiveEvent> hitEvents = new ArrayList<>(chunk.size());
+        List<Boolean> hitCreated = new ArrayList<>(chunk.size());
+
+        for (EventHit hit : chunk) {
+            Store store = hit.store();
+            EventRule rule = hit.rule();
+            User supervisor = hit.supervisor();
+            Long storeId = store.getId();
+            Long ruleId = rule.getRuleId();
+            OffsetDateTime occurredAt = hit.occurredAt();
+
+            ActiveEvent existing = activeEvents.get(key(storeId, ruleId));
+            if (existing != null) {
+                existing.accumulate(occurredAt);
+                if (supervisor != null) {
+                    GroupState group = groups.computeIfAbsent(key(storeId, ruleId, supervisor.getId()),
+                            k -> GroupState.create(k, supervisor.getId(), storeId, ruleId, occurredAt));
+                    group.accumulate(occurredAt);
+
+                    long days = NotificationSchedule.persistedDays(group.firstOccurredAt, occurredAt);
+                    int[] th = NotificationSchedule.thresholds(rule.getEventType());
+
+                    // 1차 재알림
+                    if (days >= th[0] && group.escalationStep == 0) {
+                        notifications.add(new PendingNotification(group, existing, supervisor.getId(),
+                                NotificationType.REMIND, "[" + store.getStoreName() + "] 지속 발생", occurredAt));
+                        group.escalationStep = 1;
+                        group.lastNotifiedAt = occurredAt;
+                    }
+
+                    // 팀장 에스컬레이션
+                    if (days >= th[1] && group.escalationStep < 2) {
+                        notifications.add(new PendingNotification(group, existing, supervisor.getId(),
+                                NotificationType.ESCALATION, "[" + store.getStoreName() + "] 장기 미해결", occurredAt));
+
+                        Long managerId = managerIds.get(supervisor.getDepartment());
+                        if (managerId != null) {
+                            GroupState managerGroup = groups.computeIfAbsent(key(storeId, ruleId, managerId),
+                                    k -> GroupState.create(k, managerId, storeId, ruleId, occurredAt));
+                            managerGroup.accumulate(occurredAt);
+                            notifications.add(new PendingNotification(managerGroup, existing, managerId,
+                                    NotificationType.ESCALATION, "[" + store.getStoreName() + "] 팀장 에스컬", occurredAt));
+                        }
+
+                        group.escalationStep = 2;
+                        group.lastNotifiedAt = occurredAt;
+                    }
+                }
+                hitEvents.add(existing);
+                hitCreated.add(false);
+                continue;
+            }
+
+            // 신규 이벤트
+            ActiveEvent created = ActiveEvent.create(hit);
+            activeEvents.put(key(storeId, ruleId), created);
+            createdEvents.add(created);
+
+            // 최초 알림 (POS / QSC 만, NotificationCreateService 와 같은 규칙, 본문은 요약)
+            if (supervisor != null && ("POS".equals(rule.getEventType()) || "QSC".equals(rule.getEventType()))) {
+                GroupState group = groups.computeIfAbsent(key(storeId, ruleId, supervisor.getId()),
+                        k -> GroupState.create(k, supervisor.getId(), storeId, ruleId, occurredAt));
+                group.accumulate(occurredAt);
+                notifications.add(new PendingNotification(group, created, supervisor.getId(),
+                        NotificationType.INITIAL, "[" + store.getStoreName() + "] " + rule.getRuleName(), null));
+                group.lastNotifiedAt = now;
+            }
+            hitEvents.add(created);
+            hitCreated.add(true);
+        }
+
+        // 3) 반영
+        flush(activeEvents.values(), createdEvents, groups.values(), notifications, now);
+
+        List<UpsertResult> results = new ArrayList<>(chunk.size());
+        for (int i = 0; i < hitEvents.size(); i++) {
+            ActiveEvent e = hitEvents.get(i);
+            results.add(hitCreated.get(i) && !e.lost ? UpsertResult.inserted(e.eventId) : UpsertResult.updated(e.eventId));
+        }
+
+        // 관리자 홈 신규 이벤트 수 갱신 (커밋 후 1번)
+        if (createdEvents.stream().anyMatch(e -> !e.lost)) {
+            adminDashboardSnapshotService.markStale();
+        }
+        return results;
+    }
+
+    // 트랜잭션 advisory lock (커밋 / 롤백 시 해제), 키 배열 순서대로 획득
+    private static final String LOCK_KEYS_SQL = """
+        SELECT COUNT(pg_advisory_xact_lock(hashtextextended(k, 0)))
+          FROM unnest(CAST(ARRAY[:keys] AS text[])) AS k
+        """;
+
+    // 신규 / 기존 이벤트 문장이 나뉘어 있어 행 잠금 정렬만으로는 두 청크가 서로 다른 순서로 잠글 수 있음
+    // (한쪽은 A 를 기존 UPDATE, B 를 신규 INSERT 로 / 다른 쪽은 A, B 모두 신규로 보는 경우)
+    // -> 모든 일괄 청크가 같은 전역 순서(정렬된 키)로 먼저 잠그고 나서 행을 건드림
+    private void lockKeys(List<EventHit> chunk) {
+        SortedSet<String> keys = new TreeSet<>();
+        for (EventHit hit : chunk) {
+            keys.add(key(hit.store().getId(), hit.rule().getRuleId()));
+        }
+        namedParameterJdbcTemplate.queryForObject(LOCK_KEYS_SQL,
+                new MapSqlParameterSource("keys", new ArrayList<>(keys)), Long.class);
+    }
+
+    // 같은 문장 안 행 잠금 순서 (청크마다 같은 순서로 잠가 교착 방지)
+    private static final Comparator<ActiveEvent> CREATED_EVENT_ORDER = Comparator
+            .comparing((ActiveEvent e) -> e.source.store().getId())
+            .thenComparing(e -> e.source.rule().getRuleId());
+
+    // Postgres 바인딩 파라미터 한도(65535) 안에서 다건 upsert 문장 1개에 담는 행 수
+    static final int MAX_ROWS_PER_STATEMENT = 2000;
+
+    private static final String EVENT_COLUMNS = """
+        rule_id, store_id, assigned_to_user_id, event_type, occurred_at, severity, summary,
+        related_entity_type, related_entity_id, status, first_occurred_at, last_occurrence_at, occurrence_count
+        """;
+
+    // 신규 / 누적을 한 문장으로: 활성 이벤트가 이미 있으면(ux_event_store_rule_active 충돌) 발생 수만 더함
+    // - (xmax = 0) : 이번 문장이 insert 한 행이면 true
+    private static final String UPSERT_ACTIVE_EVENT_SQL = """
+        INSERT INTO event_log (""" + EVENT_COLUMNS + """
+        )
+        VALUES %s
+        ON CONFLICT (store_id, rule_id) WHERE status IN ('OPEN','ACK')
+        DO UPDATE SET occurrence_count   = event_log.occurrence_count + EXCLUDED.occurrence_count,
+                      last_occurrence_at = GREATEST(event_log.last_occurrence_at, EXCLUDED.last_occurrence_at)
+        RETURNING event_id, store_id, rule_id, (xmax = 0) AS inserted
+        """;
+
+    private static final String FIND_ACTIVE_EVENTS_SQL = """
+        SELECT event_id, store_id, rule_id, summary
+          FROM event_log
+         WHERE store_id IN (:storeIds)
+           AND rule_id IN (:ruleIds)
+           AND status IN ('OPEN','ACK')
+        """;
+
+    private static final String FIND_ACTIVE_EVENTS_BY_ID_SQL = """
+        SELECT event_id, store_id, rule_id, summary
+          FROM event_log
+         WHERE event_id IN (:eventIds)
+           AND status IN ('OPEN','ACK')
+        """;
+
+    private static final String FIND_GROUPS_SQL = """
+        SELECT group_id, dedup_key, user_id, store_id, rule_id, escalation_step,
+               first_occurred_at, last_occurrence_at, last_notified_at, occurrence_count
+          FROM notification_group
+         WHERE dedup_key IN (:dedupKeys)
+        """;
+
+    // 기존 이벤트 누적: 읽은 값 덮어쓰기가 아니라 증가분만 더함 (동시 누적 유실 방지)
+    private static final String UPDATE_EVENT_SQL = """
+        UPDATE event_log
+           SET last_occurrence_at = GREATEST(last_occurrence_at, ?),
+               occurrence_count   = occurrence_count + ?
+         WHERE event_id = ?
+        """;
+
+    private static final String UPDATE_GROUP_SQL = """
+        UPDATE notification_group
+           SET escalation_step    = GREATEST(escalation_step, ?),
+               last_occurrence_at = GREATEST(last_occurrence_at, ?),
+               last_notified_at   = COALESCE(?, last_notified_at),
+               occurrence_count   = occurrence_count + ?,
+               updated_at         = ?
+         WHERE group_id = ?
+        """;
+
+    private static final int[] UPDATE_EVENT_TYPES = {
+            Types.TIMESTAMP_WITH_TIMEZONE, Types.INTEGER, Types.BIGINT
+    };
+
+    private static final int[] UPDATE_GROUP_TYPES = {
+            Types.INTEGER, Types.TIMESTAMP_WITH_TIMEZONE, Types.TIMESTAMP_WITH_TIMEZONE, Types.INTEGER,
+            Types.TIMESTAMP_WITH_TIMEZONE, Types.BIGINT
+    };
+
+    // RETURNING event_id, store_id, rule_id, inserted
+    record UpsertedEvent(Long eventId, Long storeId, Long ruleId, boolean inserted) {}
+
+    private static final RowMapper<UpsertedEvent> UPSERTED_EVENT_MAPPER = (rs, rowNum) -> new UpsertedEvent(
+            rs.getLong("event_id"),
+            rs.getLong("store_id"),
+            rs.getLong("rule_id"),
+            rs.getBoolean("inserted")
+    );
+
+    // 다건 VALUES 의 행 1개 (접미사로 파라미터 이름 구분)
+    private static String eventValuesRow(String suffix) {
+        return ("(:ruleId%1$s, :storeId%1$s, :assignedToUserId%1$s, :eventType%1$s, :occurredAt%1$s, :severity%1$s, "
+                + ":summary%1$s, :relatedEntityType%1$s, :relatedEntityId%1$s, 'OPEN', :occurredAt%1$s, "
+                + ":lastOccurrenceAt%1$s, :occurrenceCount%1$s)").formatted(suffix);
+    }
+
+    private static void addEventValues(
+            MapSqlParameterSource params, String suffix,
+            Long storeId, Long ruleId, Long assignedToUserId,
+            String eventType, String severity, String summary,
+            String relatedEntityType, Long relatedEntityId,
+            OffsetDateTime occurredAt, OffsetDateTime lastOccurrenceAt, int occurrenceCount
+    ) {
+        params.addValue("ruleId" + suffix, ruleId, Types.BIGINT)
+                .addValue("storeId" + suffix, storeId, Types.BIGINT)
+                .addValue("assignedToUserId" + suffix, assignedToUserId, Types.BIGINT)
+                .addValue("eventType" + suffix, eventType, Types.VARCHAR)
+                .addValue("occurredAt" + suffix, occurredAt, Types.TIMESTAMP_WITH_TIMEZONE)
+                .addValue("severity" + suffix, severity, Types.VARCHAR)
+                .addValue("summary" + suffix, summary, Types.VARCHAR)
+                .addValue("relatedEntityType" + suffix, relatedEntityType, Types.VARCHAR)
+                .addValue("relatedEntityId" + suffix, relatedEntityId, Types.BIGINT)
+                .addValue("lastOccurrenceAt" + suffix, lastOccurrenceAt, Types.TIMESTAMP_WITH_TIMEZONE)
+                .addValue("occurrenceCount" + suffix, occurrenceCount, Types.INTEGER);
+    }
+
+    // (store, rule) -> 활성 이벤트 (ux_event_store_rule_active 로 키당 1건)
+    // - 인덱스 적재 후: 인덱스에 있는 event_id 만 PK 로 읽고, 인덱스에 없는 키는 조회하지 않음
+    // - 적재 전이거나 인덱스가 가리킨 이벤트가 닫혔으면 그 키들만 store x rule 조회
+    // - 여기서 놓친 활성 이벤트(동시 생성 등)는 반영 단계의 ON CONFLICT 가 잡아냄
+    private Map<String, ActiveEvent> findActiveEvents(List<EventHit> chunk) {
+        Map<String, ActiveEvent> result = new HashMap<>();
+        List<EventHit> fallback = new ArrayList<>();
+
+        if (activeEventIndex.isReady()) {
+            Map<Long, EventHit> indexed = new HashMap<>();
+            for (EventHit hit : chunk) {
+                Long eventId = activeEventIndex.find(hit.store().getId(), hit.rule().getRuleId());
+                if (eventId != null) indexed.putIfAbsent(eventId, hit);
+            }
+            if (!indexed.isEmpty()) {
+                namedParameterJdbcTemplate.query(FIND_ACTIVE_EVENTS_BY_ID_SQL,
+                        new MapSqlParameterSource("eventIds", indexed.keySet()),
+                        rs -> {
+                            result.put(key(rs.getLong("store_id"), rs.getLong("rule_id")), readActiveEvent(rs));
+                        });
+                indexed.forEach((eventId, hit) -> {
+                    String key = key(hit.store().getId(), hit.rule().getRuleId());
+                    if (!result.containsKey(key)) {
+                        activeEventIndex.evict(hit.store().getId(), hit.rule().getRuleId(), eventId);
+                        fallback.add(hit);
+                    }
+                });
+            }
+        } else {
+            fallback.addAll(chunk);
+        }
+        if (fallback.isEmpty()) return result;
+
+        Set<Long> storeIds = new HashSet<>();
+        Set<Long> ruleIds = new HashSet<>();
+        Set<String> keys = new HashSet<>();
+        for (EventHit hit : fallback) {
+            storeIds.add(hit.store().getId());
+            ruleIds.add(hit.rule().getRuleId());
+            keys.add(key(hit.store().getId(), hit.rule().getRuleId()));
+        }
+
+        namedParameterJdbcTemplate.query(FIND_ACTIVE_EVENTS_SQL,
+                new MapSqlParameterSource()
+                        .addValue("storeIds", storeIds)
+                        .addValue("ruleIds", ruleIds),
+                rs -> {
+                    long storeId = rs.getLong("store_id");
+                    long ruleId = rs.getLong("rule_id");
+                    String key = key(storeId, ruleId);
+                    if (!keys.contains(key)) return;   // store x rule 교차 조회라 청크에 없는 조합은 버림
+                    ActiveEvent e = readActiveEvent(rs);
+                    result.put(key, e);
+                    activeEventIndex.registerActive(storeId, ruleId, e.eventId);
+                });
+        return result;
+    }
+
+    private static ActiveEvent readActiveEvent(ResultSet rs) throws SQLException {
+        ActiveEvent e = new ActiveEvent();
+        e.eventId = rs.getLong("event_id");
+        e.summary = rs.getString("summary");
+        return e;
+    }
+
+    // department -> 팀장 user_id (department 당 첫 번째 활성 MANAGER)
+    private Map<String, Long> findManagerIds(List<EventHit> chunk) {
+        Set<String> departments = new HashSet<>();
+        for (EventHit hit : chunk) {
+            if (hit.supervisor() != null && hit.supervisor().getDepartment() != null) {
+                departments.add(hit.supervisor().getDepartment());
+            }
+        }
+        if (departments.isEmpty()) return Map.of();
+
+        Map<String, Long> result = new HashMap<>();
+        for (User manager : userRepository.findByRoleAndDepartmentInAndAccountStatusTrueOrderByIdAsc(
+                Role.MANAGER, departments)) {
+            result.putIfAbsent(manager.getDepartment(), manager.getId());
+        }
+        return result;
+    }
+
+    // SV 그룹 + (에스컬 대비) 팀장 그룹 dedup_key 를 한 번에 조회
+    private Map<String, GroupState> findGroups(List<EventHit> chunk, Map<String, Long> managerIds) {
+        Set<String> dedupKeys = new HashSet<>();
+        for (EventHit hit : chunk) {
+            User supervisor = hit.supervisor();
+            if (supervisor == null) continue;
+            Long storeId = hit.store().getId();
+            Long ruleId = hit.rule().getRuleId();
+            dedupKeys.add(key(storeId, ruleId, supervisor.getId()));
+            Long managerId = managerIds.get(supervisor.getDepartment());
+            if (managerId != null) dedupKeys.add(key(storeId, ruleId, managerId));
+        }
+
+        Map<String, GroupState> result = new HashMap<>();
+        if (dedupKeys.isEmpty()) return result;
+
+        namedParameterJdbcTemplate.query(FIND_GROUPS_SQL,
+                new MapSqlParameterSource("dedupKeys", dedupKeys),
+                rs -> {
+                    GroupState g = new GroupState();
+                    g.groupId = rs.getLong("group_id");
+                    g.dedupKey = rs.getString("dedup_key");
+                    g.userId = rs.getLong("user_id");
+                    g.storeId = rs.getLong("store_id");
+                    g.ruleId = rs.getLong("rule_id");
+                    g.escalationStep = rs.getInt("escalation_step");
+                    g.firstOccurredAt = rs.getObject("first_occurred_at", OffsetDateTime.class);
+                    g.lastOccurrenceAt = rs.getObject("last_occurrence_at", OffsetDateTime.class);
+                    g.lastNotifiedAt = rs.getObject("last_notified_at", OffsetDateTime.class);
+                    g.occurrenceCount = rs.getInt("occurrence_count");
+                    result.put(g.dedupKey, g);
+                });
+        return result;
+    }
+
+    private void flush(
+            Collection<ActiveEvent> events,
+            List<ActiveEvent> createdEvents,
+            Collection<GroupState> groups,
+            List<PendingNotification> notifications,
+            OffsetDateTime now
+    ) {
+        // 1) 신규 이벤트: 다건 upsert 로 실제 event_id 를 받음
+        //    조회 이후 다른 요청이 먼저 만든 키는 충돌 -> 그 이벤트에 발생 수만 더하고 lost 표시
+        //    행 / 문장 순서는 (store, rule) 순 -> 문장 안에서도 청크끼리 같은 순서로 잠금
+        Map<String, ActiveEvent> createdByKey = new HashMap<>();
+        for (ActiveEvent e : createdEvents) {
+            createdByKey.put(key(e.source.store().getId(), e.source.rule().getRuleId()), e);
+        }
+        List<ActiveEvent> sortedCreated = createdEvents.stream().sorted(CREATED_EVENT_ORDER).toList();
+        for (int from = 0; from < sortedCreated.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<ActiveEvent> rows = sortedCreated.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, sortedCreated.size()));
+            MapSqlParameterSource params = new MapSqlParameterSource();
+            StringJoiner values = new StringJoiner(", ");
+            for (int i = 0; i < rows.size(); i++) {
+                EventHit h = rows.get(i).source;
+                String suffix = "_" + i;
+                values.add(eventValuesRow(suffix));
+                addEventValues(params, suffix, h.store().getId(), h.rule().getRuleId(),
+                        h.supervisor() == null ? null : h.supervisor().getId(),
+                        h.eventType(), h.severity(), h.summary(), h.relatedEntityType(), h.relatedEntityId(),
+                        h.occurredAt(), rows.get(i).lastOccurrenceAt, rows.get(i).occurrenceCount);
+            }
+            for (UpsertedEvent u : namedParameterJdbcTemplate.query(
+                    UPSERT_ACTIVE_EVENT_SQL.formatted(values), params, UPSERTED_EVENT_MAPPER)) {
+                ActiveEvent e = createdByKey.get(key(u.storeId(), u.ruleId()));
+                if (e == null) continue;
+                e.eventId = u.eventId();
+                e.lost = !u.inserted();
+                activeEventIndex.registerActive(u.storeId(), u.ruleId(), u.eventId());
+            }
+        }
+
+        // 2) 기존 이벤트: 증가분만 더함 (event_id 순)
+        List<Object[]> eventUpdates = new ArrayList<>();
+        events.stream()
+                .filter(e -> e.source == null && e.added > 0)
+                .sorted(Comparator.comparing((ActiveEvent e) -> e.eventId))
+                .forEach(e -> eventUpdates.add(new Object[]{e.lastOccurrenceAt, e.added, e.eventId}));
+        batchUpdate(UPDATE_EVENT_SQL, eventUpdates, UPDATE_EVENT_TYPES);
+
+        // 다른 요청이 먼저 만든 이벤트의 최초 알림은 그쪽에서 이미 보냄
+        List<PendingNotification> pending = notifications.stream()
+                .filter(n -> !(n.event().lost && n.type() == NotificationType.INITIAL))
+                .toList();
+        Set<GroupState> notifiedGroups = Collections.newSetFromMap(new IdentityHashMap<>());
+        pending.forEach(n -> notifiedGroups.add(n.group()));
+
+        // 3) 신규 그룹: 다건 upsert 로 실제 group_id 를 받음 (NotificationGroupUpsertService 와 같은 문장)
+        //    lost 이벤트 그룹도 발생 수는 누적하되, 보내지 않은 최초 알림 시각은 남기지 않음
+        //    dedup_key 순으로 잠금
+        List<GroupState> createdGroups = groups.stream()
+                .filter(g -> g.created)
+                .sorted(Comparator.comparing((GroupState g) -> g.dedupKey))
+                .toList();
+        for (GroupState g : createdGroups) {
+            if (!notifiedGroups.contains(g)) g.lastNotifiedAt = null;
+        }
+        for (int from = 0; from < createdGroups.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<GroupState> rows = createdGroups.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, createdGroups.size()));
+            MapSqlParameterSource params = new MapSqlParameterSource();
+            StringJoiner values = new StringJoiner(", ");
+            Map<String, GroupState> byKey = new HashMap<>();
+            for (int i = 0; i < rows.size(); i++) {
+                GroupState g = rows.get(i);
+                String suffix = "_" + i;
+                values.add(NotificationGroupUpsertService.valuesRow(suffix));
+                NotificationGroupUpsertService.addValues(params, suffix, g.dedupKey, g.userId, g.storeId, g.ruleId,
+                        g.escalationStep, g.firstOccurredAt, g.lastOccurrenceAt, g.lastNotifiedAt,
+                        g.occurrenceCount, now);
+                byKey.put(g.dedupKey, g);
+            }
+            namedParameterJdbcTemplate.query(NotificationGroupUpsertService.UPSERT_GROUP_SQL.formatted(values), params, rs -> {
+                GroupState g = byKey.get(rs.getString("dedup_key"));
+                if (g != null) g.groupId = rs.getLong("group_id");
+            });
+        }
+
+        // 4) 기존 그룹: 증가분 / 단계는 큰 값 유지 (group_id 순)
+        List<Object[]> groupUpdates = new ArrayList<>();
+        groups.stream()
+                .filter(g -> !g.created && g.added > 0)
+                .sorted(Comparator.comparing((GroupState g) -> g.groupId))
+                .forEach(g -> groupUpdates.add(new Object[]{
+                        g.escalationStep, g.lastOccurrenceAt, g.lastNotifiedAt, g.added, now, g.groupId
+                }));
+        batchUpdate(UPDATE_GROUP_SQL, groupUpdates, UPDATE_GROUP_TYPES);
+
+        // 5) 알림은 outbox 로 (event_id / group_id 가 확정된 뒤 본문 생성, notification 은 디스패처가 생성)
+        List<NotificationOutboxService.Message> messages = new ArrayList<>(pending.size());
+        for (PendingNotification n : pending) {
+            String body = (n.bodyOccurredAt() == null)
+                    ? n.event().summary
+                    : buildBody(n.event().eventId, n.event().summary, n.bodyOccurredAt());
+            messages.add(new NotificationOutboxService.Message(
+                    n.group().groupId, n.event().eventId, n.userId(), n.type(), n.title(), body));
+        }
+        notificationOutboxService.enqueue(messages);
+    }
+
+    private void batchUpdate(String sql, List<Object[]> batch, int[] types) {
+        if (batch.isEmpty()) return;
+        namedParameterJdbcTemplate.getJdbcOperations().batchUpdate(sql, batch, types);
+    }
+
+    private static String key(Long storeId, Long ruleId) {
+        return storeId + ":" + ruleId;
+    }
+
+    // notification_group.dedup_key 정책과 같은 형태 (storeId:ruleId:userId)
+    private static String key(Long storeId, Long ruleId, Long userId) {
+        return storeId + ":" + ruleId + ":" + userId;
+    }
+
+    // 청크 처리 중 활성 이벤트 상태
+    // - source 가 있으면 이번 청크 신규 (occurrenceCount / lastOccurrenceAt 은 insert 값)
+    // - 기존 이벤트는 added(이번 청크 누적 수)만 더함
+    // - lost: 신규로 판단했지만 다른 요청이 먼저 만든 이벤트에 합쳐짐
+    private static final class ActiveEvent {
+        Long eventId;
+        String summary;
+        int occurrenceCount;
+        int added;
+        OffsetDateTime lastOccurrenceAt;
+        EventHit source;
+        boolean lost;
+
+        static ActiveEvent create(EventHit hit) {
+            ActiveEvent e = new ActiveEvent();
+            e.summary = hit.summary();
+            e.occurrenceCount = 1;
+            e.lastOccurrenceAt = hit.occurredAt();
+            e.source = hit;
+            return e;
+        }
+
+        void accumulate(OffsetDateTime occurredAt) {
+            if (lastOccurrenceAt == null || occurredAt.isAfter(lastOccurrenceAt)) lastOccurrenceAt = occurredAt;
+            occurrenceCount++;
+            added++;
+        }
+    }
+
+    // 청크 처리 중 알림 그룹 상태 (created 면 이번 청크 신규, 기존 그룹은 added 만 더함)
+    private static final class GroupState {
+        Long groupId;
+        boolean created;
+        String dedupKey;
+        Long userId;
+        Long storeId;
+        Long ruleId;
+        int escalationStep;
+        OffsetDateTime firstOccurredAt;
+        OffsetDateTime lastOccurrenceAt;
+        OffsetDateTime lastNotifiedAt;
+        int occurrenceCount;
+        int added;
+
+        // NotificationGroup.create 와 같은 초기값
+        static GroupState create(String dedupKey, Long userId, Long storeId, Long ruleId, OffsetDateTime occurredAt) {
+            GroupState g = new GroupState();
+            g.created = true;
+            g.dedupKey = dedupKey;
+            g.userId = userId;
+            g.storeId = storeId;
+            g.ruleId = ruleId;
+            g.firstOccurredAt = occurredAt;
+            g.lastOccurrenceAt = occurredAt;
+            g.occurrenceCount = 1;
+            return g;
+        }
+
+        void accumulate(OffsetDateTime occurredAt) {
+            if (lastOccurrenceAt == null || occurredAt.isAfter(lastOccurrenceAt)) lastOccurrenceAt = occurredAt;
+            occurrenceCount++;
+            added++;
+        }
+    }
+
+    // bodyOccurredAt == null 이면 최초 알림 (본문 = 요약)
+    private record PendingNotification(
+            GroupState group,
+            ActiveEvent event,
+            Long userId,
+            NotificationType type,
+            String title,
+            OffsetDateTime bodyOccurredAt
+    ) {}
+
     public record UpsertResult(boolean inserted, Long eventId) {
         public static UpsertResult inserted(Long eventId) {
             return new UpsertResult(true, eventId);
@@ -211,9 +791,13 @@ public class EventUpsertService {
     }
 
     private String buildBody(EventLog event, OffsetDateTime occurredAt) {
-        String link = "/api/events/" + event.getEventId();
+        return buildBody(event.getEventId(), event.getSummary(), occurredAt);
+    }
+
+    private static String buildBody(Long eventId, String summary, OffsetDateTime occurredAt) {
+        String link = "/api/events/" + eventId;
         return ""
-                + "요약: " + event.getSummary() + "\n"
+                + "요약: " + summary + "\n"
                 + "발생시각: " + occurredAt + "\n"
                 + "상세보기: " + link;
     }
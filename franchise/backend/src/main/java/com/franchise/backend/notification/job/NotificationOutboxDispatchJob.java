@@ -0,0 +1,39 @@
+package com.franchise.backend.notification.job;
+
+import com.franchise.backend.notification.service.NotificationOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxDispatchJob {
+
+    private final NotificationOutboxService notificationOutboxService;
+
+    @Value("${notification.outbox.enabled:true}")
+    private boolean enabled = true;
+
+    /**
+     * poll-ms 주기 (이전 실행이 끝난 뒤부터)
+     * - outbox 에 쌓인 알림을 notification 으로 생성, 실패 행은 백오프 후 재시도
+     */
+    @Scheduled(
+            initialDelayString = "${notification.outbox.poll-ms:1000}",
+            fixedDelayString = "${notification.outbox.poll-ms:1000}"
+    )
+    public void dispatch() {
+        if (!enabled) return;
+        notificationOutboxService.dispatch();
+    }
+
+    /**
+     * 매일 03:20 (Asia/Seoul) - 보존 기간 지난 발송 완료 행 정리
+     */
+    @Scheduled(cron = "${notification.outbox.purge-cron:0 20 3 * * *}", zone = "Asia/Seoul")
+    public void purge() {
+        if (!enabled) return;
+        notificationOutboxService.purgeSent();
+    }
+}
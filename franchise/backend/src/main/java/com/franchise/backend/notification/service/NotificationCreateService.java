@@ -1,12 +1,10 @@
 package com.franchise.backend.notification.service;
 
+import com.franchise.backend.common.time.ServiceTime;
 import com.franchise.backend.event.entity.EventLog;
 import com.franchise.backend.event.entity.EventRule;
-import com.franchise.backend.notification.entity.Notification;
-import com.franchise.backend.notification.entity.NotificationGroup;
 import com.franchise.backend.notification.entity.NotificationType;
-import com.franchise.backend.notification.repository.NotificationGroupRepository;
-import com.franchise.backend.notification.repository.NotificationRepository;
+import com.franchise.backend.notification.service.NotificationGroupUpsertService.GroupRow;
 import com.franchise.backend.store.entity.Store;
 import com.franchise.backend.user.entity.User;
 import org.springframework.stereotype.Service;
@@ -17,19 +15,20 @@ import java.time.OffsetDateTime;
 @Service
 public class NotificationCreateService {
 
-    private final NotificationGroupRepository groupRepository;
-    private final NotificationRepository notificationRepository;
+    private final NotificationGroupUpsertService notificationGroupUpsertService;
+    private final NotificationOutboxService notificationOutboxService;
 
     public NotificationCreateService(
-            NotificationGroupRepository groupRepository,
-            NotificationRepository notificationRepository
+            NotificationGroupUpsertService notificationGroupUpsertService,
+            NotificationOutboxService notificationOutboxService
     ) {
-        this.groupRepository = groupRepository;
-        this.notificationRepository = notificationRepository;
+        this.notificationGroupUpsertService = notificationGroupUpsertService;
+        this.notificationOutboxService = notificationOutboxService;
     }
 
     /**
      * 최초 이벤트 발생 시 알림 생성
+     * - 그룹은 바로 반영, 알림은 outbox 에 기록 (디스패처가 notification 생성)
      */
     @Transactional
     public void createInitialNotification(
@@ -46,37 +45,19 @@ public class NotificationCreateService {
         // 1) dedup key 생성 (정책 고정)
         String dedupKey = store.getId() + ":" + rule.getRuleId() + ":" + receiver.getId();
 
-        // 2) NotificationGroup 조회 or 생성
-        NotificationGroup group = groupRepository.findByDedupKey(dedupKey)
-                .orElseGet(() ->
-                        NotificationGroup.create(
-                                dedupKey,
-                                receiver,
-                                store,
-                                rule,
-                                event.getOccurredAt()
-                        )
-                );
+        // 2) NotificationGroup 생성 or 누적 + 마지막 알림 시각 (ON CONFLICT 1문장, outbox 에 group_id 가 필요)
+        OffsetDateTime now = ServiceTime.nowOffset();
+        GroupRow group = notificationGroupUpsertService.accumulate(
+                dedupKey, receiver.getId(), store.getId(), rule.getRuleId(), event.getOccurredAt(), now, now);
 
-        // 3) 그룹 누적 정보 갱신
-        group.accumulateOccurrence(event.getOccurredAt());
-
-        // 4) Notification 생성
-        Notification notification = Notification.create(
-                group,
-                event,
-                receiver,
+        // 3) 알림은 outbox 로
+        notificationOutboxService.enqueue(new NotificationOutboxService.Message(
+                group.groupId(),
+                event.getEventId(),
+                receiver.getId(),
                 NotificationType.INITIAL,
                 "[" + store.getStoreName() + "] " + rule.getRuleName(),
                 event.getSummary()
-        );
-
-        // 5) 저장
-        groupRepository.save(group);
-        notificationRepository.save(notification);
-
-        // 6) 그룹 마지막 알림 시각 갱신
-        group.markNotified(com.franchise.backend.common.time.ServiceTime.nowOffset());
-
+        ));
     }
 }
@@ -0,0 +1,120 @@
+package com.franchise.backend.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Types;
+import java.time.OffsetDateTime;
+
+/**
+ * notification_group 누적 (dedup_key 당 1행)
+ *
+ * - 없으면 생성, 있으면 증가분만 더하는 INSERT ... ON CONFLICT (dedup_key) 1문장
+ *   (조회 후 save 하면 동시 요청끼리 누적이 유실되고, 최초 생성이 겹치면 uq_notification_group_dedup 충돌로 롤백됨)
+ * - 발생 수는 NotificationGroup.create + accumulateOccurrence 와 같은 규칙: 생성 시 1 + 발생마다 1
+ *   VALUES 의 occurrence_count 는 "1 + 이번 증가분", 충돌 시에는 증가분(occurrence_count - 1)만 더함
+ * - 단건(EventUpsertService / NotificationCreateService)과 일괄(EventUpsertService.upsertBatch)이 같은 문장 사용
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationGroupUpsertService {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // %s: valuesRow(...) 를 ", " 로 이은 다건 VALUES
+    public static final String UPSERT_GROUP_SQL = """
+        INSERT INTO notification_group (
+            dedup_key, user_id, store_id, rule_id, status, escalation_step,
+            first_occurred_at, last_occurrence_at, last_notified_at, occurrence_count, created_at, updated_at
+        )
+        VALUES %s
+        ON CONFLICT (dedup_key)
+        DO UPDATE SET occurrence_count   = notification_group.occurrence_count + EXCLUDED.occurrence_count - 1,
+                      last_occurrence_at = GREATEST(notification_group.last_occurrence_at, EXCLUDED.last_occurrence_at),
+                      escalation_step    = GREATEST(notification_group.escalation_step, EXCLUDED.escalation_step),
+                      last_notified_at   = COALESCE(EXCLUDED.last_notified_at, notification_group.last_notified_at),
+                      updated_at         = EXCLUDED.updated_at
+        RETURNING group_id, dedup_key, escalation_step, first_occurred_at, occurrence_count
+        """;
+
+    // 다음 단계로 올린 요청만 true (같은 단계 알림을 동시 요청이 두 번 보내지 않게)
+    private static final String ADVANCE_STEP_SQL = """
+        UPDATE notification_group
+           SET escalation_step  = :step,
+               last_notified_at = :notifiedAt,
+               updated_at       = :notifiedAt
+         WHERE group_id = :groupId
+           AND escalation_step < :step
+        """;
+
+    /**
+     * upsert 이후 그룹 상태 (단계 / 지속일 판단용)
+     */
+    public record GroupRow(
+            Long groupId,
+            String dedupKey,
+            int escalationStep,
+            OffsetDateTime firstOccurredAt,
+            int occurrenceCount
+    ) {}
+
+    public static final RowMapper<GroupRow> GROUP_ROW_MAPPER = (rs, rowNum) -> new GroupRow(
+            rs.getLong("group_id"),
+            rs.getString("dedup_key"),
+            rs.getInt("escalation_step"),
+            rs.getObject("first_occurred_at", OffsetDateTime.class),
+            rs.getInt("occurrence_count")
+    );
+
+    // 다건 VALUES 의 행 1개 (접미사로 파라미터 이름 구분)
+    public static String valuesRow(String suffix) {
+        return ("(:dedupKey%1$s, :userId%1$s, :storeId%1$s, :ruleId%1$s, 'OPEN', :escalationStep%1$s, "
+                + ":firstOccurredAt%1$s, :lastOccurrenceAt%1$s, :lastNotifiedAt%1$s, :occurrenceCount%1$s, "
+                + ":now%1$s, :now%1$s)").formatted(suffix);
+    }
+
+    public static void addValues(
+            MapSqlParameterSource params, String suffix,
+            String dedupKey, Long userId, Long storeId, Long ruleId, int escalationStep,
+            OffsetDateTime firstOccurredAt, OffsetDateTime lastOccurrenceAt, OffsetDateTime lastNotifiedAt,
+            int occurrenceCount, OffsetDateTime now
+    ) {
+        params.addValue("dedupKey" + suffix, dedupKey, Types.VARCHAR)
+                .addValue("userId" + suffix, userId, Types.BIGINT)
+                .addValue("storeId" + suffix, storeId, Types.BIGINT)
+                .addValue("ruleId" + suffix, ruleId, Types.BIGINT)
+                .addValue("escalationStep" + suffix, escalationStep, Types.INTEGER)
+                .addValue("firstOccurredAt" + suffix, firstOccurredAt, Types.TIMESTAMP_WITH_TIMEZONE)
+                .addValue("lastOccurrenceAt" + suffix, lastOccurrenceAt, Types.TIMESTAMP_WITH_TIMEZONE)
+                .addValue("lastNotifiedAt" + suffix, lastNotifiedAt, Types.TIMESTAMP_WITH_TIMEZONE)
+                .addValue("occurrenceCount" + suffix, occurrenceCount, Types.INTEGER)
+                .addValue("now" + suffix, now, Types.TIMESTAMP_WITH_TIMEZONE);
+    }
+
+    /**
+     * 발생 1건 누적 (호출 측 트랜잭션에 합류, 그룹 행 잠금은 커밋까지 유지)
+     * - notifiedAt 이 있으면 마지막 알림 시각도 같이 갱신
+     */
+    public GroupRow accumulate(
+            String dedupKey, Long userId, Long storeId, Long ruleId,
+            OffsetDateTime occurredAt, OffsetDateTime notifiedAt, OffsetDateTime now
+    ) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        addValues(params, "", dedupKey, userId, storeId, ruleId, 0, occurredAt, occurredAt, notifiedAt, 2, now);
+        return namedParameterJdbcTemplate.queryForObject(UPSERT_GROUP_SQL.formatted(valuesRow("")), params,
+                GROUP_ROW_MAPPER);
+    }
+
+    /**
+     * 에스컬레이션 단계 올리기 (이미 그 단계 이상이면 false -> 알림 생략)
+     */
+    public boolean advanceStep(Long groupId, int step, OffsetDateTime notifiedAt) {
+        return namedParameterJdbcTemplate.update(ADVANCE_STEP_SQL, new MapSqlParameterSource()
+                .addValue("groupId", groupId)
+                .addValue("step", step)
+                .addValue("notifiedAt", notifiedAt, Types.TIMESTAMP_WITH_TIMEZONE)) > 0;
+    }
+}
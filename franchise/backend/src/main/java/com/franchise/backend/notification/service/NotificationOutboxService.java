@@ -0,0 +1,306 @@
+package com.franchise.backend.notification.service;
+
+import com.franchise.backend.common.time.ServiceTime;
+import com.franchise.backend.notification.entity.NotificationType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Types;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 알림 outbox (V35 notification_outbox)
+ *
+ * - enqueue: 이벤트 upsert 트랜잭션 안에서 보낼 알림을 outbox 행으로만 기록 (호출 측 트랜잭션에 합류)
+ * - dispatch: PENDING 행을 batch-size 건씩 꺼내 notification 생성 + SENT 표시를 트랜잭션 1개로
+ *   (FOR UPDATE SKIP LOCKED 라 여러 인스턴스가 동시에 돌아도 같은 행을 두 번 보내지 않음)
+ * - 묶음 처리가 실패하면 행 단위로 다시 시도해 실패 행만 골라냄
+ *   (실패 행은 attempts + 1, next_attempt_at = now + backoff-base-ms * 2^(attempts-1), 최대 backoff-max-ms
+ *    max-attempts 에 닿으면 FAILED 로 남김)
+ * - 재시도 / 발송 / 보존 시각(next_attempt_at, dispatched_at)은 DB now() 기준
+ *   (ServiceTime 은 고정 업무 시각이라 여기 쓰면 백오프 / 보존 기간이 끝나지 않음)
+ *   created_at 만 알림 생성 시각(ServiceTime)으로 기록
+ * - 메트릭: notification.outbox.dispatch(Timer), notification.outbox.messages(Counter, outcome=enqueued/sent/retried/failed)
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.outbox.batch-size:200}")
+    private int batchSize = 200;
+
+    @Value("${notification.outbox.max-batches-per-run:50}")
+    private int maxBatchesPerRun = 50;
+
+    @Value("${notification.outbox.max-attempts:8}")
+    private int maxAttempts = 8;
+
+    @Value("${notification.outbox.backoff-base-ms:1000}")
+    private long backoffBaseMs = 1000;
+
+    @Value("${notification.outbox.backoff-max-ms:600000}")
+    private long backoffMaxMs = 600000;
+
+    @Value("${notification.outbox.retention-days:7}")
+    private int retentionDays = 7;
+
+    private Timer dispatchTimer;
+    private Counter enqueuedCounter;
+    private Counter sentCounter;
+    private Counter retriedCounter;
+    private Counter failedCounter;
+
+    /**
+     * 보낼 알림 1건 (notification 행과 같은 값)
+     */
+    public record Message(
+            Long groupId,
+            Long eventId,
+            Long userId,
+            NotificationType type,
+            String title,
+            String body
+    ) {}
+
+    public record DispatchResult(int sent, int retried, int failed) {}
+
+    // outbox 1행 (created_at 은 notification.created_at 으로 그대로 사용)
+    record OutboxRow(Long outboxId, Message message, int attempts, OffsetDateTime createdAt) {}
+
+    private static final String INSERT_OUTBOX_SQL = """
+        INSERT INTO notification_outbox (group_id, event_id, user_id, noti_type, title, body, status, next_attempt_at, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, 'PENDING', now(), ?)
+        """;
+
+    private static final int[] INSERT_OUTBOX_TYPES = {
+            Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.TIMESTAMP_WITH_TIMEZONE
+    };
+
+    private static final String CLAIM_SQL = """
+        SELECT outbox_id, group_id, event_id, user_id, noti_type, title, body, attempts, created_at
+          FROM notification_outbox
+         WHERE status = 'PENDING'
+           AND next_attempt_at <= now()
+         ORDER BY outbox_id
+         LIMIT :limit
+           FOR UPDATE SKIP LOCKED
+        """;
+
+    private static final String CLAIM_ONE_SQL = """
+        SELECT outbox_id, group_id, event_id, user_id, noti_type, title, body, attempts, created_at
+          FROM notification_outbox
+         WHERE outbox_id = :outboxId
+           AND status = 'PENDING'
+           FOR UPDATE SKIP LOCKED
+        """;
+
+    private static final String INSERT_NOTIFICATION_SQL = """
+        INSERT INTO notification (group_id, event_id, user_id, noti_type, title, body, is_read, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, FALSE, ?)
+        """;
+
+    private static final int[] INSERT_NOTIFICATION_TYPES = {
+            Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.TIMESTAMP_WITH_TIMEZONE
+    };
+
+    private static final String MARK_SENT_SQL = """
+        UPDATE notification_outbox
+           SET status        = 'SENT',
+               attempts      = attempts + 1,
+               dispatched_at = now(),
+               last_error    = NULL
+         WHERE outbox_id IN (:outboxIds)
+        """;
+
+    private static final String MARK_FAILED_SQL = """
+        UPDATE notification_outbox
+           SET status          = :status,
+               attempts        = attempts + 1,
+               next_attempt_at = now() + :backoffMs * INTERVAL '1 millisecond',
+               last_error      = :lastError
+         WHERE outbox_id = :outboxId
+           AND status = 'PENDING'
+        """;
+
+    private static final String PURGE_SENT_SQL = """
+        DELETE FROM notification_outbox
+         WHERE status = 'SENT'
+           AND dispatched_at < now() - :retentionDays * INTERVAL '1 day'
+        """;
+
+    private static final RowMapper<OutboxRow> OUTBOX_ROW_MAPPER = (rs, rowNum) -> new OutboxRow(
+            rs.getLong("outbox_id"),
+            new Message(
+                    rs.getLong("group_id"),
+                    rs.getObject("event_id", Long.class),
+                    rs.getLong("user_id"),
+                    NotificationType.valueOf(rs.getString("noti_type")),
+                    rs.getString("title"),
+                    rs.getString("body")
+            ),
+            rs.getInt("attempts"),
+            rs.getObject("created_at", OffsetDateTime.class)
+    );
+
+    @PostConstruct
+    void registerMetrics() {
+        dispatchTimer = Timer.builder("notification.outbox.dispatch")
+                .description("알림 outbox 디스패치 1회 실행 시간")
+                .register(meterRegistry);
+        enqueuedCounter = messageCounter("enqueued");
+        sentCounter = messageCounter("sent");
+        retriedCounter = messageCounter("retried");
+        failedCounter = messageCounter("failed");
+    }
+
+    private Counter messageCounter(String outcome) {
+        return Counter.builder("notification.outbox.messages")
+                .description("알림 outbox 처리 건수 (retried: 백오프 후 재시도 예약, failed: 재시도 한도 초과)")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 알림 기록 (호출 측 트랜잭션에 합류, 실제 notification 은 디스패처가 생성)
+     */
+    public void enqueue(List<Message> messages) {
+        if (messages == null || messages.isEmpty()) return;
+
+        OffsetDateTime createdAt = ServiceTime.nowOffset();
+        List<Object[]> rows = new ArrayList<>(messages.size());
+        for (Message m : messages) {
+            rows.add(new Object[]{m.groupId(), m.eventId(), m.userId(), m.type().name(), m.title(), m.body(), createdAt});
+        }
+        namedParameterJdbcTemplate.getJdbcOperations().batchUpdate(INSERT_OUTBOX_SQL, rows, INSERT_OUTBOX_TYPES);
+        enqueuedCounter.increment(messages.size());
+    }
+
+    public void enqueue(Message message) {
+        enqueue(List.of(message));
+    }
+
+    /**
+     * 발송 대기 행 처리 (최대 max-batches-per-run 묶음, 대기 행이 batch-size 보다 적으면 바로 종료)
+     */
+    public DispatchResult dispatch() {
+        long startNanos = System.nanoTime();
+        int sent = 0;
+        int retried = 0;
+        int failed = 0;
+        try {
+            for (int batch = 0; batch < Math.max(1, maxBatchesPerRun); batch++) {
+                DispatchResult r = dispatchBatch();
+                sent += r.sent();
+                retried += r.retried();
+                failed += r.failed();
+                if (r.sent() + r.retried() + r.failed() < Math.max(1, batchSize)) break;
+            }
+            return new DispatchResult(sent, retried, failed);
+        } finally {
+            dispatchTimer.record(Duration.ofNanos(System.nanoTime() - startNanos));
+            sentCounter.increment(sent);
+            retriedCounter.increment(retried);
+            failedCounter.increment(failed);
+        }
+    }
+
+    // 묶음 1개: 성공하면 트랜잭션 1개로 끝, 실패하면 (롤백 후) 행 단위로 다시 시도
+    DispatchResult dispatchBatch() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<OutboxRow> claimed = new ArrayList<>();
+
+        try {
+            tx.executeWithoutResult(status -> {
+                List<OutboxRow> rows = namedParameterJdbcTemplate.query(CLAIM_SQL,
+                        new MapSqlParameterSource("limit", Math.max(1, batchSize)),
+                        OUTBOX_ROW_MAPPER);
+                claimed.addAll(rows);
+                deliver(rows);
+            });
+            return new DispatchResult(claimed.size(), 0, 0);
+        } catch (RuntimeException e) {
+            if (claimed.isEmpty()) throw e;   // 조회 자체가 실패 -> 다음 주기에 재시도
+        }
+
+        int sent = 0;
+        int retried = 0;
+        int failed = 0;
+        for (OutboxRow row : claimed) {
+            try {
+                Boolean delivered = tx.execute(status -> {
+                    List<OutboxRow> one = namedParameterJdbcTemplate.query(CLAIM_ONE_SQL,
+                            new MapSqlParameterSource("outboxId", row.outboxId()), OUTBOX_ROW_MAPPER);
+                    if (one.isEmpty()) return false;   // 다른 인스턴스가 처리 중 / 완료
+                    deliver(one);
+                    return true;
+                });
+                if (Boolean.TRUE.equals(delivered)) sent++;
+            } catch (RuntimeException e) {
+                boolean dead = row.attempts() + 1 >= Math.max(1, maxAttempts);
+                tx.executeWithoutResult(status -> markFailed(row, dead, e));
+                if (dead) failed++;
+                else retried++;
+            }
+        }
+        return new DispatchResult(sent, retried, failed);
+    }
+
+    private void deliver(List<OutboxRow> rows) {
+        if (rows.isEmpty()) return;
+
+        List<Object[]> notifications = new ArrayList<>(rows.size());
+        List<Long> outboxIds = new ArrayList<>(rows.size());
+        for (OutboxRow row : rows) {
+            Message m = row.message();
+            notifications.add(new Object[]{
+                    m.groupId(), m.eventId(), m.userId(), m.type().name(), m.title(), m.body(), row.createdAt()
+            });
+            outboxIds.add(row.outboxId());
+        }
+        namedParameterJdbcTemplate.getJdbcOperations()
+                .batchUpdate(INSERT_NOTIFICATION_SQL, notifications, INSERT_NOTIFICATION_TYPES);
+        namedParameterJdbcTemplate.update(MARK_SENT_SQL, new MapSqlParameterSource("outboxIds", outboxIds));
+    }
+
+    private void markFailed(OutboxRow row, boolean dead, RuntimeException error) {
+        namedParameterJdbcTemplate.update(MARK_FAILED_SQL, new MapSqlParameterSource()
+                .addValue("outboxId", row.outboxId())
+                .addValue("status", dead ? "FAILED" : "PENDING")
+                .addValue("backoffMs", backoff(row.attempts() + 1).toMillis())
+                .addValue("lastError", String.valueOf(error.getMessage()), Types.VARCHAR));
+    }
+
+    // attempts 번째 실패 후 대기 시간: base * 2^(attempts-1), 최대 backoff-max-ms
+    Duration backoff(int attempts) {
+        long base = Math.max(1, backoffBaseMs);
+        int shift = Math.min(Math.max(0, attempts - 1), 30);
+        return Duration.ofMillis(Math.min(Math.max(base, backoffMaxMs), base << shift));
+    }
+
+    /**
+     * 보존 기간(retention-days)이 지난 SENT 행 삭제 (FAILED 행은 확인용으로 남김)
+     */
+    public int purgeSent() {
+        return namedParameterJdbcTemplate.update(PURGE_SENT_SQL,
+                new MapSqlParameterSource("retentionDays", Math.max(1, retentionDays)));
+    }
+}
@@ -0,0 +1,387 @@
+package com.franchise.backend.notification.service;
+
+import com.franchise.backend.common.time.ServiceTime;
+import com.franchise.backend.notification.entity.NotificationType;
+import com.franchise.backend.notification.service.NotificationOutboxService.Message;
+import com.franchise.backend.user.entity.Role;
+import com.franchise.backend.user.entity.User;
+import com.franchise.backend.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 재알림 / 에스컬레이션 배치 (NotificationReminderJob)
+ *
+ * - OPEN 그룹 + 룰 / 점포 / SV / 활성 이벤트를 조인 쿼리 1번으로 읽음
+ *   (POS / QSC 만, 오늘 이미 보낸 그룹 / 에스컬 끝난 그룹 / 활성 이벤트 없는 그룹은 쿼리에서 제외)
+ * - 팀장은 실행마다 department IN 조회 1번으로 캐시 (department 당 첫 번째 활성 MANAGER)
+ * - store_id % parallelism 으로 나눠 notificationReminderExecutor 에서 병렬 처리, chunk-size 건마다 트랜잭션 1개
+ *   (같은 점포의 팀장 그룹은 한 파티션에서만 건드림, 실패한 청크만 롤백되고 같은 날 재실행하면 다시 대상이 됨)
+ * - 그룹 단계 갱신은 "단계가 아직 낮고 오늘 안 보낸 그룹" 조건부 UPDATE
+ *   -> 그 사이 이벤트 경로 / 다른 인스턴스가 먼저 처리한 그룹은 알림 생략 (skipped)
+ * - 팀장 그룹은 다건 INSERT ... ON CONFLICT (dedup_key), 알림은 outbox 로 (NotificationOutboxService)
+ * - 메트릭: notification.reminder.run(Timer, result), notification.reminder.scanned(Counter),
+ *          notification.reminder.groups(Counter, outcome=reminded/escalated/skipped/failed)
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationReminderService {
+
+    static final String REMIND_BODY = "이벤트가 일정 기간 지속되고 있습니다. 확인이 필요합니다.";
+    static final String ESCALATION_SV_BODY = "이벤트가 장기간 해결되지 않아 팀장에게 에스컬레이션되었습니다.";
+    static final String ESCALATION_MANAGER_BODY = "담당 점포 이슈가 장기간 해결되지 않아 에스컬레이션되었습니다.";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final UserRepository userRepository;
+    private final NotificationOutboxService notificationOutboxService;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    private final Executor notificationReminderExecutor;
+
+    @Value("${notification.reminder.chunk-size:200}")
+    private int chunkSize = 200;
+
+    @Value("${notification.reminder.parallelism:4}")
+    private int parallelism = 4;
+
+    private Timer successTimer;
+    private Timer failureTimer;
+    private Counter scannedCounter;
+    private Counter remindedCounter;
+    private Counter escalatedCounter;
+    private Counter skippedCounter;
+    private Counter failedCounter;
+
+    /**
+     * 재알림 / 에스컬 대상 그룹 1건 (조인 결과)
+     */
+    record ReminderTarget(
+            Long groupId,
+            Long userId,
+            Long storeId,
+            Long ruleId,
+            int escalationStep,
+            OffsetDateTime firstOccurredAt,
+            String eventType,
+            String ruleName,
+            String storeName,
+            String department,
+            Long eventId
+    ) {}
+
+    public record RunResult(
+            int scanned,
+            int reminded,
+            int escalated,
+            int skipped,
+            int failed,
+            long elapsedMs
+    ) {}
+
+    // 청크 1개 처리 결과
+    record ChunkResult(int reminded, int escalated, int skipped, int failed) {
+        static final ChunkResult EMPTY = new ChunkResult(0, 0, 0, 0);
+
+        ChunkResult plus(ChunkResult o) {
+            return new ChunkResult(reminded + o.reminded, escalated + o.escalated, skipped + o.skipped, failed + o.failed);
+        }
+    }
+
+    // 활성 이벤트는 ux_event_store_rule_active 로 (store, rule) 당 1건 -> 그룹당 1행
+    // 같은 날 판단은 세션 타임존(관리형 DB 는 보통 UTC)이 아니라 서울 날짜로 (V32 트리거와 같은 기준)
+    private static final String FIND_TARGETS_SQL = """
+        SELECT g.group_id, g.user_id, g.store_id, g.rule_id, COALESCE(g.escalation_step, 0) AS escalation_step,
+               g.first_occurred_at, r.event_type, r.rule_name, s.store_name, u.department, e.event_id
+          FROM notification_group g
+          JOIN event_rule r ON r.rule_id  = g.rule_id
+          JOIN stores     s ON s.store_id = g.store_id
+          JOIN users      u ON u.user_id  = g.user_id
+          JOIN event_log  e ON e.store_id = g.store_id
+                           AND e.rule_id  = g.rule_id
+                           AND e.status IN ('OPEN','ACK')
+         WHERE g.status = 'OPEN'
+           AND r.event_type IN ('POS','QSC')
+           AND COALESCE(g.escalation_step, 0) < 2
+           AND (g.last_notified_at IS NULL OR CAST(g.last_notified_at AT TIME ZONE 'Asia/Seoul' AS date) <> :today)
+         ORDER BY g.group_id
+        """;
+
+    // 조회 이후 다른 경로가 먼저 올렸거나 오늘 이미 보냈으면 0건 -> 알림 생략
+    private static final String ADVANCE_GROUP_SQL = """
+        UPDATE notification_group
+           SET escalation_step  = ?,
+               last_notified_at = ?,
+               updated_at       = ?
+         WHERE group_id = ?
+           AND COALESCE(escalation_step, 0) < ?
+           AND (last_notified_at IS NULL OR CAST(last_notified_at AT TIME ZONE 'Asia/Seoul' AS date) <> ?)
+        """;
+
+    private static final int[] ADVANCE_GROUP_TYPES = {
+            Types.INTEGER, Types.TIMESTAMP_WITH_TIMEZONE, Types.TIMESTAMP_WITH_TIMEZONE, Types.BIGINT,
+            Types.INTEGER, Types.DATE
+    };
+
+    // 팀장 그룹: 없으면 SV 그룹 최초 발생 시각으로 생성, 있으면 알림 시각만 갱신
+    private static final String UPSERT_MANAGER_GROUP_SQL = """
+        INSERT INTO notification_group (
+            dedup_key, user_id, store_id, rule_id, status, escalation_step,
+            first_occurred_at, last_occurrence_at, last_notified_at, occurrence_count, created_at, updated_at
+        )
+        VALUES %s
+        ON CONFLICT (dedup_key)
+        DO UPDATE SET last_notified_at = EXCLUDED.last_notified_at,
+                      updated_at       = EXCLUDED.updated_at
+        RETURNING group_id, dedup_key
+        """;
+
+    private static final RowMapper<ReminderTarget> TARGET_MAPPER = (rs, rowNum) -> new ReminderTarget(
+            rs.getLong("group_id"),
+            rs.getLong("user_id"),
+            rs.getLong("store_id"),
+            rs.getLong("rule_id"),
+            rs.getInt("escalation_step"),
+            rs.getObject("first_occurred_at", OffsetDateTime.class),
+            rs.getString("event_type"),
+            rs.getString("rule_name"),
+            rs.getString("store_name"),
+            rs.getString("department"),
+            rs.getLong("event_id")
+    );
+
+    @PostConstruct
+    void registerMetrics() {
+        successTimer = Timer.builder("notification.reminder.run")
+                .description("재알림 / 에스컬 배치 1회 실행 시간")
+                .tag("result", "success")
+                .register(meterRegistry);
+        failureTimer = Timer.builder("notification.reminder.run")
+                .description("재알림 / 에스컬 배치 1회 실행 시간")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        scannedCounter = Counter.builder("notification.reminder.scanned")
+                .description("조인 쿼리로 읽은 대상 그룹 수")
+                .register(meterRegistry);
+        remindedCounter = groupCounter("reminded");
+        escalatedCounter = groupCounter("escalated");
+        skippedCounter = groupCounter("skipped");
+        failedCounter = groupCounter("failed");
+    }
+
+    private Counter groupCounter(String outcome) {
+        return Counter.builder("notification.reminder.groups")
+                .description("재알림 / 에스컬 처리 그룹 수 (skipped: 다른 경로가 먼저 처리, failed: 청크 롤백)")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전체 OPEN 그룹 1회 처리
+     */
+    public RunResult run() {
+        long startNanos = System.nanoTime();
+        try {
+            OffsetDateTime now = ServiceTime.nowOffset();
+            LocalDate today = now.toLocalDate();
+
+            List<ReminderTarget> targets = namedParameterJdbcTemplate.query(FIND_TARGETS_SQL,
+                    new MapSqlParameterSource("today", today), TARGET_MAPPER);
+            Map<String, Long> managerIds = findManagerIds(targets);
+
+            ChunkResult total = ChunkResult.EMPTY;
+            for (ChunkResult r : processInParallel(targets, managerIds, now)) {
+                total = total.plus(r);
+            }
+
+            long elapsedNanos = System.nanoTime() - startNanos;
+            successTimer.record(Duration.ofNanos(elapsedNanos));
+            scannedCounter.increment(targets.size());
+            remindedCounter.increment(total.reminded());
+            escalatedCounter.increment(total.escalated());
+            skippedCounter.increment(total.skipped());
+            failedCounter.increment(total.failed());
+
+            return new RunResult(targets.size(), total.reminded(), total.escalated(), total.skipped(),
+                    total.failed(), elapsedNanos / 1_000_000);
+        } catch (RuntimeException e) {
+            failureTimer.record(Duration.ofNanos(System.nanoTime() - startNanos));
+            throw e;
+        }
+    }
+
+    // department -> 팀장 user_id (실행 1번 동안 캐시)
+    private Map<String, Long> findManagerIds(List<ReminderTarget> targets) {
+        Set<String> departments = new HashSet<>();
+        for (ReminderTarget t : targets) {
+            if (t.department() != null) departments.add(t.department());
+        }
+        if (departments.isEmpty()) return Map.of();
+
+        Map<String, Long> result = new HashMap<>();
+        for (User manager : userRepository.findByRoleAndDepartmentInAndAccountStatusTrueOrderByIdAsc(
+                Role.MANAGER, departments)) {
+            result.putIfAbsent(manager.getDepartment(), manager.getId());
+        }
+        return result;
+    }
+
+    // store_id % parallelism 파티션마다 작업 1개, 파티션 안에서는 청크를 순서대로
+    private List<ChunkResult> processInParallel(List<ReminderTarget> targets, Map<String, Long> managerIds, OffsetDateTime now) {
+        int partitionCount = Math.max(1, parallelism);
+        List<List<ReminderTarget>> partitions = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) partitions.add(new ArrayList<>());
+        for (ReminderTarget t : targets) {
+            partitions.get((int) Math.floorMod(t.storeId(), (long) partitionCount)).add(t);
+        }
+
+        List<CompletableFuture<ChunkResult>> futures = new ArrayList<>(partitionCount);
+        for (List<ReminderTarget> partition : partitions) {
+            if (partition.isEmpty()) continue;
+            futures.add(CompletableFuture.supplyAsync(() -> processPartition(partition, managerIds, now),
+                    notificationReminderExecutor));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private ChunkResult processPartition(List<ReminderTarget> partition, Map<String, Long> managerIds, OffsetDateTime now) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        int size = Math.max(1, chunkSize);
+        ChunkResult result = ChunkResult.EMPTY;
+        for (int from = 0; from < partition.size(); from += size) {
+            List<ReminderTarget> chunk = partition.subList(from, Math.min(from + size, partition.size()));
+            try {
+                result = result.plus(tx.execute(status -> processChunk(chunk, managerIds, now)));
+            } catch (RuntimeException e) {
+                // 이 청크만 롤백 (last_notified_at 이 그대로라 재실행 시 다시 대상)
+                result = result.plus(new ChunkResult(0, 0, 0, chunk.size()));
+            }
+        }
+        return result;
+    }
+
+    ChunkResult processChunk(List<ReminderTarget> chunk, Map<String, Long> managerIds, OffsetDateTime now) {
+        // 1) 단계 판단 (원래 규칙: 에스컬 우선, 재알림은 1번만)
+        List<ReminderTarget> due = new ArrayList<>();
+        List<Integer> nextSteps = new ArrayList<>();
+        for (ReminderTarget t : chunk) {
+            long days = NotificationSchedule.persistedDays(t.firstOccurredAt(), now);
+            int[] th = NotificationSchedule.thresholds(t.eventType());
+            if (days >= th[1] && t.escalationStep() < 2) {
+                due.add(t);
+                nextSteps.add(2);
+            } else if (days >= th[0] && t.escalationStep() < 1) {
+                due.add(t);
+                nextSteps.add(1);
+            }
+        }
+        if (due.isEmpty()) return ChunkResult.EMPTY;
+
+        // 2) 조건부 단계 갱신 -> 실제로 올린 그룹만 알림
+        LocalDate today = now.toLocalDate();
+        List<Object[]> advances = new ArrayList<>(due.size());
+        for (int i = 0; i < due.size(); i++) {
+            advances.add(new Object[]{nextSteps.get(i), now, now, due.get(i).groupId(), nextSteps.get(i), today});
+        }
+        int[] counts = namedParameterJdbcTemplate.getJdbcOperations()
+                .batchUpdate(ADVANCE_GROUP_SQL, advances, ADVANCE_GROUP_TYPES);
+
+        List<ReminderTarget> reminded = new ArrayList<>();
+        List<ReminderTarget> escalated = new ArrayList<>();
+        int skipped = 0;
+        for (int i = 0; i < due.size(); i++) {
+            if (counts[i] == 0) {
+                skipped++;
+            } else if (nextSteps.get(i) == 2) {
+                escalated.add(due.get(i));
+            } else {
+                reminded.add(due.get(i));
+            }
+        }
+
+        // 3) 팀장 그룹 (에스컬된 그룹의 점포 / 룰 기준)
+        Map<String, Long> managerGroupIds = upsertManagerGroups(escalated, managerIds, now);
+
+        // 4) 알림은 outbox 로
+        List<Message> messages = new ArrayList<>();
+        for (ReminderTarget t : escalated) {
+            String title = title(t);
+            messages.add(new Message(t.groupId(), t.eventId(), t.userId(), NotificationType.ESCALATION, title,
+                    ESCALATION_SV_BODY));
+            Long managerId = managerIds.get(t.department());
+            if (managerId != null) {
+                messages.add(new Message(managerGroupIds.get(managerKey(t, managerId)), t.eventId(), managerId,
+                        NotificationType.ESCALATION, title, ESCALATION_MANAGER_BODY));
+            }
+        }
+        for (ReminderTarget t : reminded) {
+            messages.add(new Message(t.groupId(), t.eventId(), t.userId(), NotificationType.REMIND, title(t),
+                    REMIND_BODY));
+        }
+        notificationOutboxService.enqueue(messages);
+
+        return new ChunkResult(reminded.size(), escalated.size(), skipped, 0);
+    }
+
+    // dedup_key -> group_id (같은 점포 / 룰 / 팀장은 1행, 잠금 순서를 맞추려고 dedup_key 순)
+    private Map<String, Long> upsertManagerGroups(List<ReminderTarget> escalated, Map<String, Long> managerIds, OffsetDateTime now) {
+        SortedMap<String, ReminderTarget> byKey = new TreeMap<>();
+        SortedMap<String, Long> managerByKey = new TreeMap<>();
+        for (ReminderTarget t : escalated) {
+            Long managerId = managerIds.get(t.department());
+            if (managerId == null) continue;
+            String key = managerKey(t, managerId);
+            byKey.putIfAbsent(key, t);
+            managerByKey.putIfAbsent(key, managerId);
+        }
+        Map<String, Long> result = new HashMap<>();
+        if (byKey.isEmpty()) return result;
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringJoiner values = new StringJoiner(", ");
+        int i = 0;
+        for (Map.Entry<String, ReminderTarget> e : byKey.entrySet()) {
+            ReminderTarget t = e.getValue();
+            String suffix = "_" + i++;
+            values.add(("(:dedupKey%1$s, :userId%1$s, :storeId%1$s, :ruleId%1$s, 'OPEN', 0, :firstOccurredAt%1$s, "
+                    + ":firstOccurredAt%1$s, :now%1$s, 1, :now%1$s, :now%1$s)").formatted(suffix));
+            params.addValue("dedupKey" + suffix, e.getKey(), Types.VARCHAR)
+                    .addValue("userId" + suffix, managerByKey.get(e.getKey()), Types.BIGINT)
+                    .addValue("storeId" + suffix, t.storeId(), Types.BIGINT)
+                    .addValue("ruleId" + suffix, t.ruleId(), Types.BIGINT)
+                    .addValue("firstOccurredAt" + suffix, t.firstOccurredAt(), Types.TIMESTAMP_WITH_TIMEZONE)
+                    .addValue("now" + suffix, now, Types.TIMESTAMP_WITH_TIMEZONE);
+        }
+        namedParameterJdbcTemplate.query(UPSERT_MANAGER_GROUP_SQL.formatted(values), params,
+                rs -> {
+                    result.put(rs.getString("dedup_key"), rs.getLong("group_id"));
+                });
+        return result;
+    }
+
+    // notification_group.dedup_key 정책 (storeId:ruleId:userId)
+    private static String managerKey(ReminderTarget t, Long managerId) {
+        return t.storeId() + ":" + t.ruleId() + ":" + managerId;
+    }
+
+    private static String title(ReminderTarget t) {
+        return "[" + t.storeName() + "] " + t.ruleName();
+    }
+}
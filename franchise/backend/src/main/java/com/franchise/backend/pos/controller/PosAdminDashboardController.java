@@ -1,15 +1,20 @@
 package com.franchise.backend.pos.controller;
 
+import com.franchise.backend.common.web.ConditionalGet;
+import com.franchise.backend.common.web.DataTable;
+import com.franchise.backend.pos.dto.dashboard.PerformanceListOption;
 import com.franchise.backend.pos.dto.dashboard.PosDashboardResponse;
 import com.franchise.backend.pos.entity.PosPeriodAgg.PosPeriodType;
 import com.franchise.backend.pos.service.PosDashboardService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 
@@ -23,16 +28,19 @@ public class PosAdminDashboardController {
     /**
      * ADMIN POS 대시보드
      * GET /api/pos/admin/dashboard?periodType=WEEK&periodStart=2024-01-22
+     * - 점포가 많으면 includePerformanceList=false 또는 page/size(매출 내림차순)로 성과 목록을 줄여서 조회
      */
     @GetMapping("/dashboard")
+    @ConditionalGet({DataTable.STORES, DataTable.USERS, DataTable.POS_PERIOD_AGG, DataTable.POS_DAILY})
     public PosDashboardResponse getDashboard(
             @AuthenticationPrincipal UserDetails userDetails,
             @RequestParam PosPeriodType periodType,
-            @RequestParam(required = false) LocalDate periodStart
-
+            @RequestParam(required = false) LocalDate periodStart,
+            @RequestParam(defaultValue = "true") boolean includePerformanceList,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size
     ) {
         String loginId = userDetails.getUsername();
-        System.out.println("[ADMIN_DASH] loginId=" + loginId + ", authorities=" + userDetails.getAuthorities());
 
         LocalDate asOf = LocalDate.of(2025, 8, 25);
         LocalDate start = (periodStart != null) ? periodStart : asOf;
@@ -40,7 +48,17 @@ public class PosAdminDashboardController {
         return posDashboardService.getDashboard(
                 loginId,
                 periodType,
-                start
+                start,
+                listOption(includePerformanceList, page, size)
         );
     }
+
+    private static PerformanceListOption listOption(boolean includePerformanceList, Integer page, Integer size) {
+        try {
+            return new PerformanceListOption(includePerformanceList, page, size);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
 }
+
@@ -0,0 +1,80 @@
+package com.franchise.backend.pos.controller;
+
+import com.franchise.backend.common.web.ConditionalGet;
+import com.franchise.backend.common.web.DataTable;
+import com.franchise.backend.pos.dto.cube.PosCubeDimension;
+import com.franchise.backend.pos.dto.cube.PosCubeResponse;
+import com.franchise.backend.pos.entity.PosPeriodAgg.PosPeriodType;
+import com.franchise.backend.pos.service.PosCubeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/pos/cube")
+public class PosCubeController {
+
+    private final PosCubeService posCubeService;
+
+    /**
+     * POS 큐브 ad-hoc group by
+     * GET /api/pos/cube?periodType=MONTH&from=2025-03-01&to=2025-08-01&groupBy=REGION,TRADE_AREA&supervisor=sv01
+     * - groupBy: STORE / PERIOD / REGION / SUPERVISOR / TRADE_AREA (여러 개 가능, 순서대로 키 구성)
+     * - 필터(여러 값 가능): storeId / region / supervisor(login_id) / tradeArea
+     */
+    @GetMapping
+    @ConditionalGet({DataTable.STORES, DataTable.USERS, DataTable.POS_PERIOD_AGG})
+    public PosCubeResponse query(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(defaultValue = "WEEK") PosPeriodType periodType,
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to,
+            @RequestParam(defaultValue = "REGION") List<String> groupBy,
+            @RequestParam(required = false) List<String> storeId,
+            @RequestParam(required = false) List<String> region,
+            @RequestParam(required = false) List<String> supervisor,
+            @RequestParam(required = false) List<String> tradeArea
+    ) {
+        Map<PosCubeDimension, Set<String>> filters = new EnumMap<>(PosCubeDimension.class);
+        putFilter(filters, PosCubeDimension.STORE, storeId);
+        putFilter(filters, PosCubeDimension.REGION, region);
+        putFilter(filters, PosCubeDimension.SUPERVISOR, supervisor);
+        putFilter(filters, PosCubeDimension.TRADE_AREA, tradeArea);
+
+        try {
+            return posCubeService.query(userDetails.getUsername(), periodType, from, to,
+                    dimensions(groupBy), filters);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private static List<PosCubeDimension> dimensions(List<String> raw) {
+        List<PosCubeDimension> dims = new ArrayList<>();
+        for (String value : raw) {
+            if (value == null || value.isBlank()) continue;
+            try {
+                dims.add(PosCubeDimension.valueOf(value.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "unknown groupBy: " + value);
+            }
+        }
+        return dims;
+    }
+
+    private static void putFilter(Map<PosCubeDimension, Set<String>> filters, PosCubeDimension dim, List<String> values) {
+        if (values == null) return;
+        Set<String> set = new HashSet<>();
+        for (String v : values) {
+            if (v != null && !v.isBlank()) set.add(v.trim());
+        }
+        if (!set.isEmpty()) filters.put(dim, set);
+    }
+}
@@ -0,0 +1,45 @@
+package com.franchise.backend.pos.controller;
+
+import com.franchise.backend.pos.dto.ingest.PosDailyIngestResponse;
+import com.franchise.backend.pos.service.PosDailyIngestService;
+import com.franchise.backend.pos.service.PosDailyIngestService.Format;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/pos/daily")
+public class PosDailyIngestController {
+
+    private final PosDailyIngestService posDailyIngestService;
+
+    /**
+     * POS 일 마감 벌크 적재 (ADMIN / MANAGER)
+     * POST /api/pos/daily/bulk
+     * - Content-Type: text/csv            -> 첫 줄 헤더 (store_id,business_date,sales_amount,order_count,...)
+     * - Content-Type: application/x-ndjson -> 한 줄에 JSON 1건 ({"storeId":1,"businessDate":"2025-08-31",...})
+     * - 본문은 메모리에 올리지 않고 스트리밍으로 읽음, 행 단위 거절 사유 반환
+     */
+    @PostMapping("/bulk")
+    public PosDailyIngestResponse bulk(HttpServletRequest request) throws IOException {
+        Format format = Format.fromContentType(request.getContentType());
+
+        try (BufferedReader body = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+            return posDailyIngestService.ingest(body, format);
+        } catch (IllegalArgumentException e) {
+            // CSV 헤더 누락 등 요청 전체가 잘못된 경우
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
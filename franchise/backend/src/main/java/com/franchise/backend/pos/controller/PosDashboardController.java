@@ -1,14 +1,21 @@
 package com.franchise.backend.pos.controller;
 
+import com.franchise.backend.common.web.ConditionalGet;
+import com.franchise.backend.common.web.DataTable;
+import com.franchise.backend.pos.dto.PosKpiStoreSeriesResponse;
+import com.franchise.backend.pos.dto.dashboard.PerformanceListOption;
 import com.franchise.backend.pos.dto.dashboard.PosDashboardResponse;
 import com.franchise.backend.pos.dto.dashboard.detail.PosStoreDashboardResponse;
 import com.franchise.backend.pos.entity.PosPeriodAgg.PosPeriodType;
 import com.franchise.backend.pos.service.PosDashboardService;
+import com.franchise.backend.pos.service.PosKpiService;
 import com.franchise.backend.pos.service.PosStoreDashboardService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 
@@ -18,19 +25,48 @@ import java.time.LocalDate;
 public class PosDashboardController {
 
     private final PosDashboardService posDashboardService;
+    private final PosKpiService posKpiService;
 
     @GetMapping("/dashboard")
+    @ConditionalGet({DataTable.STORES, DataTable.USERS, DataTable.POS_PERIOD_AGG, DataTable.POS_DAILY})
     public PosDashboardResponse getDashboard(
             @AuthenticationPrincipal UserDetails userDetails,
             @RequestParam PosPeriodType periodType,
-            @RequestParam(required = false) LocalDate periodStart
+            @RequestParam(required = false) LocalDate periodStart,
+            @RequestParam(defaultValue = "true") boolean includePerformanceList,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size
     ) {
         String loginId = userDetails.getUsername();
 
         LocalDate asOf = LocalDate.of(2025, 8, 25);
         LocalDate start = (periodStart != null) ? periodStart : asOf;
 
-        return posDashboardService.getDashboard(loginId, periodType, start);
+        return posDashboardService.getDashboard(loginId, periodType, start,
+                listOption(includePerformanceList, page, size));
+    }
+
+    /**
+     * 담당 점포 KPI 시계열 비교
+     * GET /api/pos/supervisor/kpi/series?periodType=WEEK&periods=12
+     */
+    @GetMapping("/kpi/series")
+    @ConditionalGet({DataTable.STORES, DataTable.USERS, DataTable.POS_PERIOD_AGG})
+    public PosKpiStoreSeriesResponse getStoreSeries(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(defaultValue = "WEEK") String periodType,
+            @RequestParam(defaultValue = "12") int periods
+    ) {
+        return posKpiService.getStoreSeries(userDetails.getUsername(), periodType, periods);
+    }
+
+    private static PerformanceListOption listOption(boolean includePerformanceList, Integer page, Integer size) {
+        try {
+            return new PerformanceListOption(includePerformanceList, page, size);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
     }
 }
 
+
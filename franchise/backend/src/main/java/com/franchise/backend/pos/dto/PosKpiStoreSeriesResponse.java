@@ -0,0 +1,42 @@
+package com.franchise.backend.pos.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 담당 점포 KPI 시계열 비교 (점포별 최근 N주/N개월)
+@Getter
+@AllArgsConstructor
+public class PosKpiStoreSeriesResponse {
+
+    private String asOfDate;
+    private String periodType;     // WEEK/MONTH
+
+    // 조회 구간 (기간 시작일 기준)
+    private LocalDate fromPeriodStart;
+    private LocalDate toPeriodStart;
+
+    private List<StoreSeries> stores;
+
+    @Getter
+    @AllArgsConstructor
+    public static class StoreSeries {
+        private Long storeId;
+        private String storeName;
+        private List<SeriesPoint> points;   // 기간 오름차순, 집계 없는 기간은 빠짐
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SeriesPoint {
+        private LocalDate periodStart;
+        private Long sales;
+        private Long orders;
+        private Long aov;
+        private Double salesRate;    // 직전 기간 대비 증감률(%) ex -15.0
+        private Double ordersRate;
+        private Double aovRate;
+    }
+}
@@ -0,0 +1,10 @@
+package com.franchise.backend.pos.dto.cube;
+
+// POS 큐브 group by / 필터 차원
+public enum PosCubeDimension {
+    STORE,        // store_id
+    PERIOD,       // period_start
+    REGION,       // stores.region_code
+    SUPERVISOR,   // 담당 SV login_id
+    TRADE_AREA    // stores.trade_area_type
+}
@@ -0,0 +1,38 @@
+package com.franchise.backend.pos.dto.cube;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+// POS 큐브 group by 결과
+@Getter
+@AllArgsConstructor
+public class PosCubeResponse {
+
+    private String periodType;           // WEEK/MONTH
+    private LocalDate fromPeriodStart;   // null 이면 제한 없음
+    private LocalDate toPeriodStart;
+    private List<PosCubeDimension> groupBy;
+
+    private long cubeVersion;            // 큐브 스냅샷 버전 (갱신될 때마다 +1)
+    private OffsetDateTime cubeBuiltAt;
+
+    private List<Group> groups;          // 매출 내림차순
+
+    @Getter
+    @AllArgsConstructor
+    public static class Group {
+        private Map<PosCubeDimension, String> keys;   // groupBy 순서 유지, 값 없음은 "-"
+        private BigDecimal sales;
+        private Long orders;
+        private BigDecimal aov;
+        private BigDecimal margin;
+        private BigDecimal marginRate;                // 0.3120 (비율)
+        private Integer rowCount;                     // 합산한 pos_period_agg 행 수
+    }
+}
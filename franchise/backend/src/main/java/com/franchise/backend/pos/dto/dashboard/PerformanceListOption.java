@@ -0,0 +1,31 @@
+package com.franchise.backend.pos.dto.dashboard;
+
+/**
+ * POS 대시보드 performanceList 응답 방식
+ * - include=false          : 목록 생략 (카드/랭킹/차트만, performanceTotalCount 는 유지)
+ * - size 지정              : 매출 내림차순 page 단위 (page 는 0부터)
+ * - 둘 다 없음(기본)        : 기존과 같이 전체 목록
+ */
+public record PerformanceListOption(boolean include, Integer page, Integer size) {
+
+    public static final int MAX_PAGE_SIZE = 500;
+
+    public static final PerformanceListOption FULL = new PerformanceListOption(true, null, null);
+
+    public PerformanceListOption {
+        if (size != null && (size < 1 || size > MAX_PAGE_SIZE)) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (page != null && page < 0) {
+            throw new IllegalArgumentException("page must be >= 0");
+        }
+    }
+
+    public boolean paged() {
+        return include && size != null;
+    }
+
+    public long offset() {
+        return (long) (page == null ? 0 : page) * size;
+    }
+}
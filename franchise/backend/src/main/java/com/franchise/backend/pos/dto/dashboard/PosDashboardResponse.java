@@ -11,5 +11,6 @@ public class PosDashboardResponse {
     private SummaryDto summary;
     private List<TrendPointDto> trend;
     private RankingDto ranking;
-    private List<StorePerformanceRowDto> performanceList;
+    private List<StorePerformanceRowDto> performanceList;   // 생략 모드면 null, 페이지 모드면 해당 페이지만
+    private int performanceTotalCount;                        // 기간 집계가 있는 점포 수 (페이지 계산용)
 }
@@ -0,0 +1,27 @@
+package com.franchise.backend.pos.dto.ingest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PosDailyIngestResponse {
+
+    private int totalRows;
+    private int acceptedRows;
+    private int rejectedRows;
+
+    private long elapsedMs;
+
+    // 거절 행 (최대 pos.ingest.max-reported-rejects 건까지만 내려줌, 건수는 rejectedRows 기준)
+    private List<RejectedRow> rejects;
+
+    @Getter
+    @AllArgsConstructor
+    public static class RejectedRow {
+        private int lineNumber;    // 요청 본문 기준 1부터 (CSV는 헤더 포함)
+        private String reason;
+    }
+}
@@ -0,0 +1,31 @@
+package com.franchise.backend.pos.dto.ingest;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// POS 일 마감 1행 (JSON lines 1줄 / CSV 1줄)
+@Getter
+@Setter
+@NoArgsConstructor
+public class PosDailyIngestRow {
+
+    private Long storeId;
+    private LocalDate businessDate;
+
+    private BigDecimal salesAmount;
+    private Integer orderCount;
+
+    private BigDecimal cogsAmount;
+    private BigDecimal marginAmount;   // 비어 있으면 sales - cogs
+
+    private Boolean isMissing;
+    private String missingPolicy;      // ex) ZERO_FILL
+
+    private Boolean isAbnormal;
+    private String abnormalType;       // ex) SALES_SPIKE/SALES_DROP/OPERATION_ISSUE
+    private String abnormalReason;
+}
@@ -82,6 +82,10 @@ public class PosPeriodAgg {
     @Column(name = "created_at", nullable = false)
     private OffsetDateTime createdAt;
 
+    // 증분 재집계(PosPeriodAggregationService) 시각
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+
     public enum PosPeriodType {
         WEEK, MONTH
     }
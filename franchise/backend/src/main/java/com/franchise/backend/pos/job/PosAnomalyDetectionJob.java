@@ -0,0 +1,27 @@
+package com.franchise.backend.pos.job;
+
+import com.franchise.backend.pos.service.PosAnomalyDetectionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PosAnomalyDetectionJob {
+
+    private final PosAnomalyDetectionService posAnomalyDetectionService;
+
+    @Value("${pos.anomaly.enabled:true}")
+    private boolean enabled = true;
+
+    /**
+     * 매일 06:30 (Asia/Seoul) - 전날 마감까지 반영된 WEEK / MONTH 집계 기준
+     * - 기준선(pos_baseline) 임계치를 벗어난 점포/지표를 이벤트로 올림 (점포+룰 dedup)
+     */
+    @Scheduled(cron = "${pos.anomaly.cron:0 30 6 * * *}", zone = "Asia/Seoul")
+    public void run() {
+        if (!enabled) return;
+        posAnomalyDetectionService.run();
+    }
+}
@@ -0,0 +1,28 @@
+package com.franchise.backend.pos.job;
+
+import com.franchise.backend.pos.service.PosDailyPartitionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PosDailyPartitionJob {
+
+    private final PosDailyPartitionService posDailyPartitionService;
+
+    @Value("${pos.partition.enabled:true}")
+    private boolean enabled = true;
+
+    /**
+     * 매일 03:10 (Asia/Seoul) - 조회가 거의 없는 시간대
+     * - 다음 달들 pos_daily 파티션 미리 생성 / 기본 파티션 정리
+     * - 보존 기간(retention-months) 지난 파티션 분리(archive or drop)
+     */
+    @Scheduled(cron = "${pos.partition.cron:0 10 3 * * *}", zone = "Asia/Seoul")
+    public void run() {
+        if (!enabled) return;
+        posDailyPartitionService.maintain();
+    }
+}
@@ -62,20 +62,29 @@ public interface PosDailyRepository extends JpaRepository<PosDaily, Long> {
     );
 
 
-    //담당하는 점포 전체 합산
+    //담당하는 점포 전체 합산 (일자별 1행 -> 점포 수와 무관하게 기간 일수만큼만 반환)
     @Query("""
-    select p
+    select p.businessDate as businessDate,
+           sum(p.salesAmount) as sales,
+           sum(p.marginAmount) as margin
     from PosDaily p
     where p.storeId in :storeIds
       and p.isMissing = false
       and p.businessDate between :fromDate and :toDate
+    group by p.businessDate
     order by p.businessDate asc
 """)
-    List<PosDaily> findByStoreIdsAndBusinessDateBetweenOrderByBusinessDateAsc(
+    List<DailyTrendProjection> sumDailyTrendByStoreIds(
             @Param("storeIds") List<Long> storeIds,
             @Param("fromDate") LocalDate fromDate,
             @Param("toDate") LocalDate toDate
     );
 
+    interface DailyTrendProjection {
+        LocalDate getBusinessDate();
+        BigDecimal getSales();
+        BigDecimal getMargin();
+    }
+
 
 }
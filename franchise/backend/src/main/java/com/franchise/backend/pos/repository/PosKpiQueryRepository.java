@@ -5,12 +5,17 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 public interface PosKpiQueryRepository extends Repository<PosDaily, Long> {
 
     // 주간 집계(최근 limit개) + 전주 대비 증감률 계산
     // - period_start: 주 시작일(월요일 기준 date_trunc('week'))
+    // - "결측 아닌" 실적 주 중 최근 limit+1 개가 걸치는 범위만 읽음 (첫 포인트의 전주 값 포함, 월 파티션 pruning)
+    //   최근 주나 중간 주가 통째로 결측이어도 그 앞의 실적 주로 limit 개를 채움 (증감률은 직전 실적 주 대비)
+    //   실적 주가 limit+1 개보다 적으면 전체 범위
     @Query(value = """
         WITH agg AS (
           SELECT
@@ -20,6 +25,17 @@ public interface PosKpiQueryRepository extends Repository<PosDaily, Long> {
           FROM pos_daily
           WHERE store_id = :storeId
             AND (is_missing IS NULL OR is_missing = FALSE)
+            AND business_date >= COALESCE((
+                  SELECT p.period_start
+                  FROM (
+                    SELECT DISTINCT date_trunc('week', d.business_date)::date AS period_start
+                    FROM pos_daily d
+                    WHERE d.store_id = :storeId
+                      AND (d.is_missing IS NULL OR d.is_missing = FALSE)
+                  ) p
+                  ORDER BY p.period_start DESC
+                  OFFSET :limit LIMIT 1
+            ), DATE '-infinity')
           GROUP BY 1
         ),
         calc AS (
@@ -52,6 +68,7 @@ public interface PosKpiQueryRepository extends Repository<PosDaily, Long> {
     List<Object[]> findWeeklySeries(@Param("storeId") Long storeId, @Param("limit") int limit);
 
     // 월간 집계(최근 limit개) + 전월 대비 증감률 계산
+    // - "결측 아닌" 실적 월 중 최근 limit+1 개가 걸치는 범위만 읽음 (주간과 같은 규칙)
     @Query(value = """
         WITH agg AS (
           SELECT
@@ -61,6 +78,17 @@ public interface PosKpiQueryRepository extends Repository<PosDaily, Long> {
           FROM pos_daily
           WHERE store_id = :storeId
             AND (is_missing IS NULL OR is_missing = FALSE)
+            AND business_date >= COALESCE((
+                  SELECT p.period_start
+                  FROM (
+                    SELECT DISTINCT date_trunc('month', d.business_date)::date AS period_start
+                    FROM pos_daily d
+                    WHERE d.store_id = :storeId
+                      AND (d.is_missing IS NULL OR d.is_missing = FALSE)
+                  ) p
+                  ORDER BY p.period_start DESC
+                  OFFSET :limit LIMIT 1
+            ), DATE '-infinity')
           GROUP BY 1
         ),
         calc AS (
@@ -92,6 +120,62 @@ public interface PosKpiQueryRepository extends Repository<PosDaily, Long> {
         """, nativeQuery = true)
     List<Object[]> findMonthlySeries(@Param("storeId") Long storeId, @Param("limit") int limit);
 
+    // 여러 점포 주/월 시계열 (pos_period_agg 기준, 비교 화면용)
+    // - 점포별 PARTITION 으로 직전 기간 대비 증감률 계산
+    // - :lagFrom 은 :from 보다 한 기간 앞 (첫 포인트의 직전 기간 값용), 결과는 :from ~ :to 만 반환
+    @Query(value = """
+        WITH series AS (
+          SELECT
+            a.store_id,
+            a.period_start,
+            a.sales_amount AS sales_sum,
+            a.order_count  AS orders_sum,
+            a.aov,
+            LAG(a.sales_amount) OVER w AS prev_sales,
+            LAG(a.order_count)  OVER w AS prev_orders,
+            LAG(a.aov)          OVER w AS prev_aov
+          FROM pos_period_agg a
+          WHERE a.store_id IN (:storeIds)
+            AND a.period_type = :periodType
+            AND a.period_start BETWEEN :lagFrom AND :to
+          WINDOW w AS (PARTITION BY a.store_id ORDER BY a.period_start)
+        )
+        SELECT
+          se.store_id     AS "storeId",
+          s.store_name    AS "storeName",
+          se.period_start AS "periodStart",
+          se.sales_sum    AS "salesSum",
+          se.orders_sum   AS "ordersSum",
+          se.aov          AS "aov",
+          CASE WHEN se.prev_sales IS NULL OR se.prev_sales = 0 THEN NULL
+               ELSE (se.sales_sum - se.prev_sales) / se.prev_sales END AS "salesRate",
+          CASE WHEN se.prev_orders IS NULL OR se.prev_orders = 0 THEN NULL
+               ELSE (se.orders_sum - se.prev_orders)::numeric / se.prev_orders END AS "ordersRate",
+          CASE WHEN se.prev_aov IS NULL OR se.prev_aov = 0 THEN NULL
+               ELSE (se.aov - se.prev_aov) / se.prev_aov END AS "aovRate"
+        FROM series se
+        JOIN stores s ON s.store_id = se.store_id
+        WHERE se.period_start >= :from
+        ORDER BY se.store_id, se.period_start
+        """, nativeQuery = true)
+    List<StoreSeriesRow> findSeriesForStores(@Param("storeIds") List<Long> storeIds,
+                                             @Param("periodType") String periodType,
+                                             @Param("lagFrom") LocalDate lagFrom,
+                                             @Param("from") LocalDate from,
+                                             @Param("to") LocalDate to);
+
+    interface StoreSeriesRow {
+        Long getStoreId();
+        String getStoreName();
+        LocalDate getPeriodStart();
+        BigDecimal getSalesSum();
+        Long getOrdersSum();
+        BigDecimal getAov();
+        BigDecimal getSalesRate();
+        BigDecimal getOrdersRate();
+        BigDecimal getAovRate();
+    }
+
     // 기준선(pos_baseline) - 현재 유효한 최신버전 1건
     // metric: SALES / ORDER_COUNT / AOV  (너가 서비스에서 쓰는 값에 맞춰야 함)
     @Query(value = """
@@ -75,31 +75,23 @@ public interface PosPeriodAggRepository extends JpaRepository<PosPeriodAgg, Long
             Pageable pageable
     );
 
+    /**
+     * 점포 상세 window 조회 (from ~ to 기간 시작일, 오래된 -> 최신)
+     * - 추이 + 현재/전기간 KPI 를 이 결과 하나로 계산
+     */
     @Query("""
         SELECT p
         FROM PosPeriodAgg p
         WHERE p.storeId = :storeId
           AND p.periodType = :type
-          AND p.periodStart = :periodStart
-    """)
-    Optional<PosPeriodAgg> findOneByStoreIdAndPeriod(
-            @Param("storeId") Long storeId,
-            @Param("type") PosPeriodType type,
-            @Param("periodStart") LocalDate periodStart
-    );
-
-    @Query("""
-        SELECT p
-        FROM PosPeriodAgg p
-        WHERE p.storeId = :storeId
-          AND p.periodType = :type
-          AND p.periodStart IN :periodStarts
+          AND p.periodStart BETWEEN :from AND :to
         ORDER BY p.periodStart ASC
     """)
-    List<PosPeriodAgg> findByStoreIdAndPeriodStarts(
+    List<PosPeriodAgg> findWindowByStoreId(
             @Param("storeId") Long storeId,
             @Param("type") PosPeriodType type,
-            @Param("periodStarts") List<LocalDate> periodStarts
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
     );
 
     //관리자 홈 pos
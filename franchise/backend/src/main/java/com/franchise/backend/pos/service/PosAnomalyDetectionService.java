@@ -0,0 +1,419 @@
+package com.franchise.backend.pos.service;
+
+import com.franchise.backend.common.time.ServiceTime;
+import com.franchise.backend.event.entity.EventRule;
+import com.franchise.backend.event.repository.EventRuleRepository;
+import com.franchise.backend.event.service.EventUpsertService;
+import com.franchise.backend.pos.entity.PosPeriodAgg.PosPeriodType;
+import com.franchise.backend.store.entity.Store;
+import com.franchise.backend.store.repository.StoreRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * POS 기준선(pos_baseline) 대비 이상 감지 배치
+ *
+ * - 점포별 "가장 최근에 끝난" WEEK / MONTH pos_period_agg 행을 그 기간에 유효한 최신 버전 기준선과 비교
+ *   (period_end 는 포함 구간이라 오늘 끝나는 기간은 아직 진행 중 -> period_end < today 만)
+ * - 행마다 한 번만 평가: pos_anomaly_evaluation 에 평가 당시 updated_at 을 남기고, 재집계로 바뀐 행만 다시 평가
+ * - 실적 < baseline_value * (1 - threshold_rate) 이면 이상으로 보고 이벤트 upsert (점포+룰 단위 dedup 은 EventUpsertService)
+ * - 스캔: store_id % partitions 로 나눠 posAnomalyExecutor 에서 병렬 조회 (파티션당 쿼리 1번)
+ * - 이벤트 반영: 감지 건을 batch-size 단위 트랜잭션으로 묶어 EventUpsertService.upsertBatch 로 순차 반영
+ *   (같은 점포/SV 의 알림 그룹을 동시에 건드리지 않게 반영 단계는 병렬로 돌리지 않는다)
+ *   같은 행의 지표는 같은 트랜잭션에서 반영하고 그 안에서 평가 완료를 기록 -> 실패한 배치의 행만 다음 실행에서 재평가
+ * - 메트릭: pos.anomaly.run(Timer), pos.anomaly.scanned / hits / events(Counter), pos.anomaly.throughput(rows/s)
+ */
+@Service
+@RequiredArgsConstructor
+public class PosAnomalyDetectionService {
+
+    static final String RELATED_ENTITY_TYPE = "pos";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final StoreRepository storeRepository;
+    private final EventRuleRepository eventRuleRepository;
+    private final EventUpsertService eventUpsertService;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    private final Executor posAnomalyExecutor;
+
+    @Value("${pos.anomaly.partitions:4}")
+    private int partitions = 4;
+
+    @Value("${pos.anomaly.batch-size:200}")
+    private int batchSize = 200;
+
+    // 지표 -> event_rule.rule_id (0 이하면 해당 지표는 이벤트를 만들지 않음)
+    @Value("${pos.anomaly.rule-id.sales:1}")
+    private long salesRuleId = 1;
+
+    @Value("${pos.anomaly.rule-id.order-count:2}")
+    private long orderCountRuleId = 2;
+
+    @Value("${pos.anomaly.rule-id.aov:0}")
+    private long aovRuleId = 0;
+
+    @Value("${pos.anomaly.rule-id.margin-rate:5}")
+    private long marginRateRuleId = 5;
+
+    private Timer successTimer;
+    private Timer failureTimer;
+    private Counter scannedCounter;
+    private Counter hitCounter;
+    private Counter insertedCounter;
+    private Counter updatedCounter;
+    private Counter failedCounter;
+    private DistributionSummary throughput;
+
+    /**
+     * 기준선 지표
+     * - eventType 은 기존 event_log 시드(POS_SALES_DROP 등)와 같은 값
+     */
+    enum Metric {
+        SALES("POS_SALES_DROP", "매출"),
+        ORDER_COUNT("POS_ORDER_DROP", "주문수"),
+        AOV("POS_AOV_DROP", "객단가"),
+        MARGIN_RATE("POS_MARGIN_DROP", "마진율");
+
+        final String eventType;
+        final String label;
+
+        Metric(String eventType, String label) {
+            this.eventType = eventType;
+            this.label = label;
+        }
+    }
+
+    /**
+     * 점포 1곳 x 지표 1개 비교 행
+     */
+    record Comparison(
+            Long posPeriodAggId,
+            OffsetDateTime aggUpdatedAt,
+            Long storeId,
+            PosPeriodType periodType,
+            LocalDate periodStart,
+            Metric metric,
+            BigDecimal actual,
+            BigDecimal baseline,
+            BigDecimal thresholdRate
+    ) {
+        // 기준선 대비 하한선 아래면 이상
+        boolean isHit() {
+            if (actual == null || baseline == null || baseline.signum() <= 0) return false;
+            BigDecimal rate = thresholdRate == null ? BigDecimal.ZERO : thresholdRate;
+            BigDecimal floor = baseline.multiply(BigDecimal.ONE.subtract(rate));
+            return actual.compareTo(floor) < 0;
+        }
+
+        // 기준선 대비 변화율(%) - 소수 1자리
+        BigDecimal deviationPercent() {
+            return actual.subtract(baseline)
+                    .multiply(BigDecimal.valueOf(100))
+                    .divide(baseline, 1, RoundingMode.HALF_UP);
+        }
+    }
+
+    public record RunResult(
+            int scanned,
+            int hits,
+            int inserted,
+            int updated,
+            int failed,
+            long elapsedMillis
+    ) {}
+
+    private static final String SCAN_SQL = """
+        WITH latest AS (
+            SELECT DISTINCT ON (a.store_id)
+                   a.pos_period_agg_id, a.updated_at, a.store_id, a.period_start,
+                   a.sales_amount, a.order_count, a.aov, a.margin_rate
+              FROM pos_period_agg a
+             WHERE a.period_type = :periodType
+               AND a.period_end < :today
+               AND a.period_end >= :oldestEnd
+               AND MOD(a.store_id, :partitions) = :partition
+               AND NOT EXISTS (
+                   SELECT 1
+                     FROM pos_anomaly_evaluation e
+                    WHERE e.pos_period_agg_id = a.pos_period_agg_id
+                      AND e.agg_updated_at >= a.updated_at
+               )
+             ORDER BY a.store_id, a.period_start DESC
+        ),
+        baseline AS (
+            SELECT DISTINCT ON (b.store_id, b.metric)
+                   b.store_id, b.metric, b.baseline_value, b.threshold_rate
+              FROM pos_baseline b
+              JOIN latest l ON l.store_id = b.store_id
+             WHERE b.period_type = :periodType
+               AND b.effective_from <= l.period_start
+               AND (b.effective_to IS NULL OR b.effective_to >= l.period_start)
+             ORDER BY b.store_id, b.metric, b.version DESC
+        )
+        SELECT l.pos_period_agg_id, l.updated_at, l.store_id, l.period_start,
+               b.metric, b.baseline_value, b.threshold_rate,
+               CASE b.metric
+                    WHEN 'SALES'       THEN l.sales_amount
+                    WHEN 'ORDER_COUNT' THEN CAST(l.order_count AS numeric)
+                    WHEN 'AOV'         THEN l.aov
+                    WHEN 'MARGIN_RATE' THEN l.margin_rate
+               END AS actual
+          FROM latest l
+          JOIN baseline b ON b.store_id = l.store_id
+         ORDER BY l.store_id, b.metric
+        """;
+
+    private static final String MARK_EVALUATED_SQL = """
+        INSERT INTO pos_anomaly_evaluation (pos_period_agg_id, agg_updated_at, evaluated_at)
+        VALUES (:posPeriodAggId, :aggUpdatedAt, now())
+        ON CONFLICT (pos_period_agg_id) DO UPDATE
+           SET agg_updated_at = EXCLUDED.agg_updated_at,
+               evaluated_at   = EXCLUDED.evaluated_at
+        """;
+
+    @PostConstruct
+    void registerMetrics() {
+        successTimer = Timer.builder("pos.anomaly.run")
+                .description("POS 이상 감지 배치 1회 실행 시간")
+                .tag("result", "success")
+                .register(meterRegistry);
+        failureTimer = Timer.builder("pos.anomaly.run")
+                .description("POS 이상 감지 배치 1회 실행 시간")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        scannedCounter = Counter.builder("pos.anomaly.scanned")
+                .description("기준선과 비교한 (점포, 지표) 수")
+                .register(meterRegistry);
+        hitCounter = Counter.builder("pos.anomaly.hits")
+                .description("임계치를 벗어난 (점포, 지표) 수")
+                .register(meterRegistry);
+        insertedCounter = eventCounter("inserted");
+        updatedCounter = eventCounter("updated");
+        failedCounter = eventCounter("failed");
+        throughput = DistributionSummary.builder("pos.anomaly.throughput")
+                .description("실행 1회당 초당 비교 건수")
+                .baseUnit("rows/s")
+                .register(meterRegistry);
+    }
+
+    private Counter eventCounter(String outcome) {
+        return Counter.builder("pos.anomaly.events")
+                .description("이상 감지로 반영한 이벤트 수")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전체 점포 1회 스캔 + 이벤트 반영
+     */
+    public RunResult run() {
+        long startNanos = System.nanoTime();
+        try {
+            LocalDate today = ServiceTime.today();
+
+            List<Comparison> comparisons = new ArrayList<>();
+            for (PosPeriodType periodType : PosPeriodType.values()) {
+                comparisons.addAll(scan(periodType, today));
+            }
+            List<Comparison> hits = comparisons.stream().filter(Comparison::isHit).toList();
+
+            Map<Metric, Long> ruleIds = ruleIds();
+            List<Comparison> targets = hits.stream()
+                    .filter(c -> ruleIds.containsKey(c.metric()))
+                    .toList();
+
+            int[] outcome = upsertEvents(targets, ruleIds);
+
+            // 이벤트 대상이 없는 행은 여기서 평가 완료 기록 (대상이 있는 행은 반영 트랜잭션 안에서)
+            Set<Long> targetRows = targets.stream().map(Comparison::posPeriodAggId).collect(Collectors.toSet());
+            markEvaluated(comparisons.stream().filter(c -> !targetRows.contains(c.posPeriodAggId())).toList());
+
+            long elapsedNanos = System.nanoTime() - startNanos;
+            successTimer.record(Duration.ofNanos(elapsedNanos));
+            scannedCounter.increment(comparisons.size());
+            hitCounter.increment(hits.size());
+            insertedCounter.increment(outcome[0]);
+            updatedCounter.increment(outcome[1]);
+            failedCounter.increment(outcome[2]);
+            double seconds = Math.max(elapsedNanos, 1) / 1_000_000_000d;
+            throughput.record(comparisons.size() / seconds);
+
+            return new RunResult(comparisons.size(), hits.size(),
+                    outcome[0], outcome[1], outcome[2], elapsedNanos / 1_000_000);
+        } catch (RuntimeException e) {
+            failureTimer.record(Duration.ofNanos(System.nanoTime() - startNanos));
+            throw e;
+        }
+    }
+
+    // 파티션별 병렬 스캔 - 결과는 (store_id, metric) 순으로 합친다
+    List<Comparison> scan(PosPeriodType periodType, LocalDate today) {
+        int partitionCount = Math.max(1, partitions);
+        // 어제까지 끝난 기간 중 최근 1주 / 1개월 안에 끝난 것 (기간마다 매일 실행 중 한 번만 평가됨)
+        LocalDate oldestEnd = (periodType == PosPeriodType.WEEK) ? today.minusWeeks(1) : today.minusMonths(1);
+
+        List<CompletableFuture<List<Comparison>>> futures = new ArrayList<>(partitionCount);
+        for (int partition = 0; partition < partitionCount; partition++) {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("periodType", periodType.name())
+                    .addValue("today", today)
+                    .addValue("oldestEnd", oldestEnd)
+                    .addValue("partitions", partitionCount)
+                    .addValue("partition", partition);
+            futures.add(CompletableFuture.supplyAsync(() -> scanPartition(periodType, params), posAnomalyExecutor));
+        }
+
+        List<Comparison> result = new ArrayList<>();
+        for (CompletableFuture<List<Comparison>> future : futures) {
+            result.addAll(future.join());
+        }
+        result.sort(Comparator.comparing(Comparison::storeId).thenComparing(Comparison::metric));
+        return result;
+    }
+
+    private List<Comparison> scanPartition(PosPeriodType periodType, MapSqlParameterSource params) {
+        return namedParameterJdbcTemplate.query(SCAN_SQL, params, (rs, rowNum) -> new Comparison(
+                rs.getLong("pos_period_agg_id"),
+                rs.getObject("updated_at", OffsetDateTime.class),
+                rs.getLong("store_id"),
+                periodType,
+                rs.getObject("period_start", LocalDate.class),
+                Metric.valueOf(rs.getString("metric")),
+                rs.getBigDecimal("actual"),
+                rs.getBigDecimal("baseline_value"),
+                rs.getBigDecimal("threshold_rate")
+        ));
+    }
+
+    // [inserted, updated, failed]
+    // - 같은 pos_period_agg 행의 지표는 한 배치에 모은다 (행 단위로 평가 완료 기록)
+    private int[] upsertEvents(List<Comparison> targets, Map<Metric, Long> ruleIds) {
+        int[] outcome = new int[3];
+        if (targets.isEmpty()) return outcome;
+
+        Map<Long, EventRule> rules = eventRuleRepository.findAllById(new HashSet<>(ruleIds.values())).stream()
+                .filter(r -> Boolean.TRUE.equals(r.getIsActive()))
+                .collect(Collectors.toMap(EventRule::getRuleId, Function.identity()));
+
+        Collection<List<Comparison>> byRow = targets.stream()
+                .collect(Collectors.groupingBy(Comparison::posPeriodAggId, LinkedHashMap::new, Collectors.toList()))
+                .values();
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        int size = Math.max(1, batchSize);
+        List<Comparison> batch = new ArrayList<>(size);
+        Iterator<List<Comparison>> rows = byRow.iterator();
+        while (rows.hasNext()) {
+            batch.addAll(rows.next());
+            if (batch.size() < size && rows.hasNext()) continue;
+
+            List<Comparison> current = List.copyOf(batch);
+            batch.clear();
+            try {
+                int[] batchOutcome = tx.execute(status -> {
+                    int[] result = upsertBatch(current, ruleIds, rules);
+                    markEvaluated(current);
+                    return result;
+                });
+                outcome[0] += batchOutcome[0];
+                outcome[1] += batchOutcome[1];
+            } catch (RuntimeException e) {
+                // 배치 하나가 실패해도 나머지 배치는 계속 반영 (평가 기록도 롤백 -> 다음 실행에서 다시 감지, 실패 건수는 메트릭으로)
+                outcome[2] += current.size();
+            }
+        }
+        return outcome;
+    }
+
+    // 비교한 pos_period_agg 행을 평가 완료로 기록 (행당 1번)
+    private void markEvaluated(List<Comparison> comparisons) {
+        Map<Long, OffsetDateTime> rows = new LinkedHashMap<>();
+        for (Comparison c : comparisons) {
+            rows.putIfAbsent(c.posPeriodAggId(), c.aggUpdatedAt());
+        }
+        if (rows.isEmpty()) return;
+
+        SqlParameterSource[] params = rows.entrySet().stream()
+                .map(e -> new MapSqlParameterSource()
+                        .addValue("posPeriodAggId", e.getKey())
+                        .addValue("aggUpdatedAt", e.getValue()))
+                .toArray(SqlParameterSource[]::new);
+        namedParameterJdbcTemplate.batchUpdate(MARK_EVALUATED_SQL, params);
+    }
+
+    private int[] upsertBatch(List<Comparison> batch, Map<Metric, Long> ruleIds, Map<Long, EventRule> rules) {
+        Set<Long> storeIds = batch.stream().map(Comparison::storeId).collect(Collectors.toSet());
+        Map<Long, Store> stores = storeRepository.findAllById(storeIds).stream()
+                .collect(Collectors.toMap(Store::getId, Function.identity()));
+        OffsetDateTime occurredAt = ServiceTime.nowOffset();
+
+        List<EventUpsertService.EventHit> eventHits = new ArrayList<>(batch.size());
+        for (Comparison c : batch) {
+            Store store = stores.get(c.storeId());
+            EventRule rule = rules.get(ruleIds.get(c.metric()));
+            if (store == null || rule == null) continue;
+
+            eventHits.add(new EventUpsertService.EventHit(
+                    store,
+                    rule,
+                    store.getSupervisor(),
+                    c.metric().eventType,
+                    rule.getSeverityDefault(),
+                    summary(c),
+                    RELATED_ENTITY_TYPE,
+                    c.posPeriodAggId(),
+                    occurredAt
+            ));
+        }
+
+        int inserted = 0;
+        int updated = 0;
+        for (EventUpsertService.UpsertResult result : eventUpsertService.upsertBatch(eventHits)) {
+            if (result.inserted()) inserted++;
+            else updated++;
+        }
+        return new int[]{inserted, updated};
+    }
+
+    private Map<Metric, Long> ruleIds() {
+        Map<Metric, Long> ruleIds = new EnumMap<>(Metric.class);
+        if (salesRuleId > 0) ruleIds.put(Metric.SALES, salesRuleId);
+        if (orderCountRuleId > 0) ruleIds.put(Metric.ORDER_COUNT, orderCountRuleId);
+        if (aovRuleId > 0) ruleIds.put(Metric.AOV, aovRuleId);
+        if (marginRateRuleId > 0) ruleIds.put(Metric.MARGIN_RATE, marginRateRuleId);
+        return ruleIds;
+    }
+
+    // 예) "주간 매출 기준선 대비 -17.5% (임계 -10.0%, 기준 2025-08-25)"
+    static String summary(Comparison c) {
+        String period = (c.periodType() == PosPeriodType.WEEK) ? "주간" : "월간";
+        BigDecimal threshold = (c.thresholdRate() == null ? BigDecimal.ZERO : c.thresholdRate())
+                .multiply(BigDecimal.valueOf(100))
+                .setScale(1, RoundingMode.HALF_UP);
+        return period + " " + c.metric().label + " 기준선 대비 " + c.deviationPercent() + "%"
+                + " (임계 -" + threshold + "%, 기준 " + c.periodStart() + ")";
+    }
+}
@@ -0,0 +1,75 @@
+package com.franchise.backend.pos.service;
+
+import java.math.BigDecimal;
+
+// POS 대시보드 금액 합산
+// - 금액 컬럼은 NUMERIC(18,2) -> 소수 2자리 그대로 long(1/100 단위)으로 누적, 마지막에만 BigDecimal 생성
+// - long 범위를 넘거나 소수 자릿수가 2가 아닌 값이 섞이면 BigDecimal 누적으로 전환 (결과 동일 보장)
+final class PosCentsAggregation {
+
+    static final int SCALE = 2;
+
+    private PosCentsAggregation() {}
+
+    /**
+     * 매출/마진/주문 합계 누적기
+     * - 값이 하나도 없으면 BigDecimal.ZERO (기존 BigDecimal 누적과 같은 scale)
+     */
+    static final class Totals {
+
+        private long salesCents;
+        private long marginCents;
+        private long orders;
+        private int count;
+
+        // 센트 누적이 불가능해진 뒤에만 사용
+        private BigDecimal salesDecimal;
+        private BigDecimal marginDecimal;
+
+        void add(BigDecimal sales, BigDecimal margin, int orderCount) {
+            orders += orderCount;
+            count++;
+
+            if (salesDecimal == null) {
+                try {
+                    long nextSales = Math.addExact(salesCents, toCents(sales));
+                    long nextMargin = Math.addExact(marginCents, toCents(margin));
+                    salesCents = nextSales;
+                    marginCents = nextMargin;
+                    return;
+                } catch (ArithmeticException e) {
+                    salesDecimal = fromCents(salesCents);
+                    marginDecimal = fromCents(marginCents);
+                }
+            }
+            salesDecimal = salesDecimal.add(sales);
+            marginDecimal = marginDecimal.add(margin);
+        }
+
+        BigDecimal sales() {
+            if (count == 0) return BigDecimal.ZERO;
+            return salesDecimal != null ? salesDecimal : fromCents(salesCents);
+        }
+
+        BigDecimal margin() {
+            if (count == 0) return BigDecimal.ZERO;
+            return marginDecimal != null ? marginDecimal : fromCents(marginCents);
+        }
+
+        long orders() {
+            return orders;
+        }
+    }
+
+    // 소수 2자리 금액 -> long, 표현 불가면 ArithmeticException
+    static long toCents(BigDecimal amount) {
+        if (amount.scale() != SCALE) {
+            throw new ArithmeticException("unexpected scale: " + amount.scale());
+        }
+        return amount.unscaledValue().longValueExact();
+    }
+
+    static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+}
@@ -0,0 +1,483 @@
+package com.franchise.backend.pos.service;
+
+import com.franchise.backend.pos.dto.cube.PosCubeDimension;
+import com.franchise.backend.pos.entity.PosPeriodAgg.PosPeriodType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.*;
+
+// pos_period_agg 컬럼형 메모리 큐브 (불변 스냅샷)
+// - 차원(점포/기간/지역/담당 SV/상권)은 사전(dictionary) 인코딩한 int 배열, 측정값은 long 배열(금액은 1/100 단위)
+// - 행 = pos_period_agg 1행, 점포 속성(지역/SV/상권)은 적재 시점 값으로 행마다 복사
+// - 갱신은 새 스냅샷을 만들어 교체 (조회 중인 스냅샷은 절대 바뀌지 않음)
+final class PosCube {
+
+    static final String NONE = "-";
+
+    // 그룹 공간이 이 크기 이하면 배열 직접 인덱싱, 넘으면 해시 그룹
+    static final int DENSE_GROUP_LIMIT = 1 << 16;
+
+    private final Dictionary<Long> stores;
+    private final Dictionary<LocalDate> periods;
+    private final Dictionary<String> regions;
+    private final Dictionary<String> supervisors;
+    private final Dictionary<String> tradeAreas;
+
+    private final int rowCount;
+    private final byte[] periodTypeCol;
+    private final int[] storeCol;
+    private final int[] periodCol;
+    private final int[] regionCol;
+    private final int[] supervisorCol;
+    private final int[] tradeAreaCol;
+    private final long[] salesCents;
+    private final long[] orders;
+    private final long[] marginCents;
+
+    private final long version;
+    private final OffsetDateTime builtAt;
+
+    private PosCube(Builder b, long version, OffsetDateTime builtAt) {
+        this.stores = b.stores;
+        this.periods = b.periods;
+        this.regions = b.regions;
+        this.supervisors = b.supervisors;
+        this.tradeAreas = b.tradeAreas;
+        this.rowCount = b.size;
+        this.periodTypeCol = Arrays.copyOf(b.periodTypeCol, b.size);
+        this.storeCol = Arrays.copyOf(b.storeCol, b.size);
+        this.periodCol = Arrays.copyOf(b.periodCol, b.size);
+        this.regionCol = Arrays.copyOf(b.regionCol, b.size);
+        this.supervisorCol = Arrays.copyOf(b.supervisorCol, b.size);
+        this.tradeAreaCol = Arrays.copyOf(b.tradeAreaCol, b.size);
+        this.salesCents = Arrays.copyOf(b.salesCents, b.size);
+        this.orders = Arrays.copyOf(b.orders, b.size);
+        this.marginCents = Arrays.copyOf(b.marginCents, b.size);
+        this.version = version;
+        this.builtAt = builtAt;
+    }
+
+    static Builder builder() {
+        return new Builder(new Dictionary<>(), new Dictionary<>(), new Dictionary<>(),
+                new Dictionary<>(), new Dictionary<>(), 1024);
+    }
+
+    int rowCount() {
+        return rowCount;
+    }
+
+    long version() {
+        return version;
+    }
+
+    OffsetDateTime builtAt() {
+        return builtAt;
+    }
+
+    /**
+     * 증분 갱신용: 지정 점포 행만 빼고 나머지를 그대로 복사한 빌더 (사전은 이어서 사용)
+     */
+    Builder toBuilderWithout(Set<Long> storeIds) {
+        Builder b = new Builder(stores.copy(), periods.copy(), regions.copy(),
+                supervisors.copy(), tradeAreas.copy(), Math.max(rowCount, 16));
+
+        boolean[] dropped = new boolean[stores.size()];
+        for (Long storeId : storeIds) {
+            int code = stores.codeOf(storeId);
+            if (code >= 0) dropped[code] = true;
+        }
+
+        for (int i = 0; i < rowCount; i++) {
+            if (dropped[storeCol[i]]) continue;
+            b.appendEncoded(periodTypeCol[i], storeCol[i], periodCol[i], regionCol[i], supervisorCol[i],
+                    tradeAreaCol[i], salesCents[i], orders[i], marginCents[i]);
+        }
+        return b;
+    }
+
+    /**
+     * 필터 + group by
+     * - allowedStoreIds: 권한 스코프 (null 이면 전체)
+     * - 결과는 매출 내림차순
+     */
+    List<Group> query(
+            PosPeriodType periodType,
+            LocalDate from,
+            LocalDate to,
+            List<PosCubeDimension> groupBy,
+            Collection<Long> allowedStoreIds,
+            Map<PosCubeDimension, Set<String>> filters
+    ) {
+        byte typeCode = (byte) periodType.ordinal();
+
+        // 기간 / 점포 허용 여부를 사전 코드 기준 비트맵으로 미리 계산
+        boolean[] periodAllowed = new boolean[periods.size()];
+        for (int code = 0; code < periods.size(); code++) {
+            LocalDate d = periods.valueOf(code);
+            periodAllowed[code] = (from == null || !d.isBefore(from)) && (to == null || !d.isAfter(to));
+        }
+
+        boolean[] storeAllowed = new boolean[stores.size()];
+        if (allowedStoreIds == null) {
+            Arrays.fill(storeAllowed, true);
+        } else {
+            for (Long storeId : allowedStoreIds) {
+                int code = stores.codeOf(storeId);
+                if (code >= 0) storeAllowed[code] = true;
+            }
+        }
+
+        boolean[] storeFilter = filterMask(filters.get(PosCubeDimension.STORE), stores, PosCube::parseStoreId);
+        boolean[] regionFilter = filterMask(filters.get(PosCubeDimension.REGION), regions, v -> v);
+        boolean[] supervisorFilter = filterMask(filters.get(PosCubeDimension.SUPERVISOR), supervisors, v -> v);
+        boolean[] tradeAreaFilter = filterMask(filters.get(PosCubeDimension.TRADE_AREA), tradeAreas, v -> v);
+
+        int dims = groupBy.size();
+        int[][] keyCols = new int[dims][];
+        long[] radix = new long[dims];
+        long space = 1;
+        for (int d = 0; d < dims; d++) {
+            keyCols[d] = column(groupBy.get(d));
+            radix[d] = Math.max(1, dictionary(groupBy.get(d)).size());
+            space = (space > Long.MAX_VALUE / radix[d]) ? Long.MAX_VALUE : space * radix[d];
+        }
+
+        Accumulator acc = (space <= DENSE_GROUP_LIMIT)
+                ? new DenseAccumulator((int) space)
+                : new HashAccumulator();
+
+        for (int i = 0; i < rowCount; i++) {
+            if (periodTypeCol[i] != typeCode) continue;
+            if (!periodAllowed[periodCol[i]]) continue;
+            if (!storeAllowed[storeCol[i]]) continue;
+            if (storeFilter != null && !storeFilter[storeCol[i]]) continue;
+            if (regionFilter != null && !regionFilter[regionCol[i]]) continue;
+            if (supervisorFilter != null && !supervisorFilter[supervisorCol[i]]) continue;
+            if (tradeAreaFilter != null && !tradeAreaFilter[tradeAreaCol[i]]) continue;
+
+            long key = 0;
+            for (int d = 0; d < dims; d++) {
+                key = key * radix[d] + keyCols[d][i];
+            }
+            acc.add(key, salesCents[i], orders[i], marginCents[i]);
+        }
+
+        List<Group> groups = new ArrayList<>();
+        acc.forEach((key, sales, orderSum, margin, rows) -> {
+            String[] values = new String[dims];
+            long rest = key;
+            for (int d = dims - 1; d >= 0; d--) {
+                int code = (int) (rest % radix[d]);
+                rest /= radix[d];
+                values[d] = label(groupBy.get(d), code);
+            }
+            groups.add(new Group(values, sales, orderSum, margin, rows));
+        });
+        groups.sort(Comparator.comparingLong(Group::salesCents).reversed()
+                .thenComparing(g -> String.join("\u0000", g.keys())));
+        return groups;
+    }
+
+    // ---------------- 결과 ----------------
+
+    record Group(String[] keys, long salesCents, long orders, long marginCents, int rows) {
+
+        BigDecimal sales() {
+            return PosCentsAggregation.fromCents(salesCents);
+        }
+
+        BigDecimal margin() {
+            return PosCentsAggregation.fromCents(marginCents);
+        }
+
+        BigDecimal aov() {
+            if (orders == 0) return BigDecimal.ZERO;
+            return sales().divide(BigDecimal.valueOf(orders), 2, RoundingMode.HALF_UP);
+        }
+
+        BigDecimal marginRate() {
+            if (salesCents == 0) return BigDecimal.ZERO;
+            return BigDecimal.valueOf(marginCents).divide(BigDecimal.valueOf(salesCents), 4, RoundingMode.HALF_UP);
+        }
+    }
+
+    // ---------------- 내부 ----------------
+
+    private int[] column(PosCubeDimension dim) {
+        return switch (dim) {
+            case STORE -> storeCol;
+            case PERIOD -> periodCol;
+            case REGION -> regionCol;
+            case SUPERVISOR -> supervisorCol;
+            case TRADE_AREA -> tradeAreaCol;
+        };
+    }
+
+    private Dictionary<?> dictionary(PosCubeDimension dim) {
+        return switch (dim) {
+            case STORE -> stores;
+            case PERIOD -> periods;
+            case REGION -> regions;
+            case SUPERVISOR -> supervisors;
+            case TRADE_AREA -> tradeAreas;
+        };
+    }
+
+    private String label(PosCubeDimension dim, int code) {
+        return String.valueOf(dictionary(dim).valueOf(code));
+    }
+
+    // 필터 값이 없으면 null (필터 미적용), 사전에 없는 값은 무시 -> 전부 없으면 결과 없음
+    private static <T> boolean[] filterMask(Set<String> values, Dictionary<T> dict,
+                                            java.util.function.Function<String, T> parser) {
+        if (values == null || values.isEmpty()) return null;
+        boolean[] mask = new boolean[dict.size()];
+        for (String v : values) {
+            T key = parser.apply(v);
+            int code = (key == null) ? -1 : dict.codeOf(key);
+            if (code >= 0) mask[code] = true;
+        }
+        return mask;
+    }
+
+    private static Long parseStoreId(String v) {
+        try {
+            return Long.valueOf(v.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private interface GroupConsumer {
+        void accept(long key, long salesCents, long orders, long marginCents, int rows);
+    }
+
+    private interface Accumulator {
+        void add(long key, long salesCents, long orders, long marginCents);
+
+        void forEach(GroupConsumer consumer);
+    }
+
+    // 그룹 공간이 작을 때: key 를 그대로 배열 인덱스로
+    private static final class DenseAccumulator implements Accumulator {
+        private final long[] sales;
+        private final long[] orders;
+        private final long[] margin;
+        private final int[] rows;
+
+        DenseAccumulator(int space) {
+            sales = new long[space];
+            orders = new long[space];
+            margin = new long[space];
+            rows = new int[space];
+        }
+
+        @Override
+        public void add(long key, long salesCents, long orderCount, long marginCents) {
+            int k = (int) key;
+            sales[k] = Math.addExact(sales[k], salesCents);
+            orders[k] += orderCount;
+            margin[k] = Math.addExact(margin[k], marginCents);
+            rows[k]++;
+        }
+
+        @Override
+        public void forEach(GroupConsumer consumer) {
+            for (int k = 0; k < rows.length; k++) {
+                if (rows[k] > 0) consumer.accept(k, sales[k], orders[k], margin[k], rows[k]);
+            }
+        }
+    }
+
+    // 그룹 공간이 클 때 (점포 x 기간 등): 실제 등장한 key 만 슬롯 배정
+    private static final class HashAccumulator implements Accumulator {
+        private final Map<Long, Integer> slots = new HashMap<>();
+        private long[] keys = new long[64];
+        private long[] sales = new long[64];
+        private long[] orders = new long[64];
+        private long[] margin = new long[64];
+        private int[] rows = new int[64];
+
+        @Override
+        public void add(long key, long salesCents, long orderCount, long marginCents) {
+            Integer slot = slots.get(key);
+            if (slot == null) {
+                slot = slots.size();
+                if (slot == keys.length) grow();
+                slots.put(key, slot);
+                keys[slot] = key;
+            }
+            sales[slot] = Math.addExact(sales[slot], salesCents);
+            orders[slot] += orderCount;
+            margin[slot] = Math.addExact(margin[slot], marginCents);
+            rows[slot]++;
+        }
+
+        private void grow() {
+            int n = keys.length * 2;
+            keys = Arrays.copyOf(keys, n);
+            sales = Arrays.copyOf(sales, n);
+            orders = Arrays.copyOf(orders, n);
+            margin = Arrays.copyOf(margin, n);
+            rows = Arrays.copyOf(rows, n);
+        }
+
+        @Override
+        public void forEach(GroupConsumer consumer) {
+            for (int s = 0; s < slots.size(); s++) {
+                consumer.accept(keys[s], sales[s], orders[s], margin[s], rows[s]);
+            }
+        }
+    }
+
+    // 값 <-> int 코드 (코드는 등장 순서, 한 번 배정되면 스냅샷 사이에서도 유지)
+    static final class Dictionary<T> {
+        private final Map<T, Integer> codes;
+        private final List<T> values;
+
+        Dictionary() {
+            this(new HashMap<>(), new ArrayList<>());
+        }
+
+        private Dictionary(Map<T, Integer> codes, List<T> values) {
+            this.codes = codes;
+            this.values = values;
+        }
+
+        int encode(T value) {
+            Integer code = codes.get(value);
+            if (code != null) return code;
+            int next = values.size();
+            codes.put(value, next);
+            values.add(value);
+            return next;
+        }
+
+        int codeOf(T value) {
+            Integer code = codes.get(value);
+            return code == null ? -1 : code;
+        }
+
+        T valueOf(int code) {
+            return values.get(code);
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        Dictionary<T> copy() {
+            return new Dictionary<>(new HashMap<>(codes), new ArrayList<>(values));
+        }
+    }
+
+    /**
+     * 큐브 적재기 (단일 스레드 전용)
+     */
+    static final class Builder {
+        private final Dictionary<Long> stores;
+        private final Dictionary<LocalDate> periods;
+        private final Dictionary<String> regions;
+        private final Dictionary<String> supervisors;
+        private final Dictionary<String> tradeAreas;
+
+        private int size;
+        private byte[] periodTypeCol;
+        private int[] storeCol;
+        private int[] periodCol;
+        private int[] regionCol;
+        private int[] supervisorCol;
+        private int[] tradeAreaCol;
+        private long[] salesCents;
+        private long[] orders;
+        private long[] marginCents;
+
+        private Builder(Dictionary<Long> stores, Dictionary<LocalDate> periods, Dictionary<String> regions,
+                        Dictionary<String> supervisors, Dictionary<String> tradeAreas, int capacity) {
+            this.stores = stores;
+            this.periods = periods;
+            this.regions = regions;
+            this.supervisors = supervisors;
+            this.tradeAreas = tradeAreas;
+            this.periodTypeCol = new byte[capacity];
+            this.storeCol = new int[capacity];
+            this.periodCol = new int[capacity];
+            this.regionCol = new int[capacity];
+            this.supervisorCol = new int[capacity];
+            this.tradeAreaCol = new int[capacity];
+            this.salesCents = new long[capacity];
+            this.orders = new long[capacity];
+            this.marginCents = new long[capacity];
+        }
+
+        Builder add(
+                Long storeId,
+                PosPeriodType periodType,
+                LocalDate periodStart,
+                String region,
+                String supervisor,
+                String tradeArea,
+                BigDecimal sales,
+                long orderCount,
+                BigDecimal margin
+        ) {
+            appendEncoded(
+                    (byte) periodType.ordinal(),
+                    stores.encode(storeId),
+                    periods.encode(periodStart),
+                    regions.encode(nvl(region)),
+                    supervisors.encode(nvl(supervisor)),
+                    tradeAreas.encode(nvl(tradeArea)),
+                    cents(sales),
+                    orderCount,
+                    cents(margin)
+            );
+            return this;
+        }
+
+        PosCube build(long version, OffsetDateTime builtAt) {
+            return new PosCube(this, version, builtAt);
+        }
+
+        private void appendEncoded(byte periodType, int store, int period, int region, int supervisor,
+                                   int tradeArea, long sales, long orderCount, long margin) {
+            if (size == storeCol.length) grow();
+            periodTypeCol[size] = periodType;
+            storeCol[size] = store;
+            periodCol[size] = period;
+            regionCol[size] = region;
+            supervisorCol[size] = supervisor;
+            tradeAreaCol[size] = tradeArea;
+            salesCents[size] = sales;
+            orders[size] = orderCount;
+            marginCents[size] = margin;
+            size++;
+        }
+
+        private void grow() {
+            int n = Math.max(16, storeCol.length * 2);
+            periodTypeCol = Arrays.copyOf(periodTypeCol, n);
+            storeCol = Arrays.copyOf(storeCol, n);
+            periodCol = Arrays.copyOf(periodCol, n);
+            regionCol = Arrays.copyOf(regionCol, n);
+            supervisorCol = Arrays.copyOf(supervisorCol, n);
+            tradeAreaCol = Arrays.copyOf(tradeAreaCol, n);
+            salesCents = Arrays.copyOf(salesCents, n);
+            orders = Arrays.copyOf(orders, n);
+            marginCents = Arrays.copyOf(marginCents, n);
+        }
+
+        // NUMERIC(18,2) -> 1/100 단위 long (scale 이 다르게 들어와도 2자리로 맞춤)
+        private static long cents(BigDecimal amount) {
+            if (amount == null) return 0L;
+            return PosCentsAggregation.toCents(amount.setScale(PosCentsAggregation.SCALE, RoundingMode.HALF_UP));
+        }
+
+        private static String nvl(String v) {
+            return (v == null || v.isBlank()) ? NONE : v;
+        }
+    }
+}
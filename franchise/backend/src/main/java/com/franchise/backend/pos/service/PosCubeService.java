@@ -0,0 +1,281 @@
+package com.franchise.backend.pos.service;
+
+import com.franchise.backend.pos.dto.cube.PosCubeDimension;
+import com.franchise.backend.pos.dto.cube.PosCubeResponse;
+import com.franchise.backend.pos.entity.PosPeriodAgg.PosPeriodType;
+import com.franchise.backend.store.service.StoreScopeService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * POS 컬럼형 메모리 큐브 (지역 / 담당 SV / 상권 / 점포 / 기간 ad-hoc 비교)
+ *
+ * - 전체 적재: pos_period_agg + stores + users 조인 1번을 스트리밍으로 읽어 컬럼 배열에 바로 적재
+ * - 증분 갱신: PosPeriodAggregationService 가 집계를 바꾼 점포만 markStale -> 그 점포 행만 다시 읽어 스냅샷 교체
+ *   (조회 시 밀린 증분이 있으면 먼저 반영, 아니면 스케줄러가 check-ms 주기로 반영)
+ * - 점포 속성(지역/SV/상권) 변경은 full-refresh-minutes 주기 전체 재적재에서 반영
+ * - 메트릭: pos.cube.refresh(Timer, mode=full/incremental), pos.cube.rows / version (Gauge)
+ */
+@Service
+@RequiredArgsConstructor
+public class PosCubeService {
+
+    // IN 절 바인딩 파라미터 수 제한
+    static final int STORE_CHUNK_SIZE = 1000;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final StoreScopeService storeScopeService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${pos.cube.full-refresh-minutes:60}")
+    private long fullRefreshMinutes = 60;
+
+    private final AtomicReference<PosCube> current = new AtomicReference<>();
+    private final Set<Long> dirtyStoreIds = ConcurrentHashMap.newKeySet();
+    private final Object refreshLock = new Object();
+
+    private Timer fullRefreshTimer;
+    private Timer incrementalRefreshTimer;
+
+    private static final String LOAD_SQL = """
+        SELECT a.store_id, a.period_type, a.period_start,
+               a.sales_amount, a.order_count, a.margin_amount,
+               s.region_code, s.trade_area_type,
+               u.login_id AS supervisor_login_id
+          FROM pos_period_agg a
+          JOIN stores s ON s.store_id = a.store_id
+          LEFT JOIN users u ON u.user_id = s.current_supervisor_id
+        """;
+
+    @PostConstruct
+    void registerMetrics() {
+        fullRefreshTimer = Timer.builder("pos.cube.refresh")
+                .description("POS 큐브 적재 시간")
+                .tag("mode", "full")
+                .register(meterRegistry);
+        incrementalRefreshTimer = Timer.builder("pos.cube.refresh")
+                .description("POS 큐브 적재 시간")
+                .tag("mode", "incremental")
+                .register(meterRegistry);
+
+        Gauge.builder("pos.cube.rows", this, s -> {
+                    PosCube cube = s.current.get();
+                    return cube == null ? 0 : cube.rowCount();
+                })
+                .description("큐브 행 수 (pos_period_agg 행)")
+                .register(meterRegistry);
+        Gauge.builder("pos.cube.version", this, s -> {
+                    PosCube cube = s.current.get();
+                    return cube == null ? 0 : cube.version();
+                })
+                .description("큐브 스냅샷 버전")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 큐브 group by 조회
+     * - 권한 스코프(ADMIN 전체 / SV 담당 점포) 밖의 행은 집계에서 제외
+     * - filters: 차원별 허용 값 (STORE 는 store_id, SUPERVISOR 는 login_id)
+     */
+    public PosCubeResponse query(
+            String loginId,
+            PosPeriodType periodType,
+            LocalDate from,
+            LocalDate to,
+            List<PosCubeDimension> groupBy,
+            Map<PosCubeDimension, Set<String>> filters
+    ) {
+        if (periodType == null) {
+            throw new IllegalArgumentException("periodType is required");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from must be on or before to");
+        }
+        List<PosCubeDimension> dims = (groupBy == null) ? List.of() : List.copyOf(new LinkedHashSet<>(groupBy));
+        Map<PosCubeDimension, Set<String>> safeFilters = (filters == null) ? Map.of() : filters;
+
+        List<Long> allowedStoreIds = storeScopeService.getAccessibleStoreIdsByLoginId(loginId);
+
+        PosCube cube = currentCube();
+        List<PosCube.Group> groups = allowedStoreIds.isEmpty()
+                ? List.of()
+                : cube.query(periodType, from, to, dims, allowedStoreIds, safeFilters);
+
+        List<PosCubeResponse.Group> rows = new ArrayList<>(groups.size());
+        for (PosCube.Group g : groups) {
+            Map<PosCubeDimension, String> keys = new LinkedHashMap<>();
+            for (int d = 0; d < dims.size(); d++) {
+                keys.put(dims.get(d), g.keys()[d]);
+            }
+            rows.add(new PosCubeResponse.Group(
+                    keys,
+                    g.sales(),
+                    g.orders(),
+                    g.aov(),
+                    g.margin(),
+                    g.marginRate(),
+                    g.rows()
+            ));
+        }
+
+        return new PosCubeResponse(
+                periodType.name(),
+                from,
+                to,
+                dims,
+                cube.version(),
+                cube.builtAt(),
+                rows
+        );
+    }
+
+    /**
+     * 집계 변경 알림 (점포 단위)
+     * - 트랜잭션 안이면 커밋 이후에 표시 (커밋 전 데이터로 적재되는 것 방지)
+     */
+    public void markStale(Collection<Long> storeIds) {
+        if (storeIds == null || storeIds.isEmpty()) return;
+        Set<Long> ids = Set.copyOf(storeIds);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dirtyStoreIds.addAll(ids);
+                }
+            });
+            return;
+        }
+        dirtyStoreIds.addAll(ids);
+    }
+
+    // 밀린 증분 반영 or 정기 전체 재적재
+    @Scheduled(
+            initialDelayString = "${pos.cube.check-ms:10000}",
+            fixedDelayString = "${pos.cube.check-ms:10000}"
+    )
+    public void refreshIfNeeded() {
+        PosCube cube = current.get();
+        boolean expired = (cube == null)
+                || cube.builtAt().plusMinutes(fullRefreshMinutes).isBefore(OffsetDateTime.now());
+        try {
+            if (expired) {
+                rebuild();
+            } else if (!dirtyStoreIds.isEmpty()) {
+                applyIncremental();
+            }
+        } catch (RuntimeException e) {
+            // 실패 시 이전 스냅샷 유지, 다음 주기에 재시도
+        }
+    }
+
+    /**
+     * 전체 재적재 (동시 호출 시 한 번만 수행)
+     */
+    public void rebuild() {
+        synchronized (refreshLock) {
+            // 재적재가 모든 점포를 다시 읽으므로 지금까지의 증분은 버린다 (적재 중 들어온 변경은 다음에 다시 반영)
+            Set<Long> drained = drainDirty();
+
+            long startNanos = System.nanoTime();
+            try {
+                PosCube.Builder builder = PosCube.builder();
+                namedParameterJdbcTemplate.query(LOAD_SQL, new MapSqlParameterSource(), appender(builder));
+                publish(builder);
+                fullRefreshTimer.record(Duration.ofNanos(System.nanoTime() - startNanos));
+            } catch (RuntimeException e) {
+                dirtyStoreIds.addAll(drained);
+                throw e;
+            }
+        }
+    }
+
+    // 밀린 점포만 다시 읽어서 교체
+    void applyIncremental() {
+        synchronized (refreshLock) {
+            PosCube cube = current.get();
+            if (cube == null) {
+                rebuild();
+                return;
+            }
+
+            Set<Long> storeIds = drainDirty();
+            if (storeIds.isEmpty()) return;
+
+            long startNanos = System.nanoTime();
+            try {
+                PosCube.Builder builder = cube.toBuilderWithout(storeIds);
+                List<Long> ids = new ArrayList<>(storeIds);
+                for (int from = 0; from < ids.size(); from += STORE_CHUNK_SIZE) {
+                    List<Long> chunk = ids.subList(from, Math.min(from + STORE_CHUNK_SIZE, ids.size()));
+                    namedParameterJdbcTemplate.query(
+                            LOAD_SQL + " WHERE a.store_id IN (:storeIds)",
+                            new MapSqlParameterSource("storeIds", chunk),
+                            appender(builder)
+                    );
+                }
+                publish(builder);
+                incrementalRefreshTimer.record(Duration.ofNanos(System.nanoTime() - startNanos));
+            } catch (RuntimeException e) {
+                dirtyStoreIds.addAll(storeIds);
+                throw e;
+            }
+        }
+    }
+
+    private PosCube currentCube() {
+        if (current.get() == null) {
+            rebuild();
+        } else if (!dirtyStoreIds.isEmpty()) {
+            applyIncremental();
+        }
+        return current.get();
+    }
+
+    private void publish(PosCube.Builder builder) {
+        PosCube prev = current.get();
+        long version = (prev == null) ? 1 : prev.version() + 1;
+        current.set(builder.build(version, OffsetDateTime.now()));
+    }
+
+    private Set<Long> drainDirty() {
+        Set<Long> drained = new HashSet<>();
+        for (Iterator<Long> it = dirtyStoreIds.iterator(); it.hasNext(); ) {
+            drained.add(it.next());
+            it.remove();
+        }
+        return drained;
+    }
+
+    private static RowCallbackHandler appender(PosCube.Builder builder) {
+        return rs -> builder.add(
+                rs.getLong("store_id"),
+                PosPeriodType.valueOf(rs.getString("period_type")),
+                rs.getObject("period_start", LocalDate.class),
+                rs.getString("region_code"),
+                rs.getString("supervisor_login_id"),
+                rs.getString("trade_area_type"),
+                rs.getBigDecimal("sales_amount"),
+                rs.getLong("order_count"),
+                rs.getBigDecimal("margin_amount")
+        );
+    }
+}
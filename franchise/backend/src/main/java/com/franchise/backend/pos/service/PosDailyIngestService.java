@@ -0,0 +1,242 @@
+package com.franchise.backend.pos.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.franchise.backend.pos.dto.ingest.PosDailyIngestResponse;
+import com.franchise.backend.pos.dto.ingest.PosDailyIngestResponse.RejectedRow;
+import com.franchise.backend.pos.dto.ingest.PosDailyIngestRow;
+import com.franchise.backend.pos.service.PosPeriodAggregationService.TouchedDay;
+import com.franchise.backend.store.repository.StoreRepository;
+import com.franchise.backend.store.service.AdminDashboardSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Types;
+import java.util.*;
+
+/**
+ * POS 일 마감 벌크 적재
+ *
+ * - 본문을 한 줄씩 읽어서 검증 -> 통과한 행만 batch-size 단위 JDBC 배치 upsert (store_id, business_date)
+ * - 검증 실패 행은 줄 번호 + 사유로 거절 목록에 담고 나머지는 계속 진행
+ * - 적재가 끝나면 바뀐 일자가 속한 주/월 집계만 증분 갱신 (PosPeriodAggregationService)
+ * - 요청 1건 = 트랜잭션 1개 (DB 오류 시 전체 롤백)
+ */
+@Service
+@RequiredArgsConstructor
+public class PosDailyIngestService {
+
+    private static final String UPSERT_SQL = """
+        INSERT INTO pos_daily (
+            store_id, business_date,
+            sales_amount, order_count,
+            cogs_amount, margin_amount,
+            is_missing, missing_policy,
+            is_abnormal, abnormal_type, abnormal_reason,
+            created_at, updated_at
+        )
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())
+        ON CONFLICT (store_id, business_date) DO UPDATE SET
+            sales_amount    = EXCLUDED.sales_amount,
+            order_count     = EXCLUDED.order_count,
+            cogs_amount     = EXCLUDED.cogs_amount,
+            margin_amount   = EXCLUDED.margin_amount,
+            is_missing      = EXCLUDED.is_missing,
+            missing_policy  = EXCLUDED.missing_policy,
+            is_abnormal     = EXCLUDED.is_abnormal,
+            abnormal_type   = EXCLUDED.abnormal_type,
+            abnormal_reason = EXCLUDED.abnormal_reason,
+            updated_at      = NOW()
+        """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final StoreRepository storeRepository;
+    private final PosPeriodAggregationService posPeriodAggregationService;
+    private final AdminDashboardSnapshotService adminDashboardSnapshotService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${pos.ingest.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Value("${pos.ingest.max-reported-rejects:1000}")
+    private int maxReportedRejects = 1000;
+
+    public enum Format {
+        CSV, JSON_LINES;
+
+        public static Format fromContentType(String contentType) {
+            return (contentType != null && contentType.toLowerCase(Locale.ROOT).contains("csv"))
+                    ? CSV
+                    : JSON_LINES;
+        }
+    }
+
+    @Transactional
+    public PosDailyIngestResponse ingest(BufferedReader body, Format format) {
+        long startedAt = System.nanoTime();
+
+        Set<Long> knownStoreIds = new HashSet<>(storeRepository.findAllStoreIds());
+        Set<TouchedDay> touchedDays = new LinkedHashSet<>();
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        List<RejectedRow> rejects = new ArrayList<>();
+
+        int totalRows = 0;
+        int acceptedRows = 0;
+        int rejectedRows = 0;
+
+        try {
+            int lineNumber = 0;
+            PosDailyLineParser parser = null;
+
+            if (format == Format.JSON_LINES) {
+                parser = PosDailyLineParser.jsonLines(objectMapper);
+            }
+
+            String line;
+            while ((line = body.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                // CSV 첫 줄은 헤더
+                if (parser == null) {
+                    parser = PosDailyLineParser.csv(line);
+                    continue;
+                }
+
+                totalRows++;
+                try {
+                    PosDailyIngestRow row = parser.parse(line);
+                    Object[] params = validate(row, knownStoreIds);
+
+                    if (!touchedDays.add(new TouchedDay(row.getStoreId(), row.getBusinessDate()))) {
+                        throw new IllegalArgumentException("duplicate store_id/business_date in request");
+                    }
+
+                    batch.add(params);
+                    acceptedRows++;
+                } catch (IllegalArgumentException e) {
+                    rejectedRows++;
+                    if (rejects.size() < maxReportedRejects) {
+                        rejects.add(new RejectedRow(lineNumber, e.getMessage()));
+                    }
+                }
+
+                if (batch.size() >= batchSize) {
+                    flush(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to read POS daily body", e);
+        }
+
+        flush(batch);
+
+        if (!touchedDays.isEmpty()) {
+            posPeriodAggregationService.refresh(touchedDays);
+            adminDashboardSnapshotService.markStale();
+        }
+
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        return new PosDailyIngestResponse(totalRows, acceptedRows, rejectedRows, elapsedMs, rejects);
+    }
+
+    private void flush(List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        namedParameterJdbcTemplate.getJdbcOperations().batchUpdate(UPSERT_SQL, batch, SQL_TYPES);
+    }
+
+    private static final int[] SQL_TYPES = {
+            Types.BIGINT, Types.DATE,
+            Types.NUMERIC, Types.INTEGER,
+            Types.NUMERIC, Types.NUMERIC,
+            Types.BOOLEAN, Types.VARCHAR,
+            Types.BOOLEAN, Types.VARCHAR, Types.VARCHAR
+    };
+
+    // 통과하면 UPSERT_SQL 바인딩 순서대로 값 배열 반환
+    static Object[] validate(PosDailyIngestRow row, Set<Long> knownStoreIds) {
+        if (row.getStoreId() == null) {
+            throw new IllegalArgumentException("store_id is required");
+        }
+        if (!knownStoreIds.contains(row.getStoreId())) {
+            throw new IllegalArgumentException("unknown store_id: " + row.getStoreId());
+        }
+        if (row.getBusinessDate() == null) {
+            throw new IllegalArgumentException("business_date is required");
+        }
+
+        BigDecimal sales = amount(row.getSalesAmount(), "sales_amount", true);
+        BigDecimal cogs = amount(row.getCogsAmount(), "cogs_amount", false);
+        if (cogs == null) {
+            cogs = BigDecimal.ZERO.setScale(2);
+        }
+
+        BigDecimal margin = row.getMarginAmount() == null
+                ? sales.subtract(cogs)
+                : row.getMarginAmount().setScale(2, RoundingMode.HALF_UP);
+
+        Integer orders = row.getOrderCount();
+        if (orders == null) {
+            throw new IllegalArgumentException("order_count is required");
+        }
+        if (orders < 0) {
+            throw new IllegalArgumentException("order_count must be >= 0");
+        }
+
+        return new Object[]{
+                row.getStoreId(),
+                Date.valueOf(row.getBusinessDate()),
+                sales,
+                orders,
+                cogs,
+                margin,
+                Boolean.TRUE.equals(row.getIsMissing()),
+                text(row.getMissingPolicy(), "missing_policy", 30),
+                Boolean.TRUE.equals(row.getIsAbnormal()),
+                text(row.getAbnormalType(), "abnormal_type", 50),
+                row.getAbnormalReason()
+        };
+    }
+
+    private static BigDecimal amount(BigDecimal value, String column, boolean required) {
+        if (value == null) {
+            if (required) {
+                throw new IllegalArgumentException(column + " is required");
+            }
+            return null;
+        }
+        if (value.signum() < 0) {
+            throw new IllegalArgumentException(column + " must be >= 0");
+        }
+        // NUMERIC(18,2)
+        BigDecimal scaled = value.setScale(2, RoundingMode.HALF_UP);
+        if (scaled.precision() > 18) {
+            throw new IllegalArgumentException(column + " is too large");
+        }
+        return scaled;
+    }
+
+    private static String text(String value, String column, int maxLength) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        if (trimmed.length() > maxLength) {
+            throw new IllegalArgumentException(column + " must be at most " + maxLength + " chars");
+        }
+        return trimmed;
+    }
+}
@@ -0,0 +1,185 @@
+package com.franchise.backend.pos.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.franchise.backend.pos.dto.ingest.PosDailyIngestRow;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// 벌크 적재 본문 1줄 -> PosDailyIngestRow
+// - 형식 오류는 IllegalArgumentException(사유) -> 호출하는 쪽에서 행 단위 거절로 처리
+abstract class PosDailyLineParser {
+
+    abstract PosDailyIngestRow parse(String line);
+
+    static PosDailyLineParser jsonLines(ObjectMapper objectMapper) {
+        return new JsonLines(objectMapper);
+    }
+
+    static PosDailyLineParser csv(String headerLine) {
+        return new Csv(headerLine);
+    }
+
+    private static final class JsonLines extends PosDailyLineParser {
+
+        private final ObjectMapper objectMapper;
+
+        private JsonLines(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        PosDailyIngestRow parse(String line) {
+            try {
+                return objectMapper.readValue(line, PosDailyIngestRow.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("invalid json: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    // 헤더 이름으로 컬럼 매핑 (store_id / storeId 둘 다 허용, 순서 무관)
+    private static final class Csv extends PosDailyLineParser {
+
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        private Csv(String headerLine) {
+            List<String> header = split(headerLine);
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(normalize(header.get(i)), i);
+            }
+            for (String required : List.of("storeid", "businessdate", "salesamount", "ordercount")) {
+                if (!columns.containsKey(required)) {
+                    throw new IllegalArgumentException("csv header must contain " + required);
+                }
+            }
+        }
+
+        @Override
+        PosDailyIngestRow parse(String line) {
+            List<String> cells = split(line);
+
+            PosDailyIngestRow row = new PosDailyIngestRow();
+            row.setStoreId(toLong(cell(cells, "storeid"), "store_id"));
+            row.setBusinessDate(toDate(cell(cells, "businessdate")));
+            row.setSalesAmount(toDecimal(cell(cells, "salesamount"), "sales_amount"));
+            row.setOrderCount(toInt(cell(cells, "ordercount")));
+            row.setCogsAmount(toDecimal(cell(cells, "cogsamount"), "cogs_amount"));
+            row.setMarginAmount(toDecimal(cell(cells, "marginamount"), "margin_amount"));
+            row.setIsMissing(toBoolean(cell(cells, "ismissing")));
+            row.setMissingPolicy(cell(cells, "missingpolicy"));
+            row.setIsAbnormal(toBoolean(cell(cells, "isabnormal")));
+            row.setAbnormalType(cell(cells, "abnormaltype"));
+            row.setAbnormalReason(cell(cells, "abnormalreason"));
+            return row;
+        }
+
+        private String cell(List<String> cells, String column) {
+            Integer idx = columns.get(column);
+            if (idx == null || idx >= cells.size()) {
+                return null;
+            }
+            String value = cells.get(idx).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private static String normalize(String name) {
+            return name.replace("_", "").replace("\"", "").trim().toLowerCase(Locale.ROOT);
+        }
+
+        // 큰따옴표로 감싼 칸 안의 콤마 / "" 이스케이프 지원
+        static List<String> split(String line) {
+            List<String> cells = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    cells.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            if (quoted) {
+                throw new IllegalArgumentException("unterminated quote");
+            }
+            cells.add(current.toString());
+            return cells;
+        }
+
+        private static Long toLong(String value, String column) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Long.valueOf(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(column + " is not a number: " + value);
+            }
+        }
+
+        private static Integer toInt(String value) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Integer.valueOf(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("order_count is not an integer: " + value);
+            }
+        }
+
+        private static BigDecimal toDecimal(String value, String column) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                return new BigDecimal(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(column + " is not a number: " + value);
+            }
+        }
+
+        private static LocalDate toDate(String value) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                return LocalDate.parse(value);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("business_date must be yyyy-MM-dd: " + value);
+            }
+        }
+
+        private static Boolean toBoolean(String value) {
+            if (value == null) {
+                return null;
+            }
+            return switch (value.toLowerCase(Locale.ROOT)) {
+                case "true", "t", "1", "y" -> Boolean.TRUE;
+                case "false", "f", "0", "n" -> Boolean.FALSE;
+                default -> throw new IllegalArgumentException("not a boolean: " + value);
+            };
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.franchise.backend.pos.service;
+
+import com.franchise.backend.common.time.ServiceTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * pos_daily 월 파티션 관리 (V34)
+ *
+ * - 이번 달 ~ months-ahead 개월 뒤 파티션을 미리 생성
+ * - 기본 파티션(pos_daily_default)에 들어간 월은 해당 월 파티션을 만들어 옮김 (pos_daily_ensure_partition)
+ * - retention-months 보다 오래된 월 파티션은 DETACH 후
+ *   ARCHIVE: pos_archive 스키마로 이동 (조회 대상에서만 빠지고 데이터는 보존) / DROP: 삭제
+ * - 주/월 집계(pos_period_agg)는 그대로 남으므로 대시보드 추이는 영향 없음
+ */
+@Service
+@RequiredArgsConstructor
+public class PosDailyPartitionService {
+
+    static final String ARCHIVE_SCHEMA = "pos_archive";
+
+    // 파티션 이름 규칙: pos_daily_pYYYYMM
+    private static final Pattern PARTITION_NAME = Pattern.compile("pos_daily_p(\\d{4})(\\d{2})");
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Value("${pos.partition.months-ahead:3}")
+    private int monthsAhead = 3;
+
+    @Value("${pos.partition.retention-months:36}")
+    private int retentionMonths = 36;
+
+    @Value("${pos.partition.archive-mode:ARCHIVE}")
+    private String archiveMode = "ARCHIVE";
+
+    private static final String LIST_PARTITIONS_SQL = """
+        SELECT c.relname
+          FROM pg_inherits i
+          JOIN pg_class c ON c.oid = i.inhrelid
+          JOIN pg_class p ON p.oid = i.inhparent
+          JOIN pg_namespace n ON n.oid = p.relnamespace
+         WHERE p.relname = 'pos_daily'
+           AND n.nspname = current_schema()
+        """;
+
+    private static final String DEFAULT_PARTITION_MONTHS_SQL = """
+        SELECT DISTINCT CAST(date_trunc('month', business_date) AS date) AS month_start
+          FROM pos_daily_default
+        """;
+
+    public record MaintenanceResult(
+            List<String> created,
+            List<String> archived,
+            List<String> dropped
+    ) {}
+
+    /**
+     * 파티션 생성 + 보존 기간 정리 (1회)
+     */
+    @Transactional
+    public MaintenanceResult maintain() {
+        YearMonth current = YearMonth.from(ServiceTime.today());
+        YearMonth cutoff = current.minusMonths(Math.max(1, retentionMonths));
+
+        Set<String> existing = new HashSet<>(listPartitions());
+
+        // 1) 앞으로 쓸 월 + 기본 파티션에 쌓인 월 (보존 기간 안쪽만)
+        SortedSet<YearMonth> months = new TreeSet<>();
+        for (int i = 0; i <= Math.max(0, monthsAhead); i++) {
+            months.add(current.plusMonths(i));
+        }
+        for (LocalDate monthStart : namedParameterJdbcTemplate.queryForList(
+                DEFAULT_PARTITION_MONTHS_SQL, new MapSqlParameterSource(), LocalDate.class)) {
+            YearMonth ym = YearMonth.from(monthStart);
+            if (!ym.isBefore(cutoff)) months.add(ym);
+        }
+
+        List<String> created = new ArrayList<>();
+        for (YearMonth ym : months) {
+            String name = namedParameterJdbcTemplate.queryForObject(
+                    "SELECT pos_daily_ensure_partition(:month)",
+                    new MapSqlParameterSource("month", ym.atDay(1)),
+                    String.class
+            );
+            if (name != null && existing.add(name)) created.add(name);
+        }
+
+        // 2) 보존 기간 지난 월 파티션 분리
+        List<String> archived = new ArrayList<>();
+        List<String> dropped = new ArrayList<>();
+        boolean drop = "DROP".equalsIgnoreCase(archiveMode);
+
+        for (String name : existing.stream().sorted().toList()) {
+            YearMonth ym = monthOf(name);
+            if (ym == null || !ym.isBefore(cutoff)) continue;
+
+            // 이름은 위 정규식을 통과한 값만 사용 (식별자 주입 없음)
+            namedParameterJdbcTemplate.getJdbcOperations().execute("ALTER TABLE pos_daily DETACH PARTITION " + name);
+            if (drop) {
+                namedParameterJdbcTemplate.getJdbcOperations().execute("DROP TABLE " + name);
+                dropped.add(name);
+            } else {
+                namedParameterJdbcTemplate.getJdbcOperations().execute(
+                        "ALTER TABLE " + name + " SET SCHEMA " + ARCHIVE_SCHEMA);
+                archived.add(name);
+            }
+        }
+
+        return new MaintenanceResult(created, archived, dropped);
+    }
+
+    List<String> listPartitions() {
+        return namedParameterJdbcTemplate.queryForList(LIST_PARTITIONS_SQL, new MapSqlParameterSource(), String.class);
+    }
+
+    // pos_daily_p202503 -> 2025-03, 규칙 밖 이름(pos_daily_default 등)은 null
+    static YearMonth monthOf(String partitionName) {
+        Matcher m = PARTITION_NAME.matcher(partitionName);
+        if (!m.matches()) return null;
+        int month = Integer.parseInt(m.group(2));
+        if (month < 1 || month > 12) return null;
+        return YearMonth.of(Integer.parseInt(m.group(1)), month);
+    }
+}
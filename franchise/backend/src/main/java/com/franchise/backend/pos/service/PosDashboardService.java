@@ -1,7 +1,6 @@
 package com.franchise.backend.pos.service;
 
 import com.franchise.backend.pos.dto.dashboard.*;
-import com.franchise.backend.pos.entity.PosDaily;
 import com.franchise.backend.pos.entity.PosPeriodAgg;
 import com.franchise.backend.pos.entity.PosPeriodAgg.PosPeriodType;
 import com.franchise.backend.pos.repository.PosDailyRepository;
@@ -30,16 +29,33 @@ public class PosDashboardService {
     private final PosPeriodAggRepository posPeriodAggRepository;
     private final PosDailyRepository posDailyRepository;
 
+    // 매출 내림차순, 같으면 storeId 오름차순 (랭킹/페이지 순서 고정)
+    private static final Comparator<StorePerformanceRowDto> SALES_DESC =
+            Comparator.comparing(StorePerformanceRowDto::getSales).reversed()
+                    .thenComparing(StorePerformanceRowDto::getStoreId);
+
+    private static final int RANKING_SIZE = 5;
+
     @Transactional(readOnly = true)
     public PosDashboardResponse getDashboard(
             String loginId,
             PosPeriodType periodType,
             LocalDate periodStart
+    ) {
+        return getDashboard(loginId, periodType, periodStart, PerformanceListOption.FULL);
+    }
+
+    @Transactional(readOnly = true)
+    public PosDashboardResponse getDashboard(
+            String loginId,
+            PosPeriodType periodType,
+            LocalDate periodStart,
+            PerformanceListOption listOption
     ) {
         // 1) SV 담당 점포 IDs
         List<Long> storeIds = storeScopeService.getAccessibleStoreIdsByLoginId(loginId);
         if (storeIds.isEmpty()) {
-            return emptyResponse();
+            return emptyResponse(listOption);
         }
 
         // 2) periodStart 정규화 (WEEK: 월요일 / MONTH: 1일)
@@ -62,17 +78,13 @@ public class PosDashboardService {
         Map<Long, Store> storeMap = storeRepository.findAllById(storeIds).stream()
                 .collect(Collectors.toMap(Store::getId, s -> s));
 
-        // 6) 성과리스트 + KPI 계산
-        BigDecimal totalSales = BigDecimal.ZERO;
-        BigDecimal totalMargin = BigDecimal.ZERO;
-        long totalOrders = 0;
+        // 6) 성과리스트 + KPI 계산 (합계는 PosCentsAggregation.Totals 로 long 누적)
+        PosCentsAggregation.Totals currentTotals = new PosCentsAggregation.Totals();
 
-        List<StorePerformanceRowDto> performanceList = new ArrayList<>();
+        List<StorePerformanceRowDto> performanceList = new ArrayList<>(currentAggs.size());
 
         for (PosPeriodAgg cur : currentAggs) {
-            totalSales = totalSales.add(cur.getSalesAmount());
-            totalMargin = totalMargin.add(cur.getMarginAmount());
-            totalOrders += cur.getOrderCount();
+            currentTotals.add(cur.getSalesAmount(), cur.getMarginAmount(), cur.getOrderCount());
 
             PosPeriodAgg prev = prevAggMap.get(cur.getStoreId());
             BigDecimal growthRate = BigDecimal.ZERO;
@@ -96,6 +108,10 @@ public class PosDashboardService {
         }
 
         // 7) KPI Summary
+        BigDecimal totalSales = currentTotals.sales();
+        BigDecimal totalMargin = currentTotals.margin();
+        long totalOrders = currentTotals.orders();
+
         BigDecimal avgMarginRate = BigDecimal.ZERO;
         BigDecimal avgOrderValue = BigDecimal.ZERO;
 
@@ -107,16 +123,15 @@ public class PosDashboardService {
         }
 
         //전 기간
-        BigDecimal prevTotalSales = BigDecimal.ZERO;
-        BigDecimal prevTotalMargin = BigDecimal.ZERO;
-        long prevTotalOrders = 0;
-
+        PosCentsAggregation.Totals prevTotals = new PosCentsAggregation.Totals();
         for (PosPeriodAgg prev : prevAggs) {
-            prevTotalSales = prevTotalSales.add(prev.getSalesAmount());
-            prevTotalMargin = prevTotalMargin.add(prev.getMarginAmount());
-            prevTotalOrders += prev.getOrderCount();
+            prevTotals.add(prev.getSalesAmount(), prev.getMarginAmount(), prev.getOrderCount());
         }
 
+        BigDecimal prevTotalSales = prevTotals.sales();
+        BigDecimal prevTotalMargin = prevTotals.margin();
+        long prevTotalOrders = prevTotals.orders();
+
         BigDecimal prevAvgMarginRate = BigDecimal.ZERO;
         BigDecimal prevAov = BigDecimal.ZERO;
 
@@ -149,55 +164,58 @@ public class PosDashboardService {
         );
 
 
-        // 8) 랭킹
-        List<StorePerformanceRowDto> sorted =
-                performanceList.stream()
-                        .sorted(Comparator.comparing(StorePerformanceRowDto::getSales).reversed())
-                        .toList();
+        // 8) 랭킹 (전체 정렬 없이 크기 5 힙으로 상/하위 선택)
+        List<StorePerformanceRowDto> low5 = TopK.select(performanceList, RANKING_SIZE, SALES_DESC.reversed());
+        Collections.reverse(low5); // 기존과 같이 매출 내림차순으로 표시
 
         RankingDto ranking = new RankingDto(
-                sorted.stream().limit(5).toList(),
-                sorted.stream().skip(Math.max(0, sorted.size() - 5)).toList()
+                TopK.select(performanceList, RANKING_SIZE, SALES_DESC),
+                low5
         );
 
         // 9) 차트 (정규화 기준)
         LocalDate periodEnd = calculatePeriodEnd(periodType, normalizedStart);
 
-        List<PosDaily> dailies =
-                posDailyRepository.findByStoreIdsAndBusinessDateBetweenOrderByBusinessDateAsc(
-                        storeIds, normalizedStart, periodEnd
-                );
-
-        Map<LocalDate, TrendPointDto> trendMap = new LinkedHashMap<>();
-        for (PosDaily d : dailies) {
-            trendMap.compute(d.getBusinessDate(), (date, existing) -> {
-                if (existing == null) {
-                    return new TrendPointDto(
-                            date,
-                            d.getSalesAmount(),
-                            d.getMarginAmount()
-                    );
-                }
-                return new TrendPointDto(
-                        date,
-                        existing.getSales().add(d.getSalesAmount()),
-                        existing.getMargin().add(d.getMarginAmount())
-                );
-            });
-        }
-
-        List<TrendPointDto> trend = new ArrayList<>(trendMap.values());
+        // 일자별 합계는 DB에서 GROUP BY (점포 x 일수 행 대신 일수만큼만 받음)
+        List<TrendPointDto> trend =
+                posDailyRepository.sumDailyTrendByStoreIds(storeIds, normalizedStart, periodEnd).stream()
+                        .map(r -> new TrendPointDto(r.getBusinessDate(), r.getSales(), r.getMargin()))
+                        .toList();
 
         return new PosDashboardResponse(
                 summary,
                 trend,
                 ranking,
-                performanceList
+                performanceListFor(performanceList, listOption),
+                performanceList.size()
         );
     }
 
     // ---------------- helper ----------------
 
+    private List<StorePerformanceRowDto> performanceListFor(
+            List<StorePerformanceRowDto> all,
+            PerformanceListOption option
+    ) {
+        if (option == null) {
+            return all;
+        }
+        if (!option.include()) {
+            return null;
+        }
+        if (!option.paged()) {
+            return all;
+        }
+
+        // page 번째 페이지 = 매출순 앞쪽 (offset + size)개 중 뒤쪽 size개
+        long offset = option.offset();
+        if (offset >= all.size()) {
+            return List.of();
+        }
+        List<StorePerformanceRowDto> head = TopK.select(all, (int) offset + option.size(), SALES_DESC);
+        return head.subList((int) offset, head.size());
+    }
+
     /**
      * WEEK: 해당 날짜가 속한 주의 월요일로 보정
      * MONTH: 해당 월의 1일로 보정
@@ -227,7 +245,7 @@ public class PosDashboardService {
                 : start.plusMonths(1).minusDays(1);
     }
 
-    private PosDashboardResponse emptyResponse() {
+    private PosDashboardResponse emptyResponse(PerformanceListOption listOption) {
         return new PosDashboardResponse(
                 new SummaryDto(
                         BigDecimal.ZERO,
@@ -241,7 +259,8 @@ public class PosDashboardService {
                 ),
                 List.of(),
                 new RankingDto(List.of(), List.of()),
-                List.of()
+                (listOption == null || listOption.include()) ? List.of() : null,
+                0
         );
     }
 
@@ -1,15 +1,22 @@
 package com.franchise.backend.pos.service;
 
+import com.franchise.backend.common.time.ServiceTime;
 import com.franchise.backend.pos.dto.PosKpiDashboardResponse;
+import com.franchise.backend.pos.dto.PosKpiStoreSeriesResponse;
+import com.franchise.backend.pos.entity.PosPeriodAgg.PosPeriodType;
 import com.franchise.backend.pos.repository.PosKpiQueryRepository;
+import com.franchise.backend.pos.repository.PosKpiQueryRepository.StoreSeriesRow;
 import com.franchise.backend.store.entity.Store;
 import com.franchise.backend.store.repository.StoreRepository;
+import com.franchise.backend.store.service.StoreScopeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
 import java.util.*;
 
 @Service
@@ -18,6 +25,7 @@ public class PosKpiService {
 
     private final StoreRepository storeRepository;
     private final PosKpiQueryRepository posKpiQueryRepository;
+    private final StoreScopeService storeScopeService;
 
     @Transactional(readOnly = true)
     public PosKpiDashboardResponse getDashboard(Long storeId, String periodTypeRaw, int limit) {
@@ -87,6 +95,73 @@ public class PosKpiService {
         );
     }
 
+    /**
+     * 담당 점포 전체의 최근 N기간 시계열 (비교 화면)
+     * - pos_period_agg 를 기간 범위로 잘라서 점포별 PARTITION 으로 한 번에 조회
+     * - ADMIN: 전체 점포 / SUPERVISOR: 담당 점포
+     */
+    @Transactional(readOnly = true)
+    public PosKpiStoreSeriesResponse getStoreSeries(String loginId, String periodTypeRaw, int periods) {
+
+        PosPeriodType periodType = PosPeriodType.valueOf(normalizePeriodType(periodTypeRaw));
+        int safePeriods = Math.max(2, Math.min(periods, 24));
+
+        LocalDate asOf = ServiceTime.today();
+        LocalDate to = periodStartOf(periodType, asOf);
+        LocalDate from = minusPeriods(periodType, to, safePeriods - 1);
+
+        List<Long> storeIds = storeScopeService.getAccessibleStoreIdsByLoginId(loginId);
+        if (storeIds.isEmpty()) {
+            return new PosKpiStoreSeriesResponse(asOf.toString(), periodType.name(), from, to, List.of());
+        }
+
+        List<StoreSeriesRow> rows = posKpiQueryRepository.findSeriesForStores(
+                storeIds,
+                periodType.name(),
+                minusPeriods(periodType, from, 1),
+                from,
+                to
+        );
+
+        // store_id, period_start 순으로 정렬돼서 오므로 순서대로 묶기만 하면 됨
+        Map<Long, PosKpiStoreSeriesResponse.StoreSeries> byStore = new LinkedHashMap<>();
+        for (StoreSeriesRow r : rows) {
+            PosKpiStoreSeriesResponse.StoreSeries series = byStore.computeIfAbsent(
+                    r.getStoreId(),
+                    id -> new PosKpiStoreSeriesResponse.StoreSeries(id, r.getStoreName(), new ArrayList<>())
+            );
+            series.getPoints().add(new PosKpiStoreSeriesResponse.SeriesPoint(
+                    r.getPeriodStart(),
+                    bd(r.getSalesSum()).longValue(),
+                    r.getOrdersSum() == null ? 0L : r.getOrdersSum(),
+                    bd(r.getAov()).longValue(),
+                    pctOrNull(r.getSalesRate()),
+                    pctOrNull(r.getOrdersRate()),
+                    pctOrNull(r.getAovRate())
+            ));
+        }
+
+        return new PosKpiStoreSeriesResponse(
+                asOf.toString(),
+                periodType.name(),
+                from,
+                to,
+                new ArrayList<>(byStore.values())
+        );
+    }
+
+    private LocalDate periodStartOf(PosPeriodType type, LocalDate date) {
+        return type == PosPeriodType.WEEK
+                ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                : date.withDayOfMonth(1);
+    }
+
+    private LocalDate minusPeriods(PosPeriodType type, LocalDate start, int count) {
+        return type == PosPeriodType.WEEK
+                ? start.minusWeeks(count)
+                : start.minusMonths(count);
+    }
+
     private LocalDate toLocalDate(Object o) {
         if (o == null) return null;
 
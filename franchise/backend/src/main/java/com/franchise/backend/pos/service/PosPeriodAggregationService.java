@@ -0,0 +1,199 @@
+package com.franchise.backend.pos.service;
+
+import com.franchise.backend.pos.entity.PosPeriodAgg.PosPeriodType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+
+/**
+ * pos_period_agg 증분 집계
+ *
+ * - pos_daily 에서 바뀐 (store_id, business_date) 만 받아서
+ *   그 날짜가 속한 WEEK(월~일) / MONTH 행만 다시 합산 후 upsert
+ * - 변화율(sales/order/aov_change_rate)은 "바뀐 기간 + 바로 다음 기간"만 다시 계산
+ *   (다음 기간의 변화율이 이번 기간 값을 분모로 쓰기 때문)
+ * - 집계식은 시드(V18/V24)와 동일: aov = sales / orders, margin_rate = margin / sales, 변화율은 비율(0.1260)
+ * - 갱신한 점포는 POS 큐브(PosCubeService)에 커밋 후 증분 반영 대상으로 알림
+ */
+@Service
+@RequiredArgsConstructor
+public class PosPeriodAggregationService {
+
+    // 키 1개당 바인딩 파라미터 3개 -> PostgreSQL 파라미터 한도(65535) 안쪽으로 나눠서 실행
+    static final int KEY_CHUNK_SIZE = 1000;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final PosCubeService posCubeService;
+
+    private static final String UPSERT_PERIODS_SQL = """
+        WITH keys AS (
+            SELECT DISTINCT
+                   CAST(k.store_id AS bigint)     AS store_id,
+                   CAST(k.period_type AS varchar) AS period_type,
+                   CAST(k.period_start AS date)   AS period_start
+              FROM (VALUES :keys) AS k(store_id, period_type, period_start)
+        ),
+        ranged AS (
+            SELECT store_id, period_type, period_start,
+                   CASE WHEN period_type = 'WEEK' THEN period_start + 6
+                        ELSE CAST(period_start + INTERVAL '1 month' - INTERVAL '1 day' AS date)
+                   END AS period_end
+              FROM keys
+        ),
+        summed AS (
+            SELECT r.store_id, r.period_type, r.period_start, r.period_end,
+                   ROUND(COALESCE(SUM(p.sales_amount), 0), 2)  AS sales_amount,
+                   CAST(COALESCE(SUM(p.order_count), 0) AS int) AS order_count,
+                   ROUND(COALESCE(SUM(p.cogs_amount), 0), 2)   AS cogs_amount,
+                   ROUND(COALESCE(SUM(p.margin_amount), 0), 2) AS margin_amount
+              FROM ranged r
+              LEFT JOIN pos_daily p
+                ON p.store_id = r.store_id
+               AND p.business_date BETWEEN r.period_start AND r.period_end
+             GROUP BY r.store_id, r.period_type, r.period_start, r.period_end
+        )
+        INSERT INTO pos_period_agg (
+            store_id, period_type, period_start, period_end,
+            sales_amount, order_count, aov,
+            cogs_amount, margin_amount, margin_rate,
+            created_at, updated_at
+        )
+        SELECT store_id, period_type, period_start, period_end,
+               sales_amount, order_count,
+               CASE WHEN order_count = 0 THEN 0 ELSE ROUND(sales_amount / order_count, 2) END,
+               cogs_amount, margin_amount,
+               CASE WHEN sales_amount = 0 THEN 0 ELSE ROUND(margin_amount / sales_amount, 4) END,
+               NOW(), NOW()
+          FROM summed
+        ON CONFLICT (store_id, period_type, period_start) DO UPDATE SET
+            period_end    = EXCLUDED.period_end,
+            sales_amount  = EXCLUDED.sales_amount,
+            order_count   = EXCLUDED.order_count,
+            aov           = EXCLUDED.aov,
+            cogs_amount   = EXCLUDED.cogs_amount,
+            margin_amount = EXCLUDED.margin_amount,
+            margin_rate   = EXCLUDED.margin_rate,
+            updated_at    = EXCLUDED.updated_at
+        """;
+
+    private static final String UPDATE_CHANGE_RATES_SQL = """
+        UPDATE pos_period_agg cur
+           SET sales_change_rate = r.sales_change_rate,
+               order_change_rate = r.order_change_rate,
+               aov_change_rate   = r.aov_change_rate,
+               updated_at        = NOW()
+          FROM (
+                SELECT c.pos_period_agg_id,
+                       CASE WHEN prev.sales_amount IS NULL OR prev.sales_amount = 0 THEN NULL
+                            ELSE ROUND((c.sales_amount - prev.sales_amount) / prev.sales_amount, 4)
+                       END AS sales_change_rate,
+                       CASE WHEN prev.order_count IS NULL OR prev.order_count = 0 THEN NULL
+                            ELSE ROUND(CAST(c.order_count - prev.order_count AS numeric) / prev.order_count, 4)
+                       END AS order_change_rate,
+                       CASE WHEN prev.aov IS NULL OR prev.aov = 0 THEN NULL
+                            ELSE ROUND((c.aov - prev.aov) / prev.aov, 4)
+                       END AS aov_change_rate
+                  FROM (VALUES :keys) AS k(store_id, period_type, period_start)
+                  JOIN pos_period_agg c
+                    ON c.store_id = CAST(k.store_id AS bigint)
+                   AND c.period_type = CAST(k.period_type AS varchar)
+                   AND c.period_start = CAST(k.period_start AS date)
+                  LEFT JOIN pos_period_agg prev
+                    ON prev.store_id = c.store_id
+                   AND prev.period_type = c.period_type
+                   AND prev.period_start = CASE WHEN c.period_type = 'WEEK' THEN c.period_start - 7
+                                                ELSE CAST(c.period_start - INTERVAL '1 month' AS date)
+                                           END
+               ) r
+         WHERE cur.pos_period_agg_id = r.pos_period_agg_id
+        """;
+
+    /**
+     * 바뀐 일자들이 속한 주/월 집계 갱신
+     * - 호출하는 쪽(pos_daily 적재)과 같은 트랜잭션에서 실행
+     */
+    @Transactional
+    public void refresh(Collection<TouchedDay> touchedDays) {
+        if (touchedDays == null || touchedDays.isEmpty()) {
+            return;
+        }
+
+        Set<PeriodKey> affected = affectedPeriods(touchedDays);
+
+        // 1) 바뀐 기간 재합산
+        for (List<Object[]> chunk : chunks(affected)) {
+            namedParameterJdbcTemplate.update(UPSERT_PERIODS_SQL, Map.of("keys", chunk));
+        }
+
+        // 2) 바뀐 기간 + 다음 기간 변화율 재계산
+        Set<PeriodKey> rateTargets = new LinkedHashSet<>(affected);
+        for (PeriodKey key : affected) {
+            rateTargets.add(key.next());
+        }
+        for (List<Object[]> chunk : chunks(rateTargets)) {
+            namedParameterJdbcTemplate.update(UPDATE_CHANGE_RATES_SQL, Map.of("keys", chunk));
+        }
+
+        // 3) 큐브 증분 반영 대상 (커밋 후)
+        Set<Long> storeIds = new HashSet<>();
+        for (PeriodKey key : affected) {
+            storeIds.add(key.storeId());
+        }
+        posCubeService.markStale(storeIds);
+    }
+
+    static Set<PeriodKey> affectedPeriods(Collection<TouchedDay> touchedDays) {
+        Set<PeriodKey> keys = new LinkedHashSet<>();
+        for (TouchedDay day : touchedDays) {
+            if (day == null || day.storeId() == null || day.businessDate() == null) {
+                continue;
+            }
+            keys.add(PeriodKey.of(day.storeId(), PosPeriodType.WEEK, day.businessDate()));
+            keys.add(PeriodKey.of(day.storeId(), PosPeriodType.MONTH, day.businessDate()));
+        }
+        return keys;
+    }
+
+    private static List<List<Object[]>> chunks(Set<PeriodKey> keys) {
+        List<List<Object[]>> result = new ArrayList<>();
+        List<Object[]> current = new ArrayList<>(Math.min(keys.size(), KEY_CHUNK_SIZE));
+
+        for (PeriodKey key : keys) {
+            current.add(new Object[]{key.storeId(), key.periodType().name(), key.periodStart()});
+            if (current.size() == KEY_CHUNK_SIZE) {
+                result.add(current);
+                current = new ArrayList<>(KEY_CHUNK_SIZE);
+            }
+        }
+        if (!current.isEmpty()) {
+            result.add(current);
+        }
+        return result;
+    }
+
+    // pos_daily 에서 추가/수정된 하루
+    public record TouchedDay(Long storeId, LocalDate businessDate) {}
+
+    record PeriodKey(Long storeId, PosPeriodType periodType, LocalDate periodStart) {
+
+        static PeriodKey of(Long storeId, PosPeriodType type, LocalDate date) {
+            LocalDate start = (type == PosPeriodType.WEEK)
+                    ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                    : date.withDayOfMonth(1);
+            return new PeriodKey(storeId, type, start);
+        }
+
+        PeriodKey next() {
+            LocalDate nextStart = (periodType == PosPeriodType.WEEK)
+                    ? periodStart.plusWeeks(1)
+                    : periodStart.plusMonths(1);
+            return new PeriodKey(storeId, periodType, nextStart);
+        }
+    }
+}
@@ -4,9 +4,8 @@ import com.franchise.backend.pos.dto.dashboard.detail.*;
 import com.franchise.backend.pos.entity.PosPeriodAgg;
 import com.franchise.backend.pos.entity.PosPeriodAgg.PosPeriodType;
 import com.franchise.backend.pos.repository.PosPeriodAggRepository;
-import com.franchise.backend.store.entity.Store;
 import com.franchise.backend.store.repository.StoreRepository;
-import com.franchise.backend.store.service.StoreScopeService;
+import com.franchise.backend.store.repository.StoreRepository.AccessibleStoreRow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,10 +21,15 @@ import java.util.*;
 @RequiredArgsConstructor
 public class PosStoreDashboardService {
 
-    private final StoreScopeService storeScopeService;
     private final StoreRepository storeRepository;
     private final PosPeriodAggRepository posPeriodAggRepository;
 
+    /**
+     * 점포 POS 상세 (DB 왕복 최대 2번)
+     * - 1) 접근 권한 + 점포 정보: storeRepository.findAccessibleStore (접근 불가면 여기서 끝)
+     * - 2) window 조회 1번: 현재 기간은 window 의 마지막, 전기간(전주/전월)은 그 바로 앞 포인트라
+     *      KPI 와 추이를 같은 결과에서 계산한다
+     */
     @Transactional(readOnly = true)
     public PosStoreDashboardResponse getStoreDashboard(
             String loginId,
@@ -33,9 +37,13 @@ public class PosStoreDashboardService {
             PosPeriodType periodType,
             LocalDate periodStart
     ) {
-        // 0) 권한 체크: SV가 접근 가능한 점포인지
-        List<Long> accessibleStoreIds = storeScopeService.getAccessibleStoreIdsByLoginId(loginId);
-        if (accessibleStoreIds == null || !accessibleStoreIds.contains(storeId)) {
+        if (loginId == null || loginId.isBlank()) {
+            throw new IllegalArgumentException("loginId must not be blank");
+        }
+
+        // 0) 권한 체크 + 점포 정보 (ADMIN 전체 / SV 본인 담당)
+        AccessibleStoreRow store = storeRepository.findAccessibleStore(storeId, loginId.trim()).orElse(null);
+        if (store == null) {
             return empty(storeId);
         }
 
@@ -48,9 +56,9 @@ public class PosStoreDashboardService {
         // 3) 최근 N개 periodStart 리스트(오래된 -> 최신)
         List<LocalDate> periodStarts = buildPeriodStartsBackward(periodType, anchorStart, window);
 
-        // 4) trend용 aggs 조회
-        List<PosPeriodAgg> aggs = posPeriodAggRepository.findByStoreIdAndPeriodStarts(
-                storeId, periodType, periodStarts
+        // 4) window 집계 조회 (전기간도 window 안에 포함)
+        List<PosPeriodAgg> aggs = posPeriodAggRepository.findWindowByStoreId(
+                storeId, periodType, periodStarts.get(0), anchorStart
         );
         Map<LocalDate, PosPeriodAgg> aggMap = new HashMap<>();
         for (PosPeriodAgg a : aggs) {
@@ -62,13 +70,8 @@ public class PosStoreDashboardService {
                 ? anchorStart.minusWeeks(1)
                 : anchorStart.minusMonths(1);
 
-        PosPeriodAgg curAgg = posPeriodAggRepository
-                .findOneByStoreIdAndPeriod(storeId, periodType, anchorStart)
-                .orElse(null);
-
-        PosPeriodAgg prevAgg = posPeriodAggRepository
-                .findOneByStoreIdAndPeriod(storeId, periodType, prevStart)
-                .orElse(null);
+        PosPeriodAgg curAgg = aggMap.get(anchorStart);
+        PosPeriodAgg prevAgg = aggMap.get(prevStart);
 
         BigDecimal curSales = nvl(curAgg != null ? curAgg.getSalesAmount() : null);
         long curOrders = (curAgg != null && curAgg.getOrderCount() != null) ? curAgg.getOrderCount() : 0L;
@@ -91,13 +94,12 @@ public class PosStoreDashboardService {
                 aovChangeRate
         );
 
-        // 6) StoreInfo
-        Store store = storeRepository.findById(storeId).orElse(null);
+        // 6) StoreInfo (0) 에서 같이 읽은 값)
         StoreInfoDto storeInfo = new StoreInfoDto(
                 storeId,
-                store != null ? store.getStoreName() : "",
-                store != null ? store.getRegionCode() : "",
-                store != null && store.getCurrentState() != null ? store.getCurrentState().name() : null
+                store.getStoreName(),
+                store.getRegionCode(),
+                store.getCurrentState()
         );
 
         // 7) Trend: salesChangeRate = 직전 포인트 대비, 첫 포인트는 null
@@ -0,0 +1,38 @@
+package com.franchise.backend.pos.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// 전체 정렬 없이 order 기준 앞쪽 K개 선택
+// - 크기 K 힙 유지 -> O(n log K), 점포 수천 개에서 TOP5/페이지 한 장만 필요할 때 사용
+final class TopK {
+
+    private TopK() {}
+
+    /**
+     * order 기준 앞쪽 k개를 order 순서로 반환
+     */
+    static <T> List<T> select(Collection<T> items, int k, Comparator<T> order) {
+        if (k <= 0 || items.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // head = 지금까지 고른 것 중 order 상 가장 뒤 (다음 후보와 비교 대상)
+        PriorityQueue<T> heap = new PriorityQueue<>(Math.min(k, items.size()) + 1, order.reversed());
+        for (T item : items) {
+            if (heap.size() < k) {
+                heap.add(item);
+            } else if (order.compare(item, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(item);
+            }
+        }
+
+        List<T> result = new ArrayList<>(heap);
+        result.sort(order);
+        return result;
+    }
+}
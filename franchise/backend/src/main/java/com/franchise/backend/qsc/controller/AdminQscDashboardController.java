@@ -1,5 +1,7 @@
 package com.franchise.backend.qsc.controller;// package com.franchise.backend.qsc.controller;
 
+import com.franchise.backend.common.web.ConditionalGet;
+import com.franchise.backend.common.web.DataTable;
 import com.franchise.backend.qsc.dto.AdminQscDashboardResponse;
 import com.franchise.backend.qsc.service.AdminQscDashboardService;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +19,7 @@ public class AdminQscDashboardController {
 
     // 예: /api/admin/qsc/dashboard?date=2026-01-10&regionCode=SEOUL&passFilter=FAIL&limit=20&offset=0
     @GetMapping("/dashboard")
+    @ConditionalGet({DataTable.STORES, DataTable.QSC_MASTER})
     public AdminQscDashboardResponse dashboard(
             @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
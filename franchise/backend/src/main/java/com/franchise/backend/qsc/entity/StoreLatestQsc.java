@@ -0,0 +1,35 @@
+package com.franchise.backend.qsc.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+// 점포별 최신 COMPLETED 점검 (점포당 1행)
+// - 갱신은 StoreLatestQscRepository.upsertIfNewer 로만 (QscInspectionCommandService.save)
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "store_latest_qsc")
+public class StoreLatestQsc {
+
+    @Id
+    @Column(name = "store_id")
+    private Long storeId;
+
+    @Column(name = "inspection_id", nullable = false)
+    private Long inspectionId;
+
+    @Column(name = "total_score")
+    private Integer totalScore;
+
+    @Column(name = "grade", length = 1)
+    private String grade;
+
+    @Column(name = "inspected_at", nullable = false)
+    private OffsetDateTime inspectedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+}
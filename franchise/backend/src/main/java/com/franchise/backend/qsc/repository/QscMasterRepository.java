@@ -15,18 +15,12 @@ import java.time.OffsetDateTime;
 public interface QscMasterRepository extends JpaRepository<QscMaster, Long> {
 
     // 점포별 "최신 COMPLETED 점검"을 storeIds 여러 개에 대해 한 번에 조회
-    // (store_id별 max(inspected_at) 1건씩)
+    // (store_latest_qsc 의 inspection_id로 바로 조인, 점포당 1건)
     @Query("""
         SELECT q
-        FROM QscMaster q
-        WHERE q.status = 'COMPLETED'
-          AND q.storeId IN :storeIds
-          AND q.inspectedAt = (
-              SELECT MAX(q2.inspectedAt)
-              FROM QscMaster q2
-              WHERE q2.storeId = q.storeId
-                AND q2.status = 'COMPLETED'
-          )
+        FROM QscMaster q, StoreLatestQsc l
+        WHERE l.storeId IN :storeIds
+          AND q.inspectionId = l.inspectionId
     """)
     List<QscMaster> findLatestCompletedByStoreIds(@Param("storeIds") List<Long> storeIds);
 
@@ -41,18 +35,12 @@ public interface QscMasterRepository extends JpaRepository<QscMaster, Long> {
     List<QscMaster> findCompletedListByStoreId(@Param("storeId") Long storeId);
 
     // 특정 점포의 "최신 COMPLETED 점검 1건" 단건 조회 (상세 상단 QSC 점수용)
-    // JPQL에서 LIMIT을 직접 못 쓰니까 서브쿼리로 max(inspectedAt) 1건을 가져온다.
+    // store_latest_qsc 에서 최신 inspection_id를 바로 찾는다.
     @Query("""
         SELECT q
-        FROM QscMaster q
-        WHERE q.storeId = :storeId
-          AND q.status = 'COMPLETED'
-          AND q.inspectedAt = (
-              SELECT MAX(q2.inspectedAt)
-              FROM QscMaster q2
-              WHERE q2.storeId = :storeId
-                AND q2.status = 'COMPLETED'
-          )
+        FROM QscMaster q, StoreLatestQsc l
+        WHERE l.storeId = :storeId
+          AND q.inspectionId = l.inspectionId
     """)
     Optional<QscMaster> findLatestCompletedByStoreId(@Param("storeId") Long storeId);
 
@@ -0,0 +1,30 @@
+package com.franchise.backend.qsc.repository;
+
+import com.franchise.backend.qsc.entity.StoreLatestQsc;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StoreLatestQscRepository extends JpaRepository<StoreLatestQsc, Long> {
+
+    // COMPLETED 점검 저장 시 점포별 최신 점검 갱신
+    // - 기존 행보다 점검일이 늦거나 같을 때만 덮어씀 (과거 점검을 뒤늦게 등록해도 최신값 유지)
+    // - 동시 저장이어도 PK(store_id) 충돌은 ON CONFLICT 로 흡수
+    @Modifying
+    @Query(value = """
+        INSERT INTO store_latest_qsc (store_id, inspection_id, total_score, grade, inspected_at, updated_at)
+        SELECT qm.store_id, qm.inspection_id, qm.total_score, qm.grade, qm.inspected_at, now()
+        FROM qsc_master qm
+        WHERE qm.inspection_id = :inspectionId
+          AND qm.status = 'COMPLETED'
+        ON CONFLICT (store_id) DO UPDATE
+           SET inspection_id = EXCLUDED.inspection_id,
+               total_score   = EXCLUDED.total_score,
+               grade         = EXCLUDED.grade,
+               inspected_at  = EXCLUDED.inspected_at,
+               updated_at    = EXCLUDED.updated_at
+         WHERE store_latest_qsc.inspected_at <= EXCLUDED.inspected_at
+    """, nativeQuery = true)
+    int upsertIfNewer(@Param("inspectionId") Long inspectionId);
+}
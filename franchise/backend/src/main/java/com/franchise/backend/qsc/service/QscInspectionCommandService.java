@@ -7,6 +7,8 @@ import com.franchise.backend.qsc.entity.QscMaster;
 import com.franchise.backend.qsc.repository.QscInspectionItemRepository;
 import com.franchise.backend.qsc.repository.QscInspectionPhotoRepository;
 import com.franchise.backend.qsc.repository.QscMasterRepository;
+import com.franchise.backend.qsc.repository.StoreLatestQscRepository;
+import com.franchise.backend.store.service.AdminDashboardSnapshotService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,6 +24,8 @@ public class QscInspectionCommandService {
     private final QscMasterRepository masterRepository;
     private final QscInspectionItemRepository itemRepository;
     private final QscInspectionPhotoRepository photoRepository;
+    private final StoreLatestQscRepository storeLatestQscRepository;
+    private final AdminDashboardSnapshotService adminDashboardSnapshotService;
 
     public Long save(Long inspectorId, QscInspectionSaveRequest req) {
 
@@ -47,6 +51,16 @@ public class QscInspectionCommandService {
 
         QscMaster saved = masterRepository.save(master);
 
+        // COMPLETED면 점포별 최신 점검(store_latest_qsc) 갱신
+        // (native upsert가 qsc_master를 읽으므로 먼저 flush)
+        if ("COMPLETED".equalsIgnoreCase(req.status())) {
+            masterRepository.flush();
+            storeLatestQscRepository.upsertIfNewer(saved.getInspectionId());
+
+            // 관리자 홈 QSC 추이 갱신
+            adminDashboardSnapshotService.markStale();
+        }
+
         // 2) items 저장
         List<QscInspectionItem> items = req.itemScores().stream()
                 .map(i -> QscInspectionItem.create(saved.getInspectionId(), i.templateItemId(), i.score()))
@@ -1,5 +1,7 @@
 package com.franchise.backend.risk.controller;
 
+import com.franchise.backend.common.web.ConditionalGet;
+import com.franchise.backend.common.web.DataTable;
 import com.franchise.backend.risk.dto.RiskDashboardResponse;
 import com.franchise.backend.risk.service.RiskDashboardService;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +17,7 @@ public class RiskDashboardController {
     private final RiskDashboardService riskDashboardService;
 
     @GetMapping
+    @ConditionalGet({DataTable.STORES, DataTable.USERS, DataTable.RISK_SCORE_SNAPSHOT, DataTable.STORE_LATEST_QSC})
     public RiskDashboardResponse getRiskDashboard() {
         return riskDashboardService.getDashboard();
     }
@@ -87,14 +87,6 @@ public class RiskDashboardService {
     private List<RiskDashboardResponse.RiskStoreRow> fetchStoreRows() {
 
         String sql = """
-        WITH last_qsc AS (
-          SELECT DISTINCT ON (store_id)
-                 store_id,
-                 inspected_at
-            FROM qsc_master
-           WHERE status = 'COMPLETED'
-           ORDER BY store_id, inspected_at DESC
-        )
         SELECT
           s.store_id,
           s.store_name,
@@ -105,7 +97,7 @@ public class RiskDashboardService {
           (lq.inspected_at)::date AS last_inspected_date
         FROM stores s
         LEFT JOIN users u ON u.user_id = s.current_supervisor_id
-        LEFT JOIN last_qsc lq ON lq.store_id = s.store_id
+        LEFT JOIN store_latest_qsc lq ON lq.store_id = s.store_id
         WHERE s.deleted_at IS NULL
         ORDER BY
           CASE s.current_state             -- ✅ 정렬도 stores.current_state 기준으로
@@ -1,15 +1,19 @@
 package com.franchise.backend.store.controller;
 
 import com.franchise.backend.common.response.ApiResponse;
+import com.franchise.backend.common.web.ConditionalGet;
+import com.franchise.backend.common.web.DataTable;
 import com.franchise.backend.store.dto.AdminDashboardSummaryResponse;
 import com.franchise.backend.store.dto.DashboardSummaryResponse;
 import com.franchise.backend.store.dto.SupervisorDashboardSummaryResponse;
-import com.franchise.backend.store.service.AdminDashboardService;
+import com.franchise.backend.store.service.AdminDashboardSnapshotService;
 import com.franchise.backend.store.service.DashboardService;
 import com.franchise.backend.user.entity.Role;
 import com.franchise.backend.user.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
@@ -20,10 +24,12 @@ import org.springframework.web.server.ResponseStatusException;
 public class DashboardController {
 
     private final DashboardService dashboardService;
-    private final AdminDashboardService adminDashboardService;
+    private final AdminDashboardSnapshotService adminDashboardSnapshotService;
 
     // 팀장 홈 대시보드 카드 조회
     @GetMapping("/summary")
+    @ConditionalGet({DataTable.STORES, DataTable.USERS, DataTable.EVENT_LOG,
+            DataTable.STORE_LATEST_QSC, DataTable.POS_DAILY})
     public ApiResponse<DashboardSummaryResponse> summary(
             @AuthenticationPrincipal UserPrincipal principal
     ) {
@@ -32,6 +38,8 @@ public class DashboardController {
 
     // SV 홈 대시보드
     @GetMapping("/supervisor/summary")
+    @ConditionalGet({DataTable.STORES, DataTable.USERS, DataTable.EVENT_LOG, DataTable.ACTIONS, DataTable.QSC_MASTER,
+            DataTable.STORE_LATEST_QSC, DataTable.POS_DAILY, DataTable.STORE_RISK_SCORE_DAILY})
     public ApiResponse<SupervisorDashboardSummaryResponse> supervisorSummary(
             @RequestParam(name = "loginId") String loginId
     ) {
@@ -39,9 +47,12 @@ public class DashboardController {
     }
 
     // ADMIN 홈 대시보드 (카드 4개 + 위험점포 TOP5)
+    // - 주기적으로 미리 계산해 둔 스냅샷을 내려줌
+    // - ETag / If-None-Match 지원 (내용이 같으면 304)
     @GetMapping("/admin/summary")
-    public ApiResponse<AdminDashboardSummaryResponse> adminSummary(
-            @AuthenticationPrincipal UserPrincipal principal
+    public ResponseEntity<ApiResponse<AdminDashboardSummaryResponse>> adminSummary(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         if (principal == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized: login required");
@@ -50,6 +61,18 @@ public class DashboardController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Forbidden: ADMIN only");
         }
 
-        return ApiResponse.ok(adminDashboardService.getAdminSummary());
+        AdminDashboardSnapshotService.Snapshot snapshot = adminDashboardSnapshotService.getSnapshot();
+
+        if (snapshot.etag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.etag())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .header("X-Snapshot-Version", String.valueOf(snapshot.version()))
+                .header("X-Snapshot-Refreshed-At", snapshot.refreshedAt().toString())
+                .body(ApiResponse.ok(snapshot.data()));
     }
 }
@@ -4,6 +4,7 @@ import com.franchise.backend.common.response.ApiResponse;
 import com.franchise.backend.event.dto.StoreEventResponse;
 import com.franchise.backend.event.service.EventQueryService;
 import com.franchise.backend.store.dto.StoreDetailResponse;
+import com.franchise.backend.store.dto.StoreListPageResponse;
 import com.franchise.backend.store.dto.StoreListResponse;
 import com.franchise.backend.store.dto.StoreSearchRequest;
 import com.franchise.backend.store.dto.StoreUpdateRequest;
@@ -76,6 +77,51 @@ public class StoreController {
     }
 
 
+    // 점포 목록 조회 (커서 페이지)
+    // - 파라미터는 목록 조회와 동일 + cursor(이전 응답의 nextCursor)
+    // - 정렬/limit/커서 모두 DB에서 처리 (keyset)
+    @GetMapping("/page")
+    public ApiResponse<StoreListPageResponse> page(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(required = false) StoreState state,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String cursor
+    ) {
+        if (principal == null) {
+            throw new org.springframework.web.server.ResponseStatusException(
+                    org.springframework.http.HttpStatus.UNAUTHORIZED,
+                    "Unauthorized: login required"
+            );
+        }
+
+        StoreSearchRequest condition = new StoreSearchRequest();
+        condition.setState(state);
+        condition.setKeyword(keyword);
+        condition.setSort(sort);
+        condition.setLimit(limit);
+        condition.setCursor(cursor);
+
+        // ADMIN: 전체 점포
+        if (principal.getRole() == com.franchise.backend.user.entity.Role.ADMIN) {
+            return ApiResponse.ok(dashboardService.getStorePageForAdmin(condition));
+        }
+
+        // MANAGER: 부서 기준
+        if (principal.getRole() == com.franchise.backend.user.entity.Role.MANAGER) {
+            return ApiResponse.ok(
+                    dashboardService.getStorePageForManager(principal.getLoginId(), condition)
+            );
+        }
+
+        // SUPERVISOR: 본인 담당 점포
+        return ApiResponse.ok(
+                storeService.getStorePageForSupervisor(principal.getLoginId(), condition)
+        );
+    }
+
+
     // 점포 상세(가게 정보)
     @GetMapping("/{storeId}")
     public ApiResponse<StoreDetailResponse> detail(@PathVariable Long storeId) {
@@ -128,6 +174,33 @@ public class StoreController {
         return ApiResponse.ok(storeService.getStoresForSupervisor(supervisorLoginId, condition));
     }
 
+    // SV 담당 점포 목록 조회 (커서 페이지)
+    @GetMapping("/supervisor/page")
+    public ApiResponse<StoreListPageResponse> pageForSupervisor(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(required = false) StoreState state,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String cursor
+    ) {
+        if (principal == null) {
+            throw new org.springframework.web.server.ResponseStatusException(
+                    org.springframework.http.HttpStatus.UNAUTHORIZED,
+                    "Unauthorized: login required"
+            );
+        }
+
+        StoreSearchRequest condition = new StoreSearchRequest();
+        condition.setState(state);
+        condition.setKeyword(keyword);
+        condition.setSort(sort);
+        condition.setLimit(limit);
+        condition.setCursor(cursor);
+
+        return ApiResponse.ok(storeService.getStorePageForSupervisor(principal.getLoginId(), condition));
+    }
+
     // 신규 점포 등록
     @PostMapping
     public ApiResponse<StoreDetailResponse> create(
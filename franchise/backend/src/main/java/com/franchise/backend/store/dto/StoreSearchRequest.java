@@ -11,4 +11,5 @@ public class StoreSearchRequest {
     private String keyword;   // 점포명 or SV
     private String sort;      // QSC_SCORE_DESC / QSC_SCORE_ASC / INSPECTED_AT_DESC / INSPECTED_AT_ASC
     private Integer limit;    // 기본 50
+    private String cursor;    // 이전 페이지 응답의 nextCursor (없으면 첫 페이지)
 }
@@ -7,7 +7,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface StoreRepository extends JpaRepository<Store, Long> {
 
@@ -17,23 +19,56 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
 
     // 팀장 홈 : "팀장 부서(department)" 기준 점포 목록 조회
     // - 같은 부서의 SV가 담당(supervisor)인 점포만
-    @Query("""
-        SELECT s
-        FROM Store s
-        JOIN s.supervisor u
-        WHERE (:state IS NULL OR s.currentState = :state)
-          AND (:department IS NULL OR u.department = :department)
-          AND (
-                :keyword IS NULL
-                OR s.storeName LIKE %:keyword%
-                OR u.loginId LIKE %:keyword%
-          )
-        ORDER BY s.updatedAt DESC
-    """)
-    List<Store> searchStoresForManager(
-            @Param("state") StoreState state,
+    // - 최신 COMPLETED QSC(store_latest_qsc) 조인 / 정렬 / keyset 커서 / limit 까지 DB에서 처리
+    @Query(value = """
+        SELECT t.*
+        FROM (
+            SELECT s.store_id                  AS "storeId",
+                   s.store_name                AS "storeName",
+                   s.current_state             AS "currentState",
+                   s.region_code               AS "regionCode",
+                   u.login_id                  AS "supervisorLoginId",
+                   u.user_name                 AS "supervisorName",
+                   u.region                    AS "supervisorRegion",
+                   COALESCE(lq.total_score, 0) AS "qscScore",
+                   lq.inspected_date           AS "lastInspectionDate",
+                   CAST(CASE :sort
+                       WHEN 'QSC_SCORE_DESC'    THEN -COALESCE(lq.total_score, 0)
+                       WHEN 'QSC_SCORE_ASC'     THEN COALESCE(lq.total_score, 0)
+                       WHEN 'INSPECTED_AT_ASC'  THEN COALESCE(lq.inspected_date, DATE '9999-12-31') - DATE '1970-01-01'
+                       ELSE -(COALESCE(lq.inspected_date, DATE '9999-12-31') - DATE '1970-01-01')
+                   END AS bigint)              AS "sortKey"
+            FROM stores s
+            JOIN users u ON u.user_id = s.current_supervisor_id
+            LEFT JOIN (
+                SELECT l.store_id,
+                       l.total_score,
+                       CAST(l.inspected_at AT TIME ZONE 'Asia/Seoul' AS date) AS inspected_date
+                FROM store_latest_qsc l
+            ) lq ON lq.store_id = s.store_id
+            WHERE (CAST(:state AS varchar) IS NULL OR s.current_state = CAST(:state AS varchar))
+              AND (CAST(:department AS varchar) IS NULL OR u.department = CAST(:department AS varchar))
+              AND (
+                    CAST(:keyword AS varchar) IS NULL
+                    OR s.store_name LIKE CONCAT('%', CAST(:keyword AS varchar), '%')
+                    OR u.login_id LIKE CONCAT('%', CAST(:keyword AS varchar), '%')
+              )
+        ) t
+        WHERE (:hasCursor = FALSE
+               OR (t."sortKey", t."storeName", t."storeId") > (:cursorKey, :cursorName, :cursorId))
+        ORDER BY t."sortKey", t."storeName", t."storeId"
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<StoreListRow> searchStoresForManager(
+            @Param("state") String state,
             @Param("keyword") String keyword,
-            @Param("department") String department
+            @Param("department") String department,
+            @Param("sort") String sort,
+            @Param("hasCursor") boolean hasCursor,
+            @Param("cursorKey") long cursorKey,
+            @Param("cursorName") String cursorName,
+            @Param("cursorId") long cursorId,
+            @Param("limit") int limit
     );
 
     // SV 홈 : LoginId로 담당 점포 전체 조회
@@ -46,22 +81,55 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
     List<Store> findBySupervisorLoginId(@Param("loginId") String loginId);
 
     // SV 점포 관리 : 상태/키워드 필터 포함
-    @Query("""
-        SELECT s
-        FROM Store s
-        JOIN s.supervisor u
-        WHERE u.loginId = :loginId
-          AND (:state IS NULL OR s.currentState = :state)
-          AND (
-                :keyword IS NULL
-                OR s.storeName LIKE %:keyword%
-          )
-        ORDER BY s.updatedAt DESC
-    """)
-    List<Store> searchStoresForSupervisor(
+    // - 최신 COMPLETED QSC(store_latest_qsc) 조인 / 정렬 / keyset 커서 / limit 까지 DB에서 처리
+    @Query(value = """
+        SELECT t.*
+        FROM (
+            SELECT s.store_id                  AS "storeId",
+                   s.store_name                AS "storeName",
+                   s.current_state             AS "currentState",
+                   s.region_code               AS "regionCode",
+                   u.login_id                  AS "supervisorLoginId",
+                   u.user_name                 AS "supervisorName",
+                   u.region                    AS "supervisorRegion",
+                   COALESCE(lq.total_score, 0) AS "qscScore",
+                   lq.inspected_date           AS "lastInspectionDate",
+                   CAST(CASE :sort
+                       WHEN 'QSC_SCORE_DESC'    THEN -COALESCE(lq.total_score, 0)
+                       WHEN 'QSC_SCORE_ASC'     THEN COALESCE(lq.total_score, 0)
+                       WHEN 'INSPECTED_AT_ASC'  THEN COALESCE(lq.inspected_date, DATE '9999-12-31') - DATE '1970-01-01'
+                       ELSE -(COALESCE(lq.inspected_date, DATE '9999-12-31') - DATE '1970-01-01')
+                   END AS bigint)              AS "sortKey"
+            FROM stores s
+            JOIN users u ON u.user_id = s.current_supervisor_id
+            LEFT JOIN (
+                SELECT l.store_id,
+                       l.total_score,
+                       CAST(l.inspected_at AT TIME ZONE 'Asia/Seoul' AS date) AS inspected_date
+                FROM store_latest_qsc l
+            ) lq ON lq.store_id = s.store_id
+            WHERE (CAST(:state AS varchar) IS NULL OR s.current_state = CAST(:state AS varchar))
+              AND u.login_id = :loginId
+              AND (
+                    CAST(:keyword AS varchar) IS NULL
+                    OR s.store_name LIKE CONCAT('%', CAST(:keyword AS varchar), '%')
+              )
+        ) t
+        WHERE (:hasCursor = FALSE
+               OR (t."sortKey", t."storeName", t."storeId") > (:cursorKey, :cursorName, :cursorId))
+        ORDER BY t."sortKey", t."storeName", t."storeId"
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<StoreListRow> searchStoresForSupervisor(
             @Param("loginId") String loginId,
-            @Param("state") StoreState state,
-            @Param("keyword") String keyword
+            @Param("state") String state,
+            @Param("keyword") String keyword,
+            @Param("sort") String sort,
+            @Param("hasCursor") boolean hasCursor,
+            @Param("cursorKey") long cursorKey,
+            @Param("cursorName") String cursorName,
+            @Param("cursorId") long cursorId,
+            @Param("limit") int limit
     );
 
     // sv 기준 : 본인이 담당하는 점포 ID들
@@ -96,22 +164,55 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
     List<Store> findTopRiskStores(Pageable pageable);
 
     // 관리자 전체 점포 목록
-    @Query("""
-        SELECT s
-        FROM Store s
-        LEFT JOIN s.supervisor u
-        WHERE (:state IS NULL OR s.currentState = :state)
-          AND (
-                :keyword IS NULL
-                OR s.storeName LIKE %:keyword%
-                OR u.loginId LIKE %:keyword%
-                OR u.userName LIKE %:keyword%
-          )
-        ORDER BY s.updatedAt DESC
-    """)
-    List<Store> searchStoresForAdmin(
-            @Param("state") StoreState state,
-            @Param("keyword") String keyword
+    // - 최신 COMPLETED QSC(store_latest_qsc) 조인 / 정렬 / keyset 커서 / limit 까지 DB에서 처리
+    @Query(value = """
+        SELECT t.*
+        FROM (
+            SELECT s.store_id                  AS "storeId",
+                   s.store_name                AS "storeName",
+                   s.current_state             AS "currentState",
+                   s.region_code               AS "regionCode",
+                   u.login_id                  AS "supervisorLoginId",
+                   u.user_name                 AS "supervisorName",
+                   u.region                    AS "supervisorRegion",
+                   COALESCE(lq.total_score, 0) AS "qscScore",
+                   lq.inspected_date           AS "lastInspectionDate",
+                   CAST(CASE :sort
+                       WHEN 'QSC_SCORE_DESC'    THEN -COALESCE(lq.total_score, 0)
+                       WHEN 'QSC_SCORE_ASC'     THEN COALESCE(lq.total_score, 0)
+                       WHEN 'INSPECTED_AT_ASC'  THEN COALESCE(lq.inspected_date, DATE '9999-12-31') - DATE '1970-01-01'
+                       ELSE -(COALESCE(lq.inspected_date, DATE '9999-12-31') - DATE '1970-01-01')
+                   END AS bigint)              AS "sortKey"
+            FROM stores s
+            LEFT JOIN users u ON u.user_id = s.current_supervisor_id
+            LEFT JOIN (
+                SELECT l.store_id,
+                       l.total_score,
+                       CAST(l.inspected_at AT TIME ZONE 'Asia/Seoul' AS date) AS inspected_date
+                FROM store_latest_qsc l
+            ) lq ON lq.store_id = s.store_id
+            WHERE (CAST(:state AS varchar) IS NULL OR s.current_state = CAST(:state AS varchar))
+              AND (
+                    CAST(:keyword AS varchar) IS NULL
+                    OR s.store_name LIKE CONCAT('%', CAST(:keyword AS varchar), '%')
+                    OR u.login_id LIKE CONCAT('%', CAST(:keyword AS varchar), '%')
+                    OR u.user_name LIKE CONCAT('%', CAST(:keyword AS varchar), '%')
+              )
+        ) t
+        WHERE (:hasCursor = FALSE
+               OR (t."sortKey", t."storeName", t."storeId") > (:cursorKey, :cursorName, :cursorId))
+        ORDER BY t."sortKey", t."storeName", t."storeId"
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<StoreListRow> searchStoresForAdmin(
+            @Param("state") String state,
+            @Param("keyword") String keyword,
+            @Param("sort") String sort,
+            @Param("hasCursor") boolean hasCursor,
+            @Param("cursorKey") long cursorKey,
+            @Param("cursorName") String cursorName,
+            @Param("cursorId") long cursorId,
+            @Param("limit") int limit
     );
 
     List<Store> findBySupervisor_Id(Long supervisorId);
@@ -125,6 +226,47 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
 
     //  open한 매장 수
     long countByStoreOperationStatus(String storeOperationStatus);
+
+    // POS 점포 상세 : 접근 권한 확인 + 점포 기본 정보를 쿼리 1번으로
+    // - 범위는 StoreScopeService.getAccessibleStoreIdsByLoginId 와 동일 (ADMIN 전체 / SUPERVISOR 본인 담당 / 그 외 없음)
+    // - 접근 불가 또는 없는 점포면 empty
+    @Query(value = """
+        SELECT s.store_id      AS "storeId",
+               s.store_name    AS "storeName",
+               s.region_code   AS "regionCode",
+               s.current_state AS "currentState"
+        FROM stores s
+        JOIN users u ON u.login_id = :loginId
+        WHERE s.store_id = :storeId
+          AND (u.role = 'ADMIN'
+               OR (u.role = 'SUPERVISOR' AND s.current_supervisor_id = u.user_id))
+    """, nativeQuery = true)
+    Optional<AccessibleStoreRow> findAccessibleStore(
+            @Param("storeId") Long storeId,
+            @Param("loginId") String loginId
+    );
+
+    // 점포 목록 한 줄 (담당 SV 표시 정보 + 최신 QSC + 정렬 키)
+    public interface StoreListRow {
+        Long getStoreId();
+        String getStoreName();
+        String getCurrentState();
+        String getRegionCode();
+        String getSupervisorLoginId();
+        String getSupervisorName();
+        String getSupervisorRegion();
+        Integer getQscScore();
+        LocalDate getLastInspectionDate();
+        Long getSortKey();
+    }
+
+    // 접근 가능한 점포 기본 정보
+    public interface AccessibleStoreRow {
+        Long getStoreId();
+        String getStoreName();
+        String getRegionCode();
+        String getCurrentState();
+    }
 }
 
 
@@ -128,13 +128,6 @@ public class AdminDashboardService {
             prev = cur;
         }
 
-        System.out.println("avgQscTrend size = " + avgQscTrend.size());
-        System.out.println("salesRows size = " + salesRows.size());
-        System.out.println("salesChangeTrend size = " + salesChangeTrend.size());
-
-
-
-
         // =========================
         // 5) 최종 응답
         // =========================
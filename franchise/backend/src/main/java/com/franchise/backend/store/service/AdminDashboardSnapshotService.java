@@ -0,0 +1,169 @@
+package com.franchise.backend.store.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.franchise.backend.store.dto.AdminDashboardSummaryResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 관리자 홈 대시보드 스냅샷
+ * - AdminDashboardService.getAdminSummary() 결과를 메모리에 들고 있다가 그대로 내려준다.
+ * - 정기 갱신(snapshot-refresh-minutes) + 관련 쓰기(점포/이벤트/조치/QSC) 후 markStale() 로 조기 갱신
+ * - 응답 JSON 해시로 ETag를 만들고, 내용이 바뀔 때만 version 증가
+ * - 메트릭: dashboard.admin.snapshot.refresh(Timer), dashboard.admin.snapshot.age / version (Gauge)
+ */
+@Service
+@RequiredArgsConstructor
+public class AdminDashboardSnapshotService {
+
+    private final AdminDashboardService adminDashboardService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${dashboard.admin.snapshot-refresh-minutes:5}")
+    private long refreshMinutes = 5;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+    private final Object refreshLock = new Object();
+
+    private Timer refreshSuccessTimer;
+    private Timer refreshFailureTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        refreshSuccessTimer = Timer.builder("dashboard.admin.snapshot.refresh")
+                .description("관리자 홈 스냅샷 갱신 시간")
+                .tag("result", "success")
+                .register(meterRegistry);
+        refreshFailureTimer = Timer.builder("dashboard.admin.snapshot.refresh")
+                .description("관리자 홈 스냅샷 갱신 시간")
+                .tag("result", "failure")
+                .register(meterRegistry);
+
+        Gauge.builder("dashboard.admin.snapshot.age", this, s -> s.snapshotAgeSeconds())
+                .description("마지막 갱신 이후 경과 시간(초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("dashboard.admin.snapshot.version", this, s -> {
+                    Snapshot snap = s.current.get();
+                    return snap == null ? 0 : snap.version();
+                })
+                .description("스냅샷 내용 버전")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 스냅샷 (아직 한 번도 안 만들어졌으면 지금 생성)
+     */
+    public Snapshot getSnapshot() {
+        Snapshot snap = current.get();
+        return (snap != null) ? snap : refresh();
+    }
+
+    /**
+     * 관련 데이터 변경 알림
+     * - 트랜잭션 안이면 커밋 이후에 stale 처리 (커밋 전 데이터로 갱신되는 것 방지)
+     * - 실제 갱신은 스케줄러가 다음 주기(snapshot-check-ms)에 수행
+     */
+    public void markStale() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stale.set(true);
+                }
+            });
+            return;
+        }
+        stale.set(true);
+    }
+
+    // 변경 감지 or 정기 주기 도래 시 갱신
+    @Scheduled(
+            initialDelayString = "${dashboard.admin.snapshot-check-ms:10000}",
+            fixedDelayString = "${dashboard.admin.snapshot-check-ms:10000}"
+    )
+    public void refreshIfNeeded() {
+        Snapshot snap = current.get();
+        boolean expired = (snap == null)
+                || snap.refreshedAt().plusMinutes(refreshMinutes).isBefore(OffsetDateTime.now());
+
+        if (stale.get() || expired) {
+            try {
+                refresh();
+            } catch (RuntimeException e) {
+                // 실패 시 이전 스냅샷 유지, 다음 주기에 재시도
+            }
+        }
+    }
+
+    /**
+     * 스냅샷 재계산 (동시 호출 시 한 번만 수행)
+     */
+    public Snapshot refresh() {
+        synchronized (refreshLock) {
+            // 갱신 시작 시점에 stale 해제: 갱신 중 들어온 변경은 다음 주기에 다시 반영
+            stale.set(false);
+
+            long startNanos = System.nanoTime();
+            try {
+                AdminDashboardSummaryResponse data = adminDashboardService.getAdminSummary();
+                String etag = computeEtag(data);
+
+                Snapshot prev = current.get();
+                long version = (prev == null) ? 1
+                        : prev.etag().equals(etag) ? prev.version()
+                        : prev.version() + 1;
+
+                Snapshot next = new Snapshot(data, version, etag, OffsetDateTime.now());
+                current.set(next);
+
+                refreshSuccessTimer.record(Duration.ofNanos(System.nanoTime() - startNanos));
+                return next;
+            } catch (RuntimeException e) {
+                stale.set(true);
+                refreshFailureTimer.record(Duration.ofNanos(System.nanoTime() - startNanos));
+                throw e;
+            }
+        }
+    }
+
+    private String computeEtag(AdminDashboardSummaryResponse data) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(data);
+            return "\"admin-summary-" + DigestUtils.md5DigestAsHex(json) + "\"";
+        } catch (JsonProcessingException e) {
+            // 직렬화 실패 시에도 매번 다른 값으로 -> 304 없이 항상 새로 내려줌
+            return "\"admin-summary-" + System.nanoTime() + "\"";
+        }
+    }
+
+    private double snapshotAgeSeconds() {
+        Snapshot snap = current.get();
+        if (snap == null) return 0;
+        return Duration.between(snap.refreshedAt(), OffsetDateTime.now()).toMillis() / 1000.0;
+    }
+
+    public record Snapshot(
+            AdminDashboardSummaryResponse data,
+            long version,
+            String etag,
+            OffsetDateTime refreshedAt
+    ) {}
+}
@@ -1,9 +1,7 @@
 package com.franchise.backend.store.service;
 
-import com.franchise.backend.event.repository.EventLogRepository;
-import com.franchise.backend.qsc.entity.QscMaster;
-import com.franchise.backend.qsc.repository.QscMasterRepository;
 import com.franchise.backend.store.dto.DashboardSummaryResponse;
+import com.franchise.backend.store.dto.StoreListPageResponse;
 import com.franchise.backend.store.dto.StoreListResponse;
 import com.franchise.backend.store.dto.StoreSearchRequest;
 import com.franchise.backend.store.dto.SupervisorDashboardSummaryResponse;
@@ -11,7 +9,11 @@ import com.franchise.backend.store.entity.Store;
 import com.franchise.backend.store.entity.StoreState;
 import com.franchise.backend.store.repository.StoreRepository;
 import lombok.RequiredArgsConstructor;
+import com.franchise.backend.common.time.ServiceTime;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
@@ -22,6 +24,12 @@ import com.franchise.backend.user.entity.Role;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,10 +37,38 @@ import java.util.stream.Collectors;
 public class DashboardService {
 
     private final StoreRepository storeRepository;
-    private final EventLogRepository eventLogRepository; // 기존 팀장 summary에서 사용하던 것 유지
-    private final QscMasterRepository qscMasterRepository;
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
     private final com.franchise.backend.user.repository.UserRepository userRepository;
+    private final Executor dashboardSectionExecutor;
+
+    /**
+     * SV 홈 월별 매출 추이 개월 수 (기본 4)
+     * application.yml 예:
+     * dashboard:
+     *   supervisor:
+     *     sales-trend-months: 6
+     */
+    @Value("${dashboard.supervisor.sales-trend-months:4}")
+    private int salesTrendMonths = 4;
+
+    // SV 홈 섹션 병렬 조회 (false면 순차 실행)
+    @Value("${dashboard.supervisor.parallel-sections:true}")
+    private boolean parallelSections = true;
+
+    // 섹션별 최대 대기시간 (초과 시 해당 섹션만 기본값)
+    @Value("${dashboard.supervisor.section-timeout-ms:2000}")
+    private long sectionTimeoutMs = 2000;
+
+    // 섹션 조회 전용 JdbcTemplate (statement query timeout = 섹션 타임아웃)
+    // - 타임아웃이 지난 조회는 DB 에서 취소돼 풀 스레드 / 커넥션을 바로 돌려줌
+    private NamedParameterJdbcTemplate sectionJdbcTemplate;
+
+    @PostConstruct
+    void initSectionJdbcTemplate() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(namedParameterJdbcTemplate.getJdbcTemplate().getDataSource());
+        jdbcTemplate.setQueryTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(sectionTimeoutMs + 999)));
+        sectionJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
 
 
     // 팀장 홈 대시보드 상단 카드
@@ -47,299 +83,209 @@ public class DashboardService {
         Role role = principal.getRole();
         String loginId = principal.getLoginId();
 
-        // 1) 스코프 storeIds 계산
-        // - ADMIN: null (전체)
-        // - MANAGER: 본인 department 기반 점포들
-        // - SUPERVISOR: 본인 담당 점포들
-        List<Long> scopedStoreIds = resolveScopedStoreIds(role, loginId);
-
-        // 2) 위험 점포 수
-        long riskCount;
-        if (scopedStoreIds == null) {
-            // ADMIN 전체
-            riskCount = storeRepository.countByCurrentState(StoreState.RISK);
-        } else if (scopedStoreIds.isEmpty()) {
-            riskCount = 0;
-        } else {
-            riskCount = storeRepository.countByCurrentStateAndIdIn(StoreState.RISK, scopedStoreIds);
-        }
-
-        // 3) 신규 이벤트 수(최근 48h)
-        OffsetDateTime since48h = OffsetDateTime.now(ZoneOffset.UTC).minusHours(48);
-
-        long newEventCount;
-        if (scopedStoreIds == null) {
-            // ADMIN 전체
-            newEventCount = eventLogRepository.countNewEventsSince(since48h);
-        } else if (scopedStoreIds.isEmpty()) {
-            newEventCount = 0;
-        } else {
-            newEventCount = eventLogRepository.countNewEventsSinceForStores(scopedStoreIds, since48h);
+        if (role == null || loginId == null || loginId.isBlank()) {
+            return new DashboardSummaryResponse(0, 0, 0);
         }
 
-        // 4) 관리 공백 점포 수 (최근 QSC 점검이 30일 초과이거나, 점검 기록이 없는 점포)
-        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.ofHours(9));
-        OffsetDateTime gapThreshold = now.minusDays(30);
-
-        long managementGapCount;
-        if (scopedStoreIds == null) {
-            // ADMIN 전체 기준
-            // (전체 storeIds를 구해서 처리)
-            List<Long> allStoreIds = storeRepository.findAll().stream()
-                    .map(Store::getId)
-                    .toList();
-
-            if (allStoreIds.isEmpty()) {
-                managementGapCount = 0;
-            } else {
-                Map<Long, OffsetDateTime> lastInspectedAtMap = qscMasterRepository
-                        .findLatestCompletedByStoreIds(allStoreIds)
-                        .stream()
-                        .collect(Collectors.toMap(
-                                QscMaster::getStoreId,
-                                QscMaster::getInspectedAt,
-                                (a, b) -> a
-                        ));
-
-                managementGapCount = allStoreIds.stream()
-                        .filter(storeId -> {
-                            OffsetDateTime last = lastInspectedAtMap.get(storeId);
-                            return (last == null) || last.isBefore(gapThreshold);
-                        })
-                        .count();
-            }
-
-        } else if (scopedStoreIds.isEmpty()) {
-            managementGapCount = 0;
-
-        } else {
-            // MANAGER / SUPERVISOR 스코프 기준
-            Map<Long, OffsetDateTime> lastInspectedAtMap = qscMasterRepository
-                    .findLatestCompletedByStoreIds(scopedStoreIds)
-                    .stream()
-                    .collect(Collectors.toMap(
-                            QscMaster::getStoreId,
-                            QscMaster::getInspectedAt,
-                            (a, b) -> a
-                    ));
+        // 스코프(ADMIN 전체 / MANAGER 부서 / SUPERVISOR 담당)를 SQL 안에서 풀어서
+        // 위험 점포 수 / 48h 신규 이벤트 수 / 관리 공백 점포 수를 한 번에 집계
+        String scope = switch (role) {
+            case ADMIN -> "ALL";
+            case MANAGER -> "MANAGER";
+            case SUPERVISOR -> "SUPERVISOR";
+        };
 
-            managementGapCount = scopedStoreIds.stream()
-                    .filter(storeId -> {
-                        OffsetDateTime last = lastInspectedAtMap.get(storeId);
-                        return (last == null) || last.isBefore(gapThreshold);
-                    })
-                    .count();
-        }
+        OffsetDateTime since48h = OffsetDateTime.now(ZoneOffset.UTC).minusHours(48);
 
+        // 관리 공백 점포: 최근 QSC 점검이 30일 초과이거나, 점검 기록이 없는 점포
+        OffsetDateTime gapThreshold = OffsetDateTime.now(ZoneOffset.ofHours(9)).minusDays(30);
 
-        return new DashboardSummaryResponse(riskCount, newEventCount, managementGapCount);
+        return fetchScopedSummary(scope, loginId.trim(), since48h, gapThreshold);
     }
 
-    private List<Long> resolveScopedStoreIds(Role role, String loginId) {
-        if (role == null || loginId == null || loginId.isBlank()) {
-            return List.of();
-        }
-
-        if (role == Role.ADMIN) {
-            return null; // 전체
-        }
-
-        if (role == Role.SUPERVISOR) {
-            return storeRepository.findStoreIdsBySupervisorLoginId(loginId.trim());
-        }
-
-        if (role == Role.MANAGER) {
-            String dept = userRepository.findByLoginId(loginId.trim())
-                    .map(u -> u.getDepartment() == null ? null : u.getDepartment().trim())
-                    .orElse(null);
-
-            if (dept == null || dept.isBlank()) return List.of();
+    private DashboardSummaryResponse fetchScopedSummary(
+            String scope,
+            String loginId,
+            OffsetDateTime since,
+            OffsetDateTime gapThreshold
+    ) {
+        String sql = """
+            WITH scoped AS (
+                SELECT s.store_id, s.current_state
+                FROM stores s
+                LEFT JOIN users sv ON sv.user_id = s.current_supervisor_id
+                WHERE :scope = 'ALL'
+                   OR (:scope = 'SUPERVISOR' AND sv.login_id = :loginId)
+                   OR (:scope = 'MANAGER' AND sv.department = (
+                           SELECT TRIM(m.department)
+                           FROM users m
+                           WHERE m.login_id = :loginId
+                       ))
+            ),
+            last_qsc AS (
+                SELECT l.store_id, l.inspected_at AS last_inspected_at
+                FROM store_latest_qsc l
+                JOIN scoped sc ON sc.store_id = l.store_id
+            )
+            SELECT
+                (SELECT COUNT(*)
+                 FROM scoped
+                 WHERE current_state = 'RISK') AS risk_count,
+
+                (SELECT COUNT(*)
+                 FROM event_log e
+                 JOIN scoped sc ON sc.store_id = e.store_id
+                 WHERE e.occurred_at >= :since) AS new_event_count,
+
+                (SELECT COUNT(*)
+                 FROM scoped sc
+                 LEFT JOIN last_qsc lq ON lq.store_id = sc.store_id
+                 WHERE lq.last_inspected_at IS NULL
+                    OR lq.last_inspected_at < :gapThreshold) AS management_gap_count
+        """;
 
-            return storeRepository.findStoreIdsBySupervisorDepartment(dept);
+        try {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("scope", scope)
+                    .addValue("loginId", loginId)
+                    .addValue("since", since)
+                    .addValue("gapThreshold", gapThreshold);
+
+            return namedParameterJdbcTemplate.queryForObject(sql, params, (rs, rowNum) ->
+                    new DashboardSummaryResponse(
+                            rs.getLong("risk_count"),
+                            rs.getLong("new_event_count"),
+                            rs.getLong("management_gap_count")
+                    ));
+        } catch (DataAccessException e) {
+            return new DashboardSummaryResponse(0, 0, 0);
         }
-
-        return List.of();
     }
 
 
     // 팀장 홈 점포 검색 / 필터 / 정렬 (팀장 부서 기준)
     public List<StoreListResponse> getStoresForManager(String managerLoginId, StoreSearchRequest condition) {
+        return getStorePageForManager(managerLoginId, condition).getItems();
+    }
+
+    // 팀장 홈 점포 목록 (커서 페이지)
+    public StoreListPageResponse getStorePageForManager(String managerLoginId, StoreSearchRequest condition) {
 
         // 안전한 limit
         int safeLimit = normalizeLimit(condition.getLimit());
+        StoreSort sort = normalizeSort(condition.getSort());
+        StoreListCursor cursor = StoreListCursor.decode(condition.getCursor(), sort);
 
         // 팀장 조회 → department 확보
         String loginId = (managerLoginId == null ? null : managerLoginId.trim());
         if (loginId == null || loginId.isBlank()) {
-            return List.of();
+            return new StoreListPageResponse(List.of(), null, false);
         }
 
         String department = userRepository.findByLoginId(loginId)
                 .map(u -> u.getDepartment() == null ? null : u.getDepartment().trim())
                 .orElse(null);
 
-        // DB에서 "상태/키워드 + (SV.department=팀장.department)" 로 후보 조회
-        List<Store> stores = storeRepository.searchStoresForManager(
-                condition.getState(),
+        // DB에서 "상태/키워드 + (SV.department=팀장.department)" + 최신 QSC + 정렬 + limit 까지 한 번에 조회
+        // (다음 페이지 여부 확인용으로 limit + 1건)
+        List<StoreRepository.StoreListRow> rows = storeRepository.searchStoresForManager(
+                condition.getState() == null ? null : condition.getState().name(),
                 normalizeKeyword(condition.getKeyword()),
-                department
+                department,
+                sort.name(),
+                cursor != null,
+                cursor != null ? cursor.sortKey() : 0L,
+                cursor != null ? cursor.storeName() : "",
+                cursor != null ? cursor.storeId() : 0L,
+                safeLimit + 1
         );
 
-        // storeIds
-        List<Long> storeIds = stores.stream()
-                .map(Store::getId)
-                .toList();
-
-        List<QscMaster> qscList = qscMasterRepository.findLatestCompletedByStoreIds(storeIds);
-
-        //System.out.println("QSC FOUND COUNT = " + qscList.size());
-        //qscList.forEach(q ->
-        //        System.out.println(
-        //                "QSC storeId=" + q.getStoreId()
-        //                        + ", score=" + q.getTotalScore()
-        //                        + ", inspectedAt=" + q.getInspectedAt()
-        //        )
-        //);
-
-        // 점포별 최신 COMPLETED QSC 가져오기
-        Map<Long, QscMaster> latestQscMap = storeIds.isEmpty()
-                ? Map.of()
-                : qscMasterRepository.findLatestCompletedByStoreIds(storeIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        QscMaster::getStoreId,
-                        q -> q,
-                        (a, b) -> {
-                            if (a.getInspectedAt() == null) return b;
-                            if (b.getInspectedAt() == null) return a;
-                            return a.getInspectedAt().isAfter(b.getInspectedAt()) ? a : b;
-                        }
-                ));
-
         // StoreListResponse로 변환
-        List<StoreListResponse> rows = stores.stream()
-                .map(s -> {
-                    QscMaster q = latestQscMap.get(s.getId());
-
-                    Integer qscScore = (q != null ? q.getTotalScore() : 0);
-                    LocalDate lastInspectionDate =
-                            (q != null && q.getInspectedAt() != null)
-                                    ? q.getInspectedAt().toLocalDate()
-                                    : null;
-
-
-                    // 점포 리스트에 sv 이름
-                    String supervisorDisplay = "-";
-
-                    // 점포 리스트의 권역 이름
-                    String regionDisplay = (s.getRegionCode() == null || s.getRegionCode().isBlank())
-                            ? "-"
-                            : s.getRegionCode();
-
-                    if (s.getSupervisor() != null) {
-                        // supervisor 표시
-                        String userName = s.getSupervisor().getUserName();
-                        if (userName != null && !userName.isBlank()) {
-                            supervisorDisplay = userName.trim();
-                        } else {
-                            String supervisorLoginId = s.getSupervisor().getLoginId();
-                            supervisorDisplay = (supervisorLoginId == null || supervisorLoginId.isBlank())
-                                    ? "-"
-                                    : supervisorLoginId;
-                        }
-
-                        // region 표시 (users.region)
-                        String userRegion = s.getSupervisor().getRegion();
-                        if (userRegion != null && !userRegion.isBlank()) {
-                            regionDisplay = userRegion.trim();
-                        }
-                    }
-
-
-                    return new StoreListResponse(
-                            s.getId(),
-                            s.getStoreName(),
-                            s.getCurrentState().name(),
-                            regionDisplay,
-                            supervisorDisplay,
-                            qscScore,
-                            lastInspectionDate
-                    );
-                })
-                .collect(Collectors.toList());
+        return StoreListCursor.toPage(rows, safeLimit, sort, r -> {
 
-        // 정렬
-        StoreSort sort = normalizeSort(condition.getSort());
-        rows.sort(sort.getComparator());
+            // 점포 리스트에 sv 이름
+            String supervisorDisplay;
+            String userName = r.getSupervisorName();
+            if (userName != null && !userName.isBlank()) {
+                supervisorDisplay = userName.trim();
+            } else {
+                String supervisorLoginId = r.getSupervisorLoginId();
+                supervisorDisplay = (supervisorLoginId == null || supervisorLoginId.isBlank())
+                        ? "-"
+                        : supervisorLoginId;
+            }
 
-        // limit 적용
-        if (rows.size() > safeLimit) {
-            return rows.subList(0, safeLimit);
-        }
-        return rows;
+            // 점포 리스트의 권역 이름 (users.region 우선, 없으면 store.regionCode)
+            String regionDisplay = (r.getRegionCode() == null || r.getRegionCode().isBlank())
+                    ? "-"
+                    : r.getRegionCode();
+
+            String userRegion = r.getSupervisorRegion();
+            if (userRegion != null && !userRegion.isBlank()) {
+                regionDisplay = userRegion.trim();
+            }
+
+            return new StoreListResponse(
+                    r.getStoreId(),
+                    r.getStoreName(),
+                    r.getCurrentState(),
+                    regionDisplay,
+                    supervisorDisplay,
+                    r.getQscScore(),
+                    r.getLastInspectionDate()
+            );
+        });
     }
 
 
     // ADMIN 점포 목록
     public List<StoreListResponse> getStoresForAdmin(StoreSearchRequest condition) {
+        return getStorePageForAdmin(condition).getItems();
+    }
+
+    // ADMIN 점포 목록 (커서 페이지)
+    public StoreListPageResponse getStorePageForAdmin(StoreSearchRequest condition) {
 
         int safeLimit = normalizeLimit(condition.getLimit());
+        StoreSort sort = normalizeSort(condition.getSort());
+        StoreListCursor cursor = StoreListCursor.decode(condition.getCursor(), sort);
 
-        List<Store> stores = storeRepository.searchStoresForAdmin(
-                condition.getState(),
-                normalizeKeyword(condition.getKeyword())
+        List<StoreRepository.StoreListRow> rows = storeRepository.searchStoresForAdmin(
+                condition.getState() == null ? null : condition.getState().name(),
+                normalizeKeyword(condition.getKeyword()),
+                sort.name(),
+                cursor != null,
+                cursor != null ? cursor.sortKey() : 0L,
+                cursor != null ? cursor.storeName() : "",
+                cursor != null ? cursor.storeId() : 0L,
+                safeLimit + 1
         );
 
-        List<Long> storeIds = stores.stream().map(Store::getId).toList();
+        return StoreListCursor.toPage(rows, safeLimit, sort, r -> {
 
-        Map<Long, QscMaster> latestQscMap = storeIds.isEmpty()
-                ? Map.of()
-                : qscMasterRepository.findLatestCompletedByStoreIds(storeIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        QscMaster::getStoreId,
-                        q -> q,
-                        (a, b) -> a.getInspectedAt().isAfter(b.getInspectedAt()) ? a : b
-                ));
-
-        List<StoreListResponse> rows = stores.stream()
-                .map(s -> {
-                    QscMaster q = latestQscMap.get(s.getId());
-
-                    Integer qscScore = (q != null ? q.getTotalScore() : 0);
-                    LocalDate lastInspectionDate =
-                            (q != null && q.getInspectedAt() != null)
-                                    ? q.getInspectedAt().toLocalDate()
-                                    : null;
-
-                    String supervisorDisplay = "-";
-                    String regionDisplay = "-";
-
-                    if (s.getSupervisor() != null) {
-                        supervisorDisplay = Optional.ofNullable(s.getSupervisor().getUserName())
-                                .filter(v -> !v.isBlank())
-                                .orElse(s.getSupervisor().getLoginId());
-
-                        regionDisplay = Optional.ofNullable(s.getSupervisor().getRegion())
-                                .orElse(s.getRegionCode());
-                    }
-
-                    return new StoreListResponse(
-                            s.getId(),
-                            s.getStoreName(),
-                            s.getCurrentState().name(),
-                            regionDisplay,
-                            supervisorDisplay,
-                            qscScore,
-                            lastInspectionDate
-                    );
-                })
-                .toList();
+            String supervisorDisplay = "-";
+            String regionDisplay = "-";
 
-        StoreSort sort = normalizeSort(condition.getSort());
-        rows = rows.stream().sorted(sort.getComparator()).toList();
+            // 담당 SV 있는 점포만 SV 기준 표시
+            if (r.getSupervisorLoginId() != null) {
+                supervisorDisplay = Optional.ofNullable(r.getSupervisorName())
+                        .filter(v -> !v.isBlank())
+                        .orElse(r.getSupervisorLoginId());
+
+                regionDisplay = Optional.ofNullable(r.getSupervisorRegion())
+                        .orElse(r.getRegionCode());
+            }
 
-        return rows.size() > safeLimit ? rows.subList(0, safeLimit) : rows;
+            return new StoreListResponse(
+                    r.getStoreId(),
+                    r.getStoreName(),
+                    r.getCurrentState(),
+                    regionDisplay,
+                    supervisorDisplay,
+                    r.getQscScore(),
+                    r.getLastInspectionDate()
+            );
+        });
     }
 
 
@@ -360,22 +306,19 @@ public class DashboardService {
         long assignedStoreCount = stores.size();
         long riskStoreCount = stores.stream().filter(s -> s.getCurrentState() == StoreState.RISK).count();
 
+        // 2) ~ 8) 중 DB 조회 섹션은 서로 독립이라 dashboardSectionExecutor 에서 병렬로 돌린다.
+        //    섹션별 타임아웃 / 실패 시 해당 섹션만 기본값(0, 빈 목록)으로 내려준다.
+
         // 2) 최근 이벤트(48h) - event_log 테이블 native count
-        long recentEventCount = countRecentEvents48h(storeIds);
+        CompletableFuture<Long> recentEventCountF =
+                section(() -> countRecentEvents48h(storeIds), 0L);
 
         // 3) 미이행 조치 - actions 테이블 native count
-        long pendingActionCount = countPendingActions(storeIds);
-
-        // 4) 등급(상태) 분포
-        long normal = stores.stream().filter(s -> s.getCurrentState() == StoreState.NORMAL).count();
-        long watch = stores.stream().filter(s -> s.getCurrentState() == StoreState.WATCHLIST).count();
-        long risk = riskStoreCount;
+        CompletableFuture<Long> pendingActionCountF =
+                section(() -> countPendingActions(storeIds), 0L);
 
-        SupervisorDashboardSummaryResponse.StateDistribution dist =
-                new SupervisorDashboardSummaryResponse.StateDistribution(normal, watch, risk);
-
-        // 5) 평균 위험 점수 추이(최근 4주) - 현재는 stores.current_state_score 평균을 4주 라벨로 내려줌
-        //    (추후 risk_score_history 테이블 붙이면 주차별 실제 추이로 바꾸면 됨)
+        // 5) 평균 위험 점수 추이(최근 4주) - store_risk_score_daily 이력 기준
+        //    이력이 없는 주차는 현재 stores.current_state_score 평균으로 채움
         double avgRiskScore = stores.stream()
                 .map(Store::getCurrentStateScore)
                 .filter(Objects::nonNull)
@@ -383,19 +326,35 @@ public class DashboardService {
                 .average()
                 .orElse(0.0);
 
-        List<SupervisorDashboardSummaryResponse.TrendPoint> weeklyRiskTrend = List.of(
-                new SupervisorDashboardSummaryResponse.TrendPoint("1주", avgRiskScore),
-                new SupervisorDashboardSummaryResponse.TrendPoint("2주", avgRiskScore),
-                new SupervisorDashboardSummaryResponse.TrendPoint("3주", avgRiskScore),
-                new SupervisorDashboardSummaryResponse.TrendPoint("4주", avgRiskScore)
-        );
+        CompletableFuture<List<SupervisorDashboardSummaryResponse.TrendPoint>> weeklyRiskTrendF =
+                section(() -> getWeeklyAvgRiskScoreTrend(storeIds, avgRiskScore), flatWeeklyTrend(avgRiskScore));
 
-        // 6) 평균 매출 변화율 추이(프로젝트 기준 월 고정: 2025-05 ~ 2025-08)
-        List<SupervisorDashboardSummaryResponse.TrendPoint> monthlySalesTrend =
-                getMonthlyAvgSalesChangeRateTrend(storeIds);
+        // 6) 평균 매출 변화율 추이(ServiceTime 기준 최근 N개월)
+        CompletableFuture<List<SupervisorDashboardSummaryResponse.TrendPoint>> monthlySalesTrendF =
+                section(() -> getMonthlyAvgSalesChangeRateTrend(storeIds), getMonthlyAvgSalesChangeRateTrend(List.of()));
 
         // 7) 방문 현황(이번 달): "이번 달 QSC COMPLETED"가 1건 이상 있으면 방문 완료로 간주
-        VisitAgg visitAgg = getVisitStatusByQscThisMonth(storeIds);
+        CompletableFuture<VisitAgg> visitAggF =
+                section(() -> getVisitStatusByQscThisMonth(storeIds), new VisitAgg(0, storeIds.size()));
+
+        // 8) 최근 방문 점포(최근 QSC 기준)
+        CompletableFuture<List<SupervisorDashboardSummaryResponse.RecentVisitedStore>> recentVisitedStoresF =
+                section(() -> getRecentVisitedStoresByLatestQsc(storeIds, stores, 5), List.of());
+
+        // 4) 등급(상태) 분포
+        long normal = stores.stream().filter(s -> s.getCurrentState() == StoreState.NORMAL).count();
+        long watch = stores.stream().filter(s -> s.getCurrentState() == StoreState.WATCHLIST).count();
+        long risk = riskStoreCount;
+
+        SupervisorDashboardSummaryResponse.StateDistribution dist =
+                new SupervisorDashboardSummaryResponse.StateDistribution(normal, watch, risk);
+
+        long recentEventCount = recentEventCountF.join();
+        List<SupervisorDashboardSummaryResponse.TrendPoint> weeklyRiskTrend = weeklyRiskTrendF.join();
+        long pendingActionCount = pendingActionCountF.join();
+        List<SupervisorDashboardSummaryResponse.TrendPoint> monthlySalesTrend = monthlySalesTrendF.join();
+
+        VisitAgg visitAgg = visitAggF.join();
         int rate = (visitAgg.total == 0) ? 0 : (int) Math.round((visitAgg.completed * 100.0) / visitAgg.total);
 
         SupervisorDashboardSummaryResponse.VisitStatus visitStatus =
@@ -405,9 +364,8 @@ public class DashboardService {
                         Math.max(0, Math.min(rate, 100))
                 );
 
-        // 8) 최근 방문 점포(최근 QSC 기준)
         List<SupervisorDashboardSummaryResponse.RecentVisitedStore> recentVisitedStores =
-                getRecentVisitedStoresByLatestQsc(storeIds, stores, 5);
+                recentVisitedStoresF.join();
 
         return new SupervisorDashboardSummaryResponse(
                 assignedStoreCount,
@@ -422,22 +380,47 @@ public class DashboardService {
         );
     }
 
+    // 대시보드 섹션 실행
+    // - 병렬 모드: dashboardSectionExecutor 에서 실행, 타임아웃/예외 시 fallback
+    //   타임아웃이면 작업도 취소 (큐에서 대기 중이면 실행 안 함, 실행 중이면 interrupt + statement timeout)
+    //   풀이 가득 차면 요청 스레드에서 대신 돌리지 않고 바로 fallback (응답 시간 상한 유지)
+    // - 순차 모드: 요청 스레드에서 바로 실행 (예외 시 fallback)
+    private <T> CompletableFuture<T> section(Supplier<T> task, T fallback) {
+        if (!parallelSections) {
+            try {
+                return CompletableFuture.completedFuture(task.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.completedFuture(fallback);
+            }
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        FutureTask<Void> job = new FutureTask<>(() -> {
+            try {
+                result.complete(task.get());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }, null);
+
+        try {
+            dashboardSectionExecutor.execute(job);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(fallback);
+        }
+
+        return result.orTimeout(sectionTimeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((v, e) -> {
+                    if (e != null) job.cancel(true);
+                })
+                .exceptionally(e -> fallback);
+    }
+
     private SupervisorDashboardSummaryResponse emptySupervisorSummary() {
         return new SupervisorDashboardSummaryResponse(
                 0, 0, 0, 0,
-                List.of(
-                        new SupervisorDashboardSummaryResponse.TrendPoint("1주", 0.0),
-                        new SupervisorDashboardSummaryResponse.TrendPoint("2주", 0.0),
-                        new SupervisorDashboardSummaryResponse.TrendPoint("3주", 0.0),
-                        new SupervisorDashboardSummaryResponse.TrendPoint("4주", 0.0)
-                ),
-                // 프로젝트 기준 월(더미데이터 존재 구간)으로 고정
-                List.of(
-                        new SupervisorDashboardSummaryResponse.TrendPoint("5월", 0.0),
-                        new SupervisorDashboardSummaryResponse.TrendPoint("6월", 0.0),
-                        new SupervisorDashboardSummaryResponse.TrendPoint("7월", 0.0),
-                        new SupervisorDashboardSummaryResponse.TrendPoint("8월", 0.0)
-                ),
+                flatWeeklyTrend(0.0),
+                getMonthlyAvgSalesChangeRateTrend(List.of()),
                 new SupervisorDashboardSummaryResponse.StateDistribution(0, 0, 0),
                 new SupervisorDashboardSummaryResponse.VisitStatus(0, 0, 0),
                 List.of()
@@ -461,7 +444,7 @@ public class DashboardService {
                     .addValue("storeIds", storeIds)
                     .addValue("since", since48h);
 
-            Long v = namedParameterJdbcTemplate.queryForObject(sql, params, Long.class);
+            Long v = sectionJdbcTemplate.queryForObject(sql, params, Long.class);
             return (v == null ? 0 : v);
         } catch (DataAccessException e) {
             return 0;
@@ -481,7 +464,7 @@ public class DashboardService {
         try {
             MapSqlParameterSource params = new MapSqlParameterSource()
                     .addValue("storeIds", storeIds);
-            Long v = namedParameterJdbcTemplate.queryForObject(sql, params, Long.class);
+            Long v = sectionJdbcTemplate.queryForObject(sql, params, Long.class);
             return (v == null ? 0 : v);
         } catch (DataAccessException e) {
             return 0;
@@ -489,35 +472,109 @@ public class DashboardService {
     }
 
     /**
-     * 프로젝트 기준 월 고정:
-     * - 더미데이터 범위가 2025-03-01 ~ 2025-08-31 이므로
-     * - "최근 4개월"을 시스템 현재월(2026-01) 기준으로 잡으면 전부 0이 나옴
-     * - 그래서 SV 홈 매출 추이는 2025-05, 06, 07, 08 로 고정한다.
+     * SV 홈 위험 점수 추이: DB 의 오늘(KST) 을 4주차 말일로 하는 최근 4주
+     * - store_risk_score_daily 는 트리거가 DB now()(KST) 날짜로 적재하므로 조회 기준일도 같은 시계를 씀
+     *   (고정된 ServiceTime.today() 로 자르면 실제 점수 변경이 전부 창 밖으로 밀려 추이에 안 보임)
+     * - store_risk_score_daily 는 점수가 바뀐 날만 있으므로, 주차 말일 시점에 유효한(가장 최근) 값을 점포별로 골라 평균
+     * - 1주차 말일(today - 21) 이후 이력은 (store_id, score_date) PK 범위로,
+     *   그 전 값은 점포별 "1주차 말일 이전 마지막 1행"(LATERAL, PK 역순 LIMIT 1)으로만 읽는다 -> 전체 이력 스캔 없음
      */
-    private List<SupervisorDashboardSummaryResponse.TrendPoint> getMonthlyAvgSalesChangeRateTrend(List<Long> storeIds) {
+    private List<SupervisorDashboardSummaryResponse.TrendPoint> getWeeklyAvgRiskScoreTrend(
+            List<Long> storeIds,
+            double fallbackScore
+    ) {
+        if (storeIds == null || storeIds.isEmpty()) return flatWeeklyTrend(fallbackScore);
 
-        if (storeIds == null || storeIds.isEmpty()) {
-            return List.of(
-                    new SupervisorDashboardSummaryResponse.TrendPoint("5월", 0.0),
-                    new SupervisorDashboardSummaryResponse.TrendPoint("6월", 0.0),
-                    new SupervisorDashboardSummaryResponse.TrendPoint("7월", 0.0),
-                    new SupervisorDashboardSummaryResponse.TrendPoint("8월", 0.0)
-            );
+        String sql = """
+            WITH anchor AS (
+                SELECT CAST(now() AT TIME ZONE 'Asia/Seoul' AS date) AS today
+            ),
+            seed AS (
+                SELECT h.store_id, h.score_date, h.risk_score
+                FROM anchor a
+                CROSS JOIN stores st
+                CROSS JOIN LATERAL (
+                    SELECT d.store_id, d.score_date, d.risk_score
+                    FROM store_risk_score_daily d
+                    WHERE d.store_id = st.store_id
+                      AND d.score_date <= a.today - 21
+                    ORDER BY d.score_date DESC
+                    LIMIT 1
+                ) h
+                WHERE st.store_id IN (:storeIds)
+            ),
+            recent AS (
+                SELECT d.store_id, d.score_date, d.risk_score
+                FROM anchor a
+                JOIN store_risk_score_daily d
+                  ON d.score_date > a.today - 21
+                 AND d.score_date <= a.today
+                WHERE d.store_id IN (:storeIds)
+            ),
+            series AS (
+                SELECT x.store_id,
+                       x.score_date,
+                       x.risk_score,
+                       LEAD(x.score_date) OVER (PARTITION BY x.store_id ORDER BY x.score_date) AS next_date
+                FROM (
+                    SELECT * FROM seed
+                    UNION ALL
+                    SELECT * FROM recent
+                ) x
+            ),
+            weeks AS (
+                SELECT wk, a.today - (4 - wk) * 7 AS week_end
+                FROM anchor a
+                CROSS JOIN generate_series(1, 4) AS wk
+            )
+            SELECT w.wk, AVG(s.risk_score) AS avg_score
+            FROM weeks w
+            LEFT JOIN series s
+                   ON s.score_date <= w.week_end
+                  AND (s.next_date IS NULL OR s.next_date > w.week_end)
+            GROUP BY w.wk
+            ORDER BY w.wk
+        """;
+
+        try {
+            MapSqlParameterSource params = new MapSqlParameterSource("storeIds", storeIds);
+
+            return sectionJdbcTemplate.query(sql, params, (rs, rowNum) -> {
+                double avg = rs.getDouble("avg_score");
+                if (rs.wasNull()) avg = fallbackScore;
+                return new SupervisorDashboardSummaryResponse.TrendPoint(rs.getInt("wk") + "주", avg);
+            });
+        } catch (DataAccessException e) {
+            return flatWeeklyTrend(fallbackScore);
         }
+    }
 
-        // 고정 월: 2025-05 ~ 2025-08
-        List<YearMonth> yms = List.of(
-                YearMonth.of(2025, 5),
-                YearMonth.of(2025, 6),
-                YearMonth.of(2025, 7),
-                YearMonth.of(2025, 8)
+    private List<SupervisorDashboardSummaryResponse.TrendPoint> flatWeeklyTrend(double value) {
+        return List.of(
+                new SupervisorDashboardSummaryResponse.TrendPoint("1주", value),
+                new SupervisorDashboardSummaryResponse.TrendPoint("2주", value),
+                new SupervisorDashboardSummaryResponse.TrendPoint("3주", value),
+                new SupervisorDashboardSummaryResponse.TrendPoint("4주", value)
         );
+    }
 
-        // 월별 총매출
+    /**
+     * SV 홈 매출 추이: ServiceTime.today() 가 속한 월까지 최근 N개월 (기본 4개월)
+     * - 서비스 기준일이 2025-08-31로 고정되어 있어 더미데이터 구간(2025-05 ~ 08)이 그대로 나온다.
+     * - 월별 총매출은 pos_daily 한 번의 GROUP BY 로 조회
+     */
+    private List<SupervisorDashboardSummaryResponse.TrendPoint> getMonthlyAvgSalesChangeRateTrend(List<Long> storeIds) {
+
+        List<YearMonth> yms = salesTrendYearMonths();
+
+        // 월별 총매출 (매출 없는 달은 0)
         Map<YearMonth, Double> monthlySales = new LinkedHashMap<>();
         for (YearMonth ym : yms) {
-            double total = sumMonthlySales(storeIds, ym);
-            monthlySales.put(ym, total);
+            monthlySales.put(ym, 0.0);
+        }
+
+        if (storeIds != null && !storeIds.isEmpty()) {
+            monthlySales.putAll(sumMonthlySales(storeIds, yms.get(0), yms.get(yms.size() - 1)));
         }
 
         // 변화율(전월 대비) : 첫 달은 0 처리
@@ -541,28 +598,43 @@ public class DashboardService {
         return points;
     }
 
-    private double sumMonthlySales(List<Long> storeIds, YearMonth ym) {
-        LocalDate start = ym.atDay(1);
-        LocalDate end = ym.atEndOfMonth();
+    private List<YearMonth> salesTrendYearMonths() {
+        int months = Math.max(1, Math.min(salesTrendMonths, 24));
+        YearMonth last = YearMonth.from(ServiceTime.today());
+
+        List<YearMonth> yms = new ArrayList<>();
+        for (int i = months - 1; i >= 0; i--) {
+            yms.add(last.minusMonths(i));
+        }
+        return yms;
+    }
+
+    private Map<YearMonth, Double> sumMonthlySales(List<Long> storeIds, YearMonth from, YearMonth to) {
 
         String sql = """
-            SELECT COALESCE(SUM(sales_amount), 0)
+            SELECT CAST(DATE_TRUNC('month', business_date) AS date) AS month_start,
+                   COALESCE(SUM(sales_amount), 0) AS total_sales
             FROM pos_daily
             WHERE store_id IN (:storeIds)
               AND business_date >= :startDate
               AND business_date < :endDate
+            GROUP BY 1
         """;
 
         try {
             MapSqlParameterSource params = new MapSqlParameterSource()
                     .addValue("storeIds", storeIds)
-                    .addValue("startDate", start)
-                    .addValue("endDate", end);
+                    .addValue("startDate", from.atDay(1))
+                    .addValue("endDate", to.plusMonths(1).atDay(1));
 
-            Double v = namedParameterJdbcTemplate.queryForObject(sql, params, Double.class);
-            return (v == null ? 0.0 : v);
+            Map<YearMonth, Double> result = new HashMap<>();
+            sectionJdbcTemplate.query(sql, params, rs -> {
+                YearMonth ym = YearMonth.from(rs.getObject("month_start", LocalDate.class));
+                result.put(ym, rs.getDouble("total_sales"));
+            });
+            return result;
         } catch (DataAccessException e) {
-            return 0.0;
+            return Map.of();
         }
     }
 
@@ -600,7 +672,7 @@ public class DashboardService {
                     .addValue("from", from)
                     .addValue("to", to);
 
-            Long visitedStoreCnt = namedParameterJdbcTemplate.queryForObject(sql, params, Long.class);
+            Long visitedStoreCnt = sectionJdbcTemplate.queryForObject(sql, params, Long.class);
             long visited = (visitedStoreCnt == null ? 0 : visitedStoreCnt);
             return new VisitAgg(visited, storeIds.size());
         } catch (DataAccessException e) {
@@ -619,12 +691,10 @@ public class DashboardService {
                 .collect(Collectors.toMap(Store::getId, Store::getStoreName, (a, b) -> a));
 
         String sql = """
-            SELECT store_id, MAX(inspected_at) AS last_inspected_at
-            FROM qsc_master
+            SELECT store_id, inspected_at AS last_inspected_at
+            FROM store_latest_qsc
             WHERE store_id IN (:storeIds)
-              AND status = 'COMPLETED'
-            GROUP BY store_id
-            ORDER BY last_inspected_at DESC
+            ORDER BY inspected_at DESC
             LIMIT :limit
         """;
 
@@ -635,7 +705,7 @@ public class DashboardService {
 
             DateTimeFormatter fmt = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 
-            return namedParameterJdbcTemplate.query(sql, params, (rs, rowNum) -> {
+            return sectionJdbcTemplate.query(sql, params, (rs, rowNum) -> {
                 long storeId = rs.getLong("store_id");
                 OffsetDateTime visitedAt = rs.getObject("last_inspected_at", OffsetDateTime.class);
 
@@ -666,42 +736,6 @@ public class DashboardService {
     }
 
     private StoreSort normalizeSort(String sort) {
-        if (sort == null || sort.isBlank()) return StoreSort.INSPECTED_AT_DESC;
-        try {
-            return StoreSort.valueOf(sort.trim().toUpperCase());
-        } catch (Exception e) {
-            return StoreSort.INSPECTED_AT_DESC;
-        }
-    }
-
-    // Sort enum (서버에서 강제)
-    private enum StoreSort {
-        QSC_SCORE_DESC(Comparator
-                .comparing(StoreListResponse::getQscScore, Comparator.nullsLast(Comparator.naturalOrder()))
-                .reversed()
-                .thenComparing(StoreListResponse::getStoreName, Comparator.nullsLast(Comparator.naturalOrder()))),
-
-        QSC_SCORE_ASC(Comparator
-                .comparing(StoreListResponse::getQscScore, Comparator.nullsLast(Comparator.naturalOrder()))
-                .thenComparing(StoreListResponse::getStoreName, Comparator.nullsLast(Comparator.naturalOrder()))),
-
-        INSPECTED_AT_DESC(Comparator
-                .comparing(StoreListResponse::getLastInspectionDate, Comparator.nullsLast(Comparator.naturalOrder()))
-                .reversed()
-                .thenComparing(StoreListResponse::getStoreName, Comparator.nullsLast(Comparator.naturalOrder()))),
-
-        INSPECTED_AT_ASC(Comparator
-                .comparing(StoreListResponse::getLastInspectionDate, Comparator.nullsLast(Comparator.naturalOrder()))
-                .thenComparing(StoreListResponse::getStoreName, Comparator.nullsLast(Comparator.naturalOrder())));
-
-        private final Comparator<StoreListResponse> comparator;
-
-        StoreSort(Comparator<StoreListResponse> comparator) {
-            this.comparator = comparator;
-        }
-
-        public Comparator<StoreListResponse> getComparator() {
-            return comparator;
-        }
+        return StoreSort.from(sort, StoreSort.INSPECTED_AT_DESC);
     }
 }
@@ -0,0 +1,68 @@
+package com.franchise.backend.store.service;
+
+import com.franchise.backend.store.dto.StoreListPageResponse;
+import com.franchise.backend.store.dto.StoreListResponse;
+import com.franchise.backend.store.repository.StoreRepository.StoreListRow;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+// 점포 목록 keyset 커서
+// - 마지막 행의 (sortKey, storeName, storeId)를 정렬 기준과 함께 Base64로 감싼 값
+// - 정렬이 바뀌면 이전 커서는 사용할 수 없다
+record StoreListCursor(StoreSort sort, long sortKey, long storeId, String storeName) {
+
+    static StoreListCursor decode(String cursor, StoreSort sort) {
+        if (cursor == null || cursor.isBlank()) return null;
+
+        StoreListCursor decoded;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+
+            decoded = new StoreListCursor(
+                    StoreSort.valueOf(parts[0]),
+                    Long.parseLong(parts[1]),
+                    Long.parseLong(parts[2]),
+                    parts[3]
+            );
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("cursor 값이 올바르지 않습니다.", e);
+        }
+
+        if (decoded.sort() != sort) {
+            throw new IllegalArgumentException("정렬 기준이 바뀌어 커서를 사용할 수 없습니다.");
+        }
+        return decoded;
+    }
+
+    String encode() {
+        String raw = sort.name() + "|" + sortKey + "|" + storeId + "|" + storeName;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // limit + 1 건을 조회해서 다음 페이지 존재 여부를 판단
+    static StoreListPageResponse toPage(
+            List<StoreListRow> rows,
+            int limit,
+            StoreSort sort,
+            Function<StoreListRow, StoreListResponse> mapper
+    ) {
+        boolean hasNext = rows.size() > limit;
+        List<StoreListRow> pageRows = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            StoreListRow last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new StoreListCursor(sort, last.getSortKey(), last.getStoreId(), last.getStoreName()).encode();
+        }
+
+        return new StoreListPageResponse(
+                pageRows.stream().map(mapper).toList(),
+                nextCursor,
+                hasNext
+        );
+    }
+}
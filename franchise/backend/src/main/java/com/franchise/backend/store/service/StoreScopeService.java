@@ -5,10 +5,17 @@ import com.franchise.backend.user.entity.Role;
 import com.franchise.backend.user.entity.User;
 import com.franchise.backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -18,6 +25,24 @@ public class StoreScopeService {
     private final UserRepository userRepository;
     private final StoreRepository storeRepository;
 
+    // loginId -> (role, department, 활성 여부)
+    // - owner-ttl-seconds 가 지나면 다시 조회 -> 역할 / 부서 변경 / 비활성화가 TTL 안에 반영
+    //   (바뀐 role / department 는 아래 storeIdsCache 의 다른 키가 되므로 옛 범위를 쓰지 않음)
+    private final Map<String, ScopeOwner> ownerCache = new ConcurrentHashMap<>();
+
+    // (loginId, role, department) -> 접근 가능한 storeIds
+    // 점포 생성 / 담당 SV 변경 시 evictAll()로 전체 무효화
+    // - ownerCache 와 같은 TTL: evictAll 직후 ~ 커밋 전 사이에 옛 범위가 다시 적재돼도 TTL 안에 사라짐
+    private final Map<ScopeKey, ScopeIds> storeIdsCache = new ConcurrentHashMap<>();
+
+    // ownerCache / storeIdsCache 공통 유지 시간
+    @Value("${store.scope.owner-ttl-seconds:60}")
+    private long ownerTtlSeconds = 60;
+
+    // 캐시별 최대 항목 수 (넘으면 해당 캐시를 비우고 다시 채움)
+    @Value("${store.scope.max-entries:10000}")
+    private int maxEntries = 10000;
+
     /**
      * 로그인한 사용자가 접근 가능한 점포 ID 목록 반환
      *
@@ -31,22 +56,162 @@ public class StoreScopeService {
             throw new IllegalArgumentException("loginId must not be blank");
         }
 
-        User user = userRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + loginId));
+        String safeLoginId = loginId.trim();
 
-        Role role = user.getRole();
+        ScopeOwner owner = findOwner(safeLoginId);
+        if (owner == null) {
+            throw new IllegalArgumentException("User not found: " + loginId);
+        }
+
+        // 비활성 계정은 범위 없음
+        if (!owner.active()) {
+            return List.of();
+        }
 
         // ✅ ADMIN: 모든 점포
-        if (role == Role.ADMIN) {
-            return storeRepository.findAllStoreIds();
+        if (owner.role() == Role.ADMIN) {
+            return cachedStoreIds(ScopeKey.ALL, storeRepository::findAllStoreIds);
         }
 
         // ✅ SUPERVISOR: 본인 담당 점포
-        if (role == Role.SUPERVISOR) {
-            return storeRepository.findStoreIdsBySupervisorLoginId(loginId);
+        if (owner.role() == Role.SUPERVISOR) {
+            return supervisorStoreIds(safeLoginId);
         }
 
         // 그 외 역할(MANAGER 등)
         return List.of();
     }
+
+    /**
+     * Role별 스코프 storeIds 반환 (대시보드 / 이벤트 / 조치 공통)
+     * - ADMIN: null (전체 범위 -> 쿼리에서 필터 미적용)
+     * - MANAGER: 본인 department와 같은 SV가 담당하는 점포들
+     * - SUPERVISOR: 본인이 담당하는 점포들
+     */
+    public List<Long> resolveScopedStoreIds(Role role, String loginId) {
+        if (role == null || loginId == null || loginId.isBlank()) {
+            return List.of();
+        }
+
+        String safeLoginId = loginId.trim();
+
+        // 토큰의 role 과 현재 계정 상태가 다르면(역할 변경 / 비활성화) 범위 없음
+        ScopeOwner owner = findOwner(safeLoginId);
+        if (owner == null || !owner.active() || owner.role() != role) {
+            return List.of();
+        }
+
+        if (role == Role.ADMIN) {
+            return null;
+        }
+
+        if (role == Role.SUPERVISOR) {
+            return supervisorStoreIds(safeLoginId);
+        }
+
+        if (role == Role.MANAGER) {
+            String department = owner.department();
+
+            if (department == null || department.isBlank()) {
+                return List.of();
+            }
+
+            return cachedStoreIds(
+                    new ScopeKey(safeLoginId, Role.MANAGER, department),
+                    () -> storeRepository.findStoreIdsBySupervisorDepartment(department)
+            );
+        }
+
+        return List.of();
+    }
+
+    /**
+     * 스코프 캐시 전체 무효화
+     * - 점포 생성 / 담당 SV 변경 시 호출
+     * - 트랜잭션 안이면 커밋 이후에 한 번 더 비워서, 커밋 전 재적재된 값이 남지 않게 한다.
+     */
+    public void evictAll() {
+        clearCaches();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clearCaches();
+                }
+            });
+        }
+    }
+
+    /**
+     * 사용자 1명 무효화 (역할 / 부서 / 계정 상태를 바꾸는 경로에서 호출)
+     */
+    public void evictUser(String loginId) {
+        if (loginId == null) return;
+        String safeLoginId = loginId.trim();
+        ownerCache.remove(safeLoginId);
+        storeIdsCache.keySet().removeIf(k -> safeLoginId.equals(k.loginId()));
+    }
+
+    private List<Long> supervisorStoreIds(String loginId) {
+        return cachedStoreIds(
+                new ScopeKey(loginId, Role.SUPERVISOR, null),
+                () -> storeRepository.findStoreIdsBySupervisorLoginId(loginId)
+        );
+    }
+
+    private List<Long> cachedStoreIds(ScopeKey key, Supplier<List<Long>> loader) {
+        long now = System.nanoTime();
+        ScopeIds cached = storeIdsCache.get(key);
+        if (cached != null && isFresh(cached.loadedNanos(), now)) {
+            return cached.storeIds();
+        }
+        if (storeIdsCache.size() >= maxEntries) {
+            storeIdsCache.clear();
+        }
+        List<Long> storeIds = List.copyOf(loader.get());
+        storeIdsCache.put(key, new ScopeIds(storeIds, now));
+        return storeIds;
+    }
+
+    // 존재하지 않는 사용자는 캐시하지 않는다 (null 반환)
+    private ScopeOwner findOwner(String loginId) {
+        long now = System.nanoTime();
+        ScopeOwner cached = ownerCache.get(loginId);
+        if (cached != null && isFresh(cached.loadedNanos(), now)) {
+            return cached;
+        }
+
+        User user = userRepository.findByLoginId(loginId).orElse(null);
+        if (user == null) {
+            ownerCache.remove(loginId);
+            return null;
+        }
+
+        String department = (user.getDepartment() == null ? null : user.getDepartment().trim());
+        ScopeOwner owner = new ScopeOwner(user.getRole(), department,
+                !Boolean.FALSE.equals(user.getAccountStatus()), now);
+        if (ownerCache.size() >= maxEntries) {
+            ownerCache.clear();
+        }
+        ownerCache.put(loginId, owner);
+        return owner;
+    }
+
+    private boolean isFresh(long loadedNanos, long now) {
+        return now - loadedNanos < Duration.ofSeconds(ownerTtlSeconds).toNanos();
+    }
+
+    private void clearCaches() {
+        storeIdsCache.clear();
+        ownerCache.clear();
+    }
+
+    private record ScopeOwner(Role role, String department, boolean active, long loadedNanos) {}
+
+    private record ScopeIds(List<Long> storeIds, long loadedNanos) {}
+
+    private record ScopeKey(String loginId, Role role, String department) {
+        static final ScopeKey ALL = new ScopeKey(null, Role.ADMIN, null);
+    }
 }
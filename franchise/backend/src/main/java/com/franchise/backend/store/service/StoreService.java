@@ -1,9 +1,8 @@
 package com.franchise.backend.store.service;
 
 import com.franchise.backend.pos.repository.PosDailyRepository;
-import com.franchise.backend.qsc.entity.QscMaster;
-import com.franchise.backend.qsc.repository.QscMasterRepository;
 import com.franchise.backend.store.dto.StoreDetailResponse;
+import com.franchise.backend.store.dto.StoreListPageResponse;
 import com.franchise.backend.store.dto.StoreListResponse;
 import com.franchise.backend.store.dto.StoreSearchRequest;
 import com.franchise.backend.store.dto.StoreUpdateRequest;
@@ -37,7 +36,8 @@ public class StoreService {
     private final StoreRepository storeRepository;
     private final UserRepository userRepository;
     private final PosDailyRepository posDailyRepository;
-    private final QscMasterRepository qscMasterRepository;
+    private final StoreScopeService storeScopeService;
+    private final AdminDashboardSnapshotService adminDashboardSnapshotService;
 
     // 점포 상세(가게 정보 탭 포함)
     @Transactional(readOnly = true)
@@ -110,6 +110,9 @@ public class StoreService {
                         ));
                 store.changeSupervisor(supervisor);
             }
+
+            // 담당 SV 변경 -> 권한 스코프 캐시 무효화
+            storeScopeService.evictAll();
         }
 
         if (request.getCurrentState() != null) {
@@ -127,16 +130,25 @@ public class StoreService {
 
         storeRepository.save(store);
 
+        // 관리자 홈(점포 수 / 위험 점포) 갱신
+        adminDashboardSnapshotService.markStale();
+
         return getStoreDetail(storeId);
     }
 
     // sv 점포 목록 (+ 필터 / 정렬 / 검색)
     @Transactional(readOnly = true)
     public List<StoreListResponse> getStoresForSupervisor(String supervisorLoginId, StoreSearchRequest condition) {
+        return getStorePageForSupervisor(supervisorLoginId, condition).getItems();
+    }
+
+    // sv 점포 목록 (커서 페이지)
+    @Transactional(readOnly = true)
+    public StoreListPageResponse getStorePageForSupervisor(String supervisorLoginId, StoreSearchRequest condition) {
 
         String loginId = (supervisorLoginId == null ? null : supervisorLoginId.trim());
         if (loginId == null || loginId.isBlank()) {
-            return List.of();
+            return new StoreListPageResponse(List.of(), null, false);
         }
 
         // 안전한 limit
@@ -144,79 +156,51 @@ public class StoreService {
 
         StoreState state = (condition != null ? condition.getState() : null);
         String keyword = normalizeKeyword(condition != null ? condition.getKeyword() : null);
-
-        // 1) DB에서 후보 점포 조회 (내 담당 + 상태 + 키워드)
-        List<Store> stores = storeRepository.searchStoresForSupervisor(loginId, state, keyword);
-
-        // 2) storeIds
-        List<Long> storeIds = stores.stream().map(Store::getId).toList();
-
-        // 3) 점포별 최신 COMPLETED QSC (점수/점검일)
-        Map<Long, QscMaster> latestQscMap = storeIds.isEmpty()
-                ? Map.of()
-                : qscMasterRepository.findLatestCompletedByStoreIds(storeIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        QscMaster::getStoreId,
-                        q -> q,
-                        (a, b) -> {
-                            if (a.getInspectedAt() == null) return b;
-                            if (b.getInspectedAt() == null) return a;
-                            return a.getInspectedAt().isAfter(b.getInspectedAt()) ? a : b;
-                        }
-                ));
-
-        // 4) DTO 변환
-        List<StoreListResponse> rows = stores.stream()
-                .map(s -> {
-                    QscMaster q = latestQscMap.get(s.getId());
-
-                    Integer qscScore = (q != null ? q.getTotalScore() : 0);
-                    LocalDate lastInspectionDate =
-                            (q != null && q.getInspectedAt() != null)
-                                    ? q.getInspectedAt().toLocalDate()
-                                    : null;
-
-                    // UI 지역: users.region(담당 SV 기준)을 우선 사용 (없으면 store.regionCode)
-                    String regionDisplay = (s.getSupervisor() != null
-                            && s.getSupervisor().getRegion() != null
-                            && !s.getSupervisor().getRegion().isBlank())
-                            ? s.getSupervisor().getRegion().trim()
-                            : (s.getRegionCode() == null || s.getRegionCode().isBlank() ? "-" : s.getRegionCode());
-
-                    // 담당 SV: 이름 우선, 없으면 loginId
-                    String supervisorDisplay = "-";
-                    if (s.getSupervisor() != null) {
-                        String userName = s.getSupervisor().getUserName();
-                        if (userName != null && !userName.isBlank()) {
-                            supervisorDisplay = userName.trim();
-                        } else {
-                            String svLogin = s.getSupervisor().getLoginId();
-                            supervisorDisplay = (svLogin == null || svLogin.isBlank()) ? "-" : svLogin;
-                        }
-                    }
-
-                    return new StoreListResponse(
-                            s.getId(),
-                            s.getStoreName(),
-                            s.getCurrentState().name(),
-                            regionDisplay,
-                            supervisorDisplay,
-                            qscScore,
-                            lastInspectionDate
-                    );
-                })
-                .collect(Collectors.toList());
-
-        // 5) 정렬
         StoreSort sort = normalizeSort(condition != null ? condition.getSort() : null);
-        rows.sort(sort.getComparator());
+        StoreListCursor cursor = StoreListCursor.decode(condition != null ? condition.getCursor() : null, sort);
+
+        // 1) DB에서 내 담당 + 상태 + 키워드 + 최신 COMPLETED QSC + 정렬 + limit 까지 한 번에 조회
+        //    (다음 페이지 여부 확인용으로 limit + 1건)
+        List<StoreRepository.StoreListRow> rows = storeRepository.searchStoresForSupervisor(
+                loginId,
+                state == null ? null : state.name(),
+                keyword,
+                sort.name(),
+                cursor != null,
+                cursor != null ? cursor.sortKey() : 0L,
+                cursor != null ? cursor.storeName() : "",
+                cursor != null ? cursor.storeId() : 0L,
+                safeLimit + 1
+        );
 
-        // 6) limit
-        if (rows.size() > safeLimit) {
-            return rows.subList(0, safeLimit);
-        }
-        return rows;
+        // 2) DTO 변환
+        return StoreListCursor.toPage(rows, safeLimit, sort, r -> {
+
+            // UI 지역: users.region(담당 SV 기준)을 우선 사용 (없으면 store.regionCode)
+            String regionDisplay = (r.getSupervisorRegion() != null && !r.getSupervisorRegion().isBlank())
+                    ? r.getSupervisorRegion().trim()
+                    : (r.getRegionCode() == null || r.getRegionCode().isBlank() ? "-" : r.getRegionCode());
+
+            // 담당 SV: 이름 우선, 없으면 loginId
+            String supervisorDisplay;
+            String userName = r.getSupervisorName();
+            if (userName != null && !userName.isBlank()) {
+                supervisorDisplay = userName.trim();
+            } else {
+                String svLogin = r.getSupervisorLoginId();
+                supervisorDisplay = (svLogin == null || svLogin.isBlank()) ? "-" : svLogin;
+            }
+
+            return new StoreListResponse(
+                    r.getStoreId(),
+                    r.getStoreName(),
+                    r.getCurrentState(),
+                    regionDisplay,
+                    supervisorDisplay,
+                    r.getQscScore(),
+                    r.getLastInspectionDate()
+            );
+        });
     }
 
 
@@ -264,45 +248,8 @@ public class StoreService {
     }
 
     private StoreSort normalizeSort(String sort) {
-        if (sort == null || sort.isBlank()) {
-            // SV 화면 기본값이 "QSC 점수 높은순"이라면 이게 더 자연스러움
-            return StoreSort.QSC_SCORE_DESC;
-        }
-        try {
-            return StoreSort.valueOf(sort.trim().toUpperCase());
-        } catch (Exception e) {
-            return StoreSort.QSC_SCORE_DESC;
-        }
-    }
-
-    private enum StoreSort {
-        QSC_SCORE_DESC(Comparator
-                .comparing(StoreListResponse::getQscScore, Comparator.nullsLast(Comparator.naturalOrder()))
-                .reversed()
-                .thenComparing(StoreListResponse::getStoreName, Comparator.nullsLast(Comparator.naturalOrder()))),
-
-        QSC_SCORE_ASC(Comparator
-                .comparing(StoreListResponse::getQscScore, Comparator.nullsLast(Comparator.naturalOrder()))
-                .thenComparing(StoreListResponse::getStoreName, Comparator.nullsLast(Comparator.naturalOrder()))),
-
-        INSPECTED_AT_DESC(Comparator
-                .comparing(StoreListResponse::getLastInspectionDate, Comparator.nullsLast(Comparator.naturalOrder()))
-                .reversed()
-                .thenComparing(StoreListResponse::getStoreName, Comparator.nullsLast(Comparator.naturalOrder()))),
-
-        INSPECTED_AT_ASC(Comparator
-                .comparing(StoreListResponse::getLastInspectionDate, Comparator.nullsLast(Comparator.naturalOrder()))
-                .thenComparing(StoreListResponse::getStoreName, Comparator.nullsLast(Comparator.naturalOrder())));
-
-        private final Comparator<StoreListResponse> comparator;
-
-        StoreSort(Comparator<StoreListResponse> comparator) {
-            this.comparator = comparator;
-        }
-
-        public Comparator<StoreListResponse> getComparator() {
-            return comparator;
-        }
+        // SV 화면 기본값은 "QSC 점수 높은순"
+        return StoreSort.from(sort, StoreSort.QSC_SCORE_DESC);
     }
 
 
@@ -388,6 +335,10 @@ public class StoreService {
 
         storeRepository.save(store);
 
+        // 신규 점포 -> 권한 스코프 캐시 무효화 / 관리자 홈 갱신
+        storeScopeService.evictAll();
+        adminDashboardSnapshotService.markStale();
+
         // ===== 기존 상세 응답 재사용 =====
         return getStoreDetail(store.getId());
     }
@@ -0,0 +1,22 @@
+package com.franchise.backend.store.service;
+
+// 점포 목록 정렬 (서버에서 강제)
+// - 실제 정렬은 StoreRepository 목록 쿼리의 sortKey(CASE :sort)로 DB에서 처리
+// - QSC 점수: 점검 기록 없으면 0점
+// - 최근 점검일: 최신순이면 미점검 점포가 맨 앞, 오래된순이면 맨 뒤
+// - 동점이면 점포명 오름차순
+enum StoreSort {
+    QSC_SCORE_DESC,
+    QSC_SCORE_ASC,
+    INSPECTED_AT_DESC,
+    INSPECTED_AT_ASC;
+
+    static StoreSort from(String sort, StoreSort defaultSort) {
+        if (sort == null || sort.isBlank()) return defaultSort;
+        try {
+            return StoreSort.valueOf(sort.trim().toUpperCase());
+        } catch (Exception e) {
+            return defaultSort;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.franchise.backend.user.repository;
 import com.franchise.backend.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import com.franchise.backend.user.entity.Role;
@@ -33,6 +34,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
             String department
     );
 
+    // 여러 department 팀장 한 번에 조회 (이벤트 일괄 upsert 용, department 별 첫 행 사용)
+    List<User> findByRoleAndDepartmentInAndAccountStatusTrueOrderByIdAsc(
+            Role role,
+            Collection<String> departments
+    );
+
 
 
 
@@ -0,0 +1,37 @@
+-- 점포별 최신 COMPLETED QSC 점검 (점포당 1행)
+-- - QscInspectionCommandService.save 에서 COMPLETED 저장 시 갱신
+-- - 대시보드 / 점포 목록 / 위험 화면은 qsc_master MAX(inspected_at) 대신 이 테이블을 store_id로 조인
+CREATE TABLE store_latest_qsc (
+    store_id      BIGINT PRIMARY KEY,
+    inspection_id BIGINT NOT NULL,
+    total_score   INTEGER,
+    grade         VARCHAR(1),
+    inspected_at  TIMESTAMPTZ NOT NULL,
+    updated_at    TIMESTAMPTZ NOT NULL DEFAULT now(),
+
+    CONSTRAINT fk_store_latest_qsc_store
+        FOREIGN KEY (store_id) REFERENCES stores(store_id),
+
+    CONSTRAINT fk_store_latest_qsc_inspection
+        FOREIGN KEY (inspection_id) REFERENCES qsc_master(inspection_id)
+);
+
+-- 최근 점검순 정렬용
+CREATE INDEX ix_store_latest_qsc_inspected_at ON store_latest_qsc(inspected_at DESC);
+
+-- 기존 데이터 백필 (동일 시각이면 inspection_id 큰 것)
+INSERT INTO store_latest_qsc (store_id, inspection_id, total_score, grade, inspected_at)
+SELECT DISTINCT ON (qm.store_id)
+       qm.store_id,
+       qm.inspection_id,
+       qm.total_score,
+       qm.grade,
+       qm.inspected_at
+FROM qsc_master qm
+WHERE qm.status = 'COMPLETED'
+ORDER BY qm.store_id, qm.inspected_at DESC, qm.inspection_id DESC;
+
+-- qsc_master를 직접 보는 나머지 조회(점포별 점검 이력 / 이번 달 방문)용
+CREATE INDEX IF NOT EXISTS ix_qsc_master_store_completed_inspected
+    ON qsc_master(store_id, inspected_at DESC)
+    WHERE status = 'COMPLETED';
@@ -0,0 +1,82 @@
+-- 점포별 일자별 위험 점수 이력 (변경이 있던 날만 1행)
+-- - stores.current_state_score 가 바뀌거나 risk_score_snapshot 이 쌓일 때 트리거로 적재
+-- - 같은 날 여러 번 바뀌면 마지막 값으로 덮어씀
+-- - 조회 시 "주차 말일 기준 가장 최근 값"을 이어 붙여서 추이를 만든다 (carry forward)
+CREATE TABLE store_risk_score_daily (
+    store_id    BIGINT NOT NULL,
+    score_date  DATE NOT NULL,
+    risk_score  INTEGER NOT NULL,
+    updated_at  TIMESTAMPTZ NOT NULL DEFAULT now(),
+
+    CONSTRAINT pk_store_risk_score_daily PRIMARY KEY (store_id, score_date),
+
+    CONSTRAINT fk_store_risk_score_daily_store
+        FOREIGN KEY (store_id) REFERENCES stores(store_id)
+);
+
+
+-- 1) 공통 upsert
+CREATE OR REPLACE FUNCTION upsert_store_risk_score_daily(p_store_id BIGINT, p_score_date DATE, p_score INTEGER)
+RETURNS VOID AS $$
+BEGIN
+    IF p_score IS NULL THEN
+        RETURN;
+    END IF;
+
+    INSERT INTO store_risk_score_daily (store_id, score_date, risk_score, updated_at)
+    VALUES (p_store_id, p_score_date, p_score, now())
+    ON CONFLICT (store_id, score_date) DO UPDATE
+       SET risk_score = EXCLUDED.risk_score,
+           updated_at = EXCLUDED.updated_at;
+END;
+$$ LANGUAGE plpgsql;
+
+
+-- 2) stores.current_state_score 변경 시
+CREATE OR REPLACE FUNCTION trg_stores_risk_score_daily()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' OR NEW.current_state_score IS DISTINCT FROM OLD.current_state_score THEN
+        PERFORM upsert_store_risk_score_daily(
+            NEW.store_id,
+            CAST(now() AT TIME ZONE 'Asia/Seoul' AS date),
+            NEW.current_state_score
+        );
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER stores_risk_score_daily
+    AFTER INSERT OR UPDATE OF current_state_score ON stores
+    FOR EACH ROW
+    EXECUTE FUNCTION trg_stores_risk_score_daily();
+
+
+-- 3) risk_score_snapshot 적재 시 (기준일 = risk_base_date, 없으면 생성일)
+CREATE OR REPLACE FUNCTION trg_risk_snapshot_score_daily()
+RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM upsert_store_risk_score_daily(
+        NEW.store_id,
+        COALESCE(NEW.risk_base_date, CAST(NEW.risk_created_at AT TIME ZONE 'Asia/Seoul' AS date)),
+        (SELECT s.current_state_score FROM stores s WHERE s.store_id = NEW.store_id)
+    );
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER risk_snapshot_score_daily
+    AFTER INSERT ON risk_score_snapshot
+    FOR EACH ROW
+    EXECUTE FUNCTION trg_risk_snapshot_score_daily();
+
+
+-- 4) 초기값: 현재 점수를 개점일(없으면 생성일)부터 유효한 값으로 적재
+INSERT INTO store_risk_score_daily (store_id, score_date, risk_score)
+SELECT s.store_id,
+       CAST(COALESCE(s.opened_at, s.created_at) AS date),
+       s.current_state_score
+FROM stores s
+WHERE s.current_state_score IS NOT NULL
+ON CONFLICT (store_id, score_date) DO NOTHING;
@@ -0,0 +1,7 @@
+-- pos_period_agg 증분 집계(PosPeriodAggregationService)로 행이 제자리 갱신되므로
+-- 마지막 재집계 시각을 남긴다 (대시보드 ETag 데이터 버전에 사용)
+ALTER TABLE pos_period_agg
+    ADD COLUMN IF NOT EXISTS updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW();
+
+UPDATE pos_period_agg
+   SET updated_at = created_at;
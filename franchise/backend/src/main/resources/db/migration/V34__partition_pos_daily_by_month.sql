@@ -0,0 +1,116 @@
+/* =========================================================
+   V34__partition_pos_daily_by_month.sql
+   - pos_daily 를 business_date 월 단위 RANGE 파티션 테이블로 전환
+   - 기간 조회(business_date BETWEEN ...)는 해당 월 파티션만 읽도록 (partition pruning)
+   - (store_id, business_date) 유니크 인덱스에 합계 컬럼을 INCLUDE -> 합계 쿼리는 index-only scan 가능
+   - 새 월 파티션 생성 / 기본 파티션 정리: pos_daily_ensure_partition(월)
+     (PosDailyPartitionJob 이 미리 만들고, 보존 기간이 지난 파티션은 pos_archive 스키마로 분리)
+   ========================================================= */
+
+-- 0) 보관(archive) 스키마
+CREATE SCHEMA IF NOT EXISTS pos_archive;
+
+-- 1) 기존 테이블을 비켜두기 (PK 인덱스 / 인덱스 이름 충돌 방지, 시퀀스는 새 테이블이 이어서 사용)
+ALTER TABLE pos_daily RENAME TO pos_daily_legacy;
+ALTER TABLE pos_daily_legacy RENAME CONSTRAINT pos_daily_pkey TO pos_daily_legacy_pkey;
+DROP INDEX IF EXISTS ux_pos_daily_store_date;
+DROP INDEX IF EXISTS ix_pos_daily_store_date;
+ALTER SEQUENCE pos_daily_pos_daily_id_seq OWNED BY NONE;
+
+-- 2) 파티션 부모 테이블 (파티션 키 business_date 가 PK 에 포함되어야 함)
+CREATE TABLE pos_daily (
+    pos_daily_id     BIGINT NOT NULL DEFAULT nextval('pos_daily_pos_daily_id_seq'),
+
+    store_id         BIGINT NOT NULL REFERENCES stores(store_id),
+    business_date    DATE   NOT NULL,
+
+    sales_amount     NUMERIC(18,2) NOT NULL DEFAULT 0,
+    order_count      INTEGER       NOT NULL DEFAULT 0,
+
+    cogs_amount      NUMERIC(18,2) NOT NULL DEFAULT 0,
+    margin_amount    NUMERIC(18,2) NOT NULL DEFAULT 0,
+
+    is_missing       BOOLEAN NOT NULL DEFAULT FALSE,
+    missing_policy   VARCHAR(30) NULL,
+
+    is_abnormal      BOOLEAN NOT NULL DEFAULT FALSE,
+    abnormal_type    VARCHAR(50) NULL,
+    abnormal_reason  TEXT NULL,
+
+    created_at       TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    updated_at       TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+
+    PRIMARY KEY (pos_daily_id, business_date)
+) PARTITION BY RANGE (business_date);
+
+ALTER SEQUENCE pos_daily_pos_daily_id_seq OWNED BY pos_daily.pos_daily_id;
+
+-- 점포+일자 유니크 (ON CONFLICT 대상) + 합계 컬럼 커버링
+CREATE UNIQUE INDEX ux_pos_daily_store_date
+ON pos_daily (store_id, business_date)
+INCLUDE (sales_amount, order_count, margin_amount, cogs_amount, is_missing);
+
+-- 범위 밖 일자 수용용 (잡이 해당 월 파티션을 만들면서 옮겨감)
+CREATE TABLE pos_daily_default PARTITION OF pos_daily DEFAULT;
+
+-- 3) 월 파티션 생성 함수
+--    - 이미 있으면 그대로, 기본 파티션에 들어간 해당 월 행은 새 파티션으로 옮긴 뒤 ATTACH
+CREATE OR REPLACE FUNCTION pos_daily_ensure_partition(p_month DATE)
+RETURNS TEXT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_start DATE := CAST(date_trunc('month', p_month) AS date);
+    v_end   DATE := CAST(date_trunc('month', p_month) + INTERVAL '1 month' AS date);
+    v_name  TEXT := 'pos_daily_p' || to_char(p_month, 'YYYYMM');
+BEGIN
+    IF to_regclass('public.' || v_name) IS NOT NULL THEN
+        RETURN v_name;
+    END IF;
+
+    EXECUTE format('CREATE TABLE public.%I (LIKE pos_daily INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', v_name);
+    EXECUTE format('INSERT INTO public.%I SELECT * FROM pos_daily_default WHERE business_date >= %L AND business_date < %L',
+                   v_name, v_start, v_end);
+    EXECUTE format('DELETE FROM pos_daily_default WHERE business_date >= %L AND business_date < %L',
+                   v_start, v_end);
+    EXECUTE format('ALTER TABLE pos_daily ATTACH PARTITION public.%I FOR VALUES FROM (%L) TO (%L)',
+                   v_name, v_start, v_end);
+    RETURN v_name;
+END;
+$$;
+
+-- 4) 기존 데이터 기간 ~ 3개월 뒤까지 월 파티션 생성
+DO $$
+DECLARE
+    v_month DATE;
+    v_last  DATE;
+BEGIN
+    SELECT CAST(date_trunc('month', COALESCE(MIN(business_date), CURRENT_DATE)) AS date),
+           CAST(date_trunc('month', GREATEST(COALESCE(MAX(business_date), CURRENT_DATE), CURRENT_DATE))
+                + INTERVAL '3 month' AS date)
+      INTO v_month, v_last
+      FROM pos_daily_legacy;
+
+    WHILE v_month <= v_last LOOP
+        PERFORM pos_daily_ensure_partition(v_month);
+        v_month := CAST(v_month + INTERVAL '1 month' AS date);
+    END LOOP;
+END;
+$$;
+
+-- 5) 데이터 이관 후 기존 테이블 삭제
+INSERT INTO pos_daily (
+    pos_daily_id, store_id, business_date,
+    sales_amount, order_count, cogs_amount, margin_amount,
+    is_missing, missing_policy, is_abnormal, abnormal_type, abnormal_reason,
+    created_at, updated_at
+)
+SELECT pos_daily_id, store_id, business_date,
+       sales_amount, order_count, cogs_amount, margin_amount,
+       is_missing, missing_policy, is_abnormal, abnormal_type, abnormal_reason,
+       created_at, updated_at
+  FROM pos_daily_legacy;
+
+DROP TABLE pos_daily_legacy;
+
+ANALYZE pos_daily;
@@ -0,0 +1,38 @@
+/* =========================================================
+   V35__create_notification_outbox.sql
+   - 이벤트 upsert 트랜잭션은 알림 대신 outbox 행만 기록 (같은 트랜잭션이라 이벤트와 함께 커밋/롤백)
+   - NotificationOutboxDispatchJob 이 PENDING 행을 묶음으로 꺼내 notification 생성
+     (FOR UPDATE SKIP LOCKED 로 여러 인스턴스가 나눠 처리, 실패 시 next_attempt_at 백오프 후 재시도)
+   - max-attempts 를 넘긴 행은 FAILED 로 남김 / SENT 행은 retention-days 이후 삭제
+   - 시각 컬럼은 notification / event_log 와 같은 TIMESTAMPTZ (TIMESTAMP 면 드라이버가 UTC 로 읽어 세션 시간대만큼 밀림)
+   ========================================================= */
+
+CREATE TABLE notification_outbox (
+    outbox_id        BIGSERIAL PRIMARY KEY,
+
+    group_id         BIGINT NOT NULL,
+    event_id         BIGINT,
+    user_id          BIGINT NOT NULL,
+
+    noti_type        VARCHAR(20)  NOT NULL,
+    title            VARCHAR(255) NOT NULL,
+    body             TEXT         NOT NULL,
+
+    status           VARCHAR(20)  NOT NULL DEFAULT 'PENDING',   -- PENDING / SENT / FAILED
+    attempts         INTEGER      NOT NULL DEFAULT 0,
+    next_attempt_at  TIMESTAMPTZ  NOT NULL DEFAULT now(),
+    last_error       TEXT,
+
+    created_at       TIMESTAMPTZ  NOT NULL DEFAULT now(),
+    dispatched_at    TIMESTAMPTZ
+);
+
+-- 디스패처 조회: 처리 대기 행만 (발송 완료 행이 쌓여도 인덱스 크기 유지)
+CREATE INDEX ix_notification_outbox_pending
+    ON notification_outbox (next_attempt_at, outbox_id)
+    WHERE status = 'PENDING';
+
+-- 보존 기간 정리
+CREATE INDEX ix_notification_outbox_sent
+    ON notification_outbox (dispatched_at)
+    WHERE status = 'SENT';
@@ -0,0 +1,21 @@
+-- risk_score_snapshot 트리거: 소급(backdated) 스냅샷은 일자별 점수 이력에 적재하지 않음
+-- - 스냅샷에는 점수가 없어서 적재 값은 stores.current_state_score(지금 점수)뿐
+-- - risk_base_date 가 생성일(KST)보다 과거면 지금 점수를 과거 날짜에 덮어써서 추이를 왜곡하므로 건너뜀
+--   (그날의 점수 변화는 stores 트리거가 이미 변경 당일 날짜로 남김)
+CREATE OR REPLACE FUNCTION trg_risk_snapshot_score_daily()
+RETURNS TRIGGER AS $$
+DECLARE
+    v_created_date DATE := CAST(NEW.risk_created_at AT TIME ZONE 'Asia/Seoul' AS date);
+BEGIN
+    IF NEW.risk_base_date IS NOT NULL AND NEW.risk_base_date < v_created_date THEN
+        RETURN NEW;
+    END IF;
+
+    PERFORM upsert_store_risk_score_daily(
+        NEW.store_id,
+        COALESCE(NEW.risk_base_date, v_created_date),
+        (SELECT s.current_state_score FROM stores s WHERE s.store_id = NEW.store_id)
+    );
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
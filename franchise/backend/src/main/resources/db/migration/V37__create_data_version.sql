@@ -0,0 +1,66 @@
+-- 대시보드 ETag 용 테이블별 데이터 버전 카운터
+-- - 추적 테이블에 INSERT / UPDATE / DELETE 문이 실행될 때마다 문장 단위 트리거로 +1
+--   (행 수와 무관하게 문장당 1번, 상태 변경(ACK -> CLOSED) / 누적 갱신도 모두 버전이 바뀜)
+-- - 카운터 증가는 데이터 변경과 같은 트랜잭션 -> 커밋된 데이터와 버전이 항상 함께 보임
+-- - 같은 테이블을 동시에 쓰는 트랜잭션끼리 한 행 락을 기다리지 않도록 backend pid 기준 16개 shard 로 나눔
+--   조회: SUM(version) GROUP BY table_name (PK 범위, 최대 16행 x 테이블 수)
+CREATE TABLE data_version (
+    table_name  VARCHAR(64) NOT NULL,
+    shard       SMALLINT NOT NULL,
+    version     BIGINT NOT NULL DEFAULT 0,
+
+    CONSTRAINT pk_data_version PRIMARY KEY (table_name, shard)
+);
+
+CREATE OR REPLACE FUNCTION trg_bump_data_version()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO data_version (table_name, shard, version)
+    VALUES (TG_TABLE_NAME, pg_backend_pid() % 16, 1)
+    ON CONFLICT (table_name, shard) DO UPDATE
+       SET version = data_version.version + 1;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+
+CREATE TRIGGER stores_data_version
+    AFTER INSERT OR UPDATE OR DELETE ON stores
+    FOR EACH STATEMENT EXECUTE FUNCTION trg_bump_data_version();
+
+CREATE TRIGGER users_data_version
+    AFTER INSERT OR UPDATE OR DELETE ON users
+    FOR EACH STATEMENT EXECUTE FUNCTION trg_bump_data_version();
+
+CREATE TRIGGER event_log_data_version
+    AFTER INSERT OR UPDATE OR DELETE ON event_log
+    FOR EACH STATEMENT EXECUTE FUNCTION trg_bump_data_version();
+
+CREATE TRIGGER actions_data_version
+    AFTER INSERT OR UPDATE OR DELETE ON actions
+    FOR EACH STATEMENT EXECUTE FUNCTION trg_bump_data_version();
+
+CREATE TRIGGER qsc_master_data_version
+    AFTER INSERT OR UPDATE OR DELETE ON qsc_master
+    FOR EACH STATEMENT EXECUTE FUNCTION trg_bump_data_version();
+
+CREATE TRIGGER store_latest_qsc_data_version
+    AFTER INSERT OR UPDATE OR DELETE ON store_latest_qsc
+    FOR EACH STATEMENT EXECUTE FUNCTION trg_bump_data_version();
+
+-- 파티션 부모에 건 문장 트리거는 부모를 대상으로 한 문장에서 발동 (파티션 분리/보관은 시간 버킷으로 반영)
+CREATE TRIGGER pos_daily_data_version
+    AFTER INSERT OR UPDATE OR DELETE ON pos_daily
+    FOR EACH STATEMENT EXECUTE FUNCTION trg_bump_data_version();
+
+CREATE TRIGGER pos_period_agg_data_version
+    AFTER INSERT OR UPDATE OR DELETE ON pos_period_agg
+    FOR EACH STATEMENT EXECUTE FUNCTION trg_bump_data_version();
+
+CREATE TRIGGER risk_score_snapshot_data_version
+    AFTER INSERT OR UPDATE OR DELETE ON risk_score_snapshot
+    FOR EACH STATEMENT EXECUTE FUNCTION trg_bump_data_version();
+
+CREATE TRIGGER store_risk_score_daily_data_version
+    AFTER INSERT OR UPDATE OR DELETE ON store_risk_score_daily
+    FOR EACH STATEMENT EXECUTE FUNCTION trg_bump_data_version();
@@ -0,0 +1,13 @@
+-- POS 이상 감지 평가 기록 (pos_period_agg 행당 1행)
+-- - 배치가 매일 돌아도 같은 기간 행은 한 번만 평가 -> 같은 이탈로 occurrence_count / 알림 단계가 부풀지 않음
+-- - agg_updated_at: 평가할 때 본 pos_period_agg.updated_at
+--   늦게 들어온 매출로 행이 재집계되면(updated_at 증가) 다시 평가 대상이 됨
+CREATE TABLE pos_anomaly_evaluation (
+    pos_period_agg_id  BIGINT PRIMARY KEY,
+    agg_updated_at     TIMESTAMPTZ NOT NULL,
+    evaluated_at       TIMESTAMPTZ NOT NULL DEFAULT now(),
+
+    CONSTRAINT fk_pos_anomaly_evaluation_agg
+        FOREIGN KEY (pos_period_agg_id) REFERENCES pos_period_agg(pos_period_agg_id)
+        ON DELETE CASCADE
+);
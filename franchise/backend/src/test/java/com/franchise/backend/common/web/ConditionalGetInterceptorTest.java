@@ -0,0 +1,107 @@
+package com.franchise.backend.common.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// 대시보드 조건부 GET 회귀 테스트
+// - 데이터 버전이 같으면 304 + 핸들러 미호출, 바뀌면 새 ETag로 200
+// - 재검증 값이 없는 요청은 버전 조회(DB) 없이 마지막으로 읽은 버전으로 ETag 발급
+class ConditionalGetInterceptorTest {
+
+    private DataVersionService dataVersionService;
+    private ConditionalGetInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        dataVersionService = mock(DataVersionService.class);
+        interceptor = new ConditionalGetInterceptor(dataVersionService);
+    }
+
+    @Test
+    void sameVersion_returnsNotModified() throws Exception {
+        when(dataVersionService.lastKnownVersion(any())).thenReturn("v1");
+        when(dataVersionService.currentVersion(any())).thenReturn("v1");
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(get(null), first, handler("dashboard")));
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(get("W/" + etag), second, handler("dashboard")));
+        assertEquals(304, second.getStatus());
+        assertEquals(etag, second.getHeader(HttpHeaders.ETAG));
+
+        verify(dataVersionService, times(1)).lastKnownVersion(EnumSet.of(DataTable.STORES, DataTable.POS_DAILY));
+        verify(dataVersionService, times(1)).currentVersion(EnumSet.of(DataTable.STORES, DataTable.POS_DAILY));
+    }
+
+    @Test
+    void withoutValidator_skipsVersionQuery() throws Exception {
+        when(dataVersionService.lastKnownVersion(any())).thenReturn("v1");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(get(null), response, handler("dashboard")));
+        assertNotNull(response.getHeader(HttpHeaders.ETAG));
+
+        verify(dataVersionService, never()).currentVersion(any());
+    }
+
+    @Test
+    void changedVersion_proceedsWithNewEtag() throws Exception {
+        when(dataVersionService.lastKnownVersion(any())).thenReturn("v1");
+        when(dataVersionService.currentVersion(any())).thenReturn("v2");
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        interceptor.preHandle(get(null), first, handler("dashboard"));
+        String etag = first.getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(get(etag), second, handler("dashboard")));
+        assertNotEquals(etag, second.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void handlerWithoutAnnotation_isUntouched() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(get("*"), response, handler("plain")));
+        assertNull(response.getHeader(HttpHeaders.ETAG));
+        verifyNoInteractions(dataVersionService);
+    }
+
+    private static MockHttpServletRequest get(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/pos/supervisor/dashboard");
+        request.setQueryString("periodType=WEEK");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return request;
+    }
+
+    private static HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new SampleController(), SampleController.class.getMethod(name));
+    }
+
+    static class SampleController {
+
+        @ConditionalGet({DataTable.POS_DAILY, DataTable.STORES})
+        public String dashboard() {
+            return "ok";
+        }
+
+        public String plain() {
+            return "ok";
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.franchise.backend.common.web;
+
+import com.franchise.backend.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// data_version 트리거 (V37) 확인
+// - 상태만 바뀌는 갱신(ACK -> CLOSED), 최종 발생 시각이 그대로인 누적 갱신도 버전이 바뀐다
+// - 다른 테이블 변경은 해당 묶음의 버전을 바꾸지 않는다
+class DataVersionServiceTest extends PostgresIntegrationTest {
+
+    private static final Set<DataTable> EVENTS = EnumSet.of(DataTable.EVENT_LOG);
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void statusChangeAndAccumulateBumpVersion() {
+        Long eventId = jdbcTemplate.queryForObject("SELECT MIN(event_id) FROM event_log", Long.class);
+        assertNotNull(eventId);
+
+        String before = dataVersionService.currentVersion(EVENTS);
+
+        jdbcTemplate.update("UPDATE event_log SET status = 'CLOSED' WHERE event_id = ?", eventId);
+        String afterStatus = dataVersionService.currentVersion(EVENTS);
+        assertNotEquals(before, afterStatus);
+
+        jdbcTemplate.update("UPDATE event_log SET occurrence_count = occurrence_count + 1,"
+                + " last_occurrence_at = GREATEST(last_occurrence_at, last_occurrence_at - interval '1 day')"
+                + " WHERE event_id = ?", eventId);
+        assertNotEquals(afterStatus, dataVersionService.currentVersion(EVENTS));
+    }
+
+    @Test
+    void otherTableDoesNotChangeVersion() {
+        String before = dataVersionService.currentVersion(EVENTS);
+
+        jdbcTemplate.update("UPDATE stores SET store_name = store_name WHERE store_id = 1");
+
+        assertEquals(before, dataVersionService.currentVersion(EVENTS));
+        assertEquals(before, dataVersionService.lastKnownVersion(EVENTS));
+    }
+}
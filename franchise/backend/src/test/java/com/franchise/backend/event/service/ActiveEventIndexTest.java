@@ -0,0 +1,101 @@
+package com.franchise.backend.event.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 활성 이벤트 인덱스 테스트
+// - 적재 전에는 bypass, 적재 후에는 맵 조회
+// - 재적재 도중 반영된 변경은 재적재 결과로 덮어쓰지 않음
+class ActiveEventIndexTest {
+
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private ActiveEventIndex index;
+
+    @BeforeEach
+    void setUp() {
+        namedParameterJdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        index = new ActiveEventIndex(namedParameterJdbcTemplate, meterRegistry);
+        index.registerMetrics();
+    }
+
+    @Test
+    void findBeforeWarmUpBypasses_thenServesFromMap() throws Exception {
+        answerRows(row(100L, 1L, 1L), row(200L, 2L, 1L));
+
+        assertFalse(index.isReady());
+        assertNull(index.find(1L, 1L));
+
+        assertEquals(2, index.resync());
+
+        assertTrue(index.isReady());
+        assertEquals(100L, index.find(1L, 1L));
+        assertNull(index.find(3L, 1L));
+        assertEquals(1.0, meterRegistry.get("event.active.index.lookup").tag("result", "bypass").counter().count());
+        assertEquals(1.0, meterRegistry.get("event.active.index.lookup").tag("result", "hit").counter().count());
+        assertEquals(2.0, meterRegistry.get("event.active.index.size").gauge().value());
+    }
+
+    @Test
+    void changesCommittedDuringResyncAreKept() throws Exception {
+        ResultSet closed = row(100L, 1L, 1L);
+        doAnswer(inv -> {
+            RowCallbackHandler handler = inv.getArgument(2);
+            handler.processRow(closed);
+            // 조회가 끝나기 전에 이벤트 100 이 닫힌 것이 확인되고, 점포 2 에 신규 이벤트가 생김
+            index.evict(1L, 1L, 100L);
+            index.registerActive(2L, 1L, 300L);
+            return null;
+        }).when(namedParameterJdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+        index.resync();
+
+        assertNull(index.find(1L, 1L));
+        assertEquals(300L, index.find(2L, 1L));
+    }
+
+    @Test
+    void resyncDropsKeysNoLongerActive_andEvictKeepsNewerEvent() throws Exception {
+        answerRows(row(100L, 1L, 1L));
+        index.resync();
+        index.registerActive(2L, 1L, 300L);
+
+        // 다른 이벤트 id 로는 지우지 않음
+        index.evict(2L, 1L, 999L);
+        assertEquals(300L, index.find(2L, 1L));
+
+        answerRows(row(300L, 2L, 1L));
+        index.resync();
+
+        assertNull(index.find(1L, 1L));
+        assertEquals(300L, index.find(2L, 1L));
+    }
+
+    private void answerRows(ResultSet... rows) {
+        doAnswer(inv -> {
+            RowCallbackHandler handler = inv.getArgument(2);
+            for (ResultSet rs : rows) handler.processRow(rs);
+            return null;
+        }).when(namedParameterJdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+    }
+
+    private static ResultSet row(Long eventId, Long storeId, Long ruleId) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("event_id")).thenReturn(eventId);
+        when(rs.getLong("store_id")).thenReturn(storeId);
+        when(rs.getLong("rule_id")).thenReturn(ruleId);
+        return rs;
+    }
+}
@@ -0,0 +1,183 @@
+package com.franchise.backend.event.service;
+
+import com.franchise.backend.event.entity.EventRule;
+import com.franchise.backend.event.repository.EventRuleRepository;
+import com.franchise.backend.event.service.EventUpsertService.EventHit;
+import com.franchise.backend.event.service.EventUpsertService.UpsertResult;
+import com.franchise.backend.store.entity.Store;
+import com.franchise.backend.store.repository.StoreRepository;
+import com.franchise.backend.support.PostgresIntegrationTest;
+import com.franchise.backend.user.entity.User;
+import com.franchise.backend.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 동시 ingest 스트레스 테스트 (실제 PostgreSQL)
+// - 단건 / 일괄 경로를 여러 스레드에서 같은 (store, rule) 키로 섞어 호출
+// - ON CONFLICT (store_id, rule_id) WHERE status IN ('OPEN','ACK') 가 부분 인덱스를 찾는지,
+//   (xmax = 0) 이 키당 정확히 한 번만 신규로 나오는지, 한 청크 안 중복 키가
+//   "cannot affect row a second time" 없이 누적되는지, 발생 수 유실이 없는지 확인
+// - 담당 SV 를 넘겨 알림 그룹(ON CONFLICT (dedup_key)) 경합도 같이 확인: 키당 그룹 1건, 발생 수 유실 없음, 최초 알림 1건
+// - 재시도 없이 호출 -> 교착(deadlock) 이 나면 그 호출이 실패하고, pg_stat_database 교착 수도 그대로인지 확인
+// - 전용 룰을 만들어 쓰고 끝나면 지움
+class EventDedupPostgresStressTest extends PostgresIntegrationTest {
+
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 50;
+    private static final int STORES = 10;
+    private static final String SUPERVISOR = "sv01";
+
+    @Autowired
+    private EventUpsertService eventUpsertService;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private EventRuleRepository eventRuleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long ruleId;
+
+    @BeforeEach
+    void setUp() {
+        ruleId = jdbcTemplate.queryForObject("""
+                INSERT INTO event_rule (rule_name, event_type, severity_default)
+                VALUES ('동시성 테스트', 'POS', 'WARNING')
+                RETURNING rule_id
+                """, Long.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("""
+                DELETE FROM notification_outbox
+                WHERE group_id IN (SELECT group_id FROM notification_group WHERE rule_id = ?)
+                """, ruleId);
+        jdbcTemplate.update("DELETE FROM notification_group WHERE rule_id = ?", ruleId);
+        jdbcTemplate.update("DELETE FROM event_log WHERE rule_id = ?", ruleId);
+        jdbcTemplate.update("DELETE FROM event_rule WHERE rule_id = ?", ruleId);
+    }
+
+    @Test
+    void parallelIngestKeepsExactlyOneActiveEventPerKey() throws Exception {
+        EventRule rule = eventRuleRepository.findById(ruleId).orElseThrow();
+        List<Store> stores = storeRepository.findAll().stream()
+                .sorted(Comparator.comparing(Store::getId))
+                .limit(STORES)
+                .toList();
+        assertEquals(STORES, stores.size());
+        User supervisor = userRepository.findByLoginId(SUPERVISOR).orElseThrow();
+        long deadlocksBefore = deadlocks();
+
+        ConcurrentHashMap<Long, AtomicInteger> hitsPerStore = new ConcurrentHashMap<>();
+        ConcurrentLinkedQueue<long[]> results = new ConcurrentLinkedQueue<>();   // {storeId, eventId, inserted}
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            final int thread = t;
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int round = 0; round < ROUNDS; round++) {
+                    Store store = stores.get((thread + round) % STORES);
+                    if (round % 2 == 0) {
+                        UpsertResult r = eventUpsertService.upsertEventAndNotifyIfNew(store, rule, supervisor,
+                                "POS_SALES_DROP", "WARNING", "매출 하락", null, null, OffsetDateTime.now());
+                        record(results, hitsPerStore, store.getId(), r);
+                    } else {
+                        // 같은 키 2건 + 다른 키 1건을 한 청크(한 INSERT ... ON CONFLICT 문장)로
+                        Store other = stores.get((thread + round + 1) % STORES);
+                        List<EventHit> hits = List.of(
+                                hit(store, rule, supervisor), hit(store, rule, supervisor), hit(other, rule, supervisor));
+                        List<UpsertResult> rs = eventUpsertService.upsertBatch(hits);
+                        for (int i = 0; i < hits.size(); i++) {
+                            record(results, hitsPerStore, hits.get(i).store().getId(), rs.get(i));
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> f : futures) f.get(120, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        Map<Long, long[]> active = new HashMap<>();   // storeId -> {eventId, occurrenceCount}
+        jdbcTemplate.query("""
+                SELECT store_id, event_id, occurrence_count
+                FROM event_log
+                WHERE rule_id = ? AND status IN ('OPEN','ACK')
+                """, rs -> {
+            long[] prev = active.put(rs.getLong("store_id"),
+                    new long[]{rs.getLong("event_id"), rs.getLong("occurrence_count")});
+            assertNull(prev, "store " + rs.getLong("store_id") + " has more than one active event");
+        }, ruleId);
+        Integer total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM event_log WHERE rule_id = ?",
+                Integer.class, ruleId);
+
+        assertEquals(STORES, active.size());
+        assertEquals(STORES, total);
+        for (Store store : stores) {
+            long storeId = store.getId();
+            long[] row = active.get(storeId);
+            List<long[]> forStore = results.stream().filter(r -> r[0] == storeId).toList();
+
+            assertEquals(1, forStore.stream().filter(r -> r[2] == 1).count(), "store " + storeId + " inserted once");
+            assertTrue(forStore.stream().allMatch(r -> r[1] == row[0]), "store " + storeId + " single event id");
+            assertEquals(hitsPerStore.get(storeId).get(), row[1], "store " + storeId + " no lost update");
+        }
+
+        // 알림 그룹: (store, rule, SV) 당 1건, 발생 수 = 생성 1 + 발생마다 1, 최초 알림은 키당 1건
+        List<Map<String, Object>> groups = jdbcTemplate.queryForList("""
+                SELECT g.store_id, g.dedup_key, g.occurrence_count,
+                       (SELECT COUNT(*) FROM notification_outbox o
+                         WHERE o.group_id = g.group_id AND o.noti_type = 'INITIAL') AS initial_count
+                FROM notification_group g
+                WHERE g.rule_id = ?
+                """, ruleId);
+        assertEquals(STORES, groups.size());
+        for (Map<String, Object> g : groups) {
+            long storeId = ((Number) g.get("store_id")).longValue();
+            assertEquals(storeId + ":" + ruleId + ":" + supervisor.getId(), g.get("dedup_key"));
+            assertEquals(hitsPerStore.get(storeId).get() + 1, ((Number) g.get("occurrence_count")).intValue(),
+                    "store " + storeId + " group no lost update");
+            assertEquals(1L, ((Number) g.get("initial_count")).longValue(), "store " + storeId + " initial once");
+        }
+
+        assertEquals(deadlocksBefore, deadlocks());
+    }
+
+    private long deadlocks() {
+        jdbcTemplate.execute("SELECT pg_stat_clear_snapshot()");
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT deadlocks FROM pg_stat_database WHERE datname = current_database()", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    private static void record(Queue<long[]> results, Map<Long, AtomicInteger> hitsPerStore, Long storeId, UpsertResult r) {
+        hitsPerStore.computeIfAbsent(storeId, k -> new AtomicInteger()).incrementAndGet();
+        results.add(new long[]{storeId, r.eventId(), r.inserted() ? 1 : 0});
+    }
+
+    private static EventHit hit(Store store, EventRule rule, User supervisor) {
+        return new EventHit(store, rule, supervisor, "POS_SALES_DROP", "WARNING", "매출 하락", null, null, OffsetDateTime.now());
+    }
+}
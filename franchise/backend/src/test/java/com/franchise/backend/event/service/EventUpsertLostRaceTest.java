@@ -0,0 +1,183 @@
+package com.franchise.backend.event.service;
+
+import com.franchise.backend.event.entity.EventLog;
+import com.franchise.backend.event.entity.EventRule;
+import com.franchise.backend.event.repository.EventLogRepository;
+import com.franchise.backend.event.service.EventUpsertService.EventHit;
+import com.franchise.backend.event.service.EventUpsertService.UpsertResult;
+import com.franchise.backend.event.service.EventUpsertService.UpsertedEvent;
+import com.franchise.backend.notification.service.NotificationOutboxService;
+import com.franchise.backend.notification.service.NotificationCreateService;
+import com.franchise.backend.notification.service.NotificationGroupUpsertService;
+import com.franchise.backend.store.entity.Store;
+import com.franchise.backend.store.service.AdminDashboardSnapshotService;
+import com.franchise.backend.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 선조회 경합에서 진 요청의 결과 처리 단위 테스트 (DB 동작 검증은 EventDedupPostgresStressTest)
+// - DB 는 ON CONFLICT 결과(키별 insert-or-add)를 맵으로 흉내 -> 원자성 자체는 여기서 증명하지 않음
+// - 선조회(활성 이벤트 / 그룹)는 항상 비어 있는 최악의 경우로 두고,
+//   upsert 결과의 inserted / event_id 를 그대로 따르는지 (신규 1건 + 나머지는 같은 이벤트에 누적) 확인
+class EventUpsertLostRaceTest {
+
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 200;
+    private static final int STORES = 10;
+
+    private final ConcurrentHashMap<String, ActiveRow> activeTable = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong(1000);
+
+    private EventUpsertService service;
+
+    private static final class ActiveRow {
+        final long eventId;
+        final AtomicInteger occurrenceCount;
+
+        ActiveRow(long eventId, int occurrenceCount) {
+            this.eventId = eventId;
+            this.occurrenceCount = new AtomicInteger(occurrenceCount);
+        }
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        NamedParameterJdbcTemplate namedParameterJdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        EventLogRepository eventLogRepository = mock(EventLogRepository.class);
+        ActiveEventIndex activeEventIndex = mock(ActiveEventIndex.class);
+
+        service = new EventUpsertService(eventLogRepository, mock(NotificationCreateService.class),
+                mock(NotificationGroupUpsertService.class), mock(NotificationOutboxService.class), mock(UserRepository.class),
+                mock(AdminDashboardSnapshotService.class), namedParameterJdbcTemplate,
+                mock(PlatformTransactionManager.class), activeEventIndex);
+
+        // 단건 upsert 문장
+        when(namedParameterJdbcTemplate.queryForObject(contains("ON CONFLICT"), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenAnswer(inv -> {
+                    SqlParameterSource p = inv.getArgument(1);
+                    return upsert((Long) p.getValue("storeId"), (Long) p.getValue("ruleId"),
+                            (Integer) p.getValue("occurrenceCount"));
+                });
+
+        // 일괄 upsert 문장 (행마다 원자적으로 처리되는 점만 흉내)
+        when(namedParameterJdbcTemplate.query(contains("INSERT INTO event_log"), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenAnswer(inv -> {
+                    SqlParameterSource p = inv.getArgument(1);
+                    List<UpsertedEvent> rows = new ArrayList<>();
+                    for (int i = 0; p.hasValue("storeId_" + i); i++) {
+                        rows.add(upsert((Long) p.getValue("storeId_" + i), (Long) p.getValue("ruleId_" + i),
+                                (Integer) p.getValue("occurrenceCount_" + i)));
+                    }
+                    return rows;
+                });
+
+        // 선조회는 항상 빈 결과
+        doNothing().when(namedParameterJdbcTemplate)
+                .query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+        when(eventLogRepository.findById(anyLong())).thenAnswer(inv -> {
+            EventLog e = EventLog.create(1L, 1L, null, "POS_SALES_DROP", "WARNING", "매출 하락", null, null,
+                    OffsetDateTime.now());
+            ReflectionTestUtils.setField(e, "eventId", inv.getArgument(0));
+            return Optional.of(e);
+        });
+    }
+
+    // ON CONFLICT (store_id, rule_id) WHERE status IN ('OPEN','ACK') DO UPDATE SET occurrence_count = occurrence_count + n
+    private UpsertedEvent upsert(Long storeId, Long ruleId, int occurrences) {
+        boolean[] inserted = {false};
+        ActiveRow row = activeTable.compute(storeId + ":" + ruleId, (k, cur) -> {
+            if (cur == null) {
+                inserted[0] = true;
+                return new ActiveRow(sequence.incrementAndGet(), occurrences);
+            }
+            cur.occurrenceCount.addAndGet(occurrences);
+            return cur;
+        });
+        return new UpsertedEvent(row.eventId, storeId, ruleId, inserted[0]);
+    }
+
+    @Test
+    void lostRaceFollowsUpsertResult() throws Exception {
+        EventRule rule = mock(EventRule.class);
+        when(rule.getRuleId()).thenReturn(1L);
+        when(rule.getEventType()).thenReturn("POS");
+        List<Store> stores = new ArrayList<>();
+        for (long id = 1; id <= STORES; id++) {
+            Store store = mock(Store.class);
+            when(store.getId()).thenReturn(id);
+            stores.add(store);
+        }
+
+        ConcurrentHashMap<Long, AtomicInteger> hitsPerStore = new ConcurrentHashMap<>();
+        ConcurrentLinkedQueue<long[]> results = new ConcurrentLinkedQueue<>();   // {storeId, eventId, inserted}
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            final int thread = t;
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int round = 0; round < ROUNDS; round++) {
+                    Store store = stores.get((thread + round) % STORES);
+                    if (round % 2 == 0) {
+                        UpsertResult r = service.upsertEventAndNotifyIfNew(store, rule, null, "POS_SALES_DROP",
+                                "WARNING", "매출 하락", null, null, OffsetDateTime.now());
+                        record(results, hitsPerStore, store.getId(), r);
+                    } else {
+                        // 같은 키 2건 + 다른 키 1건을 한 청크로
+                        Store other = stores.get((thread + round + 1) % STORES);
+                        List<EventHit> hits = List.of(hit(store, rule), hit(store, rule), hit(other, rule));
+                        List<UpsertResult> rs = service.upsertBatch(hits);
+                        for (int i = 0; i < hits.size(); i++) {
+                            record(results, hitsPerStore, hits.get(i).store().getId(), rs.get(i));
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> f : futures) f.get(30, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        assertEquals(STORES, activeTable.size());
+        for (long storeId = 1; storeId <= STORES; storeId++) {
+            ActiveRow row = activeTable.get(storeId + ":1");
+            final long id = storeId;
+            List<long[]> forStore = results.stream().filter(r -> r[0] == id).toList();
+
+            assertEquals(1, forStore.stream().filter(r -> r[2] == 1).count(), "store " + storeId + " inserted once");
+            assertTrue(forStore.stream().allMatch(r -> r[1] == row.eventId), "store " + storeId + " single event id");
+            assertEquals(hitsPerStore.get(storeId).get(), row.occurrenceCount.get(), "store " + storeId + " no lost update");
+        }
+    }
+
+    private static void record(Queue<long[]> results, Map<Long, AtomicInteger> hitsPerStore, Long storeId, UpsertResult r) {
+        hitsPerStore.computeIfAbsent(storeId, k -> new AtomicInteger()).incrementAndGet();
+        results.add(new long[]{storeId, r.eventId(), r.inserted() ? 1 : 0});
+    }
+
+    private static EventHit hit(Store store, EventRule rule) {
+        return new EventHit(store, rule, null, "POS_SALES_DROP", "WARNING", "매출 하락", null, null, OffsetDateTime.now());
+    }
+}
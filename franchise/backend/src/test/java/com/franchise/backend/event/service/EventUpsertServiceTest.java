@@ -0,0 +1,351 @@
+package com.franchise.backend.event.service;
+
+import com.franchise.backend.common.time.ServiceTime;
+import com.franchise.backend.event.entity.EventLog;
+import com.franchise.backend.event.entity.EventRule;
+import com.franchise.backend.event.repository.EventLogRepository;
+import com.franchise.backend.event.service.EventUpsertService.EventHit;
+import com.franchise.backend.event.service.EventUpsertService.UpsertResult;
+import com.franchise.backend.event.service.EventUpsertService.UpsertedEvent;
+import com.franchise.backend.notification.service.NotificationGroupUpsertService;
+import com.franchise.backend.notification.service.NotificationGroupUpsertService.GroupRow;
+import com.franchise.backend.notification.entity.NotificationType;
+import com.franchise.backend.notification.service.NotificationOutboxService;
+import com.franchise.backend.notification.service.NotificationOutboxService.Message;
+import com.franchise.backend.notification.service.NotificationCreateService;
+import com.franchise.backend.store.entity.Store;
+import com.franchise.backend.store.service.AdminDashboardSnapshotService;
+import com.franchise.backend.user.entity.User;
+import com.franchise.backend.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 이벤트 dedup 엔진 테스트
+// - 단건: INSERT ... ON CONFLICT 1문장 결과(inserted)로 신규/누적 분기, 앞선 존재 확인 조회 없음
+// - 일괄: 청크당 활성 이벤트 / 알림 그룹 조회 1번, 신규는 다건 upsert, 기존 누적은 증가분 JDBC batch
+// - 조회 이후 다른 요청이 먼저 만든 이벤트는 충돌로 감지해 누적 처리 (최초 알림 생략)
+// - 알림 그룹은 단건 / 일괄 모두 ON CONFLICT (dedup_key) 증가분 문장, 재알림은 단계를 올린 요청만 발송
+// - 알림은 notification 대신 outbox 에 기록
+class EventUpsertServiceTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2025, 8, 31, 12, 0, 0, 0, ZoneOffset.ofHours(9));
+
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private JdbcOperations jdbcOperations;
+    private UserRepository userRepository;
+    private AdminDashboardSnapshotService adminDashboardSnapshotService;
+    private ActiveEventIndex activeEventIndex;
+    private EventLogRepository eventLogRepository;
+    private NotificationOutboxService notificationOutboxService;
+    private NotificationGroupUpsertService notificationGroupUpsertService;
+    private EventUpsertService service;
+
+    private ResultSet activeRow;
+    private ResultSet groupRow;
+    private ResultSet upsertedGroupRow;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ServiceTime.useFixed(NOW);
+
+        namedParameterJdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        jdbcOperations = mock(JdbcOperations.class);
+        userRepository = mock(UserRepository.class);
+        adminDashboardSnapshotService = mock(AdminDashboardSnapshotService.class);
+        activeEventIndex = mock(ActiveEventIndex.class);
+        eventLogRepository = mock(EventLogRepository.class);
+        notificationOutboxService = mock(NotificationOutboxService.class);
+        notificationGroupUpsertService = mock(NotificationGroupUpsertService.class);
+        when(namedParameterJdbcTemplate.getJdbcOperations()).thenReturn(jdbcOperations);
+
+        service = new EventUpsertService(eventLogRepository, mock(NotificationCreateService.class),
+                notificationGroupUpsertService, notificationOutboxService, userRepository,
+                adminDashboardSnapshotService, namedParameterJdbcTemplate, mock(PlatformTransactionManager.class),
+                activeEventIndex);
+
+        // 점포 1 / 룰 1 은 OPEN 이벤트(100) + 10일 전부터 이어진 SV 그룹(300)
+        activeRow = mock(ResultSet.class);
+        when(activeRow.getLong("event_id")).thenReturn(100L);
+        when(activeRow.getLong("store_id")).thenReturn(1L);
+        when(activeRow.getLong("rule_id")).thenReturn(1L);
+        when(activeRow.getString("summary")).thenReturn("매출 하락");
+
+        groupRow = mock(ResultSet.class);
+        when(groupRow.getLong("group_id")).thenReturn(300L);
+        when(groupRow.getString("dedup_key")).thenReturn("1:1:7");
+        when(groupRow.getLong("user_id")).thenReturn(7L);
+        when(groupRow.getLong("store_id")).thenReturn(1L);
+        when(groupRow.getLong("rule_id")).thenReturn(1L);
+        when(groupRow.getInt("escalation_step")).thenReturn(0);
+        when(groupRow.getObject("first_occurred_at", OffsetDateTime.class)).thenReturn(NOW.minusDays(10));
+        when(groupRow.getObject("last_occurrence_at", OffsetDateTime.class)).thenReturn(NOW.minusDays(1));
+        when(groupRow.getInt("occurrence_count")).thenReturn(3);
+
+        // 신규 그룹 upsert RETURNING
+        upsertedGroupRow = mock(ResultSet.class);
+        when(upsertedGroupRow.getLong("group_id")).thenReturn(900L);
+        when(upsertedGroupRow.getString("dedup_key")).thenReturn("2:1:7");
+
+        doAnswer(inv -> {
+            String sql = inv.getArgument(0);
+            RowCallbackHandler handler = inv.getArgument(2);
+            if (sql.contains("FROM event_log")) handler.processRow(activeRow);
+            else if (sql.contains("FROM notification_group")) handler.processRow(groupRow);
+            else if (sql.contains("INSERT INTO notification_group")) handler.processRow(upsertedGroupRow);
+            return null;
+        }).when(namedParameterJdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ServiceTime.useSystemClock();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void upsertBatch_prefetchesOnceAndFlushesInBulk() {
+        when(namedParameterJdbcTemplate.query(contains("INSERT INTO event_log"), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of(new UpsertedEvent(500L, 2L, 1L, true)));
+
+        User supervisor = user(7L, "D1");
+        EventRule rule = rule(1L);
+        Store store1 = store(1L, "강남점");
+        Store store2 = store(2L, "역삼점");
+
+        List<UpsertResult> results = service.upsertBatch(List.of(
+                hit(store1, rule, supervisor),
+                hit(store2, rule, supervisor),
+                hit(store2, rule, supervisor)
+        ));
+
+        assertEquals(List.of(UpsertResult.updated(100L), UpsertResult.inserted(500L), UpsertResult.updated(500L)),
+                results);
+
+        // 활성 이벤트 / 알림 그룹 조회 + 신규 그룹 upsert 각 1번
+        verify(namedParameterJdbcTemplate, times(3))
+                .query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+        // 신규 이벤트는 같은 청크의 누적까지 반영된 값으로 upsert
+        ArgumentCaptor<SqlParameterSource> eventParams = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(namedParameterJdbcTemplate).query(contains("ON CONFLICT (store_id, rule_id)"), eventParams.capture(),
+                any(RowMapper.class));
+        assertEquals(2, eventParams.getValue().getValue("occurrenceCount_0"));
+
+        // 기존 이벤트는 증가분만
+        List<Object[]> eventUpdates = captureBatch("UPDATE event_log");
+        assertArrayEquals(new Object[]{NOW, 1, 100L}, eventUpdates.get(0));
+
+        // 기존 그룹은 10일째라 1차 재알림(step 1), 신규 그룹은 최초 알림
+        List<Object[]> groupUpdates = captureBatch("UPDATE notification_group");
+        assertArrayEquals(new Object[]{1, NOW, NOW, 1, NOW, 300L}, groupUpdates.get(0));
+
+        // 알림은 notification 이 아니라 outbox 로 (청크당 1번)
+        List<Message> messages = captureMessages();
+        assertEquals(List.of(NotificationType.REMIND, NotificationType.INITIAL), messages.stream().map(Message::type).toList());
+        assertEquals(List.of(300L, 900L), messages.stream().map(Message::groupId).toList());
+        assertEquals(List.of(100L, 500L), messages.stream().map(Message::eventId).toList());
+        assertTrue(messages.get(0).body().contains("/api/events/100"));
+        verify(jdbcOperations, never()).batchUpdate(contains("INSERT INTO notification "), anyList(), any(int[].class));
+
+        verify(activeEventIndex).registerActive(2L, 1L, 500L);
+        verify(adminDashboardSnapshotService, times(1)).markStale();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void upsertBatch_eventCreatedConcurrentlyIsMergedWithoutInitialNotification() throws Exception {
+        // 조회 시점엔 점포 2 활성 이벤트가 없었지만, upsert 시점엔 다른 요청이 먼저 만든 상태
+        when(namedParameterJdbcTemplate.query(contains("INSERT INTO event_log"), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of(new UpsertedEvent(800L, 2L, 1L, false)));
+        when(activeRow.getLong("store_id")).thenReturn(99L);   // 청크에 없는 점포 (무시됨)
+
+        List<UpsertResult> results = service.upsertBatch(List.of(
+                hit(store(2L, "역삼점"), rule(1L), user(7L, "D1"))
+        ));
+
+        assertEquals(List.of(UpsertResult.updated(800L)), results);
+        // 그룹 발생 수는 누적하되 보내지 않은 최초 알림 시각은 남기지 않음
+        ArgumentCaptor<SqlParameterSource> groupParams = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(namedParameterJdbcTemplate)
+                .query(contains("INSERT INTO notification_group"), groupParams.capture(), any(RowCallbackHandler.class));
+        assertEquals("2:1:7", groupParams.getValue().getValue("dedupKey_0"));
+        assertNull(groupParams.getValue().getValue("lastNotifiedAt_0"));
+        assertTrue(captureMessages().isEmpty());
+        verify(adminDashboardSnapshotService, never()).markStale();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void upsertBatch_locksKeysAndRowsInSortedOrder() {
+        when(namedParameterJdbcTemplate.query(contains("INSERT INTO event_log"), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of(new UpsertedEvent(501L, 3L, 1L, true), new UpsertedEvent(502L, 5L, 1L, true)));
+
+        service.upsertBatch(List.of(
+                hit(store(5L, "삼성점"), rule(1L), null),
+                hit(store(3L, "선릉점"), rule(1L), null),
+                hit(store(1L, "강남점"), rule(1L), null)
+        ));
+
+        // 청크 키는 정렬 순서로 advisory lock
+        ArgumentCaptor<SqlParameterSource> lockParams = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(namedParameterJdbcTemplate).queryForObject(contains("pg_advisory_xact_lock"), lockParams.capture(),
+                eq(Long.class));
+        assertEquals(List.of("1:1", "3:1", "5:1"), lockParams.getValue().getValue("keys"));
+
+        // 신규 이벤트 다건 upsert 도 (store, rule) 순
+        ArgumentCaptor<SqlParameterSource> eventParams = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(namedParameterJdbcTemplate).query(contains("ON CONFLICT (store_id, rule_id)"), eventParams.capture(),
+                any(RowMapper.class));
+        assertEquals(3L, eventParams.getValue().getValue("storeId_0"));
+        assertEquals(5L, eventParams.getValue().getValue("storeId_1"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void upsert_insertsWithSingleAtomicStatement() {
+        EventLog event = event(700L);
+        when(namedParameterJdbcTemplate.queryForObject(contains("ON CONFLICT"), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(new UpsertedEvent(700L, 3L, 1L, true));
+        when(eventLogRepository.findById(700L)).thenReturn(Optional.of(event));
+
+        UpsertResult result = service.upsertEventAndNotifyIfNew(store(3L, "선릉점"), rule(1L), null,
+                "POS_SALES_DROP", "WARNING", "매출 하락", "pos", 1L, NOW);
+
+        assertEquals(UpsertResult.inserted(700L), result);
+        verify(eventLogRepository, never()).findActiveByStoreIdAndRuleId(anyLong(), anyLong());
+        verify(eventLogRepository, never()).save(any());
+        verify(activeEventIndex).registerActive(3L, 1L, 700L);
+        verify(adminDashboardSnapshotService).markStale();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void upsert_conflictAccumulatesInDatabase() {
+        EventLog event = event(650L);
+        when(namedParameterJdbcTemplate.queryForObject(contains("ON CONFLICT"), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(new UpsertedEvent(650L, 3L, 1L, false));
+        when(eventLogRepository.findById(650L)).thenReturn(Optional.of(event));
+
+        UpsertResult result = service.upsertEventAndNotifyIfNew(store(3L, "선릉점"), rule(1L), null,
+                "POS_SALES_DROP", "WARNING", "매출 하락", "pos", 1L, NOW.plusHours(1));
+
+        assertEquals(UpsertResult.updated(650L), result);
+        // 누적은 SQL 에서 끝남 (엔티티를 고쳐 덮어쓰지 않음)
+        assertEquals(1, event.getOccurrenceCount());
+        verify(adminDashboardSnapshotService, never()).markStale();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void upsert_remindGoesToOutboxWithPersistedGroupId() {
+        EventLog event = event(650L);
+        User supervisor = user(7L, "D1");
+        Store store = store(3L, "선릉점");
+        EventRule rule = rule(1L);
+
+        when(namedParameterJdbcTemplate.queryForObject(contains("ON CONFLICT"), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(new UpsertedEvent(650L, 3L, 1L, false));
+        when(eventLogRepository.findById(650L)).thenReturn(Optional.of(event));
+        when(notificationGroupUpsertService.accumulate("3:1:7", 7L, 3L, 1L, NOW, null, NOW))
+                .thenReturn(new GroupRow(310L, "3:1:7", 0, NOW.minusDays(10), 4));
+        when(notificationGroupUpsertService.advanceStep(310L, 1, NOW)).thenReturn(true);
+
+        service.upsertEventAndNotifyIfNew(store, rule, supervisor, "POS_SALES_DROP", "WARNING", "매출 하락",
+                "pos", 1L, NOW);
+
+        List<Message> messages = captureMessages();
+        assertEquals(1, messages.size());
+        assertEquals(new Message(310L, 650L, 7L, NotificationType.REMIND, "[선릉점] 지속 발생",
+                messages.get(0).body()), messages.get(0));
+        verify(notificationGroupUpsertService).advanceStep(310L, 1, NOW);
+    }
+
+    @Test
+    void upsert_remindAlreadySentByConcurrentRequestIsSkipped() {
+        when(namedParameterJdbcTemplate.queryForObject(contains("ON CONFLICT"), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(new UpsertedEvent(650L, 3L, 1L, false));
+        when(eventLogRepository.findById(650L)).thenReturn(Optional.of(event(650L)));
+        when(notificationGroupUpsertService.accumulate(anyString(), anyLong(), anyLong(), anyLong(), any(), isNull(), any()))
+                .thenReturn(new GroupRow(310L, "3:1:7", 0, NOW.minusDays(10), 4));
+        when(notificationGroupUpsertService.advanceStep(310L, 1, NOW)).thenReturn(false);
+
+        service.upsertEventAndNotifyIfNew(store(3L, "선릉점"), rule(1L), user(7L, "D1"), "POS_SALES_DROP",
+                "WARNING", "매출 하락", "pos", 1L, NOW);
+
+        assertTrue(captureMessages().isEmpty());
+    }
+
+    @Test
+    void upsertBatch_emptyInputDoesNothing() {
+        assertTrue(service.upsertBatch(List.of()).isEmpty());
+        verifyNoInteractions(namedParameterJdbcTemplate, adminDashboardSnapshotService);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Message> captureMessages() {
+        ArgumentCaptor<List<Message>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationOutboxService).enqueue(captor.capture());
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> captureBatch(String sqlPrefix) {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcOperations).batchUpdate(argThat((String sql) -> sql.trim().startsWith(sqlPrefix + " ")
+                || sql.trim().startsWith(sqlPrefix + "\n")), captor.capture(), any(int[].class));
+        return captor.getValue();
+    }
+
+    private static EventLog event(Long eventId) {
+        EventLog event = EventLog.create(1L, 3L, null, "POS_SALES_DROP", "WARNING", "매출 하락", null, null, NOW);
+        ReflectionTestUtils.setField(event, "eventId", eventId);
+        return event;
+    }
+
+    private static EventHit hit(Store store, EventRule rule, User supervisor) {
+        return new EventHit(store, rule, supervisor, "POS_SALES_DROP", "WARNING", "매출 하락",
+                "pos", 1L, NOW);
+    }
+
+    private static Store store(Long id, String name) {
+        Store store = mock(Store.class);
+        when(store.getId()).thenReturn(id);
+        when(store.getStoreName()).thenReturn(name);
+        return store;
+    }
+
+    private static EventRule rule(Long ruleId) {
+        EventRule rule = mock(EventRule.class);
+        when(rule.getRuleId()).thenReturn(ruleId);
+        when(rule.getEventType()).thenReturn("POS");
+        when(rule.getRuleName()).thenReturn("매출 급감");
+        return rule;
+    }
+
+    private static User user(Long id, String department) {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(id);
+        when(user.getDepartment()).thenReturn(department);
+        return user;
+    }
+}
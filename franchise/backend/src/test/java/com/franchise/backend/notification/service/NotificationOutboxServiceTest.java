@@ -0,0 +1,155 @@
+package com.franchise.backend.notification.service;
+
+import com.franchise.backend.common.time.ServiceTime;
+import com.franchise.backend.notification.entity.NotificationType;
+import com.franchise.backend.notification.service.NotificationOutboxService.DispatchResult;
+import com.franchise.backend.notification.service.NotificationOutboxService.Message;
+import com.franchise.backend.notification.service.NotificationOutboxService.OutboxRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 알림 outbox 테스트
+// - enqueue 는 outbox 행만 기록 / dispatch 는 notification 생성 + SENT 표시
+// - 묶음이 실패하면 행 단위로 다시 시도해 실패 행만 백오프 (재시도 한도를 넘기면 FAILED)
+class NotificationOutboxServiceTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2025, 8, 31, 12, 0, 0, 0, ZoneOffset.ofHours(9));
+
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private JdbcOperations jdbcOperations;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationOutboxService service;
+
+    @BeforeEach
+    void setUp() {
+        ServiceTime.useFixed(NOW);
+
+        namedParameterJdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        jdbcOperations = mock(JdbcOperations.class);
+        when(namedParameterJdbcTemplate.getJdbcOperations()).thenReturn(jdbcOperations);
+        meterRegistry = new SimpleMeterRegistry();
+
+        service = new NotificationOutboxService(namedParameterJdbcTemplate, mock(PlatformTransactionManager.class),
+                meterRegistry);
+        service.registerMetrics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ServiceTime.useSystemClock();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void enqueue_writesOutboxRowsOnly() {
+        service.enqueue(List.of(message(300L, 100L), message(301L, 101L)));
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcOperations).batchUpdate(contains("INSERT INTO notification_outbox"), rows.capture(), any(int[].class));
+        // next_attempt_at 은 SQL 의 now() (벽시계), created_at 만 업무 시각
+        assertArrayEquals(new Object[]{300L, 100L, 7L, "INITIAL", "[강남점] 매출 급감", "매출 하락", NOW},
+                rows.getValue().get(0));
+        verify(jdbcOperations, never()).batchUpdate(contains("INSERT INTO notification "), anyList(), any(int[].class));
+        assertEquals(2, meterRegistry.get("notification.outbox.messages").tag("outcome", "enqueued").counter().count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dispatch_deliversBatchInOneTransaction() {
+        when(namedParameterJdbcTemplate.query(contains("LIMIT :limit"), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of(row(1L, 300L, 0), row(2L, 301L, 0)));
+
+        DispatchResult result = service.dispatch();
+
+        assertEquals(new DispatchResult(2, 0, 0), result);
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcOperations).batchUpdate(contains("INSERT INTO notification "), rows.capture(), any(int[].class));
+        assertEquals(2, rows.getValue().size());
+        // notification.created_at 은 outbox 기록 시각
+        assertEquals(NOW.minusMinutes(1), rows.getValue().get(0)[6]);
+
+        ArgumentCaptor<SqlParameterSource> sent = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(namedParameterJdbcTemplate).update(contains("SET status        = 'SENT'"), sent.capture());
+        assertEquals(List.of(1L, 2L), sent.getValue().getValue("outboxIds"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dispatch_failedBatchIsRetriedPerRow_andOnlyBadRowBacksOff() {
+        OutboxRow good = row(1L, 300L, 0);
+        OutboxRow bad = row(2L, 999L, 0);      // 그룹이 사라진 알림
+        OutboxRow dead = row(3L, 999L, 7);     // 이번 실패로 max-attempts(8) 도달
+        when(namedParameterJdbcTemplate.query(contains("LIMIT :limit"), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of(good, bad, dead));
+        when(namedParameterJdbcTemplate.query(contains("outbox_id = :outboxId"), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenAnswer(inv -> {
+                    Object id = ((SqlParameterSource) inv.getArgument(1)).getValue("outboxId");
+                    return List.of(id.equals(1L) ? good : id.equals(2L) ? bad : dead);
+                });
+        when(jdbcOperations.batchUpdate(contains("INSERT INTO notification "), anyList(), any(int[].class)))
+                .thenAnswer(inv -> {
+                    List<Object[]> rows = inv.getArgument(1);
+                    if (rows.stream().anyMatch(r -> r[0].equals(999L))) {
+                        throw new DataIntegrityViolationException("fk_notification_group");
+                    }
+                    return new int[rows.size()];
+                });
+
+        DispatchResult result = service.dispatchBatch();
+
+        assertEquals(new DispatchResult(1, 1, 1), result);
+
+        ArgumentCaptor<SqlParameterSource> failed = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(namedParameterJdbcTemplate, times(2)).update(contains("next_attempt_at = now() + :backoffMs"), failed.capture());
+        SqlParameterSource retry = failed.getAllValues().get(0);
+        assertEquals(2L, retry.getValue("outboxId"));
+        assertEquals("PENDING", retry.getValue("status"));
+        assertEquals(1000L, retry.getValue("backoffMs"));
+        assertEquals("fk_notification_group", retry.getValue("lastError"));
+        assertEquals("FAILED", failed.getAllValues().get(1).getValue("status"));
+    }
+
+    @Test
+    void purgeSent_usesDatabaseClock() {
+        service.purgeSent();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<SqlParameterSource> params = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(namedParameterJdbcTemplate).update(sql.capture(), params.capture());
+        assertTrue(sql.getValue().contains("dispatched_at < now() - :retentionDays"));
+        assertEquals(7, params.getValue().getValue("retentionDays"));
+    }
+
+    @Test
+    void backoff_doublesUntilCap() {
+        assertEquals(Duration.ofSeconds(1), service.backoff(1));
+        assertEquals(Duration.ofSeconds(8), service.backoff(4));
+        assertEquals(Duration.ofMinutes(10), service.backoff(20));
+    }
+
+    private static Message message(Long groupId, Long eventId) {
+        return new Message(groupId, eventId, 7L, NotificationType.INITIAL, "[강남점] 매출 급감", "매출 하락");
+    }
+
+    private static OutboxRow row(Long outboxId, Long groupId, int attempts) {
+        return new OutboxRow(outboxId, message(groupId, 100L), attempts, NOW.minusMinutes(1));
+    }
+}
@@ -0,0 +1,172 @@
+package com.franchise.backend.notification.service;
+
+import com.franchise.backend.common.time.ServiceTime;
+import com.franchise.backend.notification.entity.NotificationType;
+import com.franchise.backend.notification.service.NotificationOutboxService.Message;
+import com.franchise.backend.notification.service.NotificationReminderService.ReminderTarget;
+import com.franchise.backend.notification.service.NotificationReminderService.RunResult;
+import com.franchise.backend.user.entity.Role;
+import com.franchise.backend.user.entity.User;
+import com.franchise.backend.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 재알림 / 에스컬 배치 테스트 (ServiceTime 기준 2025-08-31)
+// - 대상은 조인 쿼리 1번, 팀장은 department IN 조회 1번
+// - 조건부 단계 갱신이 0건이면 알림 생략, 같은 점포/룰/팀장 그룹은 1행으로 upsert
+// - 실패한 청크만 failed 로 집계되고 나머지 청크는 반영
+class NotificationReminderServiceTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2025, 8, 31, 12, 0, 0, 0, ZoneOffset.ofHours(9));
+
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private JdbcOperations jdbcOperations;
+    private UserRepository userRepository;
+    private NotificationOutboxService notificationOutboxService;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationReminderService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        ServiceTime.useFixed(NOW);
+
+        namedParameterJdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        jdbcOperations = mock(JdbcOperations.class);
+        userRepository = mock(UserRepository.class);
+        notificationOutboxService = mock(NotificationOutboxService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(namedParameterJdbcTemplate.getJdbcOperations()).thenReturn(jdbcOperations);
+
+        service = new NotificationReminderService(namedParameterJdbcTemplate, userRepository, notificationOutboxService,
+                mock(PlatformTransactionManager.class), meterRegistry, Runnable::run);
+        service.registerMetrics();
+
+        when(namedParameterJdbcTemplate.query(contains("FROM notification_group g"), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of(
+                        target(1L, 7L, 1L, "POS", NOW.minusDays(20), 0),   // 에스컬
+                        target(2L, 7L, 2L, "QSC", NOW.minusDays(4), 0),    // 재알림
+                        target(3L, 7L, 3L, "POS", NOW.minusDays(8), 1),    // 재알림 끝, 에스컬 전
+                        target(4L, 7L, 4L, "QSC", NOW.minusDays(5), 0),    // 재알림 대상이지만 다른 경로가 먼저 처리
+                        target(5L, 8L, 1L, "POS", NOW.minusDays(15), 0)    // 에스컬 (1번과 같은 팀장 그룹)
+                ));
+
+        User manager = mock(User.class);
+        when(manager.getId()).thenReturn(50L);
+        when(manager.getDepartment()).thenReturn("D1");
+        when(userRepository.findByRoleAndDepartmentInAndAccountStatusTrueOrderByIdAsc(eq(Role.MANAGER), anyCollection()))
+                .thenReturn(List.of(manager));
+
+        when(jdbcOperations.batchUpdate(contains("UPDATE notification_group"), anyList(), any(int[].class)))
+                .thenAnswer(inv -> {
+                    List<Object[]> rows = inv.getArgument(1);
+                    return rows.stream().mapToInt(r -> r[3].equals(4L) ? 0 : 1).toArray();
+                });
+
+        ResultSet managerGroupRow = mock(ResultSet.class);
+        when(managerGroupRow.getString("dedup_key")).thenReturn("1:1:50");
+        when(managerGroupRow.getLong("group_id")).thenReturn(900L);
+        doAnswer(inv -> {
+            ((RowCallbackHandler) inv.getArgument(2)).processRow(managerGroupRow);
+            return null;
+        }).when(namedParameterJdbcTemplate).query(contains("INSERT INTO notification_group"), any(SqlParameterSource.class),
+                any(RowCallbackHandler.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ServiceTime.useSystemClock();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void run_advancesDueGroupsAndEnqueuesNotifications() {
+        ReflectionTestUtils.setField(service, "parallelism", 1);
+
+        RunResult result = service.run();
+
+        assertEquals(5, result.scanned());
+        assertEquals(1, result.reminded());
+        assertEquals(2, result.escalated());
+        assertEquals(1, result.skipped());
+        assertEquals(0, result.failed());
+
+        // 팀장 조회는 실행당 1번
+        verify(userRepository, times(1)).findByRoleAndDepartmentInAndAccountStatusTrueOrderByIdAsc(eq(Role.MANAGER), anyCollection());
+
+        // 대상 4건의 단계 갱신을 batch 1번으로 (3번 그룹은 대상 아님)
+        ArgumentCaptor<List<Object[]>> advances = ArgumentCaptor.forClass(List.class);
+        verify(jdbcOperations).batchUpdate(contains("UPDATE notification_group"), advances.capture(), any(int[].class));
+        verify(jdbcOperations).batchUpdate(contains("last_notified_at AT TIME ZONE 'Asia/Seoul' AS date"), anyList(),
+                any(int[].class));
+        verify(namedParameterJdbcTemplate).query(contains("g.last_notified_at AT TIME ZONE 'Asia/Seoul' AS date"),
+                any(SqlParameterSource.class), any(RowMapper.class));
+        assertEquals(List.of(1L, 2L, 4L, 5L), advances.getValue().stream().map(r -> r[3]).toList());
+        assertEquals(List.of(2, 1, 1, 2), advances.getValue().stream().map(r -> r[0]).toList());
+
+        // 같은 점포 / 룰 / 팀장 그룹은 1행
+        ArgumentCaptor<SqlParameterSource> groupParams = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(namedParameterJdbcTemplate).query(contains("INSERT INTO notification_group"), groupParams.capture(),
+                any(RowCallbackHandler.class));
+        assertEquals("1:1:50", groupParams.getValue().getValue("dedupKey_0"));
+        assertFalse(groupParams.getValue().hasValue("dedupKey_1"));
+
+        ArgumentCaptor<List<Message>> messages = ArgumentCaptor.forClass(List.class);
+        verify(notificationOutboxService).enqueue(messages.capture());
+        assertEquals(List.of(
+                new Message(1L, 101L, 7L, NotificationType.ESCALATION, "[점포1] 룰", NotificationReminderService.ESCALATION_SV_BODY),
+                new Message(900L, 101L, 50L, NotificationType.ESCALATION, "[점포1] 룰", NotificationReminderService.ESCALATION_MANAGER_BODY),
+                new Message(5L, 105L, 8L, NotificationType.ESCALATION, "[점포1] 룰", NotificationReminderService.ESCALATION_SV_BODY),
+                new Message(900L, 105L, 50L, NotificationType.ESCALATION, "[점포1] 룰", NotificationReminderService.ESCALATION_MANAGER_BODY),
+                new Message(2L, 102L, 7L, NotificationType.REMIND, "[점포2] 룰", NotificationReminderService.REMIND_BODY)
+        ), messages.getValue());
+
+        assertEquals(2, meterRegistry.get("notification.reminder.groups").tag("outcome", "escalated").counter().count());
+        assertEquals(1, meterRegistry.get("notification.reminder.run").tag("result", "success").timer().count());
+    }
+
+    @Test
+    void run_failedChunkIsCountedAndOtherChunksCommit() {
+        // store_id % 4 파티션: 점포 2 파티션만 실패
+        when(jdbcOperations.batchUpdate(contains("UPDATE notification_group"), anyList(), any(int[].class)))
+                .thenAnswer(inv -> {
+                    List<Object[]> rows = inv.getArgument(1);
+                    if (rows.stream().anyMatch(r -> r[3].equals(2L))) throw new IllegalStateException("deadlock");
+                    return rows.stream().mapToInt(r -> r[3].equals(4L) ? 0 : 1).toArray();
+                });
+
+        RunResult result = service.run();
+
+        assertEquals(0, result.reminded());
+        assertEquals(2, result.escalated());
+        assertEquals(1, result.skipped());
+        assertEquals(1, result.failed());
+        // 점포 1 (에스컬) + 점포 4 (생략) 청크, 점포 3 청크는 대상 없음
+        verify(notificationOutboxService, times(2)).enqueue(anyList());
+    }
+
+    private static ReminderTarget target(Long groupId, Long userId, Long storeId, String eventType,
+                                         OffsetDateTime firstOccurredAt, int step) {
+        return new ReminderTarget(groupId, userId, storeId, 1L, step, firstOccurredAt, eventType, "룰",
+                "점포" + storeId, "D1", 100L + groupId);
+    }
+}
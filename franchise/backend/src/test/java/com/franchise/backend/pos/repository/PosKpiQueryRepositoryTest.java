@@ -0,0 +1,76 @@
+package com.franchise.backend.pos.repository;
+
+import com.franchise.backend.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 단일 점포 주간 KPI 시계열 읽기 범위 (pos_daily 월 파티션)
+// - 창은 "결측 아닌" 실적 주 기준 -> 최근 주나 중간 주가 결측이어도 limit 개를 채움
+// 시드 데이터보다 뒤(2030년) 일자를 넣고 테스트마다 롤백
+@Transactional
+class PosKpiQueryRepositoryTest extends PostgresIntegrationTest {
+
+    private static final long STORE_ID = 1L;
+
+    @Autowired
+    private PosKpiQueryRepository posKpiQueryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 월요일 4주 실적
+        insert(LocalDate.of(2030, 1, 7), false);
+        insert(LocalDate.of(2030, 1, 14), false);
+        insert(LocalDate.of(2030, 1, 21), false);
+        insert(LocalDate.of(2030, 1, 28), false);
+    }
+
+    @Test
+    void weeklySeries_anchorsOnLatestNonMissingDate() {
+        // 최근 2주는 결측 행만 있음
+        insert(LocalDate.of(2030, 2, 4), true);
+        insert(LocalDate.of(2030, 2, 11), true);
+
+        List<Object[]> rows = posKpiQueryRepository.findWeeklySeries(STORE_ID, 3);
+
+        assertEquals(List.of("2030-01-28", "2030-01-21", "2030-01-14"), periodStarts(rows));
+        // 첫 포인트(01-14)도 창 안의 전주(01-07) 대비 증감률이 있음
+        assertNotNull(rows.get(2)[4]);
+    }
+
+    @Test
+    void weeklySeries_missingWeekInsideWindowIsSkippedNotCounted() {
+        insert(LocalDate.of(2029, 12, 31), false);
+        jdbcTemplate.update("UPDATE pos_daily SET is_missing = TRUE WHERE store_id = ? AND business_date = ?",
+                STORE_ID, LocalDate.of(2030, 1, 14));
+
+        List<Object[]> rows = posKpiQueryRepository.findWeeklySeries(STORE_ID, 3);
+
+        // 결측 주(01-14)를 건너뛰고 최근 실적 3주
+        assertEquals(List.of("2030-01-28", "2030-01-21", "2030-01-07"), periodStarts(rows));
+        // 01-21 은 직전 실적 주(01-07) 대비, 첫 포인트(01-07)도 그 앞 실적 주(12-31) 대비 증감률이 있음
+        assertNotNull(rows.get(1)[4]);
+        assertNotNull(rows.get(2)[4]);
+    }
+
+    private void insert(LocalDate businessDate, boolean missing) {
+        jdbcTemplate.update("""
+                INSERT INTO pos_daily (store_id, business_date, sales_amount, order_count, is_missing)
+                VALUES (?, ?, ?, ?, ?)
+                """, STORE_ID, businessDate, missing ? 0 : 1_000_000, missing ? 0 : 100, missing);
+    }
+
+    private static List<String> periodStarts(List<Object[]> rows) {
+        return rows.stream().map(r -> String.valueOf(r[0])).toList();
+    }
+}
@@ -0,0 +1,219 @@
+package com.franchise.backend.pos.service;
+
+import com.franchise.backend.event.entity.EventRule;
+import com.franchise.backend.event.repository.EventRuleRepository;
+import com.franchise.backend.event.service.EventUpsertService;
+import com.franchise.backend.pos.entity.PosPeriodAgg.PosPeriodType;
+import com.franchise.backend.pos.service.PosAnomalyDetectionService.Comparison;
+import com.franchise.backend.pos.service.PosAnomalyDetectionService.Metric;
+import com.franchise.backend.pos.service.PosAnomalyDetectionService.RunResult;
+import com.franchise.backend.store.entity.Store;
+import com.franchise.backend.store.repository.StoreRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// POS 기준선 이상 감지 배치 테스트
+// - 파티션별 스캔 결과를 합쳐 임계치 밖인 지표만 이벤트로 올린다
+// - 룰이 매핑되지 않은 지표(AOV 기본값)는 감지만 하고 이벤트는 만들지 않는다
+// - 같은 pos_period_agg 행의 지표는 한 배치로 반영하고 그 트랜잭션에서 평가 완료 기록 (다음 실행에서 다시 평가 안 함)
+class PosAnomalyDetectionServiceTest {
+
+    private static final LocalDate WEEK_START = LocalDate.of(2025, 8, 25);
+    private static final OffsetDateTime AGG_UPDATED_AT = OffsetDateTime.of(2025, 8, 31, 3, 0, 0, 0, ZoneOffset.ofHours(9));
+
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private StoreRepository storeRepository;
+    private EventRuleRepository eventRuleRepository;
+    private EventUpsertService eventUpsertService;
+    private SimpleMeterRegistry meterRegistry;
+    private PosAnomalyDetectionService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        namedParameterJdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        storeRepository = mock(StoreRepository.class);
+        eventRuleRepository = mock(EventRuleRepository.class);
+        eventUpsertService = mock(EventUpsertService.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        service = new PosAnomalyDetectionService(namedParameterJdbcTemplate, storeRepository, eventRuleRepository,
+                eventUpsertService, mock(PlatformTransactionManager.class), meterRegistry, Runnable::run);
+        ReflectionTestUtils.setField(service, "partitions", 2);
+        service.registerMetrics();
+
+        // WEEK: 파티션 0 -> 점포 2, 파티션 1 -> 점포 1 / MONTH: 기준선 없음
+        List<Comparison> partition0 = List.of(
+                comparison(2L, Metric.SALES, "7000000", "10000000", "0.10")
+        );
+        List<Comparison> partition1 = List.of(
+                comparison(1L, Metric.SALES, "9500000", "10000000", "0.10"),
+                comparison(1L, Metric.ORDER_COUNT, "800", "1000", "0.10"),
+                comparison(1L, Metric.AOV, "10000", "15000", "0.10")
+        );
+        when(namedParameterJdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenAnswer(inv -> {
+                    MapSqlParameterSource params = inv.getArgument(1);
+                    if (!"WEEK".equals(params.getValue("periodType"))) return List.of();
+                    return ((Integer) params.getValue("partition")) == 0 ? partition0 : partition1;
+                });
+
+        Store store1 = store(1L);
+        Store store2 = store(2L);
+        when(storeRepository.findAllById(any())).thenReturn(List.of(store1, store2));
+
+        EventRule salesRule = rule(1L, "CRITICAL");
+        EventRule orderRule = rule(2L, "WARNING");
+        EventRule marginRule = rule(5L, "WARNING");
+        when(eventRuleRepository.findAllById(any())).thenReturn(List.of(salesRule, orderRule, marginRule));
+    }
+
+    @Test
+    void comparison_hitsOnlyBelowThresholdFloor() {
+        assertTrue(comparison(1L, Metric.SALES, "8999", "10000", "0.10").isHit());
+        assertFalse(comparison(1L, Metric.SALES, "9000", "10000", "0.10").isHit());
+        assertFalse(comparison(1L, Metric.SALES, "0", "0", "0.10").isHit());
+        assertFalse(comparison(1L, Metric.SALES, null, "10000", "0.10").isHit());
+    }
+
+    @Test
+    void summary_showsDeviationAndThreshold() {
+        String summary = PosAnomalyDetectionService.summary(
+                comparison(1L, Metric.SALES, "8250000", "10000000", "0.10"));
+
+        assertEquals("주간 매출 기준선 대비 -17.5% (임계 -10.0%, 기준 2025-08-25)", summary);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void run_scansEveryPartitionAndUpsertsMappedHits() {
+        when(eventUpsertService.upsertBatch(anyList())).thenReturn(List.of(
+                new EventUpsertService.UpsertResult(true, 10L),
+                new EventUpsertService.UpsertResult(false, 11L)));
+
+        RunResult result = service.run();
+
+        assertEquals(4, result.scanned());
+        assertEquals(3, result.hits());
+        assertEquals(1, result.inserted());
+        assertEquals(1, result.updated());
+        assertEquals(0, result.failed());
+
+        // WEEK/MONTH x 파티션 2개
+        verify(namedParameterJdbcTemplate, times(4)).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+
+        ArgumentCaptor<List<EventUpsertService.EventHit>> hits = ArgumentCaptor.forClass(List.class);
+        verify(eventUpsertService, times(1)).upsertBatch(hits.capture());
+        assertEquals(List.of("POS_ORDER_DROP", "POS_SALES_DROP"),
+                hits.getValue().stream().map(EventUpsertService.EventHit::eventType).toList());
+        assertTrue(hits.getValue().stream().allMatch(h -> "pos".equals(h.relatedEntityType())));
+
+        // 이벤트 대상 행(100, 200)은 반영 배치 안에서 한 번씩 평가 완료 기록
+        ArgumentCaptor<SqlParameterSource[]> marks = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(namedParameterJdbcTemplate, times(1)).batchUpdate(contains("pos_anomaly_evaluation"), marks.capture());
+        assertEquals(List.of(100L, 200L), Arrays.stream(marks.getValue()).map(p -> p.getValue("posPeriodAggId")).toList());
+        assertEquals(AGG_UPDATED_AT, marks.getValue()[0].getValue("aggUpdatedAt"));
+
+        assertEquals(4.0, meterRegistry.get("pos.anomaly.scanned").counter().count());
+        assertEquals(3.0, meterRegistry.get("pos.anomaly.hits").counter().count());
+        assertEquals(1.0, meterRegistry.get("pos.anomaly.events").tag("outcome", "inserted").counter().count());
+        assertEquals(1L, meterRegistry.get("pos.anomaly.run").tag("result", "success").timer().count());
+        assertEquals(1L, meterRegistry.get("pos.anomaly.throughput").summary().count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void run_failedBatchDoesNotStopTheRest() {
+        ReflectionTestUtils.setField(service, "batchSize", 1);
+        when(eventUpsertService.upsertBatch(anyList()))
+                .thenThrow(new IllegalStateException("boom"))
+                .thenReturn(List.of(new EventUpsertService.UpsertResult(true, 10L)));
+
+        RunResult result = service.run();
+
+        assertEquals(1, result.inserted());
+        assertEquals(1, result.failed());
+        assertEquals(1.0, meterRegistry.get("pos.anomaly.events").tag("outcome", "failed").counter().count());
+
+        // 실패한 배치(점포 1 행)는 평가 기록도 남기지 않음 -> 다음 실행에서 다시 감지
+        ArgumentCaptor<SqlParameterSource[]> marks = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(namedParameterJdbcTemplate, times(1)).batchUpdate(contains("pos_anomaly_evaluation"), marks.capture());
+        assertEquals(List.of(200L), Arrays.stream(marks.getValue()).map(p -> p.getValue("posPeriodAggId")).toList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void run_metricsOfOneRowStayInOneBatch() {
+        // 점포 1 행의 매출 / 주문수가 모두 이탈이면 batch-size 1 이어도 한 배치
+        ReflectionTestUtils.setField(service, "batchSize", 1);
+        when(namedParameterJdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenAnswer(inv -> {
+                    MapSqlParameterSource params = inv.getArgument(1);
+                    if (!"WEEK".equals(params.getValue("periodType")) || !Integer.valueOf(0).equals(params.getValue("partition"))) {
+                        return List.of();
+                    }
+                    return List.of(
+                            comparison(1L, Metric.SALES, "8000000", "10000000", "0.10"),
+                            comparison(1L, Metric.ORDER_COUNT, "800", "1000", "0.10"));
+                });
+        when(eventUpsertService.upsertBatch(anyList())).thenReturn(List.of(
+                new EventUpsertService.UpsertResult(true, 10L),
+                new EventUpsertService.UpsertResult(true, 11L)));
+
+        service.run();
+
+        ArgumentCaptor<List<EventUpsertService.EventHit>> hits = ArgumentCaptor.forClass(List.class);
+        verify(eventUpsertService, times(1)).upsertBatch(hits.capture());
+        assertEquals(2, hits.getValue().size());
+    }
+
+    @Test
+    void scan_excludesPeriodsEndingTodayAndAlreadyEvaluatedRows() {
+        service.scan(PosPeriodType.WEEK, LocalDate.of(2025, 8, 31));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<SqlParameterSource> params = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(namedParameterJdbcTemplate, times(2)).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertTrue(sql.getValue().contains("a.period_end < :today"));
+        assertTrue(sql.getValue().contains("e.agg_updated_at >= a.updated_at"));
+        assertEquals(LocalDate.of(2025, 8, 24), params.getValue().getValue("oldestEnd"));
+    }
+
+    private static Comparison comparison(Long storeId, Metric metric, String actual, String baseline, String threshold) {
+        return new Comparison(storeId * 100, AGG_UPDATED_AT, storeId, PosPeriodType.WEEK, WEEK_START, metric,
+                actual == null ? null : new BigDecimal(actual), new BigDecimal(baseline), new BigDecimal(threshold));
+    }
+
+    private static Store store(Long id) {
+        Store store = mock(Store.class);
+        when(store.getId()).thenReturn(id);
+        return store;
+    }
+
+    private static EventRule rule(Long ruleId, String severity) {
+        EventRule rule = mock(EventRule.class);
+        when(rule.getRuleId()).thenReturn(ruleId);
+        when(rule.getIsActive()).thenReturn(true);
+        when(rule.getSeverityDefault()).thenReturn(severity);
+        return rule;
+    }
+}
@@ -0,0 +1,85 @@
+package com.franchise.backend.pos.service;
+
+import com.franchise.backend.pos.entity.PosDaily;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// POS 대시보드 합산 마이크로 벤치마크 (기존 BigDecimal 누적 vs long 누적)
+// - 기본 test 에서는 제외, `gradle benchmark` 로 실행
+// - ADMIN 범위(전체 점포 x 한 달) 크기 행 합산으로 1회당 시간 / 할당 바이트 출력
+@Tag("benchmark")
+class PosCentsAggregationBenchmarkTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 8, 1);
+    private static final LocalDate END = LocalDate.of(2025, 8, 31);
+
+    private static final int STORES = 1_000;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 500;
+
+    @Test
+    void compareTotals() {
+        List<PosDaily> dailies = PosCentsAggregationTest.randomDailies(STORES, START, END, new Random(1L));
+
+        Result decimal = measure(() -> {
+            BigDecimal sales = BigDecimal.ZERO;
+            BigDecimal margin = BigDecimal.ZERO;
+            long orders = 0;
+            for (PosDaily d : dailies) {
+                sales = sales.add(d.getSalesAmount());
+                margin = margin.add(d.getMarginAmount());
+                orders += d.getOrderCount();
+            }
+            return sales.unscaledValue().longValue() + margin.unscaledValue().longValue() + orders;
+        });
+
+        Result cents = measure(() -> {
+            PosCentsAggregation.Totals totals = new PosCentsAggregation.Totals();
+            for (PosDaily d : dailies) {
+                totals.add(d.getSalesAmount(), d.getMarginAmount(), d.getOrderCount());
+            }
+            return totals.sales().unscaledValue().longValue() + totals.margin().unscaledValue().longValue() + totals.orders();
+        });
+
+        assertEquals(decimal.checksum, cents.checksum);
+
+        System.out.printf("[pos-agg-benchmark] rows=%d%n", dailies.size());
+        System.out.printf("[pos-agg-benchmark] bigdecimal : %,10d ns/op  %,12d B/op%n", decimal.nanosPerOp, decimal.bytesPerOp);
+        System.out.printf("[pos-agg-benchmark] long-cents : %,10d ns/op  %,12d B/op%n", cents.nanosPerOp, cents.bytesPerOp);
+    }
+
+    private static Result measure(Supplier<Long> op) {
+        long checksum = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            checksum = op.get();
+        }
+
+        long bytesBefore = allocatedBytes();
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            checksum = op.get();
+        }
+        long elapsed = System.nanoTime() - started;
+        long bytes = allocatedBytes() - bytesBefore;
+
+        return new Result(elapsed / MEASURED_ROUNDS, bytes / MEASURED_ROUNDS, checksum);
+    }
+
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean) {
+            return bean.getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+
+    private record Result(long nanosPerOp, long bytesPerOp, long checksum) {}
+}
@@ -0,0 +1,87 @@
+package com.franchise.backend.pos.service;
+
+import com.franchise.backend.pos.entity.PosDaily;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// long 누적 경로가 기존 BigDecimal 누적과 같은 값(scale 포함)을 내는지 확인
+class PosCentsAggregationTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 8, 1);
+    private static final LocalDate END = LocalDate.of(2025, 8, 31);
+
+    @Test
+    void totals_matchBigDecimalSums() {
+        List<PosDaily> dailies = randomDailies(50, START, END, new Random(7L));
+
+        BigDecimal sales = BigDecimal.ZERO;
+        BigDecimal margin = BigDecimal.ZERO;
+        long orders = 0;
+        PosCentsAggregation.Totals totals = new PosCentsAggregation.Totals();
+
+        for (PosDaily d : dailies) {
+            sales = sales.add(d.getSalesAmount());
+            margin = margin.add(d.getMarginAmount());
+            orders += d.getOrderCount();
+            totals.add(d.getSalesAmount(), d.getMarginAmount(), d.getOrderCount());
+        }
+
+        assertEquals(sales, totals.sales());
+        assertEquals(margin, totals.margin());
+        assertEquals(orders, totals.orders());
+    }
+
+    @Test
+    void emptyTotals_areUnscaledZeroLikeBefore() {
+        PosCentsAggregation.Totals totals = new PosCentsAggregation.Totals();
+
+        assertEquals(BigDecimal.ZERO, totals.sales());
+        assertEquals(BigDecimal.ZERO, totals.margin());
+        assertEquals(0L, totals.orders());
+    }
+
+    @Test
+    void overflowOrUnexpectedScale_fallsBackToBigDecimal() {
+        BigDecimal huge = new BigDecimal("90000000000000000.00");
+        PosCentsAggregation.Totals totals = new PosCentsAggregation.Totals();
+        totals.add(huge, BigDecimal.ONE.setScale(2), 1);
+        totals.add(huge, new BigDecimal("0.005"), 1);
+
+        assertEquals(new BigDecimal("180000000000000000.00"), totals.sales());
+        assertEquals(new BigDecimal("1.005"), totals.margin());
+    }
+
+    static List<PosDaily> randomDailies(int stores, LocalDate start, LocalDate end, Random random) {
+        List<PosDaily> dailies = new ArrayList<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            for (long storeId = 1; storeId <= stores; storeId++) {
+                // 일부 점포/일자는 데이터 없음
+                if (random.nextInt(10) == 0) {
+                    continue;
+                }
+                BigDecimal sales = BigDecimal.valueOf(500_000_00L + random.nextInt(3_000_000_00), 2);
+                BigDecimal margin = BigDecimal.valueOf(random.nextInt(1_000_000_00) - 100_000_00, 2);
+                dailies.add(daily(storeId, date, sales, margin, 50 + random.nextInt(200)));
+            }
+        }
+        return dailies;
+    }
+
+    static PosDaily daily(Long storeId, LocalDate date, BigDecimal sales, BigDecimal margin, int orders) {
+        PosDaily d = new PosDaily();
+        ReflectionTestUtils.setField(d, "storeId", storeId);
+        ReflectionTestUtils.setField(d, "businessDate", date);
+        ReflectionTestUtils.setField(d, "salesAmount", sales);
+        ReflectionTestUtils.setField(d, "marginAmount", margin);
+        ReflectionTestUtils.setField(d, "orderCount", orders);
+        return d;
+    }
+}
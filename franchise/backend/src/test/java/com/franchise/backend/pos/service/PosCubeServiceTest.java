@@ -0,0 +1,106 @@
+package com.franchise.backend.pos.service;
+
+import com.franchise.backend.pos.dto.cube.PosCubeDimension;
+import com.franchise.backend.pos.dto.cube.PosCubeResponse;
+import com.franchise.backend.pos.entity.PosPeriodAgg.PosPeriodType;
+import com.franchise.backend.store.service.StoreScopeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// POS 큐브 적재 / 증분 갱신 테스트
+// - 첫 조회에서 전체 적재 1번, 이후 markStale 된 점포만 IN 조회로 다시 읽는다
+class PosCubeServiceTest {
+
+    private static final LocalDate W = LocalDate.of(2025, 8, 25);
+
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private StoreScopeService storeScopeService;
+    private PosCubeService service;
+
+    private long store1Sales = 100;
+
+    @BeforeEach
+    void setUp() {
+        namedParameterJdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        storeScopeService = mock(StoreScopeService.class);
+        service = new PosCubeService(namedParameterJdbcTemplate, storeScopeService, new SimpleMeterRegistry());
+        service.registerMetrics();
+
+        when(storeScopeService.getAccessibleStoreIdsByLoginId("admin")).thenReturn(List.of(1L, 2L));
+
+        doAnswer(inv -> {
+            String sql = inv.getArgument(0);
+            RowCallbackHandler handler = inv.getArgument(2);
+            if (!sql.contains("IN (:storeIds)")) {
+                handler.processRow(row(2L, "R02", 50));
+            }
+            handler.processRow(row(1L, "R01", store1Sales));
+            return null;
+        }).when(namedParameterJdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    void firstQueryBuildsCube_thenStaleStoresReloadIncrementally() {
+        PosCubeResponse first = query();
+        assertEquals(1, first.getCubeVersion());
+        assertEquals(List.of("R01", "R02"), regions(first));
+
+        // 캐시된 스냅샷 재사용 (추가 DB 조회 없음)
+        query();
+        verify(namedParameterJdbcTemplate, times(1))
+                .query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+        store1Sales = 10;
+        service.markStale(List.of(1L));
+        PosCubeResponse second = query();
+
+        assertEquals(2, second.getCubeVersion());
+        assertEquals(List.of("R02", "R01"), regions(second));
+        assertEquals(0, new BigDecimal("10.00").compareTo(second.getGroups().get(1).getSales()));
+        verify(namedParameterJdbcTemplate, times(1))
+                .query(contains("IN (:storeIds)"), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    void invalidRangeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> service.query("admin", PosPeriodType.WEEK,
+                W, W.minusWeeks(1), List.of(), Map.of()));
+    }
+
+    private PosCubeResponse query() {
+        return service.query("admin", PosPeriodType.WEEK, null, null, List.of(PosCubeDimension.REGION), Map.of());
+    }
+
+    private static List<String> regions(PosCubeResponse res) {
+        return res.getGroups().stream().map(g -> g.getKeys().get(PosCubeDimension.REGION)).toList();
+    }
+
+    private static ResultSet row(Long storeId, String region, long sales) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("store_id")).thenReturn(storeId);
+        when(rs.getString("period_type")).thenReturn("WEEK");
+        when(rs.getObject("period_start", LocalDate.class)).thenReturn(W);
+        when(rs.getString("region_code")).thenReturn(region);
+        when(rs.getString("supervisor_login_id")).thenReturn("sv01");
+        when(rs.getString("trade_area_type")).thenReturn("OFFICE");
+        when(rs.getBigDecimal("sales_amount")).thenReturn(BigDecimal.valueOf(sales * 100, 2));
+        when(rs.getLong("order_count")).thenReturn(10L);
+        when(rs.getBigDecimal("margin_amount")).thenReturn(BigDecimal.valueOf(sales * 30, 2));
+        return rs;
+    }
+}
@@ -0,0 +1,94 @@
+package com.franchise.backend.pos.service;
+
+import com.franchise.backend.pos.dto.cube.PosCubeDimension;
+import com.franchise.backend.pos.entity.PosPeriodAgg.PosPeriodType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 컬럼형 POS 큐브 group by / 필터 / 증분 교체 테스트
+class PosCubeTest {
+
+    private static final LocalDate W1 = LocalDate.of(2025, 8, 18);
+    private static final LocalDate W2 = LocalDate.of(2025, 8, 25);
+
+    private static PosCube sampleCube() {
+        return PosCube.builder()
+                .add(1L, PosPeriodType.WEEK, W1, "R01", "sv01", "OFFICE", new BigDecimal("100.50"), 10, new BigDecimal("30.00"))
+                .add(1L, PosPeriodType.WEEK, W2, "R01", "sv01", "OFFICE", new BigDecimal("200.00"), 20, new BigDecimal("60.00"))
+                .add(2L, PosPeriodType.WEEK, W2, "R01", "sv02", "RESIDENTIAL", new BigDecimal("300.00"), 15, new BigDecimal("90.00"))
+                .add(3L, PosPeriodType.WEEK, W2, "R02", null, "OFFICE", new BigDecimal("50.00"), 5, new BigDecimal("10.00"))
+                .add(3L, PosPeriodType.MONTH, LocalDate.of(2025, 8, 1), "R02", null, "OFFICE", new BigDecimal("999.00"), 99, new BigDecimal("1.00"))
+                .build(1, OffsetDateTime.now());
+    }
+
+    @Test
+    void groupByRegion_sumsWeekRowsInPeriodRange() {
+        List<PosCube.Group> groups = sampleCube().query(PosPeriodType.WEEK, W2, W2,
+                List.of(PosCubeDimension.REGION), null, Map.of());
+
+        assertEquals(2, groups.size());
+        assertArrayEquals(new String[]{"R01"}, groups.get(0).keys());
+        assertEquals(0, new BigDecimal("500.00").compareTo(groups.get(0).sales()));
+        assertEquals(35, groups.get(0).orders());
+        assertEquals(2, groups.get(0).rows());
+        assertEquals(new BigDecimal("0.3000"), groups.get(0).marginRate());
+
+        // 담당 SV 없는 점포는 "-"
+        assertArrayEquals(new String[]{"R02"}, groups.get(1).keys());
+    }
+
+    @Test
+    void multiDimensionGroupBy_andFilters() {
+        List<PosCube.Group> groups = sampleCube().query(PosPeriodType.WEEK, null, null,
+                List.of(PosCubeDimension.SUPERVISOR, PosCubeDimension.PERIOD), null,
+                Map.of(PosCubeDimension.TRADE_AREA, Set.of("OFFICE")));
+
+        assertEquals(3, groups.size());
+        assertArrayEquals(new String[]{"sv01", W2.toString()}, groups.get(0).keys());
+        assertArrayEquals(new String[]{"sv01", W1.toString()}, groups.get(1).keys());
+        assertArrayEquals(new String[]{PosCube.NONE, W2.toString()}, groups.get(2).keys());
+    }
+
+    @Test
+    void scopeAndUnknownFilterValues() {
+        PosCube cube = sampleCube();
+
+        List<PosCube.Group> scoped = cube.query(PosPeriodType.WEEK, null, null,
+                List.of(PosCubeDimension.STORE), List.of(2L, 3L), Map.of());
+        assertEquals(List.of("2", "3"), scoped.stream().map(g -> g.keys()[0]).toList());
+
+        List<PosCube.Group> none = cube.query(PosPeriodType.WEEK, null, null,
+                List.of(), null, Map.of(PosCubeDimension.REGION, Set.of("R99")));
+        assertTrue(none.isEmpty());
+
+        // group by 없음 = 전체 합계 1행
+        List<PosCube.Group> total = cube.query(PosPeriodType.WEEK, null, null, List.of(), null, Map.of());
+        assertEquals(1, total.size());
+        assertEquals(4, total.get(0).rows());
+    }
+
+    @Test
+    void toBuilderWithout_replacesOnlyTouchedStores() {
+        PosCube cube = sampleCube();
+
+        PosCube next = cube.toBuilderWithout(Set.of(1L))
+                .add(1L, PosPeriodType.WEEK, W2, "R02", "sv03", "OFFICE", new BigDecimal("10.00"), 1, new BigDecimal("1.00"))
+                .build(2, OffsetDateTime.now());
+
+        assertEquals(5, cube.rowCount());
+        assertEquals(4, next.rowCount());
+
+        List<PosCube.Group> groups = next.query(PosPeriodType.WEEK, null, null,
+                List.of(PosCubeDimension.STORE, PosCubeDimension.REGION), null, Map.of());
+        assertArrayEquals(new String[]{"1", "R02"}, groups.get(groups.size() - 1).keys());
+        assertEquals(0, new BigDecimal("10.00").compareTo(groups.get(groups.size() - 1).sales()));
+    }
+}
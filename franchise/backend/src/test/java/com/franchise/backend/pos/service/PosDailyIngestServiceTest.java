@@ -0,0 +1,122 @@
+package com.franchise.backend.pos.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.franchise.backend.pos.dto.ingest.PosDailyIngestResponse;
+import com.franchise.backend.pos.service.PosDailyIngestService.Format;
+import com.franchise.backend.pos.service.PosPeriodAggregationService.TouchedDay;
+import com.franchise.backend.store.repository.StoreRepository;
+import com.franchise.backend.store.service.AdminDashboardSnapshotService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// POS 일 마감 벌크 적재: 배치 단위 upsert / 행 단위 거절 / 증분 집계 호출
+class PosDailyIngestServiceTest {
+
+    private JdbcOperations jdbcOperations;
+    private PosPeriodAggregationService posPeriodAggregationService;
+    private AdminDashboardSnapshotService adminDashboardSnapshotService;
+    private PosDailyIngestService service;
+
+    @BeforeEach
+    void setUp() {
+        NamedParameterJdbcTemplate namedParameterJdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        jdbcOperations = mock(JdbcOperations.class);
+        when(namedParameterJdbcTemplate.getJdbcOperations()).thenReturn(jdbcOperations);
+
+        StoreRepository storeRepository = mock(StoreRepository.class);
+        when(storeRepository.findAllStoreIds()).thenReturn(List.of(1L, 2L));
+
+        posPeriodAggregationService = mock(PosPeriodAggregationService.class);
+        adminDashboardSnapshotService = mock(AdminDashboardSnapshotService.class);
+
+        service = new PosDailyIngestService(namedParameterJdbcTemplate, storeRepository,
+                posPeriodAggregationService, adminDashboardSnapshotService, new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void csv_acceptsValidRowsInBatchesAndReportsRejects() {
+        String body = """
+                store_id,business_date,sales_amount,order_count,cogs_amount,abnormal_reason
+                1,2025-08-30,1000000,100,650000,"spike, festival"
+                1,2025-08-31,1200000,110,700000,
+                2,2025-08-31,abc,90,0,
+                99,2025-08-31,1000,1,0,
+
+                2,2025-09-01,900000,80,,
+                1,2025-08-31,1,1,0,
+                """;
+
+        PosDailyIngestResponse res = service.ingest(reader(body), Format.CSV);
+
+        assertEquals(6, res.getTotalRows());
+        assertEquals(3, res.getAcceptedRows());
+        assertEquals(3, res.getRejectedRows());
+        assertEquals(List.of(4, 5, 8), res.getRejects().stream().map(PosDailyIngestResponse.RejectedRow::getLineNumber).toList());
+        assertTrue(res.getRejects().get(2).getReason().contains("duplicate"));
+
+        // 배치 크기 2 -> 2건 + 1건
+        ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.forClass(List.class);
+        verify(jdbcOperations, times(2)).batchUpdate(anyString(), batches.capture(), any(int[].class));
+
+        Object[] first = batches.getAllValues().get(0).get(0);
+        assertEquals(new BigDecimal("350000.00"), first[5]);   // margin = sales - cogs
+        assertEquals("spike, festival", first[10]);
+
+        ArgumentCaptor<Collection<TouchedDay>> touched = ArgumentCaptor.forClass(Collection.class);
+        verify(posPeriodAggregationService).refresh(touched.capture());
+        assertEquals(3, touched.getValue().size());
+        assertTrue(touched.getValue().contains(new TouchedDay(2L, LocalDate.of(2025, 9, 1))));
+        verify(adminDashboardSnapshotService).markStale();
+    }
+
+    @Test
+    void jsonLines_rejectsNegativeAmountsAndBadJson() {
+        String body = """
+                {"storeId":1,"businessDate":"2025-08-31","salesAmount":1000,"orderCount":10,"cogsAmount":600}
+                {"storeId":1,"businessDate":"2025-08-30","salesAmount":-1,"orderCount":10}
+                {not json
+                """;
+
+        PosDailyIngestResponse res = service.ingest(reader(body), Format.JSON_LINES);
+
+        assertEquals(1, res.getAcceptedRows());
+        assertEquals(2, res.getRejectedRows());
+        assertTrue(res.getRejects().get(0).getReason().contains("sales_amount"));
+        verify(jdbcOperations, times(1)).batchUpdate(anyString(), anyList(), any(int[].class));
+    }
+
+    @Test
+    void nothingAccepted_skipsAggregation() {
+        PosDailyIngestResponse res = service.ingest(reader("store_id,business_date,sales_amount,order_count\n"), Format.CSV);
+
+        assertEquals(0, res.getTotalRows());
+        verifyNoInteractions(jdbcOperations, posPeriodAggregationService, adminDashboardSnapshotService);
+    }
+
+    @Test
+    void csvWithoutRequiredHeader_isRejectedAsAWhole() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.ingest(reader("store_id,business_date\n1,2025-08-31\n"), Format.CSV));
+    }
+
+    private static BufferedReader reader(String body) {
+        return new BufferedReader(new StringReader(body));
+    }
+}
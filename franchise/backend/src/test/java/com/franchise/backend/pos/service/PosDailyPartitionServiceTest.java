@@ -0,0 +1,89 @@
+package com.franchise.backend.pos.service;
+
+import com.franchise.backend.common.time.ServiceTime;
+import com.franchise.backend.pos.service.PosDailyPartitionService.MaintenanceResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// pos_daily 월 파티션 관리 테스트 (ServiceTime 기준일 2025-08-31)
+class PosDailyPartitionServiceTest {
+
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private JdbcOperations jdbcOperations;
+    private PosDailyPartitionService service;
+
+    @BeforeEach
+    void setUp() {
+        ServiceTime.useFixed(OffsetDateTime.of(2025, 8, 31, 12, 0, 0, 0, ZoneOffset.ofHours(9)));
+
+        namedParameterJdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        jdbcOperations = mock(JdbcOperations.class);
+        when(namedParameterJdbcTemplate.getJdbcOperations()).thenReturn(jdbcOperations);
+        service = new PosDailyPartitionService(namedParameterJdbcTemplate);
+
+        when(namedParameterJdbcTemplate.queryForList(contains("pg_inherits"), any(SqlParameterSource.class), eq(String.class)))
+                .thenReturn(List.of("pos_daily_p202203", "pos_daily_p202209", "pos_daily_p202508", "pos_daily_default"));
+        // 기본 파티션에 7월 행(보존 기간 안) + 2021년 행(보존 기간 밖)
+        when(namedParameterJdbcTemplate.queryForList(contains("pos_daily_default"), any(SqlParameterSource.class), eq(LocalDate.class)))
+                .thenReturn(List.of(LocalDate.of(2025, 7, 1), LocalDate.of(2021, 1, 1)));
+        when(namedParameterJdbcTemplate.queryForObject(contains("pos_daily_ensure_partition"), any(SqlParameterSource.class), eq(String.class)))
+                .thenAnswer(inv -> {
+                    LocalDate month = (LocalDate) ((MapSqlParameterSource) inv.getArgument(1)).getValue("month");
+                    return "pos_daily_p" + month.format(DateTimeFormatter.ofPattern("yyyyMM"));
+                });
+    }
+
+    @AfterEach
+    void tearDown() {
+        ServiceTime.useSystemClock();
+    }
+
+    @Test
+    void maintain_createsUpcomingAndDefaultMonths_archivesExpired() {
+        MaintenanceResult result = service.maintain();
+
+        assertEquals(List.of("pos_daily_p202507", "pos_daily_p202509", "pos_daily_p202510", "pos_daily_p202511"),
+                result.created());
+        assertEquals(List.of("pos_daily_p202203"), result.archived());
+        assertTrue(result.dropped().isEmpty());
+
+        verify(jdbcOperations).execute("ALTER TABLE pos_daily DETACH PARTITION pos_daily_p202203");
+        verify(jdbcOperations).execute("ALTER TABLE pos_daily_p202203 SET SCHEMA pos_archive");
+        verifyNoMoreInteractions(jdbcOperations);
+    }
+
+    @Test
+    void maintain_dropModeDeletesExpiredPartitions() {
+        ReflectionTestUtils.setField(service, "archiveMode", "DROP");
+
+        MaintenanceResult result = service.maintain();
+
+        assertEquals(List.of("pos_daily_p202203"), result.dropped());
+        verify(jdbcOperations).execute("DROP TABLE pos_daily_p202203");
+    }
+
+    @Test
+    void monthOf_parsesOnlyMonthlyPartitionNames() {
+        assertEquals(YearMonth.of(2025, 3), PosDailyPartitionService.monthOf("pos_daily_p202503"));
+        assertNull(PosDailyPartitionService.monthOf("pos_daily_default"));
+        assertNull(PosDailyPartitionService.monthOf("pos_daily_p202513"));
+        assertNull(PosDailyPartitionService.monthOf("pos_daily_p202503; DROP TABLE stores"));
+    }
+}
@@ -0,0 +1,114 @@
+package com.franchise.backend.pos.service;
+
+import com.franchise.backend.pos.dto.dashboard.PerformanceListOption;
+import com.franchise.backend.pos.dto.dashboard.PosDashboardResponse;
+import com.franchise.backend.pos.dto.dashboard.StorePerformanceRowDto;
+import com.franchise.backend.pos.entity.PosPeriodAgg;
+import com.franchise.backend.pos.entity.PosPeriodAgg.PosPeriodType;
+import com.franchise.backend.pos.repository.PosDailyRepository;
+import com.franchise.backend.pos.repository.PosPeriodAggRepository;
+import com.franchise.backend.store.repository.StoreRepository;
+import com.franchise.backend.store.service.StoreScopeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// POS 대시보드 랭킹 / performanceList 페이지 / 생략 모드
+class PosDashboardServiceTest {
+
+    private static final LocalDate WEEK_START = LocalDate.of(2025, 8, 25);
+
+    private PosDashboardService service;
+
+    @BeforeEach
+    void setUp() {
+        StoreScopeService storeScopeService = mock(StoreScopeService.class);
+        StoreRepository storeRepository = mock(StoreRepository.class);
+        PosPeriodAggRepository posPeriodAggRepository = mock(PosPeriodAggRepository.class);
+        PosDailyRepository posDailyRepository = mock(PosDailyRepository.class);
+
+        // 점포 12개, 매출 = storeId * 100 (점포 7, 8은 동점)
+        List<Long> storeIds = new ArrayList<>();
+        List<PosPeriodAgg> aggs = new ArrayList<>();
+        for (long id = 1; id <= 12; id++) {
+            storeIds.add(id);
+            long sales = (id == 8 ? 7 : id) * 100;
+            aggs.add(agg(id, sales));
+        }
+
+        when(storeScopeService.getAccessibleStoreIdsByLoginId("admin")).thenReturn(storeIds);
+        when(posPeriodAggRepository.findByStoreIdsAndPeriod(anyList(), eq(PosPeriodType.WEEK), eq(WEEK_START)))
+                .thenReturn(aggs);
+        when(posPeriodAggRepository.findPrevByStoreIdsAndPeriod(anyList(), any(), any())).thenReturn(List.of());
+        when(storeRepository.findAllById(anyList())).thenReturn(List.of());
+        when(posDailyRepository.sumDailyTrendByStoreIds(anyList(), any(), any())).thenReturn(List.of());
+
+        service = new PosDashboardService(storeScopeService, storeRepository, posPeriodAggRepository, posDailyRepository);
+    }
+
+    @Test
+    void ranking_topAndLowFiveInSalesDescOrder() {
+        PosDashboardResponse res = service.getDashboard("admin", PosPeriodType.WEEK, WEEK_START);
+
+        assertEquals(List.of(12L, 11L, 10L, 9L, 7L), ids(res.getRanking().getTop5()));
+        assertEquals(List.of(5L, 4L, 3L, 2L, 1L), ids(res.getRanking().getLow5()));
+        assertEquals(12, res.getPerformanceList().size());
+        assertEquals(12, res.getPerformanceTotalCount());
+    }
+
+    @Test
+    void performanceList_pagedBySalesDesc() {
+        PosDashboardResponse page1 = service.getDashboard("admin", PosPeriodType.WEEK, WEEK_START,
+                new PerformanceListOption(true, 1, 5));
+        PosDashboardResponse page3 = service.getDashboard("admin", PosPeriodType.WEEK, WEEK_START,
+                new PerformanceListOption(true, 3, 5));
+
+        // 동점(7, 8)은 storeId 오름차순
+        assertEquals(List.of(8L, 6L, 5L, 4L, 3L), ids(page1.getPerformanceList()));
+        assertTrue(page3.getPerformanceList().isEmpty());
+        assertEquals(12, page3.getPerformanceTotalCount());
+    }
+
+    @Test
+    void performanceList_omitted() {
+        PosDashboardResponse res = service.getDashboard("admin", PosPeriodType.WEEK, WEEK_START,
+                new PerformanceListOption(false, null, null));
+
+        assertNull(res.getPerformanceList());
+        assertEquals(5, res.getRanking().getTop5().size());
+        assertEquals(new BigDecimal("7700.00"), res.getSummary().totalSales());
+    }
+
+    @Test
+    void option_rejectsBadPageSize() {
+        assertThrows(IllegalArgumentException.class, () -> new PerformanceListOption(true, 0, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PerformanceListOption(true, 0, PerformanceListOption.MAX_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> new PerformanceListOption(true, -1, 10));
+    }
+
+    private static List<Long> ids(List<StorePerformanceRowDto> rows) {
+        return rows.stream().map(StorePerformanceRowDto::getStoreId).toList();
+    }
+
+    private static PosPeriodAgg agg(Long storeId, long sales) {
+        PosPeriodAgg agg = new PosPeriodAgg();
+        ReflectionTestUtils.setField(agg, "storeId", storeId);
+        ReflectionTestUtils.setField(agg, "periodType", PosPeriodType.WEEK);
+        ReflectionTestUtils.setField(agg, "periodStart", WEEK_START);
+        ReflectionTestUtils.setField(agg, "salesAmount", BigDecimal.valueOf(sales * 100, 2));
+        ReflectionTestUtils.setField(agg, "marginAmount", BigDecimal.valueOf(sales * 30, 2));
+        ReflectionTestUtils.setField(agg, "marginRate", new BigDecimal("0.3000"));
+        ReflectionTestUtils.setField(agg, "orderCount", 10);
+        return agg;
+    }
+}
@@ -0,0 +1,101 @@
+package com.franchise.backend.pos.service;
+
+import com.franchise.backend.common.time.ServiceTime;
+import com.franchise.backend.pos.dto.PosKpiStoreSeriesResponse;
+import com.franchise.backend.pos.repository.PosKpiQueryRepository;
+import com.franchise.backend.pos.repository.PosKpiQueryRepository.StoreSeriesRow;
+import com.franchise.backend.store.repository.StoreRepository;
+import com.franchise.backend.store.service.StoreScopeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 담당 점포 KPI 시계열: 기간 범위 계산 + 쿼리 1번 + 점포별 묶기
+class PosKpiServiceTest {
+
+    private PosKpiQueryRepository posKpiQueryRepository;
+    private StoreScopeService storeScopeService;
+    private PosKpiService service;
+
+    @BeforeEach
+    void setUp() {
+        ServiceTime.useFixed(OffsetDateTime.of(2025, 8, 31, 12, 0, 0, 0, ZoneOffset.ofHours(9)));
+
+        posKpiQueryRepository = mock(PosKpiQueryRepository.class);
+        storeScopeService = mock(StoreScopeService.class);
+        service = new PosKpiService(mock(StoreRepository.class), posKpiQueryRepository, storeScopeService);
+    }
+
+    @Test
+    void weeklySeries_boundedRangeAndGroupedByStore() {
+        when(storeScopeService.getAccessibleStoreIdsByLoginId("sv01")).thenReturn(List.of(1L, 2L));
+
+        List<StoreSeriesRow> rows = List.of(
+                row(1L, "강남점", LocalDate.of(2025, 8, 18), "1000000.00", null),
+                row(1L, "강남점", LocalDate.of(2025, 8, 25), "1100000.00", "0.1000"),
+                row(2L, "홍대점", LocalDate.of(2025, 8, 25), "900000.00", "-0.0500")
+        );
+        when(posKpiQueryRepository.findSeriesForStores(anyList(), anyString(), any(), any(), any()))
+                .thenReturn(rows);
+
+        PosKpiStoreSeriesResponse res = service.getStoreSeries("sv01", "week", 12);
+
+        // 2025-08-31(일) -> 이번 주 2025-08-25, 12주 = 2025-06-09 ~ 2025-08-25, 직전 주 2025-06-02 부터 LAG 용으로 읽음
+        verify(posKpiQueryRepository, times(1)).findSeriesForStores(
+                List.of(1L, 2L), "WEEK",
+                LocalDate.of(2025, 6, 2), LocalDate.of(2025, 6, 9), LocalDate.of(2025, 8, 25));
+        assertEquals(LocalDate.of(2025, 6, 9), res.getFromPeriodStart());
+
+        assertEquals(2, res.getStores().size());
+        PosKpiStoreSeriesResponse.StoreSeries gangnam = res.getStores().get(0);
+        assertEquals("강남점", gangnam.getStoreName());
+        assertEquals(2, gangnam.getPoints().size());
+        assertNull(gangnam.getPoints().get(0).getSalesRate());
+        assertEquals(10.0, gangnam.getPoints().get(1).getSalesRate(), 1e-9);
+        assertEquals(1_100_000L, gangnam.getPoints().get(1).getSales());
+    }
+
+    @Test
+    void monthlySeries_clampsPeriods() {
+        when(storeScopeService.getAccessibleStoreIdsByLoginId("admin")).thenReturn(List.of(1L));
+        when(posKpiQueryRepository.findSeriesForStores(anyList(), anyString(), any(), any(), any()))
+                .thenReturn(List.of());
+
+        service.getStoreSeries("admin", "MONTH", 100);
+
+        verify(posKpiQueryRepository).findSeriesForStores(
+                List.of(1L), "MONTH",
+                LocalDate.of(2023, 8, 1), LocalDate.of(2023, 9, 1), LocalDate.of(2025, 8, 1));
+    }
+
+    @Test
+    void noScopedStores_skipsQuery() {
+        when(storeScopeService.getAccessibleStoreIdsByLoginId("manager01")).thenReturn(List.of());
+
+        PosKpiStoreSeriesResponse res = service.getStoreSeries("manager01", "WEEK", 12);
+
+        assertTrue(res.getStores().isEmpty());
+        verifyNoInteractions(posKpiQueryRepository);
+    }
+
+    private static StoreSeriesRow row(Long storeId, String name, LocalDate start, String sales, String salesRate) {
+        StoreSeriesRow row = mock(StoreSeriesRow.class);
+        when(row.getStoreId()).thenReturn(storeId);
+        when(row.getStoreName()).thenReturn(name);
+        when(row.getPeriodStart()).thenReturn(start);
+        when(row.getSalesSum()).thenReturn(new BigDecimal(sales));
+        when(row.getOrdersSum()).thenReturn(100L);
+        when(row.getAov()).thenReturn(new BigDecimal("10000.00"));
+        when(row.getSalesRate()).thenReturn(salesRate == null ? null : new BigDecimal(salesRate));
+        return row;
+    }
+}
@@ -0,0 +1,96 @@
+package com.franchise.backend.pos.service;
+
+import com.franchise.backend.pos.entity.PosPeriodAgg.PosPeriodType;
+import com.franchise.backend.pos.service.PosPeriodAggregationService.PeriodKey;
+import com.franchise.backend.pos.service.PosPeriodAggregationService.TouchedDay;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+// pos_period_agg 증분 집계 대상 기간 계산 테스트
+class PosPeriodAggregationServiceTest {
+
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private PosCubeService posCubeService;
+    private PosPeriodAggregationService service;
+
+    @BeforeEach
+    void setUp() {
+        namedParameterJdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        posCubeService = mock(PosCubeService.class);
+        service = new PosPeriodAggregationService(namedParameterJdbcTemplate, posCubeService);
+    }
+
+    @Test
+    void touchedDay_mapsToItsWeekAndMonthOnly() {
+        // 2025-08-31 은 일요일 -> 주 시작 2025-08-25(월)
+        Set<PeriodKey> keys = PosPeriodAggregationService.affectedPeriods(List.of(
+                new TouchedDay(1L, LocalDate.of(2025, 8, 31)),
+                new TouchedDay(1L, LocalDate.of(2025, 8, 25)),
+                new TouchedDay(2L, LocalDate.of(2025, 9, 1))
+        ));
+
+        assertEquals(Set.of(
+                new PeriodKey(1L, PosPeriodType.WEEK, LocalDate.of(2025, 8, 25)),
+                new PeriodKey(1L, PosPeriodType.MONTH, LocalDate.of(2025, 8, 1)),
+                new PeriodKey(2L, PosPeriodType.WEEK, LocalDate.of(2025, 9, 1)),
+                new PeriodKey(2L, PosPeriodType.MONTH, LocalDate.of(2025, 9, 1))
+        ), keys);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void refresh_upsertsOnceAndRecomputesRatesForNextPeriodToo() {
+        service.refresh(List.of(new TouchedDay(1L, LocalDate.of(2025, 8, 31))));
+
+        ArgumentCaptor<Map<String, ?>> params = ArgumentCaptor.forClass(Map.class);
+        verify(namedParameterJdbcTemplate, times(2)).update(anyString(), params.capture());
+
+        List<Object[]> upsertKeys = (List<Object[]>) params.getAllValues().get(0).get("keys");
+        List<Object[]> rateKeys = (List<Object[]>) params.getAllValues().get(1).get("keys");
+
+        assertEquals(2, upsertKeys.size());
+        assertEquals(List.of(
+                List.of(1L, "WEEK", LocalDate.of(2025, 8, 25)),
+                List.of(1L, "MONTH", LocalDate.of(2025, 8, 1)),
+                List.of(1L, "WEEK", LocalDate.of(2025, 9, 1)),
+                List.of(1L, "MONTH", LocalDate.of(2025, 9, 1))
+        ), asLists(rateKeys));
+
+        verify(posCubeService).markStale(Set.of(1L));
+    }
+
+    @Test
+    void refresh_splitsLargeInputIntoChunks() {
+        List<TouchedDay> days = new ArrayList<>();
+        for (long storeId = 1; storeId <= PosPeriodAggregationService.KEY_CHUNK_SIZE; storeId++) {
+            days.add(new TouchedDay(storeId, LocalDate.of(2025, 8, 31)));
+        }
+
+        service.refresh(days);
+
+        // WEEK+MONTH = 2000 키 -> upsert 2번, 변화율 대상 4000 키 -> update 4번
+        verify(namedParameterJdbcTemplate, times(6)).update(anyString(), anyMap());
+    }
+
+    @Test
+    void refresh_ignoresEmptyInput() {
+        service.refresh(List.of());
+        verifyNoInteractions(namedParameterJdbcTemplate, posCubeService);
+    }
+
+    private static List<List<Object>> asLists(List<Object[]> rows) {
+        return rows.stream().map(List::of).toList();
+    }
+}
@@ -0,0 +1,94 @@
+package com.franchise.backend.pos.service;
+
+import com.franchise.backend.pos.dto.dashboard.detail.PosStoreDashboardResponse;
+import com.franchise.backend.pos.entity.PosPeriodAgg;
+import com.franchise.backend.pos.entity.PosPeriodAgg.PosPeriodType;
+import com.franchise.backend.pos.repository.PosPeriodAggRepository;
+import com.franchise.backend.store.repository.StoreRepository;
+import com.franchise.backend.store.repository.StoreRepository.AccessibleStoreRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 점포 POS 상세 DB 왕복 수 회귀 테스트
+// - 권한+점포 정보 1번, window 집계 1번 (전기간 KPI 도 window 결과에서 계산)
+class PosStoreDashboardServiceTest {
+
+    private StoreRepository storeRepository;
+    private PosPeriodAggRepository posPeriodAggRepository;
+    private PosStoreDashboardService service;
+
+    @BeforeEach
+    void setUp() {
+        storeRepository = mock(StoreRepository.class);
+        posPeriodAggRepository = mock(PosPeriodAggRepository.class);
+        service = new PosStoreDashboardService(storeRepository, posPeriodAggRepository);
+    }
+
+    @Test
+    void weekDashboard_usesOneAccessQueryAndOneWindowQuery() {
+        AccessibleStoreRow store = store(7L);
+        when(storeRepository.findAccessibleStore(7L, "sv01")).thenReturn(Optional.of(store));
+
+        LocalDate anchor = LocalDate.of(2025, 8, 25);
+        List<PosPeriodAgg> window = List.of(
+                agg(anchor.minusWeeks(1), 1_000_000, 100),
+                agg(anchor, 1_200_000, 110)
+        );
+        when(posPeriodAggRepository.findWindowByStoreId(eq(7L), eq(PosPeriodType.WEEK), any(), any()))
+                .thenReturn(window);
+
+        // 수요일을 넘겨도 월요일 기준으로 정규화
+        PosStoreDashboardResponse res = service.getStoreDashboard(" sv01 ", 7L, PosPeriodType.WEEK, anchor.plusDays(2));
+
+        assertEquals("강남점", res.getStore().getStoreName());
+        assertEquals(0, new BigDecimal("1200000").compareTo(res.getKpi().getTotalSales()));
+        assertEquals(0, new BigDecimal("0.200000").compareTo(res.getKpi().getSalesChangeRate()));
+        assertEquals(0, new BigDecimal("0.100000").compareTo(res.getKpi().getOrdersChangeRate()));
+        assertEquals(12, res.getTrend().size());
+        assertEquals(anchor, res.getTrend().get(11).getPeriodStart());
+
+        verify(storeRepository, times(1)).findAccessibleStore(7L, "sv01");
+        verify(posPeriodAggRepository, times(1)).findWindowByStoreId(7L, PosPeriodType.WEEK, anchor.minusWeeks(11), anchor);
+        verifyNoMoreInteractions(storeRepository, posPeriodAggRepository);
+    }
+
+    @Test
+    void inaccessibleStore_stopsAfterAccessQuery() {
+        when(storeRepository.findAccessibleStore(anyLong(), anyString())).thenReturn(Optional.empty());
+
+        PosStoreDashboardResponse res = service.getStoreDashboard("sv01", 9L, PosPeriodType.MONTH, LocalDate.of(2025, 8, 1));
+
+        assertTrue(res.getTrend().isEmpty());
+        verifyNoInteractions(posPeriodAggRepository);
+    }
+
+    private static AccessibleStoreRow store(Long storeId) {
+        AccessibleStoreRow row = mock(AccessibleStoreRow.class);
+        when(row.getStoreId()).thenReturn(storeId);
+        when(row.getStoreName()).thenReturn("강남점");
+        when(row.getRegionCode()).thenReturn("R01");
+        when(row.getCurrentState()).thenReturn("NORMAL");
+        return row;
+    }
+
+    private static PosPeriodAgg agg(LocalDate periodStart, long sales, int orders) {
+        PosPeriodAgg agg = new PosPeriodAgg();
+        ReflectionTestUtils.setField(agg, "storeId", 7L);
+        ReflectionTestUtils.setField(agg, "periodType", PosPeriodType.WEEK);
+        ReflectionTestUtils.setField(agg, "periodStart", periodStart);
+        ReflectionTestUtils.setField(agg, "salesAmount", BigDecimal.valueOf(sales));
+        ReflectionTestUtils.setField(agg, "orderCount", orders);
+        ReflectionTestUtils.setField(agg, "aov", BigDecimal.valueOf(sales / orders));
+        return agg;
+    }
+}
@@ -0,0 +1,34 @@
+package com.franchise.backend.pos.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopKTest {
+
+    @Test
+    void select_matchesFullSortPrefix() {
+        Random random = new Random(42L);
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            values.add(random.nextInt(1_000));
+        }
+        Comparator<Integer> desc = Comparator.reverseOrder();
+
+        for (int k : new int[]{1, 5, 37, 5_000, 6_000}) {
+            List<Integer> expected = values.stream().sorted(desc).limit(k).toList();
+            assertEquals(expected, TopK.select(values, k, desc), "k=" + k);
+        }
+    }
+
+    @Test
+    void select_handlesEmptyAndZero() {
+        assertTrue(TopK.select(List.of(), 5, Comparator.<Integer>naturalOrder()).isEmpty());
+        assertTrue(TopK.select(List.of(3, 1, 2), 0, Comparator.<Integer>naturalOrder()).isEmpty());
+    }
+}
@@ -0,0 +1,64 @@
+package com.franchise.backend.store.controller;
+
+import com.franchise.backend.common.web.ConditionalGetInterceptor;
+import com.franchise.backend.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// SV 홈 대시보드 ETag 가 응답에 쓰인 테이블 변경을 따라가는지 (data_version 트리거 + @ConditionalGet 목록)
+// - 미이행 조치 수(actions)가 바뀌면 같은 ETag 재검증이 304 가 아니라 200
+@Transactional
+class DashboardConditionalGetTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ConditionalGetInterceptor conditionalGetInterceptor;
+
+    @Autowired
+    private DashboardController dashboardController;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void supervisorSummary_actionChangeInvalidatesEtag() throws Exception {
+        HandlerMethod handler = new HandlerMethod(dashboardController,
+                DashboardController.class.getMethod("supervisorSummary", String.class));
+
+        // 현재 버전 기준 ETag (캐시된 마지막 버전이 아니라 재검증으로 받음)
+        MockHttpServletResponse fresh = new MockHttpServletResponse();
+        assertTrue(conditionalGetInterceptor.preHandle(get("W/\"stale\""), fresh, handler));
+        String etag = fresh.getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        MockHttpServletResponse unchanged = new MockHttpServletResponse();
+        assertFalse(conditionalGetInterceptor.preHandle(get(etag), unchanged, handler));
+        assertEquals(304, unchanged.getStatus());
+
+        jdbcTemplate.update("""
+                UPDATE actions
+                   SET status = CASE WHEN status = 'COMPLETED' THEN 'OPEN' ELSE 'COMPLETED' END
+                 WHERE action_id = (SELECT MIN(action_id) FROM actions)
+                """);
+
+        MockHttpServletResponse changed = new MockHttpServletResponse();
+        assertTrue(conditionalGetInterceptor.preHandle(get(etag), changed, handler));
+        assertEquals(200, changed.getStatus());
+        assertNotEquals(etag, changed.getHeader(HttpHeaders.ETAG));
+    }
+
+    private static MockHttpServletRequest get(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/dashboard/supervisor/summary");
+        request.setQueryString("loginId=sv01");
+        request.addParameter("loginId", "sv01");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        return request;
+    }
+}
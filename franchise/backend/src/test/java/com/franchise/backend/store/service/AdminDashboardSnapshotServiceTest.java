@@ -0,0 +1,86 @@
+package com.franchise.backend.store.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.franchise.backend.store.dto.AdminDashboardSummaryResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AdminDashboardSnapshotServiceTest {
+
+    private AdminDashboardService adminDashboardService;
+    private SimpleMeterRegistry meterRegistry;
+    private AdminDashboardSnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        adminDashboardService = mock(AdminDashboardService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        snapshotService = new AdminDashboardSnapshotService(adminDashboardService, new ObjectMapper(), meterRegistry);
+        snapshotService.registerMetrics();
+    }
+
+    @Test
+    void servesFromMemoryUntilRefreshed() {
+        when(adminDashboardService.getAdminSummary()).thenReturn(summary(10));
+
+        AdminDashboardSnapshotService.Snapshot first = snapshotService.getSnapshot();
+        AdminDashboardSnapshotService.Snapshot second = snapshotService.getSnapshot();
+
+        assertSame(first, second);
+        verify(adminDashboardService, times(1)).getAdminSummary();
+    }
+
+    @Test
+    void versionAndEtagChangeOnlyWhenContentChanges() {
+        when(adminDashboardService.getAdminSummary()).thenReturn(summary(10), summary(10), summary(11));
+
+        AdminDashboardSnapshotService.Snapshot v1 = snapshotService.refresh();
+        AdminDashboardSnapshotService.Snapshot same = snapshotService.refresh();
+        AdminDashboardSnapshotService.Snapshot v2 = snapshotService.refresh();
+
+        assertEquals(1, v1.version());
+        assertEquals(v1.etag(), same.etag());
+        assertEquals(1, same.version());
+        assertNotEquals(v1.etag(), v2.etag());
+        assertEquals(2, v2.version());
+    }
+
+    @Test
+    void staleMarkTriggersScheduledRefresh() {
+        when(adminDashboardService.getAdminSummary()).thenReturn(summary(10));
+
+        snapshotService.refreshIfNeeded();   // 최초 생성
+        snapshotService.refreshIfNeeded();   // 변경 없음 -> 갱신 안 함
+        snapshotService.markStale();
+        snapshotService.refreshIfNeeded();   // stale -> 갱신
+
+        verify(adminDashboardService, times(2)).getAdminSummary();
+        assertEquals(2, meterRegistry.get("dashboard.admin.snapshot.refresh")
+                .tag("result", "success").timer().count());
+    }
+
+    @Test
+    void failedRefreshKeepsPreviousSnapshot() {
+        when(adminDashboardService.getAdminSummary())
+                .thenReturn(summary(10))
+                .thenThrow(new IllegalStateException("db down"));
+
+        AdminDashboardSnapshotService.Snapshot ok = snapshotService.refresh();
+        snapshotService.markStale();
+        snapshotService.refreshIfNeeded();
+
+        assertSame(ok, snapshotService.getSnapshot());
+        assertEquals(1, meterRegistry.get("dashboard.admin.snapshot.refresh")
+                .tag("result", "failure").timer().count());
+    }
+
+    private static AdminDashboardSummaryResponse summary(long totalStoreCount) {
+        return new AdminDashboardSummaryResponse(totalStoreCount, 1, 2, 3, List.of(), List.of(), List.of());
+    }
+}
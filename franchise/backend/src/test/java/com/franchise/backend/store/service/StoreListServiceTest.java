@@ -0,0 +1,185 @@
+package com.franchise.backend.store.service;
+
+import com.franchise.backend.pos.repository.PosDailyRepository;
+import com.franchise.backend.store.dto.StoreListPageResponse;
+import com.franchise.backend.store.dto.StoreListResponse;
+import com.franchise.backend.store.dto.StoreSearchRequest;
+import com.franchise.backend.store.repository.StoreRepository;
+import com.franchise.backend.store.repository.StoreRepository.StoreListRow;
+import com.franchise.backend.user.entity.Role;
+import com.franchise.backend.user.entity.User;
+import com.franchise.backend.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 점포 목록 서비스 단위 테스트 (repository mock)
+// - 목록 repository 호출 경로(+ 팀장은 부서 조회), keyset 커서 전달 / 검증, 표시값 매핑
+// - 실제 실행되는 SQL 문 수(N+1 여부)는 StoreListStatementCountTest 에서 PostgreSQL 로 확인
+class StoreListServiceTest {
+
+    private StoreRepository storeRepository;
+    private UserRepository userRepository;
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private PosDailyRepository posDailyRepository;
+    private StoreScopeService storeScopeService;
+    private AdminDashboardSnapshotService adminDashboardSnapshotService;
+
+    private DashboardService dashboardService;
+    private StoreService storeService;
+
+    @BeforeEach
+    void setUp() {
+        storeRepository = mock(StoreRepository.class);
+        userRepository = mock(UserRepository.class);
+        namedParameterJdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        posDailyRepository = mock(PosDailyRepository.class);
+        storeScopeService = mock(StoreScopeService.class);
+        adminDashboardSnapshotService = mock(AdminDashboardSnapshotService.class);
+
+        dashboardService = new DashboardService(storeRepository, namedParameterJdbcTemplate, userRepository, Runnable::run);
+        storeService = new StoreService(storeRepository, userRepository, posDailyRepository, storeScopeService, adminDashboardSnapshotService);
+    }
+
+    @Test
+    void managerList_usesOneDepartmentLookupAndOneListQuery() {
+        when(userRepository.findByLoginId("manager01"))
+                .thenReturn(Optional.of(User.create("팀장", Role.MANAGER, "manager01", "pw", "영업1팀", null, null)));
+
+        List<StoreListRow> rows = List.of(
+                row(1L, "강남점", "sv01", "김SV", "서울", 90, -90L),
+                row(2L, "홍대점", "sv01", "김SV", "서울", 80, -80L),
+                row(3L, "신촌점", "sv02", "이SV", "서울", 70, -70L)
+        );
+        when(storeRepository.searchStoresForManager(any(), any(), eq("영업1팀"), eq("QSC_SCORE_DESC"),
+                eq(false), anyLong(), any(), anyLong(), eq(3)))
+                .thenReturn(rows);
+
+        StoreListPageResponse page = dashboardService.getStorePageForManager("manager01", condition("QSC_SCORE_DESC", 2, null));
+
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasNext());
+        assertNotNull(page.getNextCursor());
+        assertEquals("김SV", page.getItems().get(0).getSupervisor());
+
+        verify(userRepository, times(1)).findByLoginId("manager01");
+        verify(storeRepository, times(1)).searchStoresForManager(any(), any(), any(), any(),
+                anyBoolean(), anyLong(), any(), anyLong(), anyInt());
+        verifyNoMoreInteractions(storeRepository, userRepository);
+        verifyNoInteractions(namedParameterJdbcTemplate);
+    }
+
+    @Test
+    void adminList_nextPagePassesCursorToTheSameSingleQuery() {
+        List<StoreListRow> rows = List.of(
+                row(1L, "강남점", "sv01", "김SV", null, 90, 1L),
+                row(2L, "홍대점", null, null, null, 0, 2L)
+        );
+        when(storeRepository.searchStoresForAdmin(any(), any(), any(), anyBoolean(), anyLong(), any(), anyLong(), anyInt()))
+                .thenReturn(rows);
+
+        StoreListPageResponse first = dashboardService.getStorePageForAdmin(condition("INSPECTED_AT_ASC", 1, null));
+        assertTrue(first.isHasNext());
+
+        dashboardService.getStorePageForAdmin(condition("INSPECTED_AT_ASC", 1, first.getNextCursor()));
+
+        // 첫 페이지 1번 + 다음 페이지 1번, 두 번째 호출은 마지막 행(강남점) 기준 keyset
+        verify(storeRepository, times(1)).searchStoresForAdmin(isNull(), isNull(), eq("INSPECTED_AT_ASC"),
+                eq(false), anyLong(), any(), anyLong(), eq(2));
+        verify(storeRepository, times(1)).searchStoresForAdmin(isNull(), isNull(), eq("INSPECTED_AT_ASC"),
+                eq(true), eq(1L), eq("강남점"), eq(1L), eq(2));
+        verifyNoMoreInteractions(storeRepository);
+        verifyNoInteractions(userRepository, namedParameterJdbcTemplate);
+    }
+
+    @Test
+    void adminList_storeWithoutSupervisorShowsDash() {
+        List<StoreListRow> rows = List.of(row(2L, "홍대점", null, null, null, 0, 0L));
+        when(storeRepository.searchStoresForAdmin(any(), any(), any(), anyBoolean(), anyLong(), any(), anyLong(), anyInt()))
+                .thenReturn(rows);
+
+        StoreListResponse item = dashboardService.getStoresForAdmin(condition(null, 50, null)).get(0);
+
+        assertEquals("-", item.getSupervisor());
+        assertEquals("-", item.getRegion());
+    }
+
+    @Test
+    void supervisorList_usesOneListQuery() {
+        List<StoreListRow> rows = List.of(
+                row(1L, "강남점", "sv01", " ", "부산", 90, -90L),
+                row(2L, "홍대점", "sv01", " ", null, 80, -80L)
+        );
+        when(storeRepository.searchStoresForSupervisor(eq("sv01"), any(), any(), eq("QSC_SCORE_DESC"),
+                anyBoolean(), anyLong(), any(), anyLong(), anyInt()))
+                .thenReturn(rows);
+
+        List<StoreListResponse> items = storeService.getStoresForSupervisor("sv01", condition(null, 50, null));
+
+        assertEquals(2, items.size());
+        assertEquals("sv01", items.get(0).getSupervisor());
+        assertEquals("부산", items.get(0).getRegion());
+        assertEquals("R01", items.get(1).getRegion());
+
+        verify(storeRepository, times(1)).searchStoresForSupervisor(any(), any(), any(), any(),
+                anyBoolean(), anyLong(), any(), anyLong(), anyInt());
+        verifyNoMoreInteractions(storeRepository);
+        verifyNoInteractions(userRepository, posDailyRepository, storeScopeService);
+    }
+
+    @Test
+    void cursorFromAnotherSortIsRejected() {
+        List<StoreListRow> rows = List.of(
+                row(1L, "강남점", "sv01", "김SV", null, 90, -90L),
+                row(2L, "홍대점", "sv01", "김SV", null, 80, -80L)
+        );
+        when(storeRepository.searchStoresForAdmin(any(), any(), any(), anyBoolean(), anyLong(), any(), anyLong(), anyInt()))
+                .thenReturn(rows);
+
+        String cursor = dashboardService.getStorePageForAdmin(condition("QSC_SCORE_DESC", 1, null)).getNextCursor();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> dashboardService.getStorePageForAdmin(condition("QSC_SCORE_ASC", 1, cursor)));
+        assertThrows(IllegalArgumentException.class,
+                () -> dashboardService.getStorePageForAdmin(condition("QSC_SCORE_DESC", 1, "not-a-cursor")));
+    }
+
+    private static StoreSearchRequest condition(String sort, Integer limit, String cursor) {
+        StoreSearchRequest condition = new StoreSearchRequest();
+        condition.setSort(sort);
+        condition.setLimit(limit);
+        condition.setCursor(cursor);
+        return condition;
+    }
+
+    private static StoreListRow row(
+            Long storeId,
+            String storeName,
+            String supervisorLoginId,
+            String supervisorName,
+            String supervisorRegion,
+            Integer qscScore,
+            Long sortKey
+    ) {
+        StoreListRow row = mock(StoreListRow.class);
+        when(row.getStoreId()).thenReturn(storeId);
+        when(row.getStoreName()).thenReturn(storeName);
+        when(row.getCurrentState()).thenReturn("NORMAL");
+        when(row.getRegionCode()).thenReturn("R01");
+        when(row.getSupervisorLoginId()).thenReturn(supervisorLoginId);
+        when(row.getSupervisorName()).thenReturn(supervisorName);
+        when(row.getSupervisorRegion()).thenReturn(supervisorRegion);
+        when(row.getQscScore()).thenReturn(qscScore);
+        when(row.getLastInspectionDate()).thenReturn(qscScore == 0 ? null : LocalDate.of(2025, 8, 1));
+        when(row.getSortKey()).thenReturn(sortKey);
+        return row;
+    }
+}
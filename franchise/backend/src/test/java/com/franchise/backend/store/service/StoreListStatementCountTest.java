@@ -0,0 +1,73 @@
+package com.franchise.backend.store.service;
+
+import com.franchise.backend.store.dto.StoreListPageResponse;
+import com.franchise.backend.store.dto.StoreListResponse;
+import com.franchise.backend.store.dto.StoreSearchRequest;
+import com.franchise.backend.support.PostgresIntegrationTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 점포 목록 조회 1회당 실제 실행된 SQL 문 수 (Hibernate Statistics, 시드 데이터 기준)
+// - 목록 쿼리 1번(+ 팀장은 부서 조회 1번)이어야 하고, 행 수와 무관해야 한다
+// - 담당 SV 표시에 LAZY supervisor 로딩이 다시 끼어들면(N+1) 행 수만큼 늘어나서 여기서 잡힌다
+class StoreListStatementCountTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private StoreService storeService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void managerList_isDepartmentLookupPlusOneListQuery() {
+        StoreListPageResponse page = dashboardService.getStorePageForManager("leader01", condition(50, null));
+
+        assertTrue(page.getItems().size() > 1);
+        assertTrue(page.getItems().stream().map(StoreListResponse::getSupervisor).noneMatch("-"::equals));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void adminList_isOneQueryPerPage() {
+        StoreListPageResponse first = dashboardService.getStorePageForAdmin(condition(20, null));
+        assertEquals(20, first.getItems().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        dashboardService.getStorePageForAdmin(condition(20, first.getNextCursor()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void supervisorList_isOneListQuery() {
+        List<StoreListResponse> items = storeService.getStoresForSupervisor("sv01", condition(50, null));
+
+        assertTrue(items.size() > 1);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private static StoreSearchRequest condition(Integer limit, String cursor) {
+        StoreSearchRequest condition = new StoreSearchRequest();
+        condition.setLimit(limit);
+        condition.setCursor(cursor);
+        return condition;
+    }
+}
@@ -0,0 +1,106 @@
+package com.franchise.backend.store.service;
+
+import com.franchise.backend.store.repository.StoreRepository;
+import com.franchise.backend.user.entity.Role;
+import com.franchise.backend.user.entity.User;
+import com.franchise.backend.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// 점포 범위 캐시 테스트
+// - 사용자 정보(역할 / 부서 / 계정 상태)와 점포 범위는 TTL 동안만 캐시 -> 변경 후 옛 범위를 계속 쓰지 않음
+// - 캐시 크기 상한
+class StoreScopeServiceTest {
+
+    private UserRepository userRepository;
+    private StoreRepository storeRepository;
+    private StoreScopeService service;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        storeRepository = mock(StoreRepository.class);
+        service = new StoreScopeService(userRepository, storeRepository);
+
+        when(storeRepository.findStoreIdsBySupervisorDepartment("D1")).thenReturn(List.of(1L, 2L));
+        when(storeRepository.findStoreIdsBySupervisorDepartment("D2")).thenReturn(List.of(3L));
+    }
+
+    @Test
+    void cachedWithinTtl() {
+        when(userRepository.findByLoginId("mgr")).thenReturn(Optional.of(user(Role.MANAGER, "D1", true)));
+
+        assertEquals(List.of(1L, 2L), service.resolveScopedStoreIds(Role.MANAGER, "mgr"));
+        assertEquals(List.of(1L, 2L), service.resolveScopedStoreIds(Role.MANAGER, "mgr"));
+
+        verify(userRepository, times(1)).findByLoginId("mgr");
+        verify(storeRepository, times(1)).findStoreIdsBySupervisorDepartment("D1");
+    }
+
+    @Test
+    void departmentChangeAndDeactivationAreSeenAfterTtl() {
+        ReflectionTestUtils.setField(service, "ownerTtlSeconds", 0L);
+        when(userRepository.findByLoginId("mgr"))
+                .thenReturn(Optional.of(user(Role.MANAGER, "D1", true)))
+                .thenReturn(Optional.of(user(Role.MANAGER, "D2", true)))
+                .thenReturn(Optional.of(user(Role.MANAGER, "D2", false)))
+                .thenReturn(Optional.of(user(Role.SUPERVISOR, "D2", true)));
+
+        assertEquals(List.of(1L, 2L), service.resolveScopedStoreIds(Role.MANAGER, "mgr"));
+        assertEquals(List.of(3L), service.resolveScopedStoreIds(Role.MANAGER, "mgr"));
+        assertEquals(List.of(), service.resolveScopedStoreIds(Role.MANAGER, "mgr"));
+        // 역할이 바뀌면 토큰의 옛 역할로는 범위 없음
+        assertEquals(List.of(), service.resolveScopedStoreIds(Role.MANAGER, "mgr"));
+    }
+
+    @Test
+    void storeIdsReloadedAfterTtl() {
+        // evictAll 이후 커밋 전에 다시 채워진 옛 범위도 TTL 이 지나면 새로 조회
+        ReflectionTestUtils.setField(service, "ownerTtlSeconds", 0L);
+        when(userRepository.findByLoginId("sv")).thenReturn(Optional.of(user(Role.SUPERVISOR, "D1", true)));
+        when(storeRepository.findStoreIdsBySupervisorLoginId("sv"))
+                .thenReturn(List.of(1L))
+                .thenReturn(List.of(1L, 4L));
+
+        assertEquals(List.of(1L), service.resolveScopedStoreIds(Role.SUPERVISOR, "sv"));
+        assertEquals(List.of(1L, 4L), service.resolveScopedStoreIds(Role.SUPERVISOR, "sv"));
+        verify(storeRepository, times(2)).findStoreIdsBySupervisorLoginId("sv");
+    }
+
+    @Test
+    void evictUserReloadsImmediately() {
+        when(userRepository.findByLoginId("mgr"))
+                .thenReturn(Optional.of(user(Role.MANAGER, "D1", true)))
+                .thenReturn(Optional.of(user(Role.MANAGER, "D2", true)));
+
+        assertEquals(List.of(1L, 2L), service.resolveScopedStoreIds(Role.MANAGER, "mgr"));
+        service.evictUser("mgr");
+        assertEquals(List.of(3L), service.resolveScopedStoreIds(Role.MANAGER, "mgr"));
+    }
+
+    @Test
+    void cacheSizeIsBounded() {
+        ReflectionTestUtils.setField(service, "maxEntries", 2);
+        for (int i = 0; i < 5; i++) {
+            String loginId = "mgr" + i;
+            when(userRepository.findByLoginId(loginId)).thenReturn(Optional.of(user(Role.MANAGER, "D1", true)));
+            service.resolveScopedStoreIds(Role.MANAGER, loginId);
+        }
+
+        assertTrue(((java.util.Map<?, ?>) ReflectionTestUtils.getField(service, "ownerCache")).size() <= 2);
+        assertTrue(((java.util.Map<?, ?>) ReflectionTestUtils.getField(service, "storeIdsCache")).size() <= 2);
+    }
+
+    private static User user(Role role, String department, boolean active) {
+        User user = User.create("name", role, "login", "pw", department, "a@b.c", null);
+        ReflectionTestUtils.setField(user, "accountStatus", active);
+        return user;
+    }
+}
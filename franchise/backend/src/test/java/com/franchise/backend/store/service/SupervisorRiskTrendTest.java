@@ -0,0 +1,75 @@
+package com.franchise.backend.store.service;
+
+import com.franchise.backend.store.dto.SupervisorDashboardSummaryResponse.TrendPoint;
+import com.franchise.backend.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// SV 홈 위험 점수 추이 (store_risk_score_daily)
+// - stores 트리거가 적재한 오늘 점수가 4주차(마지막 포인트)에 바로 보이는지
+// - 대시보드 섹션은 별도 스레드 / 커넥션에서 돌아서 롤백 대신 원래 점수로 되돌림
+class SupervisorRiskTrendTest extends PostgresIntegrationTest {
+
+    private static final String SUPERVISOR = "sv01";
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Map<String, Object>> original;
+
+    @BeforeEach
+    void setUp() {
+        original = jdbcTemplate.queryForList("""
+                SELECT s.store_id, s.current_state_score
+                FROM stores s
+                JOIN users u ON u.user_id = s.current_supervisor_id
+                WHERE u.login_id = ?
+                """, SUPERVISOR);
+        assertFalse(original.isEmpty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Map<String, Object> row : original) {
+            jdbcTemplate.update("UPDATE stores SET current_state_score = ? WHERE store_id = ?",
+                    row.get("current_state_score"), row.get("store_id"));
+            jdbcTemplate.update("""
+                    DELETE FROM store_risk_score_daily
+                    WHERE store_id = ? AND score_date = CAST(now() AT TIME ZONE 'Asia/Seoul' AS date)
+                    """, row.get("store_id"));
+        }
+    }
+
+    @Test
+    void scoreChangeShowsUpInLatestWeek() {
+        double before = original.stream()
+                .map(r -> (Number) r.get("current_state_score"))
+                .filter(Objects::nonNull)
+                .mapToInt(Number::intValue)
+                .average()
+                .orElseThrow();
+        for (Map<String, Object> row : original) {
+            jdbcTemplate.update("UPDATE stores SET current_state_score = 97 WHERE store_id = ?", row.get("store_id"));
+        }
+
+        List<TrendPoint> trend = dashboardService.getSupervisorSummary(SUPERVISOR).getWeeklyAvgRiskScoreTrend();
+
+        assertEquals(4, trend.size());
+        assertEquals("4주", trend.get(3).getLabel());
+        assertEquals(97.0, trend.get(3).getValue(), 0.001);
+        // 1주차는 변경 전 이력 (현재 점수로 채운 기본값이 아님)
+        assertEquals(before, trend.get(0).getValue(), 0.001);
+    }
+}
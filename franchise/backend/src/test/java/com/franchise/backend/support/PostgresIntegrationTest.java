@@ -0,0 +1,34 @@
+package com.franchise.backend.support;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// 실제 PostgreSQL(개발 DB와 같은 16) + Flyway 마이그레이션 위에서 도는 통합 테스트 베이스
+// - 단위 테스트(mock)로는 확인할 수 없는 SQL 동작만 여기에
+// - 컨테이너는 JVM 당 1개 (스프링 컨텍스트 캐시와 수명을 맞춤), Docker 가 없으면 건너뜀
+// - 스케줄 작업은 초기 지연을 길게 잡아 테스트 중 끼어들지 않게 함
+// - Hibernate 통계를 켜서 실행된 SQL 문 수를 검증할 수 있게 함
+@Tag("postgres")
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN",
+        "dashboard.admin.snapshot-check-ms=3600000",
+        "pos.cube.check-ms=3600000",
+        "event.active-index.resync-ms=3600000",
+        "notification.outbox.poll-ms=3600000",
+        "pos.anomaly.enabled=false",
+        "pos.partition.enabled=false"
+})
+public abstract class PostgresIntegrationTest {
+
+    @ServiceConnection
+    protected static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16");
+
+    static {
+        POSTGRES.start();
+    }
+}